@@ -0,0 +1,67 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.entity.UserRole;
+import com.ecommerce.global.infra.security.jwt.JwtProvider;
+import com.ecommerce.global.infra.security.jwt.key.JwtAlgorithm;
+import com.ecommerce.global.infra.security.jwt.key.JwtKeyManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 방식별 Access Token 검증 처리량 (단일 스레드, 코어당 초당 검증 수)
+ *
+ * 검증 키는 JwtKeyManager가 kid별로 캐시하므로 키 파싱 비용은 포함되지 않는다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtVerificationBenchmark
+ */
+@State(Scope.Thread)
+@Threads(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET =
+            "testSecretKeyForTestingPurposesOnlyMustBeLongEnoughForHmacSha256ASDBHJKASDBHASD";
+
+    @Param({"HMAC", "ES256", "EdDSA"})
+    private JwtAlgorithm algorithm;
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        JwtKeyManager keyManager = algorithm.isAsymmetric()
+                ? JwtKeyManager.asymmetric(algorithm, JwtKeyManager.generateKeyPair(algorithm))
+                : JwtKeyManager.hmac(SECRET);
+
+        jwtProvider = new JwtProvider(keyManager);
+        Field field = JwtProvider.class.getDeclaredField("accessTokenExpiration");
+        field.setAccessible(true);
+        field.set(jwtProvider, "30m");
+
+        User user = User.builder()
+                .id(1L)
+                .email("benchmark@example.com")
+                .nickname("bench")
+                .role(UserRole.USER)
+                .build();
+        accessToken = jwtProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtProvider.validateAccessToken(accessToken);
+    }
+}
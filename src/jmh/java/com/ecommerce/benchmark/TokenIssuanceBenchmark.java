@@ -0,0 +1,76 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.entity.UserRole;
+import com.ecommerce.global.infra.security.jwt.JwtProvider;
+import com.ecommerce.global.infra.security.jwt.TokenIssuer;
+import com.ecommerce.global.infra.security.jwt.key.JwtKeyManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 쌍(Access + Refresh) 발급 처리량 비교 - 단일 스레드 기준이므로 결과는 코어당 초당 발급 수
+ *
+ * jwtProvider: 기존 방식 (토큰마다 만료 기간 파싱 + jjwt 빌더)
+ * tokenIssuer: TokenIssuer (기동 시 준비한 헤더/클레임 템플릿 + 스레드별 Mac)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TokenIssuanceBenchmark
+ */
+@State(Scope.Thread)
+@Threads(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenIssuanceBenchmark {
+
+    private static final String SECRET =
+            "testSecretKeyForTestingPurposesOnlyMustBeLongEnoughForHmacSha256ASDBHJKASDBHASD";
+
+    private JwtProvider jwtProvider;
+    private TokenIssuer tokenIssuer;
+    private User user;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        JwtKeyManager keyManager = JwtKeyManager.hmac(SECRET);
+
+        jwtProvider = new JwtProvider(keyManager);
+        setField(jwtProvider, "accessTokenExpiration", "30m");
+        setField(jwtProvider, "refreshTokenExpiration", "7d");
+
+        tokenIssuer = new TokenIssuer(keyManager, "30m", "7d");
+
+        user = User.builder()
+                .id(1L)
+                .email("benchmark@example.com")
+                .nickname("bench")
+                .role(UserRole.USER)
+                .build();
+    }
+
+    @Benchmark
+    public void jwtProvider(Blackhole bh) {
+        bh.consume(jwtProvider.generateAccessToken(user));
+        bh.consume(jwtProvider.generateRefreshToken(user));
+    }
+
+    @Benchmark
+    public void tokenIssuer(Blackhole bh) {
+        bh.consume(tokenIssuer.issue(user));
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.domain.order.number;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 번호 발급 처리량 (단일 스레드 / 8스레드 경합)
+ *
+ * snowflake: OrderNumberGenerator (CAS + Crockford Base32 13자리)
+ * synchronizedSnowflake: 같은 구성을 synchronized로 보호한 경우
+ * uuid: UUID.randomUUID().toString() (36자)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=OrderNumberBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderNumberBenchmark {
+
+    private OrderNumberGenerator generator;
+    private OrderNumberGenerator lockedGenerator;
+
+    @Setup
+    public void setUp() {
+        generator = new OrderNumberGenerator(1, System::currentTimeMillis);
+        lockedGenerator = new OrderNumberGenerator(2, System::currentTimeMillis);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String snowflake_singleThread() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflake_contended() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long snowflakeId_contended() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String synchronizedSnowflake_contended() {
+        synchronized (lockedGenerator) {
+            return lockedGenerator.next();
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuid_contended() {
+        return UUID.randomUUID().toString();
+    }
+}
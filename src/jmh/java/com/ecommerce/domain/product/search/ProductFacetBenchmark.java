@@ -0,0 +1,101 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.api.v1.product.dto.request.ProductSearchCondition;
+import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.search.ProductFacetIndex.IndexedDoc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 100만 건 기준 패싯 집계 시간 (목표: 20ms 이하)
+ *
+ * 브랜드 2,000개(멱법칙 분포), 카테고리 200개(상품당 1~3개), 재고 있음 80% 로 구성.
+ * 패키지 내부 API(IndexedDoc)를 쓰기 위해 benchmark 패키지가 아닌 인덱스와 같은 패키지에 둔다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ProductFacetBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductFacetBenchmark {
+
+    private static final int BRANDS = 2_000;
+    private static final int CATEGORIES = 200;
+
+    @Param({"1000000"})
+    public int products;
+
+    private ProductFacetIndex facetIndex;
+
+    private ProductSearchCondition noFilter;
+    private ProductSearchCondition categoryAndStock;
+    private ProductSearchCondition brandCategoryPrice;
+    private ProductSearchCondition keyword;
+
+    @Setup
+    public void setUp() {
+        facetIndex = new ProductFacetIndex(null, null,
+                new BigDecimal[]{BigDecimal.valueOf(10000), BigDecimal.valueOf(30000), BigDecimal.valueOf(50000),
+                        BigDecimal.valueOf(100000), BigDecimal.valueOf(300000)},
+                20);
+
+        SplittableRandom random = new SplittableRandom(42);
+        List<IndexedDoc> docs = new ArrayList<>(products);
+        for (long id = 1; id <= products; id++) {
+            int brand = (int) (BRANDS * Math.pow(random.nextDouble(), 3));
+            List<String> categories = new ArrayList<>();
+            int categoryCount = 1 + random.nextInt(3);
+            for (int i = 0; i < categoryCount; i++) {
+                categories.add("category-" + random.nextInt(CATEGORIES));
+            }
+            docs.add(new IndexedDoc(
+                    id,
+                    "brand-" + brand,
+                    categories.stream().distinct().toList(),
+                    BigDecimal.valueOf(1000L + random.nextInt(500_000)),
+                    random.nextInt(10) < 8,
+                    ProductStatus.ACTIVE,
+                    ProductFacetIndex.tokenize("product " + id + " brand-" + brand)
+            ));
+        }
+        facetIndex.apply(docs, List.of());
+
+        noFilter = ProductSearchCondition.of(null, null, null, null, null, false, null);
+        categoryAndStock = ProductSearchCondition.of(null, "category-7", null, null, null, true, null);
+        brandCategoryPrice = ProductSearchCondition.of(null, "category-7", "brand-3",
+                BigDecimal.valueOf(20000), BigDecimal.valueOf(150000), true, ProductStatus.ACTIVE);
+        keyword = ProductSearchCondition.of("brand-12", null, null, null, null, true, null);
+    }
+
+    @Benchmark
+    public ProductFacets noFilter() {
+        return facetIndex.compute(noFilter);
+    }
+
+    @Benchmark
+    public ProductFacets categoryAndStock() {
+        return facetIndex.compute(categoryAndStock);
+    }
+
+    @Benchmark
+    public ProductFacets brandCategoryPrice() {
+        return facetIndex.compute(brandCategoryPrice);
+    }
+
+    @Benchmark
+    public ProductFacets keywordAndStock() {
+        return facetIndex.compute(keyword);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.domain.product.search.ProductSuggestIndex.Contribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 응답 시간 분포 (SampleTime 결과의 p0.99 확인, 목표: 1ms 미만)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ProductSuggestBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSuggestBenchmark {
+
+    private static final String[] WORDS = {
+            "무선", "블루투스", "이어폰", "헤드폰", "노트북", "키보드", "마우스", "충전기", "케이스", "스탠드",
+            "wireless", "bluetooth", "keyboard", "mouse", "charger", "monitor", "speaker", "camera", "laptop", "cable"
+    };
+
+    @Param({"300000"})
+    public int products;
+
+    private ProductSuggestIndex suggestIndex;
+
+    @Setup
+    public void setUp() {
+        suggestIndex = new ProductSuggestIndex(null, null, 10, 2);
+
+        SplittableRandom random = new SplittableRandom(7);
+        Map<Long, Contribution> contributions = new HashMap<>();
+        for (long id = 1; id <= products; id++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + Long.toString(id, 36);
+            contributions.put(id, new Contribution(
+                    name,
+                    "brand" + random.nextInt(3000),
+                    List.of("category" + random.nextInt(300)),
+                    1 + random.nextInt(500)
+            ));
+        }
+        suggestIndex.apply(contributions);
+    }
+
+    @Benchmark
+    public List<ProductSuggestion> exactPrefix() {
+        return suggestIndex.suggest("블루", 10);
+    }
+
+    @Benchmark
+    public List<ProductSuggestion> oneTypo() {
+        return suggestIndex.suggest("keybaord", 10);
+    }
+
+    @Benchmark
+    public List<ProductSuggestion> twoTypos() {
+        return suggestIndex.suggest("wirelses cabel", 10);
+    }
+}
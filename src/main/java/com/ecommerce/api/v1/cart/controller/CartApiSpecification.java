@@ -3,12 +3,14 @@ package com.ecommerce.api.v1.cart.controller;
 import com.ecommerce.api.v1.cart.dto.request.AddCartItemRequest;
 import com.ecommerce.api.v1.cart.dto.request.UpdateCartItemRequest;
 import com.ecommerce.api.v1.cart.dto.response.CartResponseDto;
+import com.ecommerce.global.utils.constants.SecurityConstants;
 import com.ecommerce.global.utils.dto.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,34 +19,46 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "장바구니", description = "장바구니 관련 API")
 public interface CartApiSpecification {
 
-    @Operation(summary = "장바구니 조회", description = "현재 사용자의 장바구니에 담긴 상품 목록을 조회합니다.")
+    @Operation(summary = "장바구니 조회", description = "현재 사용자의 장바구니에 담긴 상품 목록을 조회합니다. 로그인하지 않았으면 guest_cart 쿠키의 비로그인 장바구니를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "장바구니 조회 성공"),
-            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+            @ApiResponse(responseCode = "401", description = "access 토큰이 만료되었거나 유효하지 않음")
     })
-    RsData<CartResponseDto> getCart(@AuthenticationPrincipal UserDetails userDetails);
+    RsData<CartResponseDto> getCart(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(hidden = true) @CookieValue(name = SecurityConstants.ACCESS_TOKEN_COOKIE_NAME, required = false) String accessToken,
+            @Parameter(description = "비로그인 장바구니 쿠키") @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart
+    );
 
-    @Operation(summary = "장바구니에 상품 추가", description = "현재 사용자의 장바구니에 상품을 추가합니다.")
+    @Operation(summary = "장바구니에 상품 추가", description = "현재 사용자의 장바구니에 상품을 추가합니다. 로그인하지 않았으면 비로그인 장바구니에 담고 guest_cart 쿠키를 내려줍니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "장바구니에 상품 추가 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
-            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 한정 판매 입장권 한 장으로 담을 수 있는 수량 초과"),
+            @ApiResponse(responseCode = "401", description = "access 토큰이 만료되었거나 유효하지 않음"),
+            @ApiResponse(responseCode = "403", description = "한정 판매 상품인데 입장권이 없음 (비로그인은 항상)"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음"),
+            @ApiResponse(responseCode = "422", description = "비로그인 장바구니 상품 종류 수 초과")
     })
     RsData<Void> addCartItem(
             @AuthenticationPrincipal UserDetails userDetails,
-            @Valid @RequestBody AddCartItemRequest request
+            @Parameter(hidden = true) @CookieValue(name = SecurityConstants.ACCESS_TOKEN_COOKIE_NAME, required = false) String accessToken,
+            @Parameter(description = "비로그인 장바구니 쿠키") @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart,
+            @Valid @RequestBody AddCartItemRequest request,
+            HttpServletResponse response
     );
 
     @Operation(summary = "장바구니 상품 수량 수정", description = "현재 사용자의 장바구니에 담긴 상품의 수량을 수정합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "장바구니 상품 수량 수정 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
-            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 한정 판매 입장권 한 장으로 담을 수 있는 수량 초과"),
+            @ApiResponse(responseCode = "401", description = "access 토큰이 만료되었거나 유효하지 않음"),
+            @ApiResponse(responseCode = "403", description = "한정 판매 상품의 수량을 입장권 없이 늘림 (비로그인은 한정 판매 상품 수량 수정 불가)"),
             @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
     })
     RsData<Void> updateCartItem(
             @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(hidden = true) @CookieValue(name = SecurityConstants.ACCESS_TOKEN_COOKIE_NAME, required = false) String accessToken,
+            @Parameter(description = "비로그인 장바구니 쿠키") @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart,
             @Parameter(description = "상품 ID") @PathVariable Long productId,
             @Valid @RequestBody UpdateCartItemRequest request
     );
@@ -52,11 +66,13 @@ public interface CartApiSpecification {
     @Operation(summary = "장바구니에서 상품 삭제", description = "현재 사용자의 장바구니에서 상품을 삭제합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "장바구니에서 상품 삭제 성공"),
-            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "401", description = "access 토큰이 만료되었거나 유효하지 않음"),
             @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
     })
     RsData<Void> removeCartItem(
             @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(hidden = true) @CookieValue(name = SecurityConstants.ACCESS_TOKEN_COOKIE_NAME, required = false) String accessToken,
+            @Parameter(description = "비로그인 장바구니 쿠키") @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart,
             @Parameter(description = "상품 ID") @PathVariable Long productId
     );
 }
\ No newline at end of file
@@ -4,7 +4,13 @@ import com.ecommerce.api.v1.cart.dto.request.AddCartItemRequest;
 import com.ecommerce.api.v1.cart.dto.request.UpdateCartItemRequest;
 import com.ecommerce.api.v1.cart.dto.response.CartResponseDto;
 import com.ecommerce.domain.order.service.CartService;
+import com.ecommerce.domain.order.service.GuestCartService;
+import com.ecommerce.global.infra.web.CookieResponseService;
+import com.ecommerce.global.utils.constants.SecurityConstants;
 import com.ecommerce.global.utils.dto.RsData;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,47 +18,91 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+/**
+ * 로그인하지 않은 요청은 guest_cart 쿠키 기준의 비로그인 장바구니(Redis)로 처리
+ * (access 토큰 쿠키가 있는데 인증되지 않았으면 비로그인 장바구니로 넘기지 않고 401)
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/cart")
 public class CartController implements CartApiSpecification {
 
     private final CartService cartService;
+    private final GuestCartService guestCartService;
+    private final CookieResponseService cookieResponseService;
 
     @GetMapping("")
-    public RsData<CartResponseDto> getCart(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
-        CartResponseDto cart = cartService.getCart(username);
+    public RsData<CartResponseDto> getCart(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @CookieValue(name = SecurityConstants.ACCESS_TOKEN_COOKIE_NAME, required = false) String accessToken,
+            @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart
+    ) {
+        CartResponseDto cart = isGuest(userDetails, accessToken)
+                ? guestCartService.getCart(guestCart)
+                : cartService.getCart(userDetails.getUsername());
         return RsData.success(HttpStatus.OK, cart, "장바구니 조회가 완료되었습니다");
     }
 
     @PostMapping("/items")
     public RsData<Void> addCartItem(
             @AuthenticationPrincipal UserDetails userDetails,
-            @Valid @RequestBody AddCartItemRequest request
+            @CookieValue(name = SecurityConstants.ACCESS_TOKEN_COOKIE_NAME, required = false) String accessToken,
+            @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart,
+            @Valid @RequestBody AddCartItemRequest request,
+            HttpServletResponse response
     ) {
-        String username = userDetails.getUsername();
-        cartService.addCartItem(username, request);
+        if (isGuest(userDetails, accessToken)) {
+            String value = guestCartService.addCartItem(guestCart, request);
+            // 담을 때마다 쿠키 만료 시각도 Redis TTL과 함께 늘림
+            cookieResponseService.addGuestCartCookie(response, value);
+        } else {
+            cartService.addCartItem(userDetails.getUsername(), request);
+        }
         return RsData.success(HttpStatus.CREATED, null, "장바구니에 상품이 추가되었습니다");
     }
 
     @PutMapping("/items/{productId}")
     public RsData<Void> updateCartItem(
             @AuthenticationPrincipal UserDetails userDetails,
+            @CookieValue(name = SecurityConstants.ACCESS_TOKEN_COOKIE_NAME, required = false) String accessToken,
+            @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart,
             @PathVariable Long productId,
             @Valid @RequestBody UpdateCartItemRequest request
     ) {
-        String username = userDetails.getUsername();
-        cartService.updateCartItem(username, productId, request);
+        if (isGuest(userDetails, accessToken)) {
+            guestCartService.updateCartItem(guestCart, productId, request);
+        } else {
+            cartService.updateCartItem(userDetails.getUsername(), productId, request);
+        }
         return RsData.success(HttpStatus.OK, null, "장바구니 상품 수량이 수정되었습니다");
     }
 
     @DeleteMapping("/items/{productId}")
     public RsData<Void> removeCartItem(
             @AuthenticationPrincipal UserDetails userDetails,
+            @CookieValue(name = SecurityConstants.ACCESS_TOKEN_COOKIE_NAME, required = false) String accessToken,
+            @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart,
             @PathVariable Long productId
     ) {
-        cartService.removeCartItem(userDetails.getUsername(), productId);
+        if (isGuest(userDetails, accessToken)) {
+            guestCartService.removeCartItem(guestCart, productId);
+        } else {
+            cartService.removeCartItem(userDetails.getUsername(), productId);
+        }
         return RsData.success(HttpStatus.OK, null, "장바구니에서 상품이 삭제되었습니다");
     }
-}
\ No newline at end of file
+
+    /**
+     * access 토큰 쿠키가 없을 때만 비로그인 장바구니 사용. 만료/위조된 토큰이면 로그인 사용자의 장바구니 대신
+     * 빈 비로그인 장바구니를 보여주지 않도록 401로 응답해 토큰 재발급을 유도
+     */
+    private boolean isGuest(UserDetails userDetails, String accessToken) {
+        if (userDetails != null) {
+            return false;
+        }
+        if (accessToken != null && !accessToken.isBlank()) {
+            throw new ServiceException(ErrorCode.INVALID_TOKEN);
+        }
+        return true;
+    }
+}
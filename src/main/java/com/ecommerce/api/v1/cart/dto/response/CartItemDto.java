@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Getter
 @Builder
@@ -17,15 +18,25 @@ public class CartItemDto {
     @Schema(description = "상품 이름", example = "청자켓")
     private String productName;
     
-    @Schema(description = "상품 가격", example = "89000")
+    @Schema(description = "상품 가격 (현재 판매가)", example = "89000")
     private BigDecimal price;
     
+    @Schema(description = "담을 때의 가격 (비로그인 장바구니는 없음)", example = "99000")
+    private BigDecimal unitPriceSnapshot;
+    
     @Schema(description = "수량", example = "2")
     private Integer quantity;
     
     @Schema(description = "상품 이미지 URL", example = "http://example.com/image.jpg")
     private String imageUrl;
     
-    @Schema(description = "상품 소계 (가격 * 수량)", example = "178000")
+    @Schema(description = "상품 썸네일 URL (축소 이미지가 아직 없으면 원본 URL)", example = "/api/v1/images/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String thumbnailUrl;
+    
+    @Schema(description = "상품 소계 (가격 * 수량, 판매하지 않는 상품은 0)", example = "178000")
     private BigDecimal subtotal;
+    
+    @Schema(description = "재검증 경고 (가격 변경, 재고 부족, 판매 중단)", example = "[\"PRICE_CHANGED\"]")
+    @Builder.Default
+    private List<CartItemWarning> warnings = List.of();
 }
\ No newline at end of file
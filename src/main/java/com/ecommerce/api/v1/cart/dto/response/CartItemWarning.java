@@ -0,0 +1,18 @@
+package com.ecommerce.api.v1.cart.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장바구니 재검증 결과 경고
+ */
+@RequiredArgsConstructor
+@Getter
+public enum CartItemWarning {
+    PRICE_CHANGED("담은 후 가격이 바뀌었습니다"),
+    INSUFFICIENT_STOCK("재고가 담은 수량보다 적습니다"),
+    DISCONTINUED("더 이상 판매하지 않는 상품입니다"),
+    FLASH_SALE_NOT_ADMITTED("한정 판매 중인 상품입니다. 대기열을 통과해 다시 담아야 합니다");
+
+    private final String description;
+}
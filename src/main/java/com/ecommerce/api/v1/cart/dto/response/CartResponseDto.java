@@ -18,6 +18,9 @@ public class CartResponseDto {
     @Schema(description = "장바구니에 담긴 상품 개수")
     private int totalItems;
     
-    @Schema(description = "장바구니 총 금액", example = "178000")
+    @Schema(description = "장바구니 총 금액 (현재 판매가 기준, 판매하지 않는 상품 제외)", example = "178000")
     private BigDecimal totalAmount;
+    
+    @Schema(description = "경고 없이 바로 주문할 수 있는지 여부")
+    private boolean checkoutReady;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.ecommerce.api.v1.delivery.controller;
+
+import com.ecommerce.api.v1.delivery.dto.request.DeliveryTrackingRequest;
+import com.ecommerce.api.v1.delivery.dto.response.DeliveryTrackingResponseDto;
+import com.ecommerce.global.utils.dto.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+@Tag(name = "배송 추적", description = "택배사 배송 추적 웹훅 API")
+public interface DeliveryTrackingApiSpecification {
+
+    @Operation(summary = "배송 추적 변경 수신", description = "택배사가 운송장별 상태 변경(SHIPPED, DELIVERED)을 묶어서 보냅니다. "
+            + "변경은 저장한 뒤 응답하므로 202를 받은 변경은 유실되지 않으며, 같은 운송장의 중복 변경은 가장 진행된 상태 하나로 합쳐 "
+            + "1초 안팎으로 배송과 주문 상태에 반영됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "변경 접수"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 5000건 초과, 필수 값 누락 등)"),
+            @ApiResponse(responseCode = "401", description = "웹훅 토큰 불일치"),
+            @ApiResponse(responseCode = "503", description = "변경 저장 실패, 잠시 후 재전송")
+    })
+    RsData<DeliveryTrackingResponseDto> receiveTracking(
+            @Parameter(description = "택배사 웹훅 토큰") @RequestHeader(value = "X-Courier-Token", required = false) String courierToken,
+            @Valid @RequestBody DeliveryTrackingRequest request
+    );
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.api.v1.delivery.controller;
+
+import com.ecommerce.api.v1.delivery.dto.request.DeliveryTrackingRequest;
+import com.ecommerce.api.v1.delivery.dto.response.DeliveryTrackingResponseDto;
+import com.ecommerce.domain.order.delivery.DeliveryTrackingIngestor;
+import com.ecommerce.global.utils.dto.RsData;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/deliveries")
+public class DeliveryTrackingController implements DeliveryTrackingApiSpecification {
+
+    private final DeliveryTrackingIngestor deliveryTrackingIngestor;
+
+    @PostMapping("/tracking")
+    public RsData<DeliveryTrackingResponseDto> receiveTracking(
+            @RequestHeader(value = "X-Courier-Token", required = false) String courierToken,
+            @Valid @RequestBody DeliveryTrackingRequest request
+    ) {
+        DeliveryTrackingResponseDto result = deliveryTrackingIngestor.accept(courierToken, request.updates());
+        return RsData.success(HttpStatus.ACCEPTED, result, "배송 추적 변경이 접수되었습니다");
+    }
+}
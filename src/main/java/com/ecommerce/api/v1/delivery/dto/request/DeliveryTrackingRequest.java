@@ -0,0 +1,17 @@
+package com.ecommerce.api.v1.delivery.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "택배사 배송 추적 웹훅 요청 DTO")
+public record DeliveryTrackingRequest(
+        @Schema(description = "운송장별 상태 변경 목록 (최대 5000건)")
+        @NotEmpty(message = "상태 변경 목록은 비어 있을 수 없습니다.")
+        @Size(max = 5000, message = "한 번에 5000건까지 전송할 수 있습니다.")
+        List<@Valid TrackingUpdateRequest> updates
+) {
+}
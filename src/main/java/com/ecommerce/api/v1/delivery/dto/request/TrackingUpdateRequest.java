@@ -0,0 +1,26 @@
+package com.ecommerce.api.v1.delivery.dto.request;
+
+import com.ecommerce.domain.order.entity.DeliveryStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "운송장 한 건의 배송 상태 변경")
+public record TrackingUpdateRequest(
+        @Schema(description = "운송장 번호", example = "1234-5678-9012")
+        @NotBlank(message = "운송장 번호는 필수입니다.")
+        @Size(max = 64, message = "운송장 번호는 64자 이하여야 합니다.")
+        String trackingNumber,
+
+        @Schema(description = "배송 상태 (SHIPPED, DELIVERED만 반영)", example = "DELIVERED")
+        @NotNull(message = "배송 상태는 필수입니다.")
+        DeliveryStatus status,
+
+        @Schema(description = "택배사에서 상태가 바뀐 시각", example = "2025-07-01T14:30:00")
+        @NotNull(message = "상태 변경 시각은 필수입니다.")
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.api.v1.delivery.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "택배사 배송 추적 웹훅 응답 DTO")
+public record DeliveryTrackingResponseDto(
+        @Schema(description = "저장한 건수 (반영 대기)", example = "980")
+        int accepted,
+
+        @Schema(description = "반영하지 않는 상태이거나 더 최신 변경에 합쳐진 건수", example = "20")
+        int ignored
+) {
+}
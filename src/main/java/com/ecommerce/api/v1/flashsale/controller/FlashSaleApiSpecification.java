@@ -0,0 +1,57 @@
+package com.ecommerce.api.v1.flashsale.controller;
+
+import com.ecommerce.api.v1.flashsale.dto.request.OpenFlashSaleRequest;
+import com.ecommerce.api.v1.flashsale.dto.response.FlashSaleEntryResponseDto;
+import com.ecommerce.global.utils.dto.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "한정 판매", description = "한정 판매 대기열 관련 API")
+public interface FlashSaleApiSpecification {
+
+    @Operation(summary = "한정 판매 시작", description = "(관리자) 상품을 한정 판매로 전환합니다. 이후 이 상품은 대기열을 통과한 사용자만 장바구니에 담을 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "한정 판매 시작 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (초당 입장 인원 누락, 1..10000 범위 밖)"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "관리자가 아님"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+    })
+    RsData<Void> openFlashSale(
+            @Parameter(description = "상품 ID") @PathVariable Long productId,
+            @Valid @RequestBody OpenFlashSaleRequest request
+    );
+
+    @Operation(summary = "한정 판매 종료", description = "(관리자) 한정 판매를 끝내고 대기열과 입장권을 지웁니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "한정 판매 종료 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "관리자가 아님")
+    })
+    RsData<Void> closeFlashSale(
+            @Parameter(description = "상품 ID") @PathVariable Long productId
+    );
+
+    @Operation(summary = "한정 판매 대기열 입장", description = "대기열에 줄을 서고 대기 순번을 반환합니다. 다시 요청해도 처음 순번이 유지되며, "
+            + "차례가 되어 입장권을 받으면 ADMITTED를 반환합니다. 입장권 유효 시간 안에 장바구니에 담아야 합니다. "
+            + "입장권을 이미 사용했으면 다시 줄 서지 않고 USED를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "대기 중 또는 입장"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "404", description = "진행 중인 한정 판매가 아님"),
+            @ApiResponse(responseCode = "410", description = "한정 수량 소진"),
+            @ApiResponse(responseCode = "503", description = "대기열 저장소(Redis) 사용 불가")
+    })
+    RsData<FlashSaleEntryResponseDto> enter(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "상품 ID") @PathVariable Long productId
+    );
+}
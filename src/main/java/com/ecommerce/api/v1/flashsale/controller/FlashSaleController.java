@@ -0,0 +1,46 @@
+package com.ecommerce.api.v1.flashsale.controller;
+
+import com.ecommerce.api.v1.flashsale.dto.request.OpenFlashSaleRequest;
+import com.ecommerce.api.v1.flashsale.dto.response.FlashSaleEntryResponseDto;
+import com.ecommerce.domain.product.flashsale.FlashSaleGate;
+import com.ecommerce.global.utils.dto.RsData;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/flash-sales")
+public class FlashSaleController implements FlashSaleApiSpecification {
+
+    private final FlashSaleGate flashSaleGate;
+
+    @PostMapping("/{productId}")
+    public RsData<Void> openFlashSale(
+            @PathVariable Long productId,
+            @Valid @RequestBody OpenFlashSaleRequest request
+    ) {
+        flashSaleGate.open(productId, request.admitPerSecond());
+        return RsData.success(HttpStatus.CREATED, null, "한정 판매를 시작했습니다");
+    }
+
+    @DeleteMapping("/{productId}")
+    public RsData<Void> closeFlashSale(
+            @PathVariable Long productId
+    ) {
+        flashSaleGate.close(productId);
+        return RsData.success(HttpStatus.OK, null, "한정 판매를 종료했습니다");
+    }
+
+    @PostMapping("/{productId}/entry")
+    public RsData<FlashSaleEntryResponseDto> enter(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long productId
+    ) {
+        FlashSaleEntryResponseDto entry = flashSaleGate.enter(productId, userDetails.getUsername());
+        return RsData.success(HttpStatus.OK, entry, "한정 판매 대기열에 입장했습니다");
+    }
+}
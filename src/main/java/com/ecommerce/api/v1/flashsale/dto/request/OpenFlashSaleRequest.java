@@ -0,0 +1,16 @@
+package com.ecommerce.api.v1.flashsale.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "한정 판매 시작 요청 DTO")
+public record OpenFlashSaleRequest(
+        @Schema(description = "초당 입장 인원 (재고가 남아 있어도 이 속도 이상으로는 입장시키지 않음)", example = "50")
+        @NotNull(message = "초당 입장 인원은 필수입니다.")
+        @Min(value = 1, message = "초당 입장 인원은 1 이상이어야 합니다.")
+        @Max(value = 10000, message = "초당 입장 인원은 10000 이하여야 합니다.")
+        Integer admitPerSecond
+) {
+}
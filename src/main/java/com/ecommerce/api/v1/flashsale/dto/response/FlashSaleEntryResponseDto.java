@@ -0,0 +1,25 @@
+package com.ecommerce.api.v1.flashsale.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "한정 판매 입장 응답 DTO")
+public record FlashSaleEntryResponseDto(
+        @Schema(description = "입장 상태", example = "WAITING")
+        FlashSaleEntryStatus status,
+
+        @Schema(description = "대기 순번 (1부터, 대기 중이 아니면 null)", example = "42")
+        Long position
+) {
+
+    public static FlashSaleEntryResponseDto waiting(long position) {
+        return new FlashSaleEntryResponseDto(FlashSaleEntryStatus.WAITING, position);
+    }
+
+    public static FlashSaleEntryResponseDto admitted() {
+        return new FlashSaleEntryResponseDto(FlashSaleEntryStatus.ADMITTED, null);
+    }
+
+    public static FlashSaleEntryResponseDto used() {
+        return new FlashSaleEntryResponseDto(FlashSaleEntryStatus.USED, null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.api.v1.flashsale.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한정 판매 입장 상태
+ */
+@RequiredArgsConstructor
+@Getter
+public enum FlashSaleEntryStatus {
+    WAITING("대기열에서 순서를 기다리는 중입니다"),
+    ADMITTED("입장권이 있어 장바구니에 담을 수 있습니다"),
+    USED("이번 판매의 입장권을 이미 사용했습니다");
+
+    private final String description;
+}
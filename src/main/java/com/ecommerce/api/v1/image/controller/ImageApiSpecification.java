@@ -0,0 +1,29 @@
+package com.ecommerce.api.v1.image.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+
+@Tag(name = "이미지", description = "상품 축소 이미지 API")
+public interface ImageApiSpecification {
+
+    @Operation(summary = "축소 이미지 조회", description = "상품 이미지의 썸네일/중간 크기 JPEG을 내려받습니다. "
+            + "키가 내용의 해시이므로 응답은 변하지 않으며, 강한 ETag와 1년 immutable 캐시 헤더를 함께 보냅니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "이미지 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match와 일치 (본문 없음)"),
+            @ApiResponse(responseCode = "404", description = "이미지를 찾을 수 없음")
+    })
+    void getImage(
+            @Parameter(description = "이미지 키 (SHA-256 hex)") @PathVariable String key,
+            @Parameter(hidden = true) HttpServletRequest request,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException;
+}
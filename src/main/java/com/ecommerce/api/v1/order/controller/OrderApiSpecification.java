@@ -0,0 +1,29 @@
+package com.ecommerce.api.v1.order.controller;
+
+import com.ecommerce.api.v1.order.dto.response.OrderHistoryResponseDto;
+import com.ecommerce.global.utils.dto.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "주문", description = "주문 관련 API")
+public interface OrderApiSpecification {
+
+    @Operation(summary = "내 주문 목록 조회", description = "최신 주문부터 조회합니다. "
+            + "다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다 (페이지 번호 없음).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "주문 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    RsData<OrderHistoryResponseDto> getOrderHistory(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "직전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size
+    );
+}
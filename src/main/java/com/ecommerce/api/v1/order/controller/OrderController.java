@@ -0,0 +1,28 @@
+package com.ecommerce.api.v1.order.controller;
+
+import com.ecommerce.api.v1.order.dto.response.OrderHistoryResponseDto;
+import com.ecommerce.domain.order.service.OrderService;
+import com.ecommerce.global.utils.dto.RsData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/orders")
+public class OrderController implements OrderApiSpecification {
+
+    private final OrderService orderService;
+
+    @GetMapping("")
+    public RsData<OrderHistoryResponseDto> getOrderHistory(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        OrderHistoryResponseDto orders = orderService.getOrderHistory(userDetails.getUsername(), cursor, size);
+        return RsData.success(HttpStatus.OK, orders, "주문 목록 조회가 완료되었습니다");
+    }
+}
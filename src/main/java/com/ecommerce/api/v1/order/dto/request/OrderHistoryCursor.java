@@ -0,0 +1,41 @@
+package com.ecommerce.api.v1.order.dto.request;
+
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 다음 페이지 위치 (직전 페이지 마지막 주문의 createdAt, id)
+ *
+ * 클라이언트에는 Base64URL 문자열로 내려주고 그대로 돌려받는다.
+ */
+public record OrderHistoryCursor(
+        LocalDateTime createdAt,
+        Long orderId
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.indexOf(DELIMITER);
+            if (delimiter < 0) {
+                throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return new OrderHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.valueOf(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.api.v1.order.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "주문 목록 응답 DTO")
+public record OrderHistoryResponseDto(
+        @Schema(description = "주문 목록 (최신순)")
+        List<OrderSummaryDto> orders,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext,
+
+        @Schema(description = "다음 페이지 조회 시 cursor로 전달할 값 (마지막 페이지면 null)")
+        String nextCursor
+) {
+    public static OrderHistoryResponseDto empty() {
+        return new OrderHistoryResponseDto(List.of(), false, null);
+    }
+}
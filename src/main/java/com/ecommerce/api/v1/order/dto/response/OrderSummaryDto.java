@@ -0,0 +1,44 @@
+package com.ecommerce.api.v1.order.dto.response;
+
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.repository.OrderSummaryRow;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "주문 목록 항목 DTO")
+public record OrderSummaryDto(
+        @Schema(description = "주문 ID", example = "1")
+        Long orderId,
+
+        @Schema(description = "주문 번호")
+        String orderNumber,
+
+        @Schema(description = "주문 금액", example = "178000")
+        BigDecimal totalPrice,
+
+        @Schema(description = "주문 상태", example = "PAID")
+        OrderStatus status,
+
+        @Schema(description = "상품 종류 수", example = "3")
+        long itemCount,
+
+        @Schema(description = "첫 번째 상품명 (예: 'OO 외 2건' 표시용)", example = "무선 키보드")
+        String firstProductName,
+
+        @Schema(description = "주문 시간")
+        LocalDateTime orderedAt
+) {
+    public static OrderSummaryDto from(OrderSummaryRow row) {
+        return new OrderSummaryDto(
+                row.orderId(),
+                row.orderNumber(),
+                row.totalPrice(),
+                row.status(),
+                row.itemCount() == null ? 0 : row.itemCount(),
+                row.firstProductName(),
+                row.createdAt()
+        );
+    }
+}
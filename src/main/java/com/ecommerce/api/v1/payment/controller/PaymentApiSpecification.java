@@ -0,0 +1,49 @@
+package com.ecommerce.api.v1.payment.controller;
+
+import com.ecommerce.api.v1.payment.dto.request.PaymentRequest;
+import com.ecommerce.api.v1.payment.dto.response.PaymentResponseDto;
+import com.ecommerce.global.utils.dto.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+@Tag(name = "결제", description = "결제 관련 API")
+public interface PaymentApiSpecification {
+
+    @Operation(summary = "주문 결제 요청", description = "주문 결제를 접수하고 승인 결과를 기다리지 않고 바로 응답합니다(PENDING). "
+            + "같은 Idempotency-Key로 다시 요청하면 새로 결제하지 않고 기존 결제를 반환합니다. 승인 결과는 결제 조회로 확인합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "결제 접수 (또는 같은 키로 접수된 기존 결제)"),
+            @ApiResponse(responseCode = "400", description = "Idempotency-Key 누락 또는 잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "같은 요청 처리 중이거나 이미 결제된 주문"),
+            @ApiResponse(responseCode = "422", description = "다른 주문에 사용된 Idempotency-Key")
+    })
+    RsData<PaymentResponseDto> requestPayment(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "주문 ID") @PathVariable Long orderId,
+            @Parameter(description = "중복 결제 방지 키 (클라이언트가 생성한 UUID 등, 최대 64자)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody PaymentRequest request
+    );
+
+    @Operation(summary = "결제 조회", description = "결제 상태(PENDING, PAID, FAILED 등)를 조회합니다. "
+            + "승인 시점에 주문이 이미 취소되었으면 환불 대상(REFUND_REQUIRED)으로 표시됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "결제 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "404", description = "결제를 찾을 수 없음")
+    })
+    RsData<PaymentResponseDto> getPayment(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "결제 ID") @PathVariable Long paymentId
+    );
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.api.v1.payment.controller;
+
+import com.ecommerce.api.v1.payment.dto.request.PaymentRequest;
+import com.ecommerce.api.v1.payment.dto.response.PaymentResponseDto;
+import com.ecommerce.domain.order.service.PaymentService;
+import com.ecommerce.global.utils.dto.RsData;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class PaymentController implements PaymentApiSpecification {
+
+    private final PaymentService paymentService;
+
+    @PostMapping("/orders/{orderId}/payments")
+    public RsData<PaymentResponseDto> requestPayment(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long orderId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody PaymentRequest request
+    ) {
+        PaymentResponseDto payment = paymentService.requestPayment(userDetails.getUsername(), orderId, idempotencyKey, request);
+        return RsData.success(HttpStatus.ACCEPTED, payment, "결제 요청이 접수되었습니다");
+    }
+
+    @GetMapping("/payments/{paymentId}")
+    public RsData<PaymentResponseDto> getPayment(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long paymentId
+    ) {
+        PaymentResponseDto payment = paymentService.getPayment(userDetails.getUsername(), paymentId);
+        return RsData.success(HttpStatus.OK, payment, "결제 조회가 완료되었습니다");
+    }
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.api.v1.payment.dto.request;
+
+import com.ecommerce.domain.order.entity.PaymentMethod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "결제 요청 DTO")
+public record PaymentRequest(
+        @Schema(description = "결제 수단", example = "CREDIT_CARD")
+        @NotNull(message = "결제 수단은 필수입니다.")
+        PaymentMethod paymentMethod
+) {
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.api.v1.payment.dto.response;
+
+import com.ecommerce.domain.order.entity.Payment;
+import com.ecommerce.domain.order.entity.PaymentMethod;
+import com.ecommerce.domain.order.entity.PaymentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "결제 응답 DTO")
+public record PaymentResponseDto(
+        @Schema(description = "결제 ID", example = "1")
+        Long paymentId,
+
+        @Schema(description = "주문 ID", example = "1")
+        Long orderId,
+
+        @Schema(description = "결제 수단", example = "CREDIT_CARD")
+        PaymentMethod paymentMethod,
+
+        @Schema(description = "결제 금액", example = "178000")
+        BigDecimal amount,
+
+        @Schema(description = "결제 상태 (PENDING이면 승인 대기 중)", example = "PENDING")
+        PaymentStatus status,
+
+        @Schema(description = "결제대행사 거래 번호")
+        String transactionId,
+
+        @Schema(description = "결제 완료 시간")
+        LocalDateTime paidAt
+) {
+    public static PaymentResponseDto from(Payment payment) {
+        return new PaymentResponseDto(
+                payment.getId(),
+                payment.getOrder().getId(),
+                payment.getPaymentMethod(),
+                payment.getAmount(),
+                payment.getStatus(),
+                payment.getTransactionId(),
+                payment.getPaidAt()
+        );
+    }
+}
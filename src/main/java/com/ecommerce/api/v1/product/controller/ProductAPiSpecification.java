@@ -6,19 +6,30 @@ import com.ecommerce.api.v1.product.dto.request.UpdateProductRequest;
 import com.ecommerce.api.v1.product.dto.request.UpdateProductStatusRequest;
 import com.ecommerce.api.v1.product.dto.request.UpdateStockRequest;
 import com.ecommerce.api.v1.product.dto.response.ProductResponseDto;
+import com.ecommerce.api.v1.product.dto.response.ProductSearchResponseDto;
 import com.ecommerce.domain.product.entity.Product;
 import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.exporter.ProductExportFormat;
+import com.ecommerce.domain.product.history.ProductHistoryEntry;
+import com.ecommerce.domain.product.importer.ProductImportResult;
+import com.ecommerce.domain.product.search.ProductSuggestion;
 import com.ecommerce.global.utils.dto.RsData;
-import com.ecommerce.global.utils.dto.SliceResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 
 @Tag(name = "상품 관리", description = "상품 관련 API")
 public interface ProductAPiSpecification {
@@ -32,6 +43,27 @@ public interface ProductAPiSpecification {
             @Valid @RequestBody AddProductRequest request
     );
 
+    @Operation(summary = "상품 대량 등록", description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv) 본문을 스트리밍으로 읽어 상품을 일괄 등록합니다. "
+            + "CSV는 헤더(name, description, brand, price, stockQuantity, categoryNames, imageUrls)가 필요하며 여러 값은 '|'로 구분합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "대량 등록 완료 (행 단위 오류 포함)"),
+            @ApiResponse(responseCode = "415", description = "지원하지 않는 형식")
+    })
+    RsData<ProductImportResult> importProducts(
+            @Parameter(hidden = true) HttpServletRequest request
+    ) throws IOException;
+
+    @Operation(summary = "상품 내보내기", description = "삭제되지 않은 상품을 ID 순으로 NDJSON 또는 CSV 파일로 내려받습니다. "
+            + "카탈로그 크기와 관계없이 서버 메모리에 모으지 않고 청크 단위로 전송합니다. CSV 헤더는 대량 등록과 같습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 스트림 시작")
+    })
+    ResponseEntity<StreamingResponseBody> exportProducts(
+            @Parameter(description = "출력 형식 (NDJSON, CSV)") @RequestParam(defaultValue = "NDJSON") ProductExportFormat format,
+            @Parameter(description = "상품 상태") @RequestParam(required = false) ProductStatus status,
+            @Parameter(description = "재고 유무 (true: 재고 있음, false: 품절)") @RequestParam(required = false) Boolean inStock
+    );
+
     @Operation(summary = "상품 정보 수정", description = "기존 상품의 정보를 수정합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "상품 정보 수정 성공"),
@@ -65,6 +97,19 @@ public interface ProductAPiSpecification {
             @Valid @RequestBody UpdateProductStatusRequest request
     );
 
+    @Operation(summary = "상품 가격/재고 이력", description = "기간 내 상품의 가격/재고 변경 이력을 시각 순으로 조회합니다. "
+            + "기간은 UTC 날짜 기준이며 to 당일을 포함합니다. 생략하면 최근 1년을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "이력 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+    })
+    RsData<List<ProductHistoryEntry>> getProductHistory(
+            @Parameter(description = "상품 ID") @PathVariable Long productId,
+            @Parameter(description = "시작일 (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd, 포함)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    );
+
     @Operation(summary = "상품 삭제", description = "상품을 시스템에서 삭제합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "상품 삭제 성공"),
@@ -74,13 +119,13 @@ public interface ProductAPiSpecification {
             @Parameter(description = "상품 ID") @PathVariable Long productId
     );
 
-    @Operation(summary = "상품 검색", description = "상품을 검색합니다.")
+    @Operation(summary = "상품 검색", description = "상품을 검색합니다. 브랜드/카테고리/가격대/재고 패싯 개수를 함께 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "상품 재고 변경 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
     })
-    RsData<SliceResponseDto<ProductResponseDto>> searchProduct(
+    RsData<ProductSearchResponseDto> searchProduct(
             // 기본 검색
             @RequestParam(required = false) String keyword,          // 상품명/설명 검색
             @RequestParam(required = false) String category,         // 카테고리
@@ -94,7 +139,7 @@ public interface ProductAPiSpecification {
             @RequestParam(required = false, defaultValue = "true") Boolean inStock,  // 재고 있는 상품만
             @RequestParam(required = false) ProductStatus status,          // 상품 상태 (ACTIVE, INACTIVE, DISCONTINUED)
 
-            // 평점/리뷰
+            // 평점/리뷰 (리뷰 집계를 반영하는 곳이 생기기 전까지 적용하지 않음)
             @RequestParam(required = false) Double minRating,       // 최소 평점
             @RequestParam(required = false) Integer minReviewCount, // 최소 리뷰 수
 
@@ -107,6 +152,15 @@ public interface ProductAPiSpecification {
             @RequestParam(defaultValue = "20") int size
     );
 
+    @Operation(summary = "검색어 자동완성", description = "상품명/브랜드/카테고리에서 입력 중인 검색어로 시작하는 항목을 인기순으로 추천합니다. 오타를 일부 허용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색어 추천 성공")
+    })
+    RsData<List<ProductSuggestion>> suggestProduct(
+            @Parameter(description = "입력 중인 검색어") @RequestParam String q,
+            @Parameter(description = "최대 개수") @RequestParam(defaultValue = "10") int size
+    );
+
     @Operation(summary = "상품 상세 조회", description = "특정 상품의 상세 정보를 조회합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "상품 정보 수정 성공"),
@@ -2,16 +2,36 @@ package com.ecommerce.api.v1.product.controller;
 
 import com.ecommerce.api.v1.product.dto.request.*;
 import com.ecommerce.api.v1.product.dto.response.ProductResponseDto;
+import com.ecommerce.api.v1.product.dto.response.ProductSearchResponseDto;
 import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.exporter.ProductExportCondition;
+import com.ecommerce.domain.product.exporter.ProductExportFormat;
+import com.ecommerce.domain.product.history.ProductHistoryEntry;
+import com.ecommerce.domain.product.importer.ProductImportFormat;
+import com.ecommerce.domain.product.importer.ProductImportResult;
+import com.ecommerce.domain.product.search.ProductSuggestion;
+import com.ecommerce.domain.product.service.ProductExportService;
+import com.ecommerce.domain.product.service.ProductHistoryService;
+import com.ecommerce.domain.product.service.ProductImportService;
 import com.ecommerce.domain.product.service.ProductService;
 import com.ecommerce.global.utils.dto.RsData;
-import com.ecommerce.global.utils.dto.SliceResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,6 +39,9 @@ import java.math.BigDecimal;
 public class ProductController implements ProductAPiSpecification {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductExportService productExportService;
+    private final ProductHistoryService productHistoryService;
 
     @PostMapping("")
     public RsData<ProductResponseDto> addProduct(
@@ -28,6 +51,36 @@ public class ProductController implements ProductAPiSpecification {
         return RsData.success(HttpStatus.CREATED, product, "상품 등록이 완료되었습니다");
     }
 
+    @PostMapping(value = "/import", consumes = {ProductImportFormat.NDJSON_VALUE, ProductImportFormat.CSV_VALUE})
+    public RsData<ProductImportResult> importProducts(
+            HttpServletRequest request
+    ) throws IOException {
+        // 본문을 버퍼링하지 않고 스트림 그대로 읽음
+        ProductImportFormat format = ProductImportFormat.fromContentType(request.getContentType());
+        ProductImportResult result = productImportService.importProducts(request.getInputStream(), format);
+        return RsData.success(HttpStatus.OK, result, "상품 대량 등록이 완료되었습니다");
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "NDJSON") ProductExportFormat format,  // NDJSON, CSV
+            @RequestParam(required = false) ProductStatus status,               // 상품 상태
+            @RequestParam(required = false) Boolean inStock                     // 재고 유무
+    ) {
+        ProductExportCondition condition = new ProductExportCondition(status, inStock);
+
+        // 응답 본문은 별도 스레드에서 청크 단위로 흘려보냄 (RsData로 감싸지 않음)
+        StreamingResponseBody body = outputStream -> productExportService.exportProducts(condition, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("products." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @PutMapping("/{productId}")
     public RsData<ProductResponseDto> updateProduct(
             @PathVariable Long productId,
@@ -55,6 +108,23 @@ public class ProductController implements ProductAPiSpecification {
         return RsData.success(HttpStatus.OK, product, "상태 수정이 완료되었습니다");
     }
 
+    @GetMapping("/{productId}/history")
+    public RsData<List<ProductHistoryEntry>> getProductHistory(
+            @PathVariable Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,  // 시작일
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to     // 종료일 (포함)
+    ) {
+        LocalDate toDate = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate fromDate = from != null ? from : toDate.minusYears(1);
+
+        List<ProductHistoryEntry> history = productHistoryService.findHistory(
+                productId,
+                fromDate.atStartOfDay().toInstant(ZoneOffset.UTC),
+                toDate.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC)
+        );
+        return RsData.success(HttpStatus.OK, history, "상품 이력 조회가 완료되었습니다");
+    }
+
     @DeleteMapping("/{productId}")
     public RsData<Void> deleteProduct(
             @PathVariable Long productId
@@ -64,7 +134,7 @@ public class ProductController implements ProductAPiSpecification {
     }
 
     @GetMapping("/search")
-    public RsData<SliceResponseDto<ProductResponseDto>> searchProduct(
+    public RsData<ProductSearchResponseDto> searchProduct(
             // 기본 검색
             @RequestParam(required = false) String keyword,          // 상품명/설명 검색
             @RequestParam(required = false) String category,         // 카테고리
@@ -78,7 +148,7 @@ public class ProductController implements ProductAPiSpecification {
             @RequestParam(required = false, defaultValue = "true") Boolean inStock,  // 재고 있는 상품만
             @RequestParam(required = false) ProductStatus status,          // 상품 상태 (ACTIVE, INACTIVE, DISCONTINUED)
 
-            // 평점/리뷰
+            // 평점/리뷰 (리뷰 집계를 반영하는 곳이 생기기 전까지 적용하지 않음)
             @RequestParam(required = false) Double minRating,       // 최소 평점
             @RequestParam(required = false) Integer minReviewCount, // 최소 리뷰 수
 
@@ -97,13 +167,22 @@ public class ProductController implements ProductAPiSpecification {
 
         ProductSearchPageRequest pageRequest = ProductSearchPageRequest.of(page, size, sortBy, sortDir);
 
-        SliceResponseDto<ProductResponseDto> sliceProducts = productService.searchProductsForInfiniteScroll(
+        ProductSearchResponseDto sliceProducts = productService.searchProductsForInfiniteScroll(
                 condition, pageRequest
         );
 
         return RsData.success(HttpStatus.OK, sliceProducts, "상품 검색이 완료되었습니다");
     }
 
+    @GetMapping("/suggest")
+    public RsData<List<ProductSuggestion>> suggestProduct(
+            @RequestParam String q,                                  // 입력 중인 검색어 (최대 50자)
+            @RequestParam(defaultValue = "10") int size              // 최대 개수 (1 이상, top-k까지)
+    ) {
+        List<ProductSuggestion> suggestions = productService.suggestProducts(q, size);
+        return RsData.success(HttpStatus.OK, suggestions, "검색어 추천이 완료되었습니다");
+    }
+
     @GetMapping("/{productId}")
     public RsData<ProductResponseDto> searchProductDetail(
             @PathVariable Long productId
@@ -1,6 +1,7 @@
 package com.ecommerce.api.v1.product.dto.response;
 
 import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
 import com.ecommerce.domain.product.entity.ProductStatus;
 
 import java.math.BigDecimal;
@@ -44,4 +45,24 @@ public record ProductResponseDto(
                 product.isAvailableForSale()
         );
     }
-}
\ No newline at end of file
+
+    public static ProductResponseDto from(ProductSearchDocument document) {
+        Set<CategoryDto> categoryDtos = document.getCategories().stream()
+                .map(category -> new CategoryDto(category.getCategoryId(), category.getName()))
+                .collect(Collectors.toSet());
+
+        return new ProductResponseDto(
+                document.getId(),
+                document.getName(),
+                document.getDescription(),
+                document.getPrice(),
+                document.getStockQuantity(),
+                document.getBrand(),
+                document.getStatus(),
+                document.getStatus().getDescription(),
+                document.getImageUrlList(),
+                categoryDtos,
+                document.isAvailableForSale()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.api.v1.product.dto.response;
+
+import com.ecommerce.domain.product.search.ProductFacets;
+import com.ecommerce.global.utils.dto.SliceResponseDto;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * 상품 검색 결과 - 기존 Slice 응답 필드에 패싯 집계를 추가
+ */
+public record ProductSearchResponseDto(
+        @JsonUnwrapped
+        SliceResponseDto<ProductResponseDto> slice,
+        ProductFacets facets
+) {
+    public static ProductSearchResponseDto of(SliceResponseDto<ProductResponseDto> slice, ProductFacets facets) {
+        return new ProductSearchResponseDto(slice, facets);
+    }
+}
@@ -3,6 +3,7 @@ package com.ecommerce.api.v1.user.controller;
 import com.ecommerce.api.v1.user.dto.request.LoginRequest;
 import com.ecommerce.api.v1.user.dto.request.RegisterRequest;
 import com.ecommerce.api.v1.user.dto.response.UserInfoResponse;
+import com.ecommerce.global.utils.constants.SecurityConstants;
 import com.ecommerce.global.utils.dto.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -25,12 +26,13 @@ public interface UserApiSpecification {
             @Valid @RequestBody RegisterRequest request
     );
 
-    @Operation(summary = "로그인")
+    @Operation(summary = "로그인", description = "guest_cart 쿠키가 있으면 비로그인 장바구니를 사용자 장바구니에 합칩니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK")
     })
     RsData<Void> login(
             @Valid @RequestBody LoginRequest request,
+            @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart,
             HttpServletResponse response
     );
 
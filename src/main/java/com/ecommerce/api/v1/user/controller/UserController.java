@@ -7,6 +7,7 @@ import com.ecommerce.api.v1.user.dto.response.UserInfoResponse;
 import com.ecommerce.domain.user.service.AuthService;
 import com.ecommerce.domain.user.service.UserService;
 import com.ecommerce.global.infra.web.CookieResponseService;
+import com.ecommerce.global.utils.constants.SecurityConstants;
 import com.ecommerce.global.utils.dto.RsData;
 import com.nimbusds.oauth2.sdk.util.StringUtils;
 import jakarta.servlet.http.HttpServletResponse;
@@ -37,10 +38,15 @@ public class UserController implements UserApiSpecification {
     @PostMapping("/login")
     public RsData<Void> login(
             @Valid @RequestBody LoginRequest request,
+            @CookieValue(name = SecurityConstants.GUEST_CART_COOKIE_NAME, required = false) String guestCart,
             HttpServletResponse response
     ) {
-        TokenPair tokens = authService.authenticate(request);
+        TokenPair tokens = authService.authenticate(request, guestCart);
         cookieResponseService.addLoginCookies(response, tokens);
+        if (guestCart != null) {
+            // 로그인 후에는 사용자 장바구니를 쓰므로 비로그인 장바구니 쿠키 만료
+            cookieResponseService.addExpiredGuestCartCookie(response);
+        }
 
         return RsData.success(HttpStatus.OK, null, "로그인 성공");
     }
@@ -24,6 +24,9 @@ public class WishlistItemDto {
     @Schema(description = "상품 이미지 URL", example = "http://example.com/image.jpg")
     private String imageUrl;
     
+    @Schema(description = "상품 썸네일 URL (축소 이미지가 아직 없으면 원본 URL)", example = "/api/v1/images/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String thumbnailUrl;
+    
     @Schema(description = "위시리스트에 추가된 시간")
     private LocalDateTime addedAt;
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.ecommerce.domain.order.cart;
+
+import com.ecommerce.domain.order.entity.Cart;
+import com.ecommerce.domain.order.event.CartAbandonedEvent;
+import com.ecommerce.domain.order.repository.CartItemRepository;
+import com.ecommerce.domain.order.repository.CartRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방치 장바구니 정리
+ *
+ * idle-ttl 넘게 바뀌지 않은 장바구니를 (updatedAt, id) 키셋으로 batch-size 만큼씩 훑어 상품과 함께 삭제한다.
+ * 묶음마다 별도 트랜잭션에서 아직 방치 상태인지 다시 확인하며 잠그고 바로 지우므로,
+ * 잠금은 묶음 하나를 지우는 동안만 유지되고 그사이 상품을 담은 장바구니는 건너뛴다.
+ * 정리한 장바구니마다 커밋 후 {@link CartAbandonedEvent}를 발행하며, 재고 선점 해제와 재방문 알림은 이 이벤트를 받아 처리한다.
+ */
+@Slf4j
+@Component
+public class AbandonedCartSweeper {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Duration idleTtl;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public AbandonedCartSweeper(
+            CartRepository cartRepository,
+            CartItemRepository cartItemRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.cart.abandoned.idle-ttl:30d}") Duration idleTtl,
+            @Value("${app.cart.abandoned.batch-size:200}") int batchSize,
+            @Value("${app.cart.abandoned.max-batches-per-run:50}") int maxBatchesPerRun
+    ) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.eventPublisher = eventPublisher;
+        this.idleTtl = idleTtl;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 한 번에 최대 max-batches-per-run 묶음까지 정리하고, 남은 장바구니는 다음 주기에 이어서 정리
+     *
+     * @return 정리한 장바구니 수
+     */
+    @Scheduled(fixedDelayString = "${app.cart.abandoned.sweep-interval-ms:300000}",
+            initialDelayString = "${app.cart.abandoned.sweep-interval-ms:300000}")
+    public int sweep() {
+        LocalDateTime before = LocalDateTime.now().minus(idleTtl);
+        PageRequest page = PageRequest.of(0, batchSize);
+
+        List<Object[]> idle = readTransaction.execute(status -> cartRepository.findIdleCarts(before, page));
+        int expired = 0;
+        int batches = 0;
+        while (idle != null && !idle.isEmpty() && batches++ < maxBatchesPerRun) {
+            expired += expire(idle.stream().map(row -> (Long) row[0]).toList(), before);
+            if (idle.size() < batchSize) {
+                break;
+            }
+            Object[] last = idle.get(idle.size() - 1);
+            idle = readTransaction.execute(status -> cartRepository
+                    .findIdleCartsAfter(before, (LocalDateTime) last[1], (Long) last[0], page));
+        }
+
+        if (expired > 0) {
+            log.info("방치 장바구니 정리: {}건 ({}일 넘게 변경 없음)", expired, idleTtl.toDays());
+        }
+        return expired;
+    }
+
+    private int expire(List<Long> cartIds, LocalDateTime before) {
+        List<CartAbandonedEvent> events;
+        try {
+            events = writeTransaction.execute(status -> delete(cartIds, before));
+        } catch (DataAccessException e) {
+            // 잠금 대기 초과 등: 이 묶음은 다음 주기에 다시 확인
+            log.warn("방치 장바구니 정리 실패, 다음 주기에 재시도: {}건, 원인={}", cartIds.size(), e.getMessage());
+            return 0;
+        }
+        if (events == null) {
+            return 0;
+        }
+        events.forEach(eventPublisher::publishEvent);
+        return events.size();
+    }
+
+    private List<CartAbandonedEvent> delete(List<Long> cartIds, LocalDateTime before) {
+        List<Cart> carts = cartRepository.lockIdleCarts(cartIds, before);
+        if (carts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> lockedIds = carts.stream().map(Cart::getId).toList();
+
+        Map<Long, List<CartAbandonedEvent.Item>> items = new HashMap<>();
+        for (Object[] row : cartItemRepository.findItemsByCartIdIn(lockedIds)) {
+            items.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(new CartAbandonedEvent.Item((Long) row[1], (Integer) row[2]));
+        }
+        cartItemRepository.deleteByCartIdIn(lockedIds);
+        cartRepository.deleteByIdIn(lockedIds);
+
+        return carts.stream()
+                .map(cart -> new CartAbandonedEvent(cart.getId(), cart.getUser().getId(), cart.getUpdatedAt(),
+                        List.copyOf(items.getOrDefault(cart.getId(), List.of()))))
+                .toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.domain.order.cart;
+
+import java.math.BigDecimal;
+
+/**
+ * 재검증할 장바구니 한 줄 (상품, 수량, 담을 때 가격)
+ *
+ * @param unitPriceSnapshot 담을 때 가격. 모르면 null (가격 변경 경고 생략)
+ */
+public record CartLine(Long productId, int quantity, BigDecimal unitPriceSnapshot) {
+}
@@ -0,0 +1,119 @@
+package com.ecommerce.domain.order.cart;
+
+import com.ecommerce.api.v1.cart.dto.response.CartItemDto;
+import com.ecommerce.api.v1.cart.dto.response.CartItemWarning;
+import com.ecommerce.domain.product.entity.ProductImage;
+import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.repository.ProductAvailabilityRow;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 재검증
+ *
+ * 장바구니의 모든 상품을 IN 조회 한 번으로 현재 가격/재고/상태와 대표 이미지까지 읽어 다시 계산하고,
+ * 줄마다 경고(가격 변경, 재고 부족, 판매 중단, 한정 판매 미입장)를 붙인다. 상품 수와 관계없이 쿼리는 한 번이다.
+ * 장바구니 조회(로그인 / 비로그인)와 주문서 작성이 같은 규칙을 쓰도록 저장 위치와 무관한 {@link CartLine}만 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CartValidator {
+
+    private final ProductRepository productRepository;
+
+    /**
+     * @return 입력 순서 그대로의 장바구니 상품 (현재 판매가 기준 소계, 판매하지 않는 상품은 소계 0)
+     */
+    public List<CartItemDto> validate(List<CartLine> lines) {
+        return validate(lines, Set.of());
+    }
+
+    /**
+     * @param notAdmitted 한정 판매 입장권 없이 담겨 있는 상품 ID (판매 시작 전에 담아 둔 상품 등)
+     */
+    public List<CartItemDto> validate(List<CartLine> lines, Set<Long> notAdmitted) {
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductAvailabilityRow> products = new HashMap<>(lines.size() * 2);
+        for (ProductAvailabilityRow row : productRepository.findAvailabilityRows(
+                lines.stream().map(CartLine::productId).toList())) {
+            // 대표 이미지가 여러 장이면 먼저 읽은 것 사용
+            products.putIfAbsent(row.productId(), row);
+        }
+
+        List<CartItemDto> items = new ArrayList<>(lines.size());
+        for (CartLine line : lines) {
+            items.add(toDto(line, products.get(line.productId()), notAdmitted.contains(line.productId())));
+        }
+        return items;
+    }
+
+    /**
+     * 판매 중단이나 재고 부족 경고가 하나도 없고 가격도 그대로이면 바로 주문 가능
+     */
+    public static boolean isCheckoutReady(List<CartItemDto> items) {
+        return !items.isEmpty() && items.stream().allMatch(item -> item.getWarnings().isEmpty());
+    }
+
+    private static CartItemDto toDto(CartLine line, ProductAvailabilityRow product, boolean notAdmitted) {
+        if (product == null) {
+            // 상품 행 자체가 없어짐: 담을 때 가격만 남김
+            return CartItemDto.builder()
+                    .productId(line.productId())
+                    .price(line.unitPriceSnapshot())
+                    .unitPriceSnapshot(line.unitPriceSnapshot())
+                    .quantity(line.quantity())
+                    .subtotal(BigDecimal.ZERO)
+                    .warnings(List.of(CartItemWarning.DISCONTINUED))
+                    .build();
+        }
+
+        List<CartItemWarning> warnings = warnings(line, product, notAdmitted);
+        BigDecimal subtotal = warnings.contains(CartItemWarning.DISCONTINUED)
+                ? BigDecimal.ZERO
+                : product.price().multiply(BigDecimal.valueOf(line.quantity()));
+
+        return CartItemDto.builder()
+                .productId(product.productId())
+                .productName(product.name())
+                .price(product.price())
+                .unitPriceSnapshot(line.unitPriceSnapshot())
+                .quantity(line.quantity())
+                .imageUrl(product.imageUrl())
+                .thumbnailUrl(product.imageUrl() == null ? null
+                        : ProductImage.thumbnailUrl(product.thumbnailKey(), product.imageUrl()))
+                .subtotal(subtotal)
+                .warnings(warnings)
+                .build();
+    }
+
+    private static List<CartItemWarning> warnings(CartLine line, ProductAvailabilityRow product, boolean notAdmitted) {
+        // 삭제, 단종, 판매중지, 승인대기는 모두 지금 살 수 없는 상품
+        if (Boolean.TRUE.equals(product.isDeleted())
+                || (product.status() != ProductStatus.ACTIVE && product.status() != ProductStatus.OUT_OF_STOCK)) {
+            return List.of(CartItemWarning.DISCONTINUED);
+        }
+
+        List<CartItemWarning> warnings = new ArrayList<>(3);
+        if (line.unitPriceSnapshot() != null && line.unitPriceSnapshot().compareTo(product.price()) != 0) {
+            warnings.add(CartItemWarning.PRICE_CHANGED);
+        }
+        if (product.status() == ProductStatus.OUT_OF_STOCK || product.stockQuantity() < line.quantity()) {
+            warnings.add(CartItemWarning.INSUFFICIENT_STOCK);
+        }
+        if (notAdmitted) {
+            warnings.add(CartItemWarning.FLASH_SALE_NOT_ADMITTED);
+        }
+        return warnings.isEmpty() ? List.of() : List.copyOf(warnings);
+    }
+}
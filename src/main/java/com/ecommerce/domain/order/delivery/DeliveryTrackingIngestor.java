@@ -0,0 +1,311 @@
+package com.ecommerce.domain.order.delivery;
+
+import com.ecommerce.api.v1.delivery.dto.request.TrackingUpdateRequest;
+import com.ecommerce.api.v1.delivery.dto.response.DeliveryTrackingResponseDto;
+import com.ecommerce.domain.order.entity.DeliveryStatus;
+import com.ecommerce.domain.order.entity.DeliveryTrackingUpdate;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.outbox.OutboxWriter;
+import com.ecommerce.domain.order.repository.DeliveryRepository;
+import com.ecommerce.domain.order.repository.DeliveryTrackingRow;
+import com.ecommerce.domain.order.repository.DeliveryTrackingUpdateRepository;
+import com.ecommerce.domain.order.repository.OrderRepository;
+import com.ecommerce.domain.order.state.OrderStateMachines;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 택배사 배송 추적 웹훅 반영
+ *
+ * 웹훅은 요청 안의 중복 스캔을 운송장별로 합친 뒤 delivery_tracking_update에 JDBC 배치 INSERT 1번으로 저장하고 응답하므로,
+ * 202를 받은 변경은 인스턴스가 재기동되어도 반영된다.
+ * 주기마다 batch-size 만큼 꺼내 같은 운송장의 변경을 하나로 합치고, 운송장 번호 IN 조회 한 번으로 배송/주문 상태를 읽어
+ * (현재 상태, 목표 상태) 묶음마다 조건부 UPDATE 한 번으로 배송과 주문(SHIPPED / DELIVERED)을 함께 옮긴다.
+ * 꺼낸 변경은 반영과 같은 트랜잭션에서 삭제하므로, 반영이 실패하면 삭제도 롤백되어 다음 주기에 다시 처리된다.
+ * 전이 가능 여부는 {@link OrderStateMachines} 표로 확인한다.
+ * UPDATE는 아직 읽은 상태 그대로인 행만 바꾸므로 잠금 없이 다른 변경과 겹쳐도 되돌리지 않으며,
+ * 실제로 바뀐 행(순번이 읽은 값 + 1)만 아웃박스 이벤트를 남긴다.
+ */
+@Slf4j
+@Component
+public class DeliveryTrackingIngestor {
+
+    private static final String INSERT_UPDATE = """
+            INSERT INTO delivery_tracking_update (tracking_number, status, occurred_at)
+            VALUES (:trackingNumber, :status, :occurredAt)
+            """;
+
+    static final int MAX_UPDATES = 5000;
+    private static final int MAX_TRACKING_NUMBER_LENGTH = 64;
+
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryTrackingUpdateRepository updateRepository;
+    private final OrderRepository orderRepository;
+    private final OutboxWriter outboxWriter;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final byte[] webhookToken;
+    private final int batchSize;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public DeliveryTrackingIngestor(
+            DeliveryRepository deliveryRepository,
+            DeliveryTrackingUpdateRepository updateRepository,
+            OrderRepository orderRepository,
+            OutboxWriter outboxWriter,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.delivery.tracking.webhook-token:}") String webhookToken,
+            @Value("${app.delivery.tracking.batch-size:500}") int batchSize
+    ) {
+        this.deliveryRepository = deliveryRepository;
+        this.updateRepository = updateRepository;
+        this.orderRepository = orderRepository;
+        this.outboxWriter = outboxWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.webhookToken = webhookToken.getBytes(StandardCharsets.UTF_8);
+        this.batchSize = batchSize;
+
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    private record Transition<S extends Enum<S>>(S from, S to) {
+    }
+
+    /**
+     * 웹훅으로 받은 변경을 저장. 저장에 실패하면 503으로 택배사 재전송을 유도
+     */
+    public DeliveryTrackingResponseDto accept(String courierToken, List<TrackingUpdateRequest> updates) {
+        // 토큰 미설정 시 모든 요청 거부
+        if (webhookToken.length == 0 || courierToken == null
+                || !MessageDigest.isEqual(webhookToken, courierToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new ServiceException(ErrorCode.INVALID_WEBHOOK_TOKEN);
+        }
+        // 잘못된 요청을 저장 실패(503)로 돌려주면 택배사가 같은 묶음을 계속 재전송하므로 저장 전에 400으로 거부
+        if (!isValid(updates)) {
+            throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Map<String, TrackingUpdateRequest> coalesced = coalesce(updates.stream()
+                .filter(update -> targetOrderStatus(update.status()) != null)
+                .toList());
+        if (!coalesced.isEmpty()) {
+            SqlParameterSource[] params = coalesced.values().stream()
+                    .map(update -> new MapSqlParameterSource()
+                            .addValue("trackingNumber", update.trackingNumber())
+                            .addValue("status", update.status().name())
+                            .addValue("occurredAt", update.occurredAt()))
+                    .toArray(SqlParameterSource[]::new);
+            try {
+                writeTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_UPDATE, params));
+            } catch (DataAccessException e) {
+                log.warn("배송 추적 변경 저장 실패: 요청={}건, 원인={}", updates.size(), e.getMessage());
+                throw new ServiceException(ErrorCode.TRACKING_STORE_FAILED);
+            }
+        }
+        return new DeliveryTrackingResponseDto(coalesced.size(), updates.size() - coalesced.size());
+    }
+
+    /**
+     * DTO의 Bean Validation 제약은 검증 구현체가 없어 적용되지 않으므로 같은 규칙을 직접 확인
+     */
+    private static boolean isValid(List<TrackingUpdateRequest> updates) {
+        if (updates == null || updates.isEmpty() || updates.size() > MAX_UPDATES) {
+            return false;
+        }
+        return updates.stream().allMatch(update -> update != null
+                && update.trackingNumber() != null
+                && !update.trackingNumber().isBlank()
+                && update.trackingNumber().length() <= MAX_TRACKING_NUMBER_LENGTH
+                && update.status() != null
+                && update.occurredAt() != null);
+    }
+
+    /**
+     * 운송장별로 가장 진행된 변경 하나만 남김
+     */
+    private static Map<String, TrackingUpdateRequest> coalesce(List<TrackingUpdateRequest> updates) {
+        Map<String, TrackingUpdateRequest> coalesced = new LinkedHashMap<>();
+        updates.forEach(update -> coalesced.merge(update.trackingNumber(), update, DeliveryTrackingIngestor::latest));
+        return coalesced;
+    }
+
+    /**
+     * 같은 운송장의 두 변경 중 남길 것: 더 진행된 상태, 같으면 나중 시각
+     */
+    private static TrackingUpdateRequest latest(TrackingUpdateRequest current, TrackingUpdateRequest incoming) {
+        int compared = Integer.compare(incoming.status().ordinal(), current.status().ordinal());
+        if (compared == 0) {
+            compared = incoming.occurredAt().compareTo(current.occurredAt());
+        }
+        return compared > 0 ? incoming : current;
+    }
+
+    /**
+     * 저장된 변경을 batch-size 단위로 반영. 다른 트랜잭션과 충돌하면 남은 변경을 다음 주기로 넘김
+     */
+    @Scheduled(fixedDelayString = "${app.delivery.tracking.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            while (writeBatch() == batchSize) {
+                // 남은 변경이 있을 수 있으므로 계속
+            }
+        } catch (DataAccessException e) {
+            // 롤백되어 변경이 그대로 남아 있으므로 다음 주기에 재시도
+            log.warn("배송 추적 반영 실패, 다음 주기에 재시도: 원인={}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 가장 오래된 변경부터 한 배치를 반영하고 삭제
+     *
+     * @return 꺼낸 변경 수
+     */
+    private int writeBatch() {
+        Integer taken = writeTransaction.execute(status -> {
+            List<DeliveryTrackingUpdate> staged = updateRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (staged.isEmpty()) {
+                return 0;
+            }
+
+            // 먼저 삭제해 행을 선점하고, 다른 인스턴스가 이미 가져간 행이 있으면 이번 배치 전체를 롤백
+            List<Long> ids = staged.stream().map(DeliveryTrackingUpdate::getId).toList();
+            if (updateRepository.deleteByIdIn(ids) != ids.size()) {
+                throw new OptimisticLockingFailureException("다른 인스턴스가 배송 추적 변경을 먼저 반영했습니다.");
+            }
+
+            Map<String, TrackingUpdateRequest> updates =
+                    coalesce(staged.stream().map(DeliveryTrackingUpdate::toRequest).toList());
+            int applied = apply(updates);
+            log.debug("배송 추적 반영: 변경={}건, 운송장={}건, 상태 변경={}건", staged.size(), updates.size(), applied);
+            return staged.size();
+        });
+        return taken != null ? taken : 0;
+    }
+
+    /**
+     * @return 상태가 바뀐 배송 + 주문 수
+     */
+    private int apply(Map<String, TrackingUpdateRequest> updates) {
+        List<DeliveryTrackingRow> rows = deliveryRepository.findTrackingRows(updates.keySet());
+
+        Map<Transition<DeliveryStatus>, List<DeliveryTrackingRow>> deliveryGroups = new LinkedHashMap<>();
+        Map<Transition<OrderStatus>, List<DeliveryTrackingRow>> orderGroups = new LinkedHashMap<>();
+        for (DeliveryTrackingRow row : rows) {
+            DeliveryStatus target = updates.get(row.trackingNumber()).status();
+            if (OrderStateMachines.DELIVERY.canTransition(row.deliveryStatus(), target)) {
+                deliveryGroups.computeIfAbsent(new Transition<>(row.deliveryStatus(), target), key -> new ArrayList<>()).add(row);
+            }
+            OrderStatus orderTarget = targetOrderStatus(target);
+            if (OrderStateMachines.ORDER.canTransition(row.orderStatus(), orderTarget)) {
+                orderGroups.computeIfAbsent(new Transition<>(row.orderStatus(), orderTarget), key -> new ArrayList<>()).add(row);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int applied = 0;
+        for (Map.Entry<Transition<DeliveryStatus>, List<DeliveryTrackingRow>> group : deliveryGroups.entrySet()) {
+            applied += updateDeliveries(group.getKey(), group.getValue(), now);
+        }
+        for (Map.Entry<Transition<OrderStatus>, List<DeliveryTrackingRow>> group : orderGroups.entrySet()) {
+            applied += updateOrders(group.getKey(), group.getValue(), now);
+        }
+        if (rows.size() < updates.size()) {
+            log.debug("등록되지 않은 운송장 번호 무시: {}건", updates.size() - rows.size());
+        }
+        return applied;
+    }
+
+    private int updateDeliveries(Transition<DeliveryStatus> transition, List<DeliveryTrackingRow> rows, LocalDateTime now) {
+        List<Long> ids = rows.stream().map(DeliveryTrackingRow::deliveryId).toList();
+        int updated = transition.to() == DeliveryStatus.SHIPPED
+                ? deliveryRepository.bulkShip(ids, transition.from(), now)
+                : deliveryRepository.bulkDeliver(ids, transition.from(), now);
+        if (updated == 0) {
+            return 0;
+        }
+
+        Map<Long, Long> sequences = toSequences(deliveryRepository.findSequencesByIdInAndStatus(ids, transition.to()));
+        int applied = 0;
+        for (DeliveryTrackingRow row : rows) {
+            Long sequence = sequences.get(row.deliveryId());
+            if (sequence != null && sequence == row.deliverySequence() + 1) {
+                outboxWriter.deliveryStatusChanged(row, transition.to(), sequence);
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private int updateOrders(Transition<OrderStatus> transition, List<DeliveryTrackingRow> rows, LocalDateTime now) {
+        List<Long> ids = rows.stream().map(DeliveryTrackingRow::orderId).toList();
+        if (orderRepository.bulkUpdateStatus(ids, transition.from(), transition.to(), now) == 0) {
+            return 0;
+        }
+
+        Map<Long, Long> sequences = toSequences(orderRepository.findSequencesByIdInAndStatus(ids, transition.to()));
+        int applied = 0;
+        for (DeliveryTrackingRow row : rows) {
+            Long sequence = sequences.get(row.orderId());
+            if (sequence != null && sequence == row.orderSequence() + 1) {
+                outboxWriter.orderStatusChanged(row, transition.to(), sequence);
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private static Map<Long, Long> toSequences(List<Object[]> rows) {
+        Map<Long, Long> sequences = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> sequences.put((Long) row[0], (Long) row[1]));
+        return sequences;
+    }
+
+    /**
+     * 배송 상태에 맞춰 옮길 주문 상태 (웹훅은 SHIPPED / DELIVERED만 반영)
+     */
+    private static OrderStatus targetOrderStatus(DeliveryStatus status) {
+        return switch (status) {
+            case SHIPPED -> OrderStatus.SHIPPED;
+            case DELIVERED -> OrderStatus.DELIVERED;
+            default -> null;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 남은 변경은 저장되어 있으므로 다음 기동 또는 다른 인스턴스가 반영해도 되지만, 지연을 줄이기 위해 종료 전에 반영
+        flush();
+    }
+}
@@ -12,7 +12,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "carts")
+@Table(
+        name = "carts",
+        // 방치 장바구니 정리가 마지막 변경 순으로 묶음 조회
+        indexes = @Index(name = "idx_carts_updated_id", columnList = "updated_at, id")
+)
 @Getter
 @Builder
 @NoArgsConstructor
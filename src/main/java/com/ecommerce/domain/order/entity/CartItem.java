@@ -8,8 +8,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 @Entity
-@Table(name = "cart_items")
+@Table(
+        name = "cart_items",
+        // 비로그인 장바구니 병합이 (장바구니, 상품) 기준 upsert로 수량을 합침
+        uniqueConstraints = @UniqueConstraint(name = "uk_cart_items_cart_product", columnNames = {"cart_id", "product_id"})
+)
 @Getter
 @Builder
 @NoArgsConstructor
@@ -31,6 +37,10 @@ public class CartItem extends BaseEntity {
     @Column(nullable = false)
     private Integer quantity;
 
+    // 담을 때(또는 수량을 바꿀 때)의 가격. 장바구니 재검증에서 가격 변경 여부 판단에 사용
+    @Column(precision = 10, scale = 2)
+    private BigDecimal unitPriceSnapshot;
+
     public void setCart(Cart cart) {
         this.cart = cart;
     }
@@ -38,4 +48,8 @@ public class CartItem extends BaseEntity {
     public void updateQuantity(int quantity) {
         this.quantity = quantity;
     }
+
+    public void updateUnitPriceSnapshot(BigDecimal unitPriceSnapshot) {
+        this.unitPriceSnapshot = unitPriceSnapshot;
+    }
 }
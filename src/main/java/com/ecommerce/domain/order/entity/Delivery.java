@@ -1,6 +1,6 @@
 package com.ecommerce.domain.order.entity;
 
-import com.ecommerce.global.entity.BaseEntity;
+import com.ecommerce.domain.order.state.OrderStateMachines;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,12 +10,16 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "deliveries")
+@Table(
+        name = "deliveries",
+        // 택배사 추적 웹훅이 운송장 번호 묶음으로 조회
+        indexes = @Index(name = "idx_deliveries_tracking_number", columnList = "tracking_number")
+)
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Delivery extends BaseEntity {
+public class Delivery extends OutboxAggregate {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,11 +42,21 @@ public class Delivery extends BaseEntity {
     private LocalDateTime deliveredAt;
 
     public void updateStatus(DeliveryStatus status) {
+        OrderStateMachines.DELIVERY.check(this, this.status, status);
         this.status = status;
         if (status == DeliveryStatus.SHIPPED) {
             this.shippedAt = LocalDateTime.now();
         } else if (status == DeliveryStatus.DELIVERED) {
+            // 출고 스캔 없이 배달 완료된 경우 출고 시각도 함께 채움
             this.deliveredAt = LocalDateTime.now();
+            if (this.shippedAt == null) {
+                this.shippedAt = this.deliveredAt;
+            }
         }
     }
+
+    @Override
+    public OutboxAggregateType getAggregateType() {
+        return OutboxAggregateType.DELIVERY;
+    }
 }
@@ -0,0 +1,40 @@
+package com.ecommerce.domain.order.entity;
+
+import com.ecommerce.api.v1.delivery.dto.request.TrackingUpdateRequest;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 웹훅으로 받았지만 아직 배송/주문에 반영하지 않은 배송 추적 변경
+ *
+ * 웹훅 응답 전에 저장되므로, 202를 받은 변경은 인스턴스가 재기동되어도 유실되지 않는다.
+ * 주기적으로 배송/주문에 반영한 뒤 같은 트랜잭션에서 삭제된다.
+ */
+@Entity
+@Table(name = "delivery_tracking_update")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeliveryTrackingUpdate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tracking_number", nullable = false, length = 64)
+    private String trackingNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeliveryStatus status;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public TrackingUpdateRequest toRequest() {
+        return new TrackingUpdateRequest(trackingNumber, status, occurredAt);
+    }
+}
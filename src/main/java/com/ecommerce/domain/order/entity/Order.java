@@ -1,7 +1,7 @@
 package com.ecommerce.domain.order.entity;
 
 import com.ecommerce.domain.user.entity.User;
-import com.ecommerce.global.entity.BaseEntity;
+import com.ecommerce.domain.order.state.OrderStateMachines;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,12 +13,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        // 사용자별 주문 목록 키셋 페이지 (user_id, created_at, id)
+        indexes = @Index(name = "idx_orders_user_created_id", columnList = "user_id, created_at, id")
+)
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Order extends BaseEntity {
+public class Order extends OutboxAggregate {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -63,6 +67,12 @@ public class Order extends BaseEntity {
     }
 
     public void updateStatus(OrderStatus status) {
+        OrderStateMachines.ORDER.check(this, this.status, status);
         this.status = status;
     }
+
+    @Override
+    public OutboxAggregateType getAggregateType() {
+        return OutboxAggregateType.ORDER;
+    }
 }
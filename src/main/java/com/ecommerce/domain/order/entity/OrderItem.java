@@ -10,7 +10,11 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "order_items")
+@Table(
+        name = "order_items",
+        // 주문별 항목 수 / 첫 항목 조회
+        indexes = @Index(name = "idx_order_items_order_id", columnList = "order_id, id")
+)
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,28 @@
+package com.ecommerce.domain.order.entity;
+
+import com.ecommerce.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * 아웃박스 이벤트를 발행하는 집계 (주문, 결제, 배송)
+ *
+ * 이벤트 순번을 집계 행에 두어, 같은 집계를 동시에 바꾸는 트랜잭션은 이 행의 UPDATE에서 직렬화되고
+ * 순번이 겹치면 아웃박스 유니크 제약에서 한쪽이 실패한다. 롤백되면 순번도 함께 되돌아가므로 빈 번호가 생기지 않는다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class OutboxAggregate extends BaseEntity {
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long eventSequence;
+
+    public abstract Long getId();
+
+    public abstract OutboxAggregateType getAggregateType();
+
+    public long nextEventSequence() {
+        return ++eventSequence;
+    }
+}
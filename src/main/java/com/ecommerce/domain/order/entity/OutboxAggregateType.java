@@ -0,0 +1,7 @@
+package com.ecommerce.domain.order.entity;
+
+public enum OutboxAggregateType {
+    ORDER,
+    PAYMENT,
+    DELIVERY
+}
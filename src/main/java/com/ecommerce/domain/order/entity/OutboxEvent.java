@@ -0,0 +1,81 @@
+package com.ecommerce.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스
+ *
+ * 주문/결제/배송 상태 변경과 같은 트랜잭션에 저장하고, 릴레이가 커밋된 행을 임대(lease)로 선점해 외부로 발행한다.
+ * (집계 종류, 집계 ID, 순번)이 유니크하므로 소비자는 이 값으로 순서를 맞추고 중복을 거를 수 있다.
+ */
+@Entity
+@Table(
+        name = "outbox_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_events_aggregate_sequence",
+                columnNames = {"aggregate_type", "aggregate_id", "aggregate_sequence"}),
+        indexes = @Index(name = "idx_outbox_events_published_id", columnList = "published_at, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private OutboxAggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // 집계별로 1부터 빈 번호 없이 증가
+    @Column(name = "aggregate_sequence", nullable = false)
+    private long aggregateSequence;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    // 선점한 릴레이와 임대 만료 시각 (만료되면 다른 릴레이가 다시 선점)
+    @Column(length = 64)
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    public static OutboxEvent create(OutboxAggregate aggregate, String eventType, String payload) {
+        return create(aggregate.getAggregateType(), aggregate.getId(), aggregate.nextEventSequence(), eventType, payload);
+    }
+
+    /**
+     * 일괄 UPDATE로 집계 순번을 직접 올린 경우 그 순번으로 생성
+     */
+    public static OutboxEvent create(OutboxAggregateType aggregateType, Long aggregateId, long aggregateSequence,
+                                     String eventType, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.aggregateType = aggregateType;
+        event.aggregateId = aggregateId;
+        event.aggregateSequence = aggregateSequence;
+        event.eventType = eventType;
+        event.payload = payload;
+        event.occurredAt = LocalDateTime.now();
+        return event;
+    }
+}
@@ -1,6 +1,6 @@
 package com.ecommerce.domain.order.entity;
 
-import com.ecommerce.global.entity.BaseEntity;
+import com.ecommerce.domain.order.state.OrderStateMachines;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,19 +11,23 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(
+        name = "payments",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payments_user_idempotency_key",
+                columnNames = {"user_id", "idempotency_key"})
+)
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Payment extends BaseEntity {
+public class Payment extends OutboxAggregate {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id", nullable = false)
+    @JoinColumn(name = "order_id", nullable = false, unique = true)
     private Order order;
 
     @Enumerated(EnumType.STRING)
@@ -39,12 +43,58 @@ public class Payment extends BaseEntity {
 
     private String transactionId;
 
+    // 주문한 사용자 (Idempotency-Key는 사용자별로 유일)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 클라이언트가 보낸 Idempotency-Key (같은 사용자는 같은 키로 한 번만 결제)
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
     private LocalDateTime paidAt;
 
     public void updateStatus(PaymentStatus status) {
+        OrderStateMachines.PAYMENT.check(this, this.status, status);
         this.status = status;
         if (status == PaymentStatus.PAID) {
             this.paidAt = LocalDateTime.now();
         }
     }
+
+    /**
+     * 결제대행사 승인 결과 반영
+     */
+    public void approve(String transactionId) {
+        this.transactionId = transactionId;
+        updateStatus(PaymentStatus.PAID);
+    }
+
+    /**
+     * 승인됐지만 주문에 반영할 수 없는 결제를 환불 대상으로 표시
+     */
+    public void requireRefund() {
+        updateStatus(PaymentStatus.REFUND_REQUIRED);
+    }
+
+    /**
+     * 실패한 결제를 새 Idempotency-Key로 다시 요청
+     */
+    public void retry(String idempotencyKey, PaymentMethod paymentMethod) {
+        this.idempotencyKey = idempotencyKey;
+        this.paymentMethod = paymentMethod;
+        this.transactionId = null;
+        updateStatus(PaymentStatus.PENDING);
+    }
+
+    /**
+     * 결제대행사에 보내는 키. 클라이언트 키는 사용자별로만 유일하므로 사용자 ID를 붙인다
+     */
+    public String gatewayIdempotencyKey() {
+        return userId + ":" + idempotencyKey;
+    }
+
+    @Override
+    public OutboxAggregateType getAggregateType() {
+        return OutboxAggregateType.PAYMENT;
+    }
 }
@@ -5,5 +5,7 @@ public enum PaymentStatus {
     PAID,
     FAILED,
     CANCELLED,
+    // 승인됐지만 주문이 이미 결제할 수 없는 상태 (환불/대사 필요)
+    REFUND_REQUIRED,
     REFUNDED
 }
@@ -0,0 +1,13 @@
+package com.ecommerce.domain.order.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래 변경되지 않아 정리된 장바구니 (재방문 알림, 재고 선점 해제용)
+ */
+public record CartAbandonedEvent(Long cartId, Long userId, LocalDateTime lastActivityAt, List<Item> items) {
+
+    public record Item(Long productId, int quantity) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.ecommerce.domain.order.number;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 주문 번호 생성기 (Snowflake 방식)
+ *
+ * 63비트 = 기준 시각 이후 경과 밀리초(41) | 노드 ID(10) | 밀리초 내 순번(12) 을
+ * Crockford Base32 13자리(0-9, A-Z 중 I, L, O, U 제외)로 표기한다. 자릿수가 고정이라 문자열 정렬이 발급 순서와 같다.
+ *
+ * 마지막 발급 값(경과 밀리초 + 순번) 하나를 CAS로 갱신하므로 잠금이 없고, 발급 값은 항상 증가한다.
+ * 시계가 뒤로 가거나 한 밀리초에 4096개를 넘기면 벽시계 대신 마지막 발급 값 + 1을 쓰므로(논리 시계) 중복되지 않는다.
+ * 노드 ID는 인스턴스마다 달라야 하며, 재기동 직후 시계가 크게 뒤로 간 경우의 충돌은 orderNumber 유니크 제약이 막는다.
+ */
+@Slf4j
+@Component
+public class OrderNumberGenerator {
+
+    // 2025-01-01T00:00:00Z
+    static final long EPOCH_MILLIS = 1_735_689_600_000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    public static final int LENGTH = 13;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long SKEW_WARNING_MILLIS = 1_000;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+
+    // 마지막 발급 값: (경과 밀리초 << SEQUENCE_BITS) | 순번
+    private final AtomicLong lastIssued = new AtomicLong();
+    private volatile long lastSkewWarningMillis;
+
+    @Autowired
+    public OrderNumberGenerator(@Value("${app.order.number.node-id:-1}") int nodeId) {
+        this(nodeId < 0 ? hostNodeId() : nodeId, System::currentTimeMillis);
+    }
+
+    OrderNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * 새 주문 번호 (예: 0C8Z4T1QK2007)
+     */
+    public String next() {
+        return encode(nextId());
+    }
+
+    public long nextId() {
+        while (true) {
+            long last = lastIssued.get();
+            long lastMillis = last >>> SEQUENCE_BITS;
+            long elapsed = clock.getAsLong() - EPOCH_MILLIS;
+
+            // 새 밀리초면 순번 0부터, 아니면(같은 밀리초, 순번 소진, 시계 역행) 마지막 값 + 1
+            long candidate = elapsed > lastMillis ? elapsed << SEQUENCE_BITS : last + 1;
+            if (lastIssued.compareAndSet(last, candidate)) {
+                if (lastMillis - elapsed > SKEW_WARNING_MILLIS) {
+                    warnClockSkew(lastMillis - elapsed);
+                }
+                return ((candidate & ~SEQUENCE_MASK) << NODE_BITS) | nodeBits | (candidate & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 63비트 값을 고정 길이 Crockford Base32로 표기
+     */
+    public static String encode(long id) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 사람이 입력한 주문 번호 해석. 대소문자를 구분하지 않고 I/L은 1, O는 0으로 읽으며 하이픈은 무시한다
+     */
+    public static long decode(String orderNumber) {
+        long id = 0;
+        int digits = 0;
+        for (int i = 0; i < orderNumber.length(); i++) {
+            char c = orderNumber.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            int value = digitOf(c);
+            // 13자리 = 65비트이므로 첫 자리는 3비트(0~7)까지만 유효
+            if (value < 0 || ++digits > LENGTH || (digits == 1 && value > 7)) {
+                throw new IllegalArgumentException("올바르지 않은 주문 번호: " + orderNumber);
+            }
+            id = (id << 5) | value;
+        }
+        if (digits != LENGTH) {
+            throw new IllegalArgumentException("올바르지 않은 주문 번호: " + orderNumber);
+        }
+        return id;
+    }
+
+    private static int digitOf(char c) {
+        char upper = Character.toUpperCase(c);
+        if (upper == 'I' || upper == 'L') {
+            return 1;
+        }
+        if (upper == 'O') {
+            return 0;
+        }
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == upper) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void warnClockSkew(long aheadMillis) {
+        long now = System.currentTimeMillis();
+        if (now - lastSkewWarningMillis > SKEW_WARNING_MILLIS) {
+            lastSkewWarningMillis = now;
+            log.warn("주문 번호 시계가 벽시계보다 {}ms 앞서 있음 (시계 역행 또는 발급량 초과), 논리 시계로 계속 발급", aheadMillis);
+        }
+    }
+
+    private static int hostNodeId() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            int nodeId = hostName.hashCode() & MAX_NODE_ID;
+            log.warn("app.order.number.node-id 미설정, 호스트 이름으로 노드 ID 결정: host={}, nodeId={} (다중 인스턴스에서는 직접 지정 권장)",
+                    hostName, nodeId);
+            return nodeId;
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("주문 번호 노드 ID를 정할 수 없습니다. app.order.number.node-id를 설정해주세요.", e);
+        }
+    }
+}
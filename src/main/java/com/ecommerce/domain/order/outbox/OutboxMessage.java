@@ -0,0 +1,32 @@
+package com.ecommerce.domain.order.outbox;
+
+import com.ecommerce.domain.order.entity.OutboxAggregateType;
+import com.ecommerce.domain.order.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크로 내보내는 아웃박스 이벤트. 소비자는 (aggregateType, aggregateId, sequence)로 중복과 순서를 판별한다
+ */
+public record OutboxMessage(
+        Long id,
+        OutboxAggregateType aggregateType,
+        Long aggregateId,
+        long sequence,
+        String eventType,
+        String payload,
+        LocalDateTime occurredAt
+) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getAggregateSequence(),
+                event.getEventType(),
+                event.getPayload(),
+                event.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,191 @@
+package com.ecommerce.domain.order.outbox;
+
+import com.ecommerce.domain.order.entity.OutboxAggregateType;
+import com.ecommerce.domain.order.entity.OutboxEvent;
+import com.ecommerce.domain.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * 발행되지 않은 이벤트를 batch-size 만큼 임대로 선점 → 싱크로 전달 → 발행 완료 표시 순으로 처리한다.
+ * 전달 후 완료 표시 전에 죽으면 임대가 만료된 뒤 다시 전달되므로 at-least-once이며,
+ * 같은 집계의 앞 순번이 아직 발행되지 않았다면(다른 릴레이가 잡고 있는 경우) 뒤 순번은 놓아주어 순서를 지킨다.
+ *
+ * 처리량은 outbox.events.published(초당 증가량 = events/sec), 묶음 처리 시간은 outbox.relay.batch,
+ * 저장부터 발행까지 지연은 outbox.events.lag 지표로 본다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final Duration retention;
+    private final String relayId = "relay-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSink outboxSink,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${app.outbox.relay.lease:30s}") Duration leaseDuration,
+            @Value("${app.outbox.retention:7d}") Duration retention
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.batchSize = batchSize;
+        this.leaseDuration = leaseDuration;
+        this.retention = retention;
+
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("싱크로 전달한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events.failed")
+                .description("싱크 전달에 실패해 다시 시도할 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("선점부터 발행 완료 표시까지 한 묶음 처리 시간")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("outbox.events.lag")
+                .description("아웃박스 저장부터 싱크 전달까지 지연")
+                .register(meterRegistry);
+    }
+
+    private record AggregateKey(OutboxAggregateType aggregateType, Long aggregateId) {
+
+        static AggregateKey of(OutboxEvent event) {
+            return new AggregateKey(event.getAggregateType(), event.getAggregateId());
+        }
+    }
+
+    /**
+     * 쌓인 이벤트가 없거나 전달이 실패할 때까지 묶음 단위로 발행
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        int claimed;
+        do {
+            claimed = relayBatch();
+        } while (claimed >= batchSize);
+    }
+
+    /**
+     * @return 선점한 이벤트 수 (전달 실패 시 0)
+     */
+    int relayBatch() {
+        long startedAt = System.nanoTime();
+        // 선점 토큰: 묶음마다 새로 만들어, 임대가 만료된 뒤 남이 다시 잡은 행을 완료 처리하지 않도록 함
+        String leaseOwner = relayId + ":" + UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        List<OutboxMessage> messages = writeTransaction.execute(status -> claim(leaseOwner, now));
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = messages.stream().map(OutboxMessage::id).toList();
+
+        try {
+            outboxSink.publish(messages);
+        } catch (RuntimeException e) {
+            failedCounter.increment(messages.size());
+            writeTransaction.executeWithoutResult(status -> outboxEventRepository.release(ids, leaseOwner));
+            log.warn("아웃박스 이벤트 전달 실패, 다음 주기에 재시도: {}건, 원인={}", messages.size(), e.getMessage());
+            return 0;
+        }
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        Integer marked = writeTransaction.execute(status -> outboxEventRepository.markPublished(ids, leaseOwner, publishedAt));
+        if (marked == null || marked < ids.size()) {
+            // 전달 중 임대가 만료되어 다른 릴레이가 다시 잡은 경우: 중복 전달될 수 있음
+            log.warn("아웃박스 임대 만료로 일부 이벤트 중복 전달 가능: 전달={}건, 완료 표시={}건", ids.size(), marked);
+        }
+
+        publishedCounter.increment(messages.size());
+        messages.forEach(message -> lagTimer.record(Duration.between(message.occurredAt(), publishedAt)));
+        batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.debug("아웃박스 이벤트 발행: {}건", messages.size());
+        return messages.size();
+    }
+
+    private List<OutboxMessage> claim(String leaseOwner, LocalDateTime now) {
+        List<Long> candidateIds = outboxEventRepository.findClaimableIds(now, PageRequest.of(0, batchSize));
+        if (candidateIds.isEmpty() || outboxEventRepository.claim(candidateIds, leaseOwner, now.plus(leaseDuration), now) == 0) {
+            return List.of();
+        }
+
+        List<OutboxEvent> claimed = outboxEventRepository
+                .findByLeaseOwnerAndPublishedAtIsNullOrderByAggregateTypeAscAggregateIdAscAggregateSequenceAsc(leaseOwner);
+        Set<Long> aggregateIds = claimed.stream().map(OutboxEvent::getAggregateId).collect(Collectors.toSet());
+        Map<AggregateKey, Long> nextSequences = new HashMap<>();
+        for (Object[] row : outboxEventRepository.findFirstUnpublishedSequences(aggregateIds)) {
+            nextSequences.put(new AggregateKey((OutboxAggregateType) row[0], (Long) row[1]), (Long) row[2]);
+        }
+
+        // 집계별로 아직 발행되지 않은 가장 앞 순번부터 끊김 없이 이어지는 이벤트만 이번 묶음에 포함
+        List<OutboxMessage> ready = new ArrayList<>(claimed.size());
+        List<Long> deferred = new ArrayList<>();
+        for (OutboxEvent event : claimed) {
+            AggregateKey key = AggregateKey.of(event);
+            Long expected = nextSequences.get(key);
+            if (expected != null && expected == event.getAggregateSequence()) {
+                ready.add(OutboxMessage.from(event));
+                nextSequences.put(key, expected + 1);
+            } else {
+                deferred.add(event.getId());
+            }
+        }
+        if (!deferred.isEmpty()) {
+            outboxEventRepository.release(deferred, leaseOwner);
+            log.debug("앞 순번이 발행되지 않은 아웃박스 이벤트 보류: {}건", deferred.size());
+        }
+        return ready;
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval-ms:3600000}",
+            initialDelayString = "${app.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        Integer deleted = writeTransaction.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("발행 완료된 아웃박스 이벤트 정리: {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.domain.order.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 내보낼 대상 (Redis Streams, 메시지 브로커 등)
+ *
+ * 메시지는 집계별 순번 순서로 전달되며, 하나라도 실패하면 예외를 던져야 한다.
+ * 실패한 묶음은 처음부터 다시 전달되므로(at-least-once) 같은 메시지가 두 번 이상 갈 수 있다.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages);
+}
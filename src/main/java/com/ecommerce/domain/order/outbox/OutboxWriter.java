@@ -0,0 +1,127 @@
+package com.ecommerce.domain.order.outbox;
+
+import com.ecommerce.domain.order.entity.Delivery;
+import com.ecommerce.domain.order.entity.DeliveryStatus;
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.entity.OutboxAggregate;
+import com.ecommerce.domain.order.entity.OutboxAggregateType;
+import com.ecommerce.domain.order.entity.OutboxEvent;
+import com.ecommerce.domain.order.entity.Payment;
+import com.ecommerce.domain.order.entity.PaymentStatus;
+import com.ecommerce.domain.order.repository.DeliveryTrackingRow;
+import com.ecommerce.domain.order.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상태 변경과 같은 트랜잭션에 아웃박스 이벤트 저장
+ *
+ * 상태를 바꾼 트랜잭션 안에서만 호출할 수 있으며(MANDATORY), 상태 변경이 롤백되면 이벤트도 함께 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    public static final String ORDER_STATUS_CHANGED = "OrderStatusChanged";
+    public static final String PAYMENT_STATUS_CHANGED = "PaymentStatusChanged";
+    public static final String DELIVERY_STATUS_CHANGED = "DeliveryStatusChanged";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderStatusChanged(Order order, OrderStatus previousStatus) {
+        Map<String, Object> payload = orderPayload(
+                order.getId(), order.getOrderNumber(), previousStatus, order.getStatus(), order.getTotalPrice());
+        append(order, ORDER_STATUS_CHANGED, payload);
+    }
+
+    /**
+     * 일괄 UPDATE로 상태와 순번을 올린 주문
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderStatusChanged(DeliveryTrackingRow row, OrderStatus status, long sequence) {
+        Map<String, Object> payload = orderPayload(
+                row.orderId(), row.orderNumber(), row.orderStatus(), status, row.totalPrice());
+        append(OutboxAggregateType.ORDER, row.orderId(), sequence, ORDER_STATUS_CHANGED, payload);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void paymentStatusChanged(Payment payment, PaymentStatus previousStatus) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("paymentId", payment.getId());
+        payload.put("orderId", payment.getOrder().getId());
+        payload.put("previousStatus", previousStatus);
+        payload.put("status", payment.getStatus());
+        payload.put("paymentMethod", payment.getPaymentMethod());
+        payload.put("amount", payment.getAmount());
+        payload.put("transactionId", payment.getTransactionId());
+        append(payment, PAYMENT_STATUS_CHANGED, payload);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deliveryStatusChanged(Delivery delivery, DeliveryStatus previousStatus) {
+        Map<String, Object> payload = deliveryPayload(delivery.getId(), delivery.getOrder().getId(), previousStatus,
+                delivery.getStatus(), delivery.getCourierCompany(), delivery.getTrackingNumber());
+        append(delivery, DELIVERY_STATUS_CHANGED, payload);
+    }
+
+    /**
+     * 일괄 UPDATE로 상태와 순번을 올린 배송
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deliveryStatusChanged(DeliveryTrackingRow row, DeliveryStatus status, long sequence) {
+        Map<String, Object> payload = deliveryPayload(row.deliveryId(), row.orderId(), row.deliveryStatus(),
+                status, row.courierCompany(), row.trackingNumber());
+        append(OutboxAggregateType.DELIVERY, row.deliveryId(), sequence, DELIVERY_STATUS_CHANGED, payload);
+    }
+
+    private Map<String, Object> orderPayload(Long orderId, String orderNumber, OrderStatus previousStatus,
+                                             OrderStatus status, BigDecimal totalPrice) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", orderId);
+        payload.put("orderNumber", orderNumber);
+        payload.put("previousStatus", previousStatus);
+        payload.put("status", status);
+        payload.put("totalPrice", totalPrice);
+        return payload;
+    }
+
+    private Map<String, Object> deliveryPayload(Long deliveryId, Long orderId, DeliveryStatus previousStatus,
+                                                DeliveryStatus status, String courierCompany, String trackingNumber) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("deliveryId", deliveryId);
+        payload.put("orderId", orderId);
+        payload.put("previousStatus", previousStatus);
+        payload.put("status", status);
+        payload.put("courierCompany", courierCompany);
+        payload.put("trackingNumber", trackingNumber);
+        return payload;
+    }
+
+    private void append(OutboxAggregate aggregate, String eventType, Map<String, Object> payload) {
+        outboxEventRepository.save(OutboxEvent.create(aggregate, eventType, serialize(eventType, payload)));
+    }
+
+    private void append(OutboxAggregateType aggregateType, Long aggregateId, long sequence,
+                        String eventType, Map<String, Object> payload) {
+        outboxEventRepository.save(OutboxEvent.create(aggregateType, aggregateId, sequence, eventType, serialize(eventType, payload)));
+    }
+
+    private String serialize(String eventType, Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ecommerce.domain.order.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 집계 종류별 Redis Stream(outbox:order, outbox:payment, outbox:delivery)에 XADD
+ *
+ * 한 묶음을 파이프라인 한 번으로 보내고, 스트림 길이는 max-length 근처에서 잘라낸다.
+ * 소비자는 컨슈머 그룹으로 읽고 (aggregateType, aggregateId, sequence)로 중복을 거른다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "redis-stream", matchIfMissing = true)
+public class RedisStreamOutboxSink implements OutboxSink {
+
+    private static final String STREAM_PREFIX = "outbox:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final XAddOptions addOptions;
+
+    public RedisStreamOutboxSink(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${app.outbox.redis-stream.max-length:100000}") long maxLength
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxMessage message : messages) {
+                connection.streamCommands().xAdd(toRecord(message), addOptions);
+            }
+            return null;
+        });
+    }
+
+    static String streamKey(OutboxMessage message) {
+        return STREAM_PREFIX + message.aggregateType().name().toLowerCase(Locale.ROOT);
+    }
+
+    private MapRecord<byte[], byte[], byte[]> toRecord(OutboxMessage message) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        put(fields, "eventId", String.valueOf(message.id()));
+        put(fields, "aggregateType", message.aggregateType().name());
+        put(fields, "aggregateId", String.valueOf(message.aggregateId()));
+        put(fields, "sequence", String.valueOf(message.sequence()));
+        put(fields, "eventType", message.eventType());
+        put(fields, "occurredAt", message.occurredAt().toString());
+        put(fields, "payload", message.payload());
+        return StreamRecords.newRecord().in(bytes(streamKey(message))).ofMap(fields);
+    }
+
+    private static void put(Map<byte[], byte[]> fields, String name, String value) {
+        fields.put(bytes(name), bytes(value));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
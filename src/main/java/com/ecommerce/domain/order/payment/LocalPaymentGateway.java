@@ -0,0 +1,61 @@
+package com.ecommerce.domain.order.payment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬/테스트용 결제대행사 스텁
+ *
+ * 지연 시간만큼 기다린 뒤 항상 승인하며, 실제 PG처럼 idempotencyKey별 결과를 기억해 같은 키는 다시 청구하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.payment.gateway", havingValue = "local", matchIfMissing = true)
+public class LocalPaymentGateway implements PaymentGateway {
+
+    private final long latencyMillis;
+    private final Map<String, PaymentGatewayResult> results = new ConcurrentHashMap<>();
+    private final AtomicInteger chargeCount = new AtomicInteger();
+
+    public LocalPaymentGateway(@Value("${app.payment.local-gateway.latency:100ms}") Duration latency) {
+        this.latencyMillis = latency.toMillis();
+    }
+
+    @Override
+    public PaymentGatewayResult charge(PaymentChargeRequest request) {
+        return results.computeIfAbsent(request.idempotencyKey(), key -> {
+            simulateLatency();
+            chargeCount.incrementAndGet();
+            String transactionId = "LOCAL-" + UUID.randomUUID();
+            log.info("로컬 결제 승인: 주문번호={}, 금액={}, 거래번호={}", request.orderNumber(), request.amount(), transactionId);
+            return PaymentGatewayResult.approved(transactionId);
+        });
+    }
+
+    /**
+     * 실제로 청구한 횟수 (같은 키의 재호출 제외)
+     */
+    public int chargeCount() {
+        return chargeCount.get();
+    }
+
+    private void simulateLatency() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("결제 승인 대기 중 인터럽트", e);
+        }
+    }
+}
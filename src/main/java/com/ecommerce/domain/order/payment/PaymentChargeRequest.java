@@ -0,0 +1,13 @@
+package com.ecommerce.domain.order.payment;
+
+import com.ecommerce.domain.order.entity.PaymentMethod;
+
+import java.math.BigDecimal;
+
+public record PaymentChargeRequest(
+        String idempotencyKey,
+        String orderNumber,
+        BigDecimal amount,
+        PaymentMethod paymentMethod
+) {
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.domain.order.payment;
+
+/**
+ * 결제대행사(PG) 연동 지점
+ *
+ * 구현체는 같은 idempotencyKey로 여러 번 호출되어도 한 번만 청구해야 한다 (정산 재시도 / 여러 인스턴스의 동시 정산 대비).
+ * 일시적인 오류(네트워크, 타임아웃)는 예외로, 승인 거절은 {@link PaymentGatewayResult#declined}로 돌려준다.
+ */
+public interface PaymentGateway {
+
+    PaymentGatewayResult charge(PaymentChargeRequest request);
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.domain.order.payment;
+
+/**
+ * 결제 승인 결과 (승인이면 transactionId, 거절이면 사유)
+ */
+public record PaymentGatewayResult(boolean approved, String transactionId, String declineReason) {
+
+    public static PaymentGatewayResult approved(String transactionId) {
+        return new PaymentGatewayResult(true, transactionId, null);
+    }
+
+    public static PaymentGatewayResult declined(String reason) {
+        return new PaymentGatewayResult(false, null, reason);
+    }
+}
@@ -0,0 +1,196 @@
+package com.ecommerce.domain.order.payment;
+
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.entity.Payment;
+import com.ecommerce.domain.order.entity.PaymentStatus;
+import com.ecommerce.domain.order.outbox.OutboxWriter;
+import com.ecommerce.domain.order.repository.OrderRepository;
+import com.ecommerce.domain.order.repository.PaymentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 비동기 정산
+ *
+ * 결제 요청은 PENDING으로 저장만 하고 바로 응답하며, 이 작업 풀이 결제대행사를 호출한 뒤
+ * Payment / Order 상태를 PENDING → PAID(또는 FAILED)로 옮긴다.
+ * 결제대행사 호출은 트랜잭션 밖에서 하고, 결과 반영은 잠금 없이 아직 PENDING일 때만 바꾸는 조건부 UPDATE로 한다.
+ * 상태 변경 이벤트는 같은 트랜잭션에 아웃박스로 저장한다.
+ * 승인됐는데 그사이 주문이 PENDING이 아니게 되었으면 결제를 REFUND_REQUIRED로 옮기고 그 이벤트로 환불/대사를 넘긴다.
+ * 대기열이 가득 찼거나 일시적 오류로 남은 PENDING 결제는 주기적으로 다시 정산한다.
+ */
+@Slf4j
+@Component
+public class PaymentSettlementWorker {
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final PaymentGateway paymentGateway;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ThreadPoolExecutor executor;
+    private final Duration staleAfter;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public PaymentSettlementWorker(
+            PaymentRepository paymentRepository,
+            OrderRepository orderRepository,
+            PaymentGateway paymentGateway,
+            OutboxWriter outboxWriter,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.payment.settlement.workers:4}") int workers,
+            @Value("${app.payment.settlement.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.payment.settlement.stale-after:30s}") Duration staleAfter
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.orderRepository = orderRepository;
+        this.paymentGateway = paymentGateway;
+        this.outboxWriter = outboxWriter;
+        this.staleAfter = staleAfter;
+
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 결제대행사 응답 대기가 대부분이므로 스레드 수와 대기열을 고정해 외부 장애가 전체로 번지지 않게 함
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("payment-settlement-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 커밋된 PENDING 결제를 정산 대기열에 넣음. 가득 차면 다음 재시도 주기로 넘김
+     */
+    public void submit(Long paymentId) {
+        if (!inFlight.add(paymentId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    settle(paymentId);
+                } finally {
+                    inFlight.remove(paymentId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(paymentId);
+            log.warn("결제 정산 대기열 초과, 다음 재시도 주기에 처리: 결제={}", paymentId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.payment.settlement.sweep-interval-ms:10000}")
+    public void sweep() {
+        LocalDateTime before = LocalDateTime.now().minus(staleAfter);
+        List<Long> paymentIds = readTransaction.execute(status -> paymentRepository
+                .findIdsByStatusUpdatedBefore(PaymentStatus.PENDING, before, PageRequest.of(0, SWEEP_BATCH_SIZE)));
+        if (paymentIds == null || paymentIds.isEmpty()) {
+            return;
+        }
+        log.info("정산되지 않은 결제 재시도: {}건", paymentIds.size());
+        paymentIds.forEach(this::submit);
+    }
+
+    // idempotencyKey: 결제 행의 클라이언트 키 (반영 시 조건으로 사용)
+    private record Charge(String idempotencyKey, PaymentChargeRequest request) {
+    }
+
+    void settle(Long paymentId) {
+        Charge charge = readTransaction.execute(status -> paymentRepository.findById(paymentId)
+                .filter(payment -> payment.getStatus() == PaymentStatus.PENDING)
+                .map(payment -> new Charge(payment.getIdempotencyKey(), new PaymentChargeRequest(
+                        payment.gatewayIdempotencyKey(),
+                        payment.getOrder().getOrderNumber(),
+                        payment.getAmount(),
+                        payment.getPaymentMethod())))
+                .orElse(null));
+        if (charge == null) {
+            return;
+        }
+
+        PaymentGatewayResult result;
+        try {
+            result = paymentGateway.charge(charge.request());
+        } catch (RuntimeException e) {
+            // 같은 키로 다시 호출해도 중복 청구되지 않으므로 PENDING으로 두고 재시도
+            log.warn("결제 승인 요청 실패, 재시도 예정: 결제={}, 원인={}", paymentId, e.getMessage());
+            return;
+        }
+
+        writeTransaction.executeWithoutResult(status -> apply(paymentId, charge.idempotencyKey(), result));
+    }
+
+    /**
+     * 같은 키로 아직 PENDING인 결제만 조건부 UPDATE로 반영. 다른 작업이 먼저 반영했으면 아무것도 하지 않는다
+     */
+    private void apply(Long paymentId, String idempotencyKey, PaymentGatewayResult result) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = result.approved()
+                ? paymentRepository.approveIfPending(paymentId, idempotencyKey, result.transactionId(), now)
+                : paymentRepository.transitionStatus(paymentId, idempotencyKey, PaymentStatus.PENDING, PaymentStatus.FAILED, now);
+        if (updated == 0) {
+            log.debug("이미 반영된 결제, 승인 결과 무시: 결제={}", paymentId);
+            return;
+        }
+
+        // 결제 행을 바꾼 이 트랜잭션이 커밋까지 행을 쥐고 있으므로 이벤트 순번은 엔티티로 올려도 겹치지 않음
+        Payment payment = paymentRepository.findById(paymentId).orElseThrow();
+        outboxWriter.paymentStatusChanged(payment, PaymentStatus.PENDING);
+        Long orderId = payment.getOrder().getId();
+        if (!result.approved()) {
+            log.info("결제 거절: 결제={}, 주문={}, 사유={}", paymentId, orderId, result.declineReason());
+            return;
+        }
+
+        if (orderRepository.transitionStatus(orderId, OrderStatus.PENDING, OrderStatus.PAID, now) == 1) {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            outboxWriter.orderStatusChanged(order, OrderStatus.PENDING);
+            log.info("결제 완료: 결제={}, 주문={}, 거래번호={}", paymentId, orderId, result.transactionId());
+            return;
+        }
+
+        // 정산 중 주문이 취소되는 등 이미 PENDING이 아님: 청구는 되었으므로 환불 대상으로 두고 이벤트로 알림
+        // 주문 UPDATE가 0건이어도 영속성 컨텍스트를 비우므로 결제를 다시 읽어야 변경이 저장됨
+        Payment refund = paymentRepository.findById(paymentId).orElseThrow();
+        refund.requireRefund();
+        outboxWriter.paymentStatusChanged(refund, PaymentStatus.PAID);
+        log.warn("결제 승인 시점에 주문이 PENDING이 아님, 환불 필요로 표시: 결제={}, 주문={}, 거래번호={}",
+                paymentId, orderId, result.transactionId());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // 남은 PENDING 결제는 다음 기동 후 재시도 주기에 처리됨
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.domain.order.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 장바구니 상품 JDBC 배치 upsert
+ *
+ * 비로그인 장바구니를 로그인한 사용자의 장바구니에 합칠 때 상품마다 조회 후 INSERT/UPDATE 하지 않고,
+ * (cart_id, product_id) 유니크 키 충돌 시 수량을 더하는 INSERT를 배치 한 번으로 보낸다. 호출자의 트랜잭션 안에서 실행된다.
+ * 새로 담는 상품의 가격 스냅숏은 현재 판매가로, 이미 담긴 상품은 기존 스냅숏을 유지한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartBatchWriter {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param quantities 상품 ID → 더할 수량
+     */
+    public void upsertItems(Long cartId, Map<Long, Integer> quantities, LocalDateTime now) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] params = quantities.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("cartId", cartId)
+                        .addValue("productId", entry.getKey())
+                        .addValue("quantity", entry.getValue())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO cart_items (cart_id, product_id, quantity, unit_price_snapshot, created_at, updated_at)
+                VALUES (:cartId, :productId, :quantity, (SELECT price FROM products WHERE id = :productId), :now, :now)
+                ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), updated_at = VALUES(updated_at)
+                """, params);
+    }
+}
@@ -4,12 +4,25 @@ import com.ecommerce.domain.order.entity.Cart;
 import com.ecommerce.domain.order.entity.CartItem;
 import com.ecommerce.domain.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     Optional<CartItem> findByCartAndProduct(Cart cart, Product product);
     void deleteByCartAndProduct(Cart cart, Product product);
-}
\ No newline at end of file
+
+    // 정리할 장바구니의 상품: [cartId, productId, quantity]
+    @Query("SELECT i.cart.id, i.product.id, i.quantity FROM CartItem i WHERE i.cart.id IN :cartIds ORDER BY i.cart.id, i.id")
+    List<Object[]> findItemsByCartIdIn(@Param("cartIds") Collection<Long> cartIds);
+
+    @Modifying
+    @Query("DELETE FROM CartItem i WHERE i.cart.id IN :cartIds")
+    int deleteByCartIdIn(@Param("cartIds") Collection<Long> cartIds);
+}
@@ -2,12 +2,51 @@ package com.ecommerce.domain.order.repository;
 
 import com.ecommerce.domain.order.entity.Cart;
 import com.ecommerce.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByUser(User user);
-}
\ No newline at end of file
+
+    // 장바구니 상품이 바뀌면 방치 장바구니 정리 기준(updatedAt)을 갱신
+    @Modifying
+    @Query("UPDATE Cart c SET c.updatedAt = :now WHERE c.id = :cartId")
+    int touch(@Param("cartId") Long cartId, @Param("now") LocalDateTime now);
+
+    // 방치된 장바구니 첫 묶음 (idx_carts_updated_id 범위 조회): [id, updatedAt]
+    @Query("SELECT c.id, c.updatedAt FROM Cart c WHERE c.updatedAt < :before ORDER BY c.updatedAt, c.id")
+    List<Object[]> findIdleCarts(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 방치된 장바구니 다음 묶음: 직전 묶음 마지막 (updatedAt, id) 이후부터
+    @Query("""
+        SELECT c.id, c.updatedAt FROM Cart c
+        WHERE c.updatedAt < :before
+          AND (c.updatedAt > :updatedAt OR (c.updatedAt = :updatedAt AND c.id > :cartId))
+        ORDER BY c.updatedAt, c.id
+        """)
+    List<Object[]> findIdleCartsAfter(@Param("before") LocalDateTime before,
+                                      @Param("updatedAt") LocalDateTime updatedAt,
+                                      @Param("cartId") Long cartId,
+                                      Pageable pageable);
+
+    // 정리 직전 다시 확인하며 잠금. 그사이 상품을 담은 장바구니는 조건에서 빠진다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cart c WHERE c.id IN :cartIds AND c.updatedAt < :before")
+    List<Cart> lockIdleCarts(@Param("cartIds") Collection<Long> cartIds, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.id IN :cartIds")
+    int deleteByIdIn(@Param("cartIds") Collection<Long> cartIds);
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.domain.order.repository;
+
+import com.ecommerce.domain.order.entity.Delivery;
+import com.ecommerce.domain.order.entity.DeliveryStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
+
+    // 운송장 번호 묶음의 배송/주문 상태를 한 번에 조회 (idx_deliveries_tracking_number)
+    @Query("""
+        SELECT new com.ecommerce.domain.order.repository.DeliveryTrackingRow(
+            d.id, d.trackingNumber, d.courierCompany, d.status, d.eventSequence,
+            o.id, o.orderNumber, o.totalPrice, o.status, o.eventSequence)
+        FROM Delivery d JOIN d.order o
+        WHERE d.trackingNumber IN :trackingNumbers
+        """)
+    List<DeliveryTrackingRow> findTrackingRows(@Param("trackingNumbers") Collection<String> trackingNumbers);
+
+    /**
+     * 아직 from 상태인 배송만 SHIPPED로 변경. 그사이 상태가 바뀐 행은 조건에서 빠진다
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Delivery d
+        SET d.status = com.ecommerce.domain.order.entity.DeliveryStatus.SHIPPED,
+            d.shippedAt = :now, d.eventSequence = d.eventSequence + 1, d.updatedAt = :now
+        WHERE d.id IN :ids AND d.status = :from
+        """)
+    int bulkShip(@Param("ids") Collection<Long> ids,
+                 @Param("from") DeliveryStatus from,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 아직 from 상태인 배송만 DELIVERED로 변경. 출고 스캔 없이 배달 완료가 먼저 오면 출고 시각도 함께 채운다
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Delivery d
+        SET d.status = com.ecommerce.domain.order.entity.DeliveryStatus.DELIVERED,
+            d.shippedAt = COALESCE(d.shippedAt, :now), d.deliveredAt = :now,
+            d.eventSequence = d.eventSequence + 1, d.updatedAt = :now
+        WHERE d.id IN :ids AND d.status = :from
+        """)
+    int bulkDeliver(@Param("ids") Collection<Long> ids,
+                    @Param("from") DeliveryStatus from,
+                    @Param("now") LocalDateTime now);
+
+    // 일괄 변경 후 실제로 바뀐 행 확인용: [id, eventSequence]
+    @Query("SELECT d.id, d.eventSequence FROM Delivery d WHERE d.id IN :ids AND d.status = :status")
+    List<Object[]> findSequencesByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                               @Param("status") DeliveryStatus status);
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.domain.order.repository;
+
+import com.ecommerce.domain.order.entity.DeliveryStatus;
+import com.ecommerce.domain.order.entity.OrderStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 운송장 번호로 찾은 배송과 주문의 현재 상태 / 아웃박스 순번 (배송 추적 일괄 반영용)
+ */
+public record DeliveryTrackingRow(
+        Long deliveryId,
+        String trackingNumber,
+        String courierCompany,
+        DeliveryStatus deliveryStatus,
+        long deliverySequence,
+        Long orderId,
+        String orderNumber,
+        BigDecimal totalPrice,
+        OrderStatus orderStatus,
+        long orderSequence
+) {
+}
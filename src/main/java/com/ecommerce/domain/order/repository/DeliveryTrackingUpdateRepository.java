@@ -0,0 +1,23 @@
+package com.ecommerce.domain.order.repository;
+
+import com.ecommerce.domain.order.entity.DeliveryTrackingUpdate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DeliveryTrackingUpdateRepository extends JpaRepository<DeliveryTrackingUpdate, Long> {
+
+    List<DeliveryTrackingUpdate> findAllByOrderByIdAsc(Pageable pageable);
+
+    // 삭제된 행 수로 다른 인스턴스가 먼저 반영했는지 확인
+    @Modifying
+    @Query("DELETE FROM DeliveryTrackingUpdate u WHERE u.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.domain.order.repository;
+
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.state.OrderStateMachines;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    // 결제 요청을 주문 단위로 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Order> findForUpdateById(Long orderId);
+
+    // 주문 목록 첫 페이지 ID (idx_orders_user_created_id 인덱스만으로 처리)
+    @Query("SELECT o.id FROM Order o WHERE o.user.id = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findHistoryIds(@Param("userId") Long userId, Pageable pageable);
+
+    // 주문 목록 다음 페이지 ID: 직전 페이지 마지막 (createdAt, id) 이후부터
+    @Query("""
+        SELECT o.id FROM Order o
+        WHERE o.user.id = :userId
+          AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :orderId))
+        ORDER BY o.createdAt DESC, o.id DESC
+        """)
+    List<Long> findHistoryIdsBefore(@Param("userId") Long userId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("orderId") Long orderId,
+                                    Pageable pageable);
+
+    // 한 페이지 주문의 요약. 항목 수와 첫 상품명은 idx_order_items_order_id 인덱스로 구함
+    @Query("""
+        SELECT new com.ecommerce.domain.order.repository.OrderSummaryRow(
+            o.id, o.orderNumber, o.totalPrice, o.status, o.createdAt,
+            (SELECT COUNT(i) FROM OrderItem i WHERE i.order.id = o.id),
+            (SELECT f.productName FROM OrderItem f
+             WHERE f.id = (SELECT MIN(m.id) FROM OrderItem m WHERE m.order.id = o.id)))
+        FROM Order o
+        WHERE o.id IN :orderIds
+        """)
+    List<OrderSummaryRow> findSummaryRows(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문이 아직 expected 상태일 때만 to로 변경. 먼저 바꾼 쪽만 1을 받으므로 잠금 없이 동시 전이를 가른다
+     *
+     * @throws ServiceException 전이 표에서 허용되지 않는 전이인 경우 (UPDATE 전에 확인)
+     */
+    default int transitionStatus(Long orderId, OrderStatus expected, OrderStatus to, LocalDateTime now) {
+        if (!OrderStateMachines.ORDER.canTransition(expected, to)) {
+            throw new ServiceException(ErrorCode.INVALID_STATUS_TRANSITION);
+        }
+        return updateStatusIf(orderId, expected, to, now);
+    }
+
+    // 전이 표 확인 없이 조건부 UPDATE만 (transitionStatus를 거쳐 호출)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to, o.updatedAt = :now WHERE o.id = :orderId AND o.status = :expected")
+    int updateStatusIf(@Param("orderId") Long orderId,
+                       @Param("expected") OrderStatus expected,
+                       @Param("to") OrderStatus to,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 아직 from 상태인 주문만 to로 변경 (배송 추적 일괄 반영). 그사이 상태가 바뀐 행은 조건에서 빠진다
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.status = :to, o.eventSequence = o.eventSequence + 1, o.updatedAt = :now
+        WHERE o.id IN :ids AND o.status = :from
+        """)
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") OrderStatus from,
+                         @Param("to") OrderStatus to,
+                         @Param("now") LocalDateTime now);
+
+    // 일괄 변경 후 실제로 바뀐 행 확인용: [id, eventSequence]
+    @Query("SELECT o.id, o.eventSequence FROM Order o WHERE o.id IN :ids AND o.status = :status")
+    List<Object[]> findSequencesByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                               @Param("status") OrderStatus status);
+}
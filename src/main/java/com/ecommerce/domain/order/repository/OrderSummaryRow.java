@@ -0,0 +1,20 @@
+package com.ecommerce.domain.order.repository;
+
+import com.ecommerce.domain.order.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회 결과 (주문 항목/결제/배송을 엔티티로 읽지 않음)
+ */
+public record OrderSummaryRow(
+        Long orderId,
+        String orderNumber,
+        BigDecimal totalPrice,
+        OrderStatus status,
+        LocalDateTime createdAt,
+        Long itemCount,
+        String firstProductName
+) {
+}
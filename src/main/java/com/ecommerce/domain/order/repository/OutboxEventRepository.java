@@ -0,0 +1,56 @@
+package com.ecommerce.domain.order.repository;
+
+import com.ecommerce.domain.order.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 발행되지 않았고 임대가 없거나 만료된 이벤트 (idx_outbox_events_published_id)
+    @Query("SELECT e.id FROM OutboxEvent e " +
+            "WHERE e.publishedAt IS NULL AND (e.leaseUntil IS NULL OR e.leaseUntil < :now) " +
+            "ORDER BY e.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 조건부 UPDATE로 선점. 그사이 다른 릴레이가 잡은 행은 조건에서 빠지므로 건너뛴다 (SKIP LOCKED와 같은 효과)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.leaseOwner = :leaseOwner, e.leaseUntil = :leaseUntil, e.attempts = e.attempts + 1 " +
+            "WHERE e.id IN :ids AND e.publishedAt IS NULL AND (e.leaseUntil IS NULL OR e.leaseUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("leaseOwner") String leaseOwner,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    List<OutboxEvent> findByLeaseOwnerAndPublishedAtIsNullOrderByAggregateTypeAscAggregateIdAscAggregateSequenceAsc(String leaseOwner);
+
+    // 집계별 아직 발행되지 않은 가장 앞 순번: [aggregateType, aggregateId, sequence]
+    @Query("SELECT e.aggregateType, e.aggregateId, MIN(e.aggregateSequence) FROM OutboxEvent e " +
+            "WHERE e.publishedAt IS NULL AND e.aggregateId IN :aggregateIds " +
+            "GROUP BY e.aggregateType, e.aggregateId")
+    List<Object[]> findFirstUnpublishedSequences(@Param("aggregateIds") Collection<Long> aggregateIds);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt, e.leaseOwner = NULL, e.leaseUntil = NULL " +
+            "WHERE e.id IN :ids AND e.leaseOwner = :leaseOwner")
+    int markPublished(@Param("ids") Collection<Long> ids,
+                      @Param("leaseOwner") String leaseOwner,
+                      @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.leaseOwner = NULL, e.leaseUntil = NULL " +
+            "WHERE e.id IN :ids AND e.leaseOwner = :leaseOwner")
+    int release(@Param("ids") Collection<Long> ids, @Param("leaseOwner") String leaseOwner);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.domain.order.repository;
+
+import com.ecommerce.domain.order.entity.Payment;
+import com.ecommerce.domain.order.entity.PaymentStatus;
+import com.ecommerce.domain.order.state.OrderStateMachines;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    Optional<Payment> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    Optional<Payment> findByOrderId(Long orderId);
+
+    @EntityGraph(attributePaths = {"order", "order.user"})
+    Optional<Payment> findWithOrderById(Long paymentId);
+
+    /**
+     * 같은 키로 접수된 PENDING 결제일 때만 승인 반영. 같은 결제를 두 작업이 동시에 정산해도 한쪽만 1을 받는다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Payment p
+        SET p.status = com.ecommerce.domain.order.entity.PaymentStatus.PAID,
+            p.transactionId = :transactionId, p.paidAt = :now, p.updatedAt = :now
+        WHERE p.id = :paymentId AND p.idempotencyKey = :idempotencyKey
+          AND p.status = com.ecommerce.domain.order.entity.PaymentStatus.PENDING
+        """)
+    int approveIfPending(@Param("paymentId") Long paymentId,
+                         @Param("idempotencyKey") String idempotencyKey,
+                         @Param("transactionId") String transactionId,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 같은 키로 접수된 결제가 아직 expected 상태일 때만 to로 변경
+     *
+     * @throws ServiceException 전이 표에서 허용되지 않는 전이인 경우 (UPDATE 전에 확인)
+     */
+    default int transitionStatus(Long paymentId, String idempotencyKey, PaymentStatus expected, PaymentStatus to,
+                                 LocalDateTime now) {
+        if (!OrderStateMachines.PAYMENT.canTransition(expected, to)) {
+            throw new ServiceException(ErrorCode.INVALID_STATUS_TRANSITION);
+        }
+        return updateStatusIf(paymentId, idempotencyKey, expected, to, now);
+    }
+
+    // 전이 표 확인 없이 조건부 UPDATE만 (transitionStatus를 거쳐 호출)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Payment p SET p.status = :to, p.updatedAt = :now
+        WHERE p.id = :paymentId AND p.idempotencyKey = :idempotencyKey AND p.status = :expected
+        """)
+    int updateStatusIf(@Param("paymentId") Long paymentId,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("expected") PaymentStatus expected,
+                       @Param("to") PaymentStatus to,
+                       @Param("now") LocalDateTime now);
+
+    // 대기열 초과/재기동으로 정산되지 않은 결제
+    @Query("SELECT p.id FROM Payment p WHERE p.status = :status AND p.updatedAt < :before ORDER BY p.id")
+    List<Long> findIdsByStatusUpdatedBefore(@Param("status") PaymentStatus status,
+                                            @Param("before") LocalDateTime before,
+                                            Pageable pageable);
+}
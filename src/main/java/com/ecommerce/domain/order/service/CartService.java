@@ -4,11 +4,15 @@ import com.ecommerce.api.v1.cart.dto.request.AddCartItemRequest;
 import com.ecommerce.api.v1.cart.dto.request.UpdateCartItemRequest;
 import com.ecommerce.api.v1.cart.dto.response.CartItemDto;
 import com.ecommerce.api.v1.cart.dto.response.CartResponseDto;
+import com.ecommerce.domain.order.cart.CartLine;
+import com.ecommerce.domain.order.cart.CartValidator;
 import com.ecommerce.domain.order.entity.Cart;
 import com.ecommerce.domain.order.entity.CartItem;
+import com.ecommerce.domain.order.repository.CartBatchWriter;
 import com.ecommerce.domain.order.repository.CartItemRepository;
 import com.ecommerce.domain.order.repository.CartRepository;
 import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.flashsale.FlashSaleGate;
 import com.ecommerce.domain.product.service.ProductService;
 import com.ecommerce.domain.user.entity.User;
 import com.ecommerce.domain.user.service.UserService;
@@ -16,25 +20,35 @@ import com.ecommerce.global.utils.exception.ErrorCode;
 import com.ecommerce.global.utils.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CartService {
 
+    private static final Duration TOUCH_INTERVAL = Duration.ofMinutes(1);
+
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
+    private final CartBatchWriter cartBatchWriter;
     private final UserService userService;
     private final ProductService productService;
+    private final CartValidator cartValidator;
+    private final FlashSaleGate flashSaleGate;
 
     /**
-     * 사용자의 장바구니를 조회합니다.
+     * 사용자의 장바구니를 현재 가격/재고/상태로 재검증해 조회합니다.
      *
      * @param email 사용자 이메일
      * @return 장바구니 응답 DTO
@@ -43,26 +57,23 @@ public class CartService {
         User user = userService.findByEmail(email);
         Cart cart = getOrCreateCart(user);
         
-        List<CartItemDto> items = cart.getCartItems().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        
-        BigDecimal totalAmount = items.stream()
-                .map(CartItemDto::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 상품은 엔티티로 읽지 않고 재검증 조회 한 번으로 가격/재고/상태를 확인
+        List<CartLine> lines = cart.getCartItems().stream()
+                .map(item -> new CartLine(item.getProduct().getId(), item.getQuantity(), item.getUnitPriceSnapshot()))
+                .toList();
         
-        return CartResponseDto.builder()
-                .items(items)
-                .totalItems(items.size())
-                .totalAmount(totalAmount)
-                .build();
+        // 한정 판매 중인데 입장권으로 담지 않은 상품(판매 시작 전에 담아 둔 상품 등)은 바로 주문할 수 없음
+        Set<Long> notAdmitted = flashSaleGate.notAdmitted(lines.stream().map(CartLine::productId).toList(), email);
+        return toResponse(cartValidator.validate(lines, notAdmitted));
     }
 
     /**
      * 장바구니에 상품을 추가합니다.
+     * 한정 판매 중인 상품은 입장권 한 장으로 정해진 수량까지 담을 수 있고, 담으면 입장권은 사용됩니다.
      *
      * @param email 사용자 이메일
      * @param request 장바구니 상품 추가 요청 DTO
+     * @throws ServiceException 한정 판매 입장권이 없거나 입장권 한 장의 수량을 넘는 경우
      */
     @Transactional
     public void addCartItem(String email, AddCartItemRequest request) {
@@ -72,21 +83,28 @@ public class CartService {
         
         // 이미 장바구니에 존재하는지 확인
         CartItem existingItem = cartItemRepository.findByCartAndProduct(cart, product).orElse(null);
+        int quantity = existingItem == null ? request.quantity() : existingItem.getQuantity() + request.quantity();
+
+        // 한정 판매 상품은 대기열을 통과한 사용자만 (판매 시작 전에 담아 둔 수량까지 합쳐 상한 확인)
+        flashSaleGate.usePass(request.productId(), email, quantity);
         
         if (existingItem != null) {
             // 이미 존재하면 수량 증가
-            existingItem.updateQuantity(existingItem.getQuantity() + request.quantity());
+            existingItem.updateQuantity(quantity);
+            existingItem.updateUnitPriceSnapshot(product.getPrice());
         } else {
             // 새로운 아이템 추가
             CartItem cartItem = CartItem.builder()
                     .cart(cart)
                     .product(product)
                     .quantity(request.quantity())
+                    .unitPriceSnapshot(product.getPrice())
                     .build();
             
             cart.addItem(cartItem);
             cartItemRepository.save(cartItem);
         }
+        touch(cart);
     }
 
     /**
@@ -95,7 +113,7 @@ public class CartService {
      * @param email 사용자 이메일
      * @param productId 상품 ID
      * @param request 장바구니 상품 수량 수정 요청 DTO
-     * @throws ServiceException 장바구니에 존재하지 않는 상품인 경우
+     * @throws ServiceException 장바구니에 존재하지 않는 상품이거나, 한정 판매 상품의 수량을 입장권 없이 늘리는 경우
      */
     @Transactional
     public void updateCartItem(String email, Long productId, UpdateCartItemRequest request) {
@@ -105,8 +123,16 @@ public class CartService {
         
         CartItem cartItem = cartItemRepository.findByCartAndProduct(cart, product)
                 .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        // 한정 판매 상품은 줄이는 것만 입장권 없이 허용
+        if (request.quantity() > cartItem.getQuantity()) {
+            flashSaleGate.usePass(productId, email, request.quantity());
+        }
         
         cartItem.updateQuantity(request.quantity());
+        // 수량을 다시 고르면 바뀐 가격도 확인한 것으로 보고 스냅숏 갱신
+        cartItem.updateUnitPriceSnapshot(product.getPrice());
+        touch(cart);
     }
 
     /**
@@ -127,8 +153,32 @@ public class CartService {
         
         cart.removeItem(cartItem);
         cartItemRepository.delete(cartItem);
+        touch(cart);
     }
     
+    /**
+     * 비로그인 장바구니 상품을 사용자의 장바구니에 합칩니다.
+     * 이미 담긴 상품은 수량을 더하며, 상품 수와 관계없이 배치 upsert 한 번으로 반영합니다.
+     * 로그인 트랜잭션과 분리해 병합이 실패해도 로그인은 그대로 진행됩니다.
+     *
+     * @param user 사용자
+     * @param quantities 상품 ID → 수량
+     * @return 합친 상품 수 (삭제된 상품 제외)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int mergeGuestItems(User user, Map<Long, Integer> quantities) {
+        Map<Long, Integer> merged = new HashMap<>(quantities);
+        merged.keySet().retainAll(Set.copyOf(productService.findActiveProductIds(quantities.keySet())));
+        if (merged.isEmpty()) {
+            return 0;
+        }
+
+        Cart cart = getOrCreateCart(user);
+        cartBatchWriter.upsertItems(cart.getId(), merged, LocalDateTime.now());
+        touch(cart);
+        return merged.size();
+    }
+
     /**
      * 사용자의 장바구니를 조회하거나 없으면 새로 생성합니다.
      *
@@ -147,30 +197,34 @@ public class CartService {
     }
     
     /**
-     * CartItem 엔티티를 CartItemDto로 변환합니다.
+     * 장바구니 상품이 바뀌었음을 기록합니다. (방치 장바구니 정리 기준)
+     * 짧은 시간 안의 연속 변경은 한 번만 기록합니다.
      *
-     * @param cartItem CartItem 엔티티
-     * @return CartItemDto
+     * @param cart 장바구니
      */
-    private CartItemDto convertToDto(CartItem cartItem) {
-        Product product = cartItem.getProduct();
-        
-        // 상품 이미지가 있는 경우 첫 번째 이미지를 사용
-        String imageUrl = null;
-        if (product.getImages() != null && !product.getImages().isEmpty()) {
-            imageUrl = product.getImages().get(0).getImageUrl();
+    private void touch(Cart cart) {
+        LocalDateTime now = LocalDateTime.now();
+        if (cart.getUpdatedAt() == null || cart.getUpdatedAt().isBefore(now.minus(TOUCH_INTERVAL))) {
+            cartRepository.touch(cart.getId(), now);
         }
-        
-        BigDecimal subtotal = product.getPrice()
-                .multiply(BigDecimal.valueOf(cartItem.getQuantity()));
-        
-        return CartItemDto.builder()
-                .productId(product.getId())
-                .productName(product.getName())
-                .price(product.getPrice())
-                .quantity(cartItem.getQuantity())
-                .imageUrl(imageUrl)
-                .subtotal(subtotal)
+    }
+
+    /**
+     * 재검증한 장바구니 상품 목록으로 응답 DTO를 만듭니다.
+     *
+     * @param items 장바구니 상품 목록
+     * @return 장바구니 응답 DTO
+     */
+    static CartResponseDto toResponse(List<CartItemDto> items) {
+        BigDecimal totalAmount = items.stream()
+                .map(CartItemDto::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return CartResponseDto.builder()
+                .items(items)
+                .totalItems(items.size())
+                .totalAmount(totalAmount)
+                .checkoutReady(CartValidator.isCheckoutReady(items))
                 .build();
     }
 }
\ No newline at end of file
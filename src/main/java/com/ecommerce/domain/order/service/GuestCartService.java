@@ -0,0 +1,249 @@
+package com.ecommerce.domain.order.service;
+
+import com.ecommerce.api.v1.cart.dto.request.AddCartItemRequest;
+import com.ecommerce.api.v1.cart.dto.request.UpdateCartItemRequest;
+import com.ecommerce.api.v1.cart.dto.response.CartResponseDto;
+import com.ecommerce.domain.order.cart.CartLine;
+import com.ecommerce.domain.order.cart.CartValidator;
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.flashsale.FlashSaleGate;
+import com.ecommerce.domain.product.service.ProductService;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import com.ecommerce.global.infra.web.GuestCartCookie;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 비로그인 장바구니
+ *
+ * 서명된 guest_cart 쿠키의 ID로 Redis 해시(cart:guest:{id}, 상품 ID → 수량)에 담고, 로그인 전까지 DB에는 쓰지 않는다.
+ * 변경할 때마다 TTL을 다시 늘리므로 ttl 동안 손대지 않은 장바구니는 Redis가 지운다.
+ * 로그인(일반 / OAuth2)하면 {@link CartService#mergeGuestItems}로 사용자 장바구니에 한 번에 합치고 Redis 키를 지운다.
+ */
+@Slf4j
+@Service
+public class GuestCartService {
+
+    private static final String KEY_PREFIX = "cart:guest:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final GuestCartCookie guestCartCookie;
+    private final ProductService productService;
+    private final CartService cartService;
+    private final CartValidator cartValidator;
+    private final FlashSaleGate flashSaleGate;
+    private final Duration ttl;
+    private final int maxItems;
+    private final int maxQuantity;
+
+    public GuestCartService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            GuestCartCookie guestCartCookie,
+            ProductService productService,
+            CartService cartService,
+            CartValidator cartValidator,
+            FlashSaleGate flashSaleGate,
+            @Value("${app.cart.guest.ttl:7d}") Duration ttl,
+            @Value("${app.cart.guest.max-items:100}") int maxItems,
+            @Value("${app.cart.guest.max-quantity:99}") int maxQuantity
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.guestCartCookie = guestCartCookie;
+        this.productService = productService;
+        this.cartService = cartService;
+        this.cartValidator = cartValidator;
+        this.flashSaleGate = flashSaleGate;
+        this.ttl = ttl;
+        this.maxItems = maxItems;
+        this.maxQuantity = maxQuantity;
+    }
+
+    /**
+     * 비로그인 장바구니 조회. 쿠키가 없거나 서명이 맞지 않으면 빈 장바구니
+     */
+    public CartResponseDto getCart(String cookieValue) {
+        String cartId = guestCartCookie.verify(cookieValue);
+        Map<Long, Integer> quantities = cartId == null ? Map.of() : redis(() -> entries(cartId));
+
+        // 담을 때 가격을 저장하지 않으므로 가격 변경 경고는 없음
+        List<CartLine> lines = quantities.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new CartLine(entry.getKey(), entry.getValue(), null))
+                .toList();
+        // 비로그인은 입장권이 없으므로 한정 판매 시작 전에 담아 둔 상품은 바로 주문할 수 없음
+        Set<Long> notAdmitted = flashSaleGate.notAdmitted(quantities.keySet(), null);
+        return CartService.toResponse(cartValidator.validate(lines, notAdmitted));
+    }
+
+    /**
+     * 비로그인 장바구니에 상품 추가. 이미 담긴 상품은 수량을 더함
+     *
+     * @return 응답에 내려줄 쿠키 값 (쿠키가 없거나 서명이 맞지 않으면 새로 발급)
+     * @throws ServiceException 수량이 1 미만이거나 더한 수량이 상한을 넘는 경우
+     */
+    public String addCartItem(String cookieValue, AddCartItemRequest request) {
+        checkQuantity(request.quantity());
+        // 한정 판매 입장권은 로그인 사용자에게만 발급
+        if (flashSaleGate.isActive(request.productId())) {
+            throw new ServiceException(ErrorCode.FLASH_SALE_NOT_ADMITTED);
+        }
+        Product product = productService.findProductEntityById(request.productId());
+
+        String value = guestCartCookie.verify(cookieValue) == null ? guestCartCookie.issue() : cookieValue;
+        String key = KEY_PREFIX + guestCartCookie.verify(value);
+        String field = String.valueOf(product.getId());
+
+        // HINCRBY + HLEN + EXPIRE를 한 번의 왕복으로
+        List<Object> results = redis(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().increment(key, field, request.quantity());
+                ops.opsForHash().size(key);
+                ops.expire(key, ttl);
+                return null;
+            }
+        }));
+
+        long quantity = (Long) results.get(0);
+        long size = (Long) results.get(1);
+        if (size > maxItems && quantity == request.quantity()) {
+            // 새 상품을 넣어 상한을 넘긴 경우만 되돌림
+            redis(() -> redisTemplate.opsForHash().delete(key, field));
+            throw new ServiceException(ErrorCode.CART_ITEM_LIMIT_EXCEEDED);
+        }
+        if (quantity > maxQuantity) {
+            // 이미 담긴 수량에 더해 상한을 넘긴 경우 이번에 더한 만큼 되돌림
+            redis(() -> redisTemplate.opsForHash().increment(key, field, -request.quantity()));
+            throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return value;
+    }
+
+    /**
+     * 비로그인 장바구니 상품 수량 수정
+     *
+     * @throws ServiceException 수량이 1..max-quantity 범위를 벗어나거나, 장바구니에 존재하지 않거나 한정 판매 중인 상품인 경우
+     */
+    public void updateCartItem(String cookieValue, Long productId, UpdateCartItemRequest request) {
+        checkQuantity(request.quantity());
+        // 판매 시작 전에 담아 둔 한정 판매 상품도 입장권 없이 수량을 바꿀 수 없음 (삭제는 가능)
+        if (flashSaleGate.isActive(productId)) {
+            throw new ServiceException(ErrorCode.FLASH_SALE_NOT_ADMITTED);
+        }
+        String key = existingKey(cookieValue, productId);
+        redis(() -> {
+            redisTemplate.opsForHash().put(key, String.valueOf(productId), String.valueOf(request.quantity()));
+            return redisTemplate.expire(key, ttl);
+        });
+    }
+
+    /**
+     * 비로그인 장바구니 상품 삭제
+     *
+     * @throws ServiceException 장바구니에 존재하지 않는 상품인 경우
+     */
+    public void removeCartItem(String cookieValue, Long productId) {
+        String key = existingKey(cookieValue, productId);
+        redis(() -> redisTemplate.opsForHash().delete(key, String.valueOf(productId)));
+    }
+
+    /**
+     * 로그인한 사용자의 장바구니에 비로그인 장바구니를 합침
+     *
+     * Redis 장애나 DB 오류로 합치지 못해도 로그인은 막지 않으며, 이 경우 비로그인 장바구니는 TTL까지 Redis에 남는다.
+     *
+     * @return 합친 상품 수
+     */
+    public int mergeIntoUserCart(User user, String cookieValue) {
+        String cartId = guestCartCookie.verify(cookieValue);
+        if (cartId == null) {
+            return 0;
+        }
+        String key = KEY_PREFIX + cartId;
+
+        Map<Long, Integer> quantities = circuitBreaker.execute(() -> entries(cartId), () -> null);
+        if (quantities == null) {
+            log.warn("비로그인 장바구니 병합 생략 (Redis 사용 불가): userId={}", user.getId());
+            return 0;
+        }
+        // 한정 판매가 시작되기 전에 담아 둔 상품은 대기열을 거치지 않으므로 합치지 않음
+        quantities.keySet().removeIf(flashSaleGate::isActive);
+        if (quantities.isEmpty()) {
+            return 0;
+        }
+
+        int merged;
+        try {
+            merged = cartService.mergeGuestItems(user, quantities);
+        } catch (DataAccessException e) {
+            log.warn("비로그인 장바구니 병합 실패: userId={}, 상품={}건, 원인={}", user.getId(), quantities.size(), e.getMessage());
+            return 0;
+        }
+
+        // 병합 트랜잭션이 커밋된 뒤에 지움
+        circuitBreaker.execute(() -> redisTemplate.delete(key), () -> null);
+        log.debug("비로그인 장바구니 병합: userId={}, 상품={}건", user.getId(), merged);
+        return merged;
+    }
+
+    /**
+     * 수량은 Redis에 그대로 더해지거나 저장되므로 먼저 범위를 확인 (요청 DTO의 제약은 검증 구현체가 없어 적용되지 않음)
+     */
+    private void checkQuantity(Integer quantity) {
+        if (quantity == null || quantity < 1 || quantity > maxQuantity) {
+            throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private String existingKey(String cookieValue, Long productId) {
+        String cartId = guestCartCookie.verify(cookieValue);
+        if (cartId == null) {
+            throw new ServiceException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        String key = KEY_PREFIX + cartId;
+        Boolean exists = redis(() -> redisTemplate.opsForHash().hasKey(key, String.valueOf(productId)));
+        if (!Boolean.TRUE.equals(exists)) {
+            throw new ServiceException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return key;
+    }
+
+    private Map<Long, Integer> entries(String cartId) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        Map<String, String> entries = hash.entries(KEY_PREFIX + cartId);
+
+        Map<Long, Integer> quantities = new HashMap<>(entries.size() * 2);
+        entries.forEach((productId, quantity) -> quantities.put(Long.valueOf(productId), Integer.valueOf(quantity)));
+        return quantities;
+    }
+
+    /**
+     * 비로그인 장바구니는 Redis에만 있으므로 대체 저장소 없이 503
+     */
+    private <T> T redis(Supplier<T> action) {
+        return circuitBreaker.execute(action, () -> {
+            throw new ServiceException(ErrorCode.REDIS_CONNECTION_UNAVAILABLE);
+        });
+    }
+}
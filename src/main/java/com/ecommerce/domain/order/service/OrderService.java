@@ -0,0 +1,74 @@
+package com.ecommerce.domain.order.service;
+
+import com.ecommerce.api.v1.order.dto.request.OrderHistoryCursor;
+import com.ecommerce.api.v1.order.dto.response.OrderHistoryResponseDto;
+import com.ecommerce.api.v1.order.dto.response.OrderSummaryDto;
+import com.ecommerce.domain.order.repository.OrderRepository;
+import com.ecommerce.domain.order.repository.OrderSummaryRow;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderService {
+
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private final OrderRepository orderRepository;
+    private final UserService userService;
+
+    /**
+     * 내 주문 목록 (최신순). OFFSET 없이 (createdAt, id) 키셋으로 다음 페이지를 찾는다.
+     *
+     * 인덱스만으로 페이지의 주문 ID를 고른 뒤, 그 ID들에 대해서만 요약 컬럼을 읽는다.
+     * 주문 항목/결제/배송은 엔티티로 읽지 않으며, 항목 수와 첫 상품명은 서브쿼리로 함께 가져온다.
+     *
+     * @param email  사용자 이메일
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ 50)
+     */
+    public OrderHistoryResponseDto getOrderHistory(String email, String cursor, int size) {
+        User user = userService.findByEmail(email);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Long> orderIds;
+        if (cursor == null || cursor.isBlank()) {
+            orderIds = orderRepository.findHistoryIds(user.getId(), limit);
+        } else {
+            OrderHistoryCursor position = OrderHistoryCursor.decode(cursor);
+            orderIds = orderRepository.findHistoryIdsBefore(user.getId(), position.createdAt(), position.orderId(), limit);
+        }
+        if (orderIds.isEmpty()) {
+            return OrderHistoryResponseDto.empty();
+        }
+
+        boolean hasNext = orderIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? orderIds.subList(0, pageSize) : orderIds;
+        Map<Long, OrderSummaryRow> rows = orderRepository.findSummaryRows(pageIds).stream()
+                .collect(Collectors.toMap(OrderSummaryRow::orderId, Function.identity()));
+
+        // 두 조회 사이에 삭제된 주문은 제외
+        List<OrderSummaryRow> page = pageIds.stream().map(rows::get).filter(Objects::nonNull).toList();
+        if (page.isEmpty()) {
+            return OrderHistoryResponseDto.empty();
+        }
+        OrderSummaryRow last = page.getLast();
+        String nextCursor = hasNext ? new OrderHistoryCursor(last.createdAt(), last.orderId()).encode() : null;
+
+        return new OrderHistoryResponseDto(page.stream().map(OrderSummaryDto::from).toList(), hasNext, nextCursor);
+    }
+}
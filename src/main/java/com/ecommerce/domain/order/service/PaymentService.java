@@ -0,0 +1,182 @@
+package com.ecommerce.domain.order.service;
+
+import com.ecommerce.api.v1.payment.dto.request.PaymentRequest;
+import com.ecommerce.api.v1.payment.dto.response.PaymentResponseDto;
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.entity.Payment;
+import com.ecommerce.domain.order.entity.PaymentStatus;
+import com.ecommerce.domain.order.outbox.OutboxWriter;
+import com.ecommerce.domain.order.payment.PaymentSettlementWorker;
+import com.ecommerce.domain.order.repository.OrderRepository;
+import com.ecommerce.domain.order.repository.PaymentRepository;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 결제 요청 접수
+ *
+ * 중복 제출은 두 단계로 막는다.
+ * 1) Redis SET NX로 (사용자, Idempotency-Key)를 선점해, 같은 키의 동시 요청은 DB까지 오지 않고 처리 중(409) 또는 기존 결과를 받는다.
+ * 2) Redis를 쓸 수 없거나 키가 만료되어도 주문 행 잠금 + 결제의 (user_id, idempotency_key) / order_id 유니크 제약으로
+ *    주문당 결제는 하나만 생긴다. 키는 Redis와 같이 사용자 범위이므로 다른 사용자가 같은 키를 써도 서로 영향이 없다.
+ * 결제는 PENDING으로 저장 후 바로 응답하고, 승인은 {@link PaymentSettlementWorker}가 커밋 이후에 비동기로 처리한다.
+ */
+@Slf4j
+@Service
+public class PaymentService {
+
+    private static final String KEY_PREFIX = "payment:idempotency:";
+    private static final String PROCESSING = "PROCESSING";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentSettlementWorker settlementWorker;
+    private final OutboxWriter outboxWriter;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readTransaction;
+    private final Duration idempotencyTtl;
+
+    public PaymentService(
+            OrderRepository orderRepository,
+            PaymentRepository paymentRepository,
+            PaymentSettlementWorker settlementWorker,
+            OutboxWriter outboxWriter,
+            RedisTemplate<String, String> redisTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.payment.idempotency-ttl:24h}") Duration idempotencyTtl
+    ) {
+        this.orderRepository = orderRepository;
+        this.paymentRepository = paymentRepository;
+        this.settlementWorker = settlementWorker;
+        this.outboxWriter = outboxWriter;
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.idempotencyTtl = idempotencyTtl;
+
+        // Redis 기록과 정산 요청은 커밋 이후에 해야 하므로 트랜잭션 경계를 직접 관리
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    private record Accepted(PaymentResponseDto payment, boolean settle) {
+    }
+
+    /**
+     * 결제 요청. 같은 Idempotency-Key로 다시 요청하면 새로 결제하지 않고 기존 결제를 반환
+     */
+    public PaymentResponseDto requestPayment(String email, Long orderId, String idempotencyKey, PaymentRequest request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new ServiceException(ErrorCode.IDEMPOTENCY_KEY_REQUIRED);
+        }
+        if (request == null || request.paymentMethod() == null) {
+            throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        String redisKey = KEY_PREFIX + email + ":" + idempotencyKey;
+        // null: Redis 사용 불가 → DB 제약만으로 처리
+        Boolean claimed = circuitBreaker.execute(
+                () -> redisTemplate.opsForValue().setIfAbsent(redisKey, PROCESSING, idempotencyTtl), () -> null);
+        if (Boolean.FALSE.equals(claimed)) {
+            return replay(email, redisKey);
+        }
+
+        Accepted accepted;
+        try {
+            accepted = transactionTemplate.execute(status -> accept(email, orderId, idempotencyKey, request));
+        } catch (RuntimeException e) {
+            // 실패한 요청은 같은 키로 다시 시도할 수 있도록 선점 해제
+            if (Boolean.TRUE.equals(claimed)) {
+                circuitBreaker.execute(() -> redisTemplate.delete(redisKey), () -> null);
+            }
+            throw e;
+        }
+
+        Long paymentId = accepted.payment().paymentId();
+        if (claimed != null) {
+            circuitBreaker.execute(() -> {
+                redisTemplate.opsForValue().set(redisKey, String.valueOf(paymentId), idempotencyTtl);
+                return null;
+            }, () -> null);
+        }
+        if (accepted.settle()) {
+            settlementWorker.submit(paymentId);
+        }
+        return accepted.payment();
+    }
+
+    public PaymentResponseDto getPayment(String email, Long paymentId) {
+        return readTransaction.execute(status -> PaymentResponseDto.from(findOwnedPayment(email, paymentId)));
+    }
+
+    private Accepted accept(String email, Long orderId, String idempotencyKey, PaymentRequest request) {
+        Order order = orderRepository.findForUpdateById(orderId)
+                .filter(found -> found.getUser().getEmail().equals(email))
+                .orElseThrow(() -> new ServiceException(ErrorCode.ORDER_NOT_FOUND));
+
+        // 같은 키로 이미 접수된 결제 (Redis 기록이 없거나 만료된 경우)
+        Long userId = order.getUser().getId();
+        Payment sameKey = paymentRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey).orElse(null);
+        if (sameKey != null) {
+            if (!sameKey.getOrder().getId().equals(orderId)) {
+                throw new ServiceException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            return new Accepted(PaymentResponseDto.from(sameKey), sameKey.getStatus() == PaymentStatus.PENDING);
+        }
+
+        if (order.getStatus() != OrderStatus.PENDING) {
+            throw new ServiceException(ErrorCode.ORDER_NOT_PAYABLE);
+        }
+
+        Payment payment = paymentRepository.findByOrderId(orderId).orElse(null);
+        if (payment == null) {
+            payment = paymentRepository.save(Payment.builder()
+                    .order(order)
+                    .userId(userId)
+                    .paymentMethod(request.paymentMethod())
+                    .amount(order.getTotalPrice())
+                    .status(PaymentStatus.PENDING)
+                    .idempotencyKey(idempotencyKey)
+                    .build());
+            outboxWriter.paymentStatusChanged(payment, null);
+        } else if (payment.getStatus() == PaymentStatus.FAILED) {
+            payment.retry(idempotencyKey, request.paymentMethod());
+            outboxWriter.paymentStatusChanged(payment, PaymentStatus.FAILED);
+        } else {
+            // 다른 키로 같은 주문을 다시 결제하려는 경우
+            throw new ServiceException(ErrorCode.PAYMENT_ALREADY_REQUESTED);
+        }
+
+        log.info("결제 접수: 주문={}, 결제={}, 금액={}", orderId, payment.getId(), payment.getAmount());
+        return new Accepted(PaymentResponseDto.from(payment), true);
+    }
+
+    private PaymentResponseDto replay(String email, String redisKey) {
+        String value = circuitBreaker.execute(() -> redisTemplate.opsForValue().get(redisKey), () -> null);
+        if (value == null || PROCESSING.equals(value)) {
+            throw new ServiceException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
+        log.debug("중복 결제 요청, 기존 결제 반환: 결제={}", value);
+        return getPayment(email, Long.valueOf(value));
+    }
+
+    private Payment findOwnedPayment(String email, Long paymentId) {
+        return paymentRepository.findWithOrderById(paymentId)
+                .filter(payment -> payment.getOrder().getUser().getEmail().equals(email))
+                .orElseThrow(() -> new ServiceException(ErrorCode.PAYMENT_NOT_FOUND));
+    }
+}
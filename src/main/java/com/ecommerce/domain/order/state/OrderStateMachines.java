@@ -0,0 +1,47 @@
+package com.ecommerce.domain.order.state;
+
+import com.ecommerce.domain.order.entity.Delivery;
+import com.ecommerce.domain.order.entity.DeliveryStatus;
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.entity.Payment;
+import com.ecommerce.domain.order.entity.PaymentStatus;
+
+/**
+ * 주문 / 결제 / 배송 상태 전이 표
+ *
+ * CANCELLED, REFUNDED 등 표에 출발 전이가 없는 상태는 종료 상태다.
+ */
+public final class OrderStateMachines {
+
+    public static final StateMachine<Order, OrderStatus> ORDER = StateMachine
+            .<Order, OrderStatus>builder("주문", OrderStatus.class)
+            .allow(OrderStatus.PENDING, OrderStatus.PAID, OrderStatus.CANCELLED)
+            .allow(OrderStatus.PAID, OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.CANCELLED, OrderStatus.REFUNDED)
+            .allow(OrderStatus.SHIPPED, OrderStatus.DELIVERED)
+            .allow(OrderStatus.DELIVERED, OrderStatus.REFUNDED)
+            .build();
+
+    public static final StateMachine<Payment, PaymentStatus> PAYMENT = StateMachine
+            .<Payment, PaymentStatus>builder("결제", PaymentStatus.class)
+            .allow(PaymentStatus.PENDING, PaymentStatus.PAID, PaymentStatus.FAILED, PaymentStatus.CANCELLED)
+            .allow(PaymentStatus.FAILED, PaymentStatus.PENDING)
+            .allow(PaymentStatus.PAID, PaymentStatus.REFUND_REQUIRED, PaymentStatus.REFUNDED)
+            .allow(PaymentStatus.REFUND_REQUIRED, PaymentStatus.REFUNDED)
+            // 결제대행사 승인 번호가 있어야 승인/환불 처리
+            .guard(PaymentStatus.PAID, (payment, from, to) -> payment.getTransactionId() != null)
+            .guard(PaymentStatus.REFUNDED, (payment, from, to) -> payment.getTransactionId() != null)
+            .build();
+
+    public static final StateMachine<Delivery, DeliveryStatus> DELIVERY = StateMachine
+            .<Delivery, DeliveryStatus>builder("배송", DeliveryStatus.class)
+            .allow(DeliveryStatus.PREPARING, DeliveryStatus.SHIPPED, DeliveryStatus.DELIVERED, DeliveryStatus.CANCELLED)
+            .allow(DeliveryStatus.SHIPPED, DeliveryStatus.DELIVERED)
+            // 운송장 없이 출고/배달 완료 불가
+            .guard(DeliveryStatus.SHIPPED, (delivery, from, to) -> delivery.getTrackingNumber() != null)
+            .guard(DeliveryStatus.DELIVERED, (delivery, from, to) -> delivery.getTrackingNumber() != null)
+            .build();
+
+    private OrderStateMachines() {
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.domain.order.state;
+
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상태 전이 표
+ *
+ * 출발 상태 ordinal마다 허용된 목표 상태를 비트로 모아 두어, 전이 확인은 배열 조회와 비트 연산 한 번으로 끝난다.
+ * 가드는 목표 상태별로 등록하며, 엔티티가 있는 경로({@link #check})에서만 확인한다.
+ * 조건부 UPDATE처럼 엔티티 없이 상태 값만 다루는 경로는 {@link #canTransition}으로 표만 확인한다.
+ *
+ * @param <T> 상태를 가진 대상 (가드에 전달)
+ * @param <S> 상태 enum (상수 64개 이하)
+ */
+@Slf4j
+public final class StateMachine<T, S extends Enum<S>> {
+
+    private final String name;
+    private final long[] targets;
+    private final Map<S, List<TransitionGuard<T, S>>> guards;
+
+    private StateMachine(String name, long[] targets, Map<S, List<TransitionGuard<T, S>>> guards) {
+        this.name = name;
+        this.targets = targets;
+        this.guards = guards;
+    }
+
+    public static <T, S extends Enum<S>> Builder<T, S> builder(String name, Class<S> statusType) {
+        return new Builder<>(name, statusType);
+    }
+
+    public boolean canTransition(S from, S to) {
+        return from != null && to != null && (targets[from.ordinal()] & (1L << to.ordinal())) != 0;
+    }
+
+    /**
+     * 표와 가드를 모두 확인. 허용되지 않으면 409
+     */
+    public void check(T target, S from, S to) {
+        if (!canTransition(from, to) || !guardsAllow(target, from, to)) {
+            log.debug("허용되지 않은 상태 전이: {} {} → {}", name, from, to);
+            throw new ServiceException(ErrorCode.INVALID_STATUS_TRANSITION);
+        }
+    }
+
+    private boolean guardsAllow(T target, S from, S to) {
+        List<TransitionGuard<T, S>> registered = guards.get(to);
+        if (registered == null) {
+            return true;
+        }
+        for (TransitionGuard<T, S> guard : registered) {
+            if (!guard.allows(target, from, to)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static final class Builder<T, S extends Enum<S>> {
+
+        private final String name;
+        private final Class<S> statusType;
+        private final long[] targets;
+        private final Map<S, List<TransitionGuard<T, S>>> guards;
+
+        private Builder(String name, Class<S> statusType) {
+            int size = statusType.getEnumConstants().length;
+            if (size > Long.SIZE) {
+                throw new IllegalArgumentException("상태가 64개를 넘어 비트 표로 표현할 수 없습니다: " + statusType.getSimpleName());
+            }
+            this.name = name;
+            this.statusType = statusType;
+            this.targets = new long[size];
+            this.guards = new EnumMap<>(statusType);
+        }
+
+        @SafeVarargs
+        public final Builder<T, S> allow(S from, S... to) {
+            for (S target : to) {
+                targets[from.ordinal()] |= 1L << target.ordinal();
+            }
+            return this;
+        }
+
+        public Builder<T, S> guard(S to, TransitionGuard<T, S> guard) {
+            guards.computeIfAbsent(to, key -> new ArrayList<>()).add(guard);
+            return this;
+        }
+
+        public StateMachine<T, S> build() {
+            Map<S, List<TransitionGuard<T, S>>> frozen = new EnumMap<>(statusType);
+            guards.forEach((to, registered) -> frozen.put(to, List.copyOf(registered)));
+            return new StateMachine<>(name, targets.clone(), frozen);
+        }
+    }
+}
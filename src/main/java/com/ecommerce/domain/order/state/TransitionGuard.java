@@ -0,0 +1,10 @@
+package com.ecommerce.domain.order.state;
+
+/**
+ * 전이 표에서 허용된 전이에 덧붙이는 조건 (예: 승인 번호 없이 PAID 불가)
+ */
+@FunctionalInterface
+public interface TransitionGuard<T, S extends Enum<S>> {
+
+    boolean allows(T target, S from, S to);
+}
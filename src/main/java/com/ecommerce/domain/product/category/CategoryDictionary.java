@@ -0,0 +1,239 @@
+package com.ecommerce.domain.product.category;
+
+import com.ecommerce.domain.product.entity.Category;
+import com.ecommerce.domain.product.repository.CategoryRepository;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 이름 ↔ ID 로컬 사전
+ *
+ * 카테고리는 수가 적고 거의 바뀌지 않으므로 전체를 메모리에 두고, 상품 등록/수정 시 category 테이블을 조회하지 않는다.
+ * 사전에 없는 이름만 별도 트랜잭션에서 한 번에 INSERT IGNORE로 추가하고(동시에 같은 이름이 추가되어도 안전),
+ * 추가된 ID를 Redis pub/sub으로 알려 다른 인스턴스의 사전도 갱신한다.
+ * 메시지를 놓친 경우를 대비해 주기적으로 전체를 다시 읽는다.
+ *
+ * 카테고리 이름은 대소문자를 구분하지 않는다. DB collation에 기대지 않도록 사전은 소문자로 정규화한 이름을 키로 쓰고
+ * DB 조회도 LOWER(name)으로 비교한다. 이미 "shoes"가 있을 때 "Shoes"를 요청하면 새로 만들지 않고 같은 카테고리 ID를 돌려준다.
+ */
+@Slf4j
+@Component
+public class CategoryDictionary implements MessageListener {
+
+    static final String CHANNEL = "category:changed";
+    private static final String ID_SEPARATOR = ",";
+
+    private final CategoryRepository categoryRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    // 정규화한 이름 → ID
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+
+    public CategoryDictionary(
+            CategoryRepository categoryRepository,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            RedisTemplate<String, String> redisTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            RedisMessageListenerContainer listenerContainer,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+
+        // 호출자의 상품 트랜잭션과 분리: 상품 저장이 롤백되어도 사전의 ID는 항상 커밋된 행을 가리킴
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * category 테이블 전체로 사전을 다시 채움 (기동 시 + 주기적으로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.product.category.reload-interval-ms:600000}",
+            initialDelayString = "${app.product.category.reload-interval-ms:600000}")
+    public void reload() {
+        List<Category> categories = readTransaction.execute(status -> categoryRepository.findAll());
+        if (categories == null) {
+            return;
+        }
+
+        Set<Long> loadedIds = new HashSet<>();
+        categories.forEach(category -> {
+            register(category.getId(), category.getName());
+            loadedIds.add(category.getId());
+        });
+
+        // 삭제/이름 변경된 항목 정리
+        namesById.entrySet().removeIf(entry -> {
+            if (loadedIds.contains(entry.getKey())) {
+                return false;
+            }
+            idsByName.remove(normalize(entry.getValue()), entry.getKey());
+            return true;
+        });
+        log.info("카테고리 사전 적재 완료: {}개", namesById.size());
+    }
+
+    /**
+     * 이름 → ID (요청한 표기 그대로 키로 반환). 사전에 없는 이름은 한 번에 추가한 뒤 함께 반환
+     *
+     * 대소문자만 다른 이름은 같은 ID로 반환되므로, 연결을 만들 때는 ID로 중복을 제거해야 한다.
+     */
+    public Map<String, Long> resolve(Collection<String> names) {
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String name : names) {
+            Long id = idsByName.get(normalize(name));
+            if (id != null) {
+                resolved.put(name, id);
+            } else {
+                missing.add(name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, Category> created = writeTransaction.execute(status -> findOrInsert(missing, LocalDateTime.now()));
+            if (created != null) {
+                created.values().forEach(category -> register(category.getId(), category.getName()));
+                missing.forEach(name -> {
+                    Category category = created.get(normalize(name));
+                    if (category != null) {
+                        resolved.put(name, category.getId());
+                    }
+                });
+                publish(created.values().stream().map(Category::getId).collect(Collectors.toSet()));
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * 저장된 표기의 카테고리 이름 (사전에 없으면 null)
+     */
+    public String nameOf(Long id) {
+        return namesById.get(id);
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+    /**
+     * 다른 인스턴스가 추가한 카테고리 ID를 받아 사전에 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Set<Long> ids = Arrays.stream(new String(message.getBody(), StandardCharsets.UTF_8).split(ID_SEPARATOR))
+                .filter(id -> !id.isBlank())
+                .map(Long::valueOf)
+                .filter(id -> !namesById.containsKey(id))
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        List<Category> categories = readTransaction.execute(status -> categoryRepository.findAllById(ids));
+        if (categories != null) {
+            categories.forEach(category -> register(category.getId(), category.getName()));
+            log.debug("카테고리 사전 갱신 수신: {}개", categories.size());
+        }
+    }
+
+    /**
+     * 정규화한 이름 → 저장된 카테고리
+     */
+    private Map<String, Category> findOrInsert(Collection<String> names, LocalDateTime now) {
+        Map<String, Category> found = findByNames(names);
+        // 대소문자만 다른 이름은 처음 표기 하나만 추가
+        Map<String, String> absentByKey = new LinkedHashMap<>();
+        names.forEach(name -> {
+            if (!found.containsKey(normalize(name))) {
+                absentByKey.putIfAbsent(normalize(name), name);
+            }
+        });
+        Collection<String> absent = absentByKey.values();
+        if (!absent.isEmpty()) {
+            SqlParameterSource[] params = absent.stream()
+                    .map(name -> new MapSqlParameterSource()
+                            .addValue("name", name)
+                            .addValue("now", now))
+                    .toArray(SqlParameterSource[]::new);
+            // 다른 요청/인스턴스가 먼저 추가한 이름은 UNIQUE 제약에 걸려 건너뛰고, 아래에서 다시 조회
+            jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO category (name, created_at, updated_at) VALUES (:name, :now, :now)", params);
+            found.putAll(findByNames(absent));
+        }
+        return found;
+    }
+
+    // 조회 결과의 이름은 요청과 대소문자가 다를 수 있으므로 정규화한 이름으로 매칭
+    private Map<String, Category> findByNames(Collection<String> names) {
+        Set<String> normalized = names.stream().map(CategoryDictionary::normalize).collect(Collectors.toSet());
+        Map<String, Category> categories = new HashMap<>();
+        categoryRepository.findByLowerNameIn(normalized)
+                .forEach(category -> categories.put(normalize(category.getName()), category));
+        return categories;
+    }
+
+    private void register(Long id, String name) {
+        idsByName.put(normalize(name), id);
+        namesById.put(id, name);
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private void publish(Collection<Long> ids) {
+        String payload = ids.stream().map(String::valueOf).collect(Collectors.joining(ID_SEPARATOR));
+        circuitBreaker.execute(() -> {
+            redisTemplate.convertAndSend(CHANNEL, payload);
+            return null;
+        }, () -> {
+            log.warn("Redis 사용 불가, 카테고리 추가 알림 생략 (다음 주기 재적재 시 반영): ids={}", payload);
+            return null;
+        });
+    }
+}
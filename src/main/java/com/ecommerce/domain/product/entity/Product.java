@@ -61,6 +61,7 @@ public class Product extends BaseEntity {
 
     @Builder.Default
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("displayOrder ASC, id ASC")
     private List<ProductImage> images = new ArrayList<>();
 
     public void setIsDeleted(boolean isDeleted) {
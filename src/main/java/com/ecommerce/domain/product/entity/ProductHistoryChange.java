@@ -0,0 +1,53 @@
+package com.ecommerce.domain.product.entity;
+
+import com.ecommerce.domain.product.history.ProductHistoryEntry;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 아직 이력 구간({@link ProductHistorySegment})에 추가하지 않은 가격/재고 변경
+ *
+ * 상품 변경과 같은 트랜잭션에서 저장되므로, 상품이 커밋되면 이력도 유실되지 않는다.
+ * 주기적으로 구간에 옮겨 담은 뒤 같은 트랜잭션에서 삭제된다.
+ */
+@Entity
+@Table(name = "product_history_change")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductHistoryChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(nullable = false)
+    private int stockQuantity;
+
+    // epoch millis
+    @Column(nullable = false)
+    private long changedAt;
+
+    public static ProductHistoryChange create(Long productId, BigDecimal price, int stockQuantity, Instant changedAt) {
+        ProductHistoryChange change = new ProductHistoryChange();
+        change.productId = productId;
+        change.price = price;
+        change.stockQuantity = stockQuantity;
+        change.changedAt = changedAt.toEpochMilli();
+        return change;
+    }
+
+    public ProductHistoryEntry toEntry() {
+        return new ProductHistoryEntry(Instant.ofEpochMilli(changedAt), price, stockQuantity);
+    }
+}
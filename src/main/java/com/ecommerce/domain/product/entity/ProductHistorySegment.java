@@ -0,0 +1,85 @@
+package com.ecommerce.domain.product.entity;
+
+import com.ecommerce.domain.product.history.ProductHistoryCodec;
+import com.ecommerce.domain.product.history.ProductHistoryCodec.Encoded;
+import com.ecommerce.domain.product.history.ProductHistoryCodec.State;
+import com.ecommerce.domain.product.history.ProductHistoryEntry;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 한 개의 한 달치 가격/재고 변경 이력 (추가만 가능)
+ *
+ * 항목은 {@link ProductHistoryCodec} 형식으로 data에 이어 붙이고, 마지막 값을 컬럼에 따로 두어
+ * 추가할 때 기존 데이터를 다시 읽지 않는다. 1년치 조회는 이 행 12개를 읽어 복원하는 것으로 끝난다.
+ */
+@Entity
+@Table(
+        name = "product_history_segment",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_history_segment", columnNames = {"product_id", "period"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductHistorySegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    // yyyyMM (UTC)
+    @Column(nullable = false)
+    private int period;
+
+    @Column(nullable = false)
+    private int entryCount;
+
+    // 마지막 항목 (다음 항목의 차이 기준)
+    @Column(nullable = false)
+    private long lastChangedAt;
+
+    @Column(nullable = false)
+    private long lastPrice;
+
+    @Column(nullable = false)
+    private int lastStockQuantity;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+
+    // 여러 인스턴스가 같은 구간에 동시에 추가하면 한쪽은 실패 후 재시도
+    @Version
+    private long version;
+
+    public static ProductHistorySegment create(Long productId, int period) {
+        ProductHistorySegment segment = new ProductHistorySegment();
+        State initial = State.initial(period);
+        segment.productId = productId;
+        segment.period = period;
+        segment.lastChangedAt = initial.changedAtMillis();
+        segment.lastPrice = initial.price();
+        segment.lastStockQuantity = initial.stockQuantity();
+        segment.data = new byte[0];
+        return segment;
+    }
+
+    public void append(List<ProductHistoryEntry> entries) {
+        Encoded encoded = ProductHistoryCodec.append(data, new State(lastChangedAt, lastPrice, lastStockQuantity), entries);
+        this.data = encoded.data();
+        this.lastChangedAt = encoded.last().changedAtMillis();
+        this.lastPrice = encoded.last().price();
+        this.lastStockQuantity = encoded.last().stockQuantity();
+        this.entryCount += entries.size();
+    }
+
+    public List<ProductHistoryEntry> entries() {
+        return ProductHistoryCodec.decode(period, data, entryCount);
+    }
+}
@@ -6,15 +6,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "product_images")
+@Table(
+        name = "product_images",
+        // 같은 원본 URL 조회/축소 이미지 키 반영, 축소 이미지가 없는 URL을 URL 순으로 훑기
+        indexes = @Index(name = "idx_product_images_url_thumbnail", columnList = "image_url, thumbnail_key")
+)
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductImage extends BaseEntity {
 
+    // 축소 이미지 제공 경로 (ImageController)
+    private static final String DERIVATIVE_URL_PREFIX = "/api/v1/images/";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -29,7 +37,41 @@ public class ProductImage extends BaseEntity {
     @Column(nullable = false)
     private boolean isMain;
 
+    // 상품 내 노출 순서 (0이 대표 이미지)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int displayOrder;
+
+    // 축소 이미지 저장 키 (ImageStore). 아직 만들지 못했으면 null
+    @Column(length = 64)
+    private String thumbnailKey;
+
+    @Column(length = 64)
+    private String mediumKey;
+
     public void setProduct(Product product) {
         this.product = product;
     }
+
+    /**
+     * 노출 순서 변경. 0번째 이미지가 대표 이미지가 된다
+     */
+    public void reorder(int displayOrder) {
+        this.displayOrder = displayOrder;
+        this.isMain = displayOrder == 0;
+    }
+
+    /**
+     * 목록용 썸네일 URL. 아직 축소 이미지를 만들지 못했으면 원본 URL
+     */
+    public String getThumbnailUrl() {
+        return thumbnailUrl(thumbnailKey, imageUrl);
+    }
+
+    /**
+     * 엔티티를 읽지 않은 조회 결과(키, 원본 URL)에서 썸네일 URL을 만들 때 사용
+     */
+    public static String thumbnailUrl(String thumbnailKey, String imageUrl) {
+        return thumbnailKey != null ? DERIVATIVE_URL_PREFIX + thumbnailKey : imageUrl;
+    }
 }
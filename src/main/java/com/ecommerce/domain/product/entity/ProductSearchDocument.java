@@ -0,0 +1,138 @@
+package com.ecommerce.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 검색용 비정규화 읽기 모델
+ *
+ * products / product_category / category / product_images를 조인하지 않고 검색할 수 있도록
+ * 카테고리와 이미지 URL, 판매 가능 여부를 한 행에 복사해 둔다.
+ * 상품 변경 시 {@link com.ecommerce.domain.product.service.ProductSearchProjector}가 같은 트랜잭션 안에서 갱신한다.
+ */
+@Entity
+@Table(
+        name = "product_search",
+        indexes = {
+                @Index(name = "idx_product_search_brand", columnList = "brand"),
+                @Index(name = "idx_product_search_available_created", columnList = "available_for_sale, created_at"),
+                @Index(name = "idx_product_search_price", columnList = "price")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSearchDocument implements Persistable<Long> {
+
+    private static final String IMAGE_URL_DELIMITER = "\n";
+
+    // 상품 ID를 그대로 사용
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private String brand;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(nullable = false)
+    private Integer stockQuantity;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ProductStatus status;
+
+    @Column(name = "available_for_sale", nullable = false)
+    private boolean availableForSale;
+
+    private String mainImageUrl;
+
+    // 등록 순서대로 줄바꿈으로 연결
+    @Column(columnDefinition = "TEXT")
+    private String imageUrls;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(
+            name = "product_search_category",
+            joinColumns = @JoinColumn(name = "product_id"),
+            indexes = @Index(name = "idx_product_search_category_name", columnList = "category_name, product_id")
+    )
+    @BatchSize(size = 100)
+    private Set<ProductSearchCategory> categories = new HashSet<>();
+
+    // 상품 등록/수정 시각 (정렬용)
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew;
+
+    public static ProductSearchDocument create(Long productId) {
+        ProductSearchDocument document = new ProductSearchDocument();
+        document.id = productId;
+        document.isNew = true;
+        return document;
+    }
+
+    /**
+     * 상품의 현재 상태로 문서를 덮어씀
+     */
+    public void refresh(Product product, Collection<ProductSearchCategory> categories, List<String> imageUrls) {
+        this.name = product.getName();
+        this.description = product.getDescription();
+        this.brand = product.getBrand();
+        this.price = product.getPrice();
+        this.stockQuantity = product.getStockQuantity();
+        this.status = product.getStatus();
+        this.availableForSale = product.isAvailableForSale();
+        this.mainImageUrl = imageUrls.isEmpty() ? null : imageUrls.getFirst();
+        this.imageUrls = imageUrls.isEmpty() ? null : String.join(IMAGE_URL_DELIMITER, imageUrls);
+        this.createdAt = product.getCreatedAt() != null ? product.getCreatedAt() : LocalDateTime.now();
+        this.updatedAt = product.getUpdatedAt() != null ? product.getUpdatedAt() : this.createdAt;
+
+        // 변경이 없으면 컬렉션 테이블을 다시 쓰지 않음
+        if (!this.categories.equals(new HashSet<>(categories))) {
+            this.categories.clear();
+            this.categories.addAll(categories);
+        }
+    }
+
+    public List<String> getImageUrlList() {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(imageUrls.split(IMAGE_URL_DELIMITER));
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.domain.product.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 검색 문서에 반영해야 하는 변경 (상품 정보, 재고, 상태, 카테고리, 이미지, 삭제)
+ */
+public record ProductChangedEvent(Collection<Long> productIds) {
+
+    public static ProductChangedEvent of(Long productId) {
+        return new ProductChangedEvent(List.of(productId));
+    }
+}
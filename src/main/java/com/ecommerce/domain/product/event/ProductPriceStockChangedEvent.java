@@ -0,0 +1,17 @@
+package com.ecommerce.domain.product.event;
+
+import com.ecommerce.domain.product.entity.Product;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 가격 또는 재고가 바뀐 뒤의 값 (변경 이력 기록용)
+ */
+public record ProductPriceStockChangedEvent(Long productId, BigDecimal price, int stockQuantity, Instant changedAt) {
+
+    public static ProductPriceStockChangedEvent of(Product product) {
+        return new ProductPriceStockChangedEvent(
+                product.getId(), product.getPrice(), product.getStockQuantity(), Instant.now());
+    }
+}
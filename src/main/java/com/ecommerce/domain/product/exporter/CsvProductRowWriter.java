@@ -0,0 +1,93 @@
+package com.ecommerce.domain.product.exporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV로 쓴다. 헤더는 대량 등록 CSV와 같고, categoryNames / imageUrls는 '|'로 연결한다
+ */
+class CsvProductRowWriter implements ProductRowWriter {
+
+    private static final String HEADER =
+            "id,name,description,brand,price,stockQuantity,status,categoryNames,imageUrls,createdAt,updatedAt";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private boolean headerWritten;
+
+    CsvProductRowWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(ProductExportRow row) throws IOException {
+        if (!headerWritten) {
+            writer.write(HEADER);
+            writer.write("\r\n");
+            headerWritten = true;
+        }
+
+        writer.write(String.valueOf(row.id()));
+        field(row.name());
+        field(row.description());
+        field(row.brand());
+        field(row.price() != null ? row.price().toPlainString() : null);
+        field(row.stockQuantity() != null ? row.stockQuantity().toString() : null);
+        field(row.status() != null ? row.status().name() : null);
+        field(join(row.categoryNames()));
+        field(join(row.imageUrls()));
+        field(row.createdAt() != null ? row.createdAt().toString() : null);
+        field(row.updatedAt() != null ? row.updatedAt().toString() : null);
+        writer.write("\r\n");
+    }
+
+    private void field(String value) throws IOException {
+        writer.write(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (!needsQuote(value)) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String join(List<String> values) {
+        return values == null || values.isEmpty() ? null : String.join("|", values);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
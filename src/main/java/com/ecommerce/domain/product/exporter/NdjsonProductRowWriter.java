@@ -0,0 +1,41 @@
+package com.ecommerce.domain.product.exporter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 한 줄에 상품 하나(JSON 객체)씩 쓴다. 행마다 문자열을 만들지 않고 하나의 generator로 바로 인코딩한다
+ */
+class NdjsonProductRowWriter implements ProductRowWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    NdjsonProductRowWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        // 최상위 값 사이에 기본 구분자(공백)를 넣지 않고 줄바꿈만 사용
+        this.generator.setRootValueSeparator(null);
+        this.objectWriter = objectMapper.writerFor(ProductExportRow.class);
+    }
+
+    @Override
+    public void write(ProductExportRow row) throws IOException {
+        objectWriter.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
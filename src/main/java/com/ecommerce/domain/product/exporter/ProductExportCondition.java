@@ -0,0 +1,15 @@
+package com.ecommerce.domain.product.exporter;
+
+import com.ecommerce.domain.product.entity.ProductStatus;
+
+/**
+ * 내보낼 상품 범위 (삭제된 상품은 항상 제외)
+ *
+ * @param status  상품 상태. null이면 전체
+ * @param inStock true면 재고 있는 상품만, false면 재고 0인 상품만, null이면 전체
+ */
+public record ProductExportCondition(
+        ProductStatus status,
+        Boolean inStock
+) {
+}
@@ -0,0 +1,165 @@
+package com.ecommerce.domain.product.exporter;
+
+import com.ecommerce.domain.product.entity.ProductStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 전체를 메모리에 올리지 않고 순서대로 읽는다
+ *
+ * StatelessSession으로 영속성 컨텍스트 없이 상품 컬럼만 forward-only 커서(fetch-size 단위)로 읽고,
+ * chunk-size 만큼 모일 때마다 카테고리/이미지를 IN 조회 1번씩으로 채워 넘긴다.
+ * 힙에는 항상 한 청크만 남으므로 상품 수와 관계없이 메모리 사용량이 일정하다.
+ * (MySQL에서 fetch size가 서버 커서로 동작하려면 접속 URL에 useCursorFetch=true가 필요하다)
+ */
+@Repository
+public class ProductExportReader {
+
+    private static final String CATEGORY_QUERY = """
+            SELECT p.id, c.name
+            FROM Product p JOIN p.category c
+            WHERE p.id IN :productIds
+            ORDER BY c.name
+            """;
+
+    private static final String IMAGE_QUERY = """
+            SELECT i.product.id, i.imageUrl
+            FROM ProductImage i
+            WHERE i.product.id IN :productIds
+            ORDER BY i.displayOrder, i.id
+            """;
+
+    /**
+     * 청크 단위로 행을 받는 콜백
+     */
+    @FunctionalInterface
+    public interface ChunkHandler {
+        void handle(List<ProductExportRow> rows) throws IOException;
+    }
+
+    private final SessionFactory sessionFactory;
+    private final int fetchSize;
+    private final int chunkSize;
+
+    public ProductExportReader(
+            EntityManagerFactory entityManagerFactory,
+            @Value("${app.product.export.fetch-size:1000}") int fetchSize,
+            @Value("${app.product.export.chunk-size:500}") int chunkSize
+    ) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.fetchSize = fetchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 조건에 맞는 상품을 ID 순으로 읽어 청크마다 handler에 넘기고, 읽은 행 수를 반환
+     */
+    public long read(ProductExportCondition condition, ChunkHandler handler) throws IOException {
+        long count = 0;
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            // 읽기 전용 트랜잭션 하나로 커서 전체가 같은 스냅샷을 보도록 함
+            Transaction transaction = session.beginTransaction();
+            try (ScrollableResults<Object[]> rows = productQuery(session, condition).scroll(ScrollMode.FORWARD_ONLY)) {
+                List<Object[]> chunk = new ArrayList<>(chunkSize);
+                while (rows.next()) {
+                    chunk.add(rows.get());
+                    if (chunk.size() == chunkSize) {
+                        handler.handle(toRows(session, chunk));
+                        count += chunk.size();
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    handler.handle(toRows(session, chunk));
+                    count += chunk.size();
+                }
+                transaction.commit();
+            } finally {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+            }
+        }
+        return count;
+    }
+
+    private SelectionQuery<Object[]> productQuery(StatelessSession session, ProductExportCondition condition) {
+        StringBuilder hql = new StringBuilder("""
+                SELECT p.id, p.name, p.description, p.brand, p.price, p.stockQuantity, p.status, p.createdAt, p.updatedAt
+                FROM Product p
+                WHERE p.isDeleted = false
+                """);
+        if (condition.status() != null) {
+            hql.append(" AND p.status = :status");
+        }
+        if (condition.inStock() != null) {
+            hql.append(condition.inStock() ? " AND p.stockQuantity > 0" : " AND p.stockQuantity = 0");
+        }
+        hql.append(" ORDER BY p.id");
+
+        SelectionQuery<Object[]> query = session.createSelectionQuery(hql.toString(), Object[].class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true);
+        if (condition.status() != null) {
+            query.setParameter("status", condition.status());
+        }
+        return query;
+    }
+
+    private List<ProductExportRow> toRows(StatelessSession session, List<Object[]> products) {
+        List<Long> productIds = new ArrayList<>(products.size());
+        for (Object[] product : products) {
+            productIds.add((Long) product[0]);
+        }
+
+        Map<Long, List<String>> categoryNames = groupByProduct(session, CATEGORY_QUERY, productIds);
+        Map<Long, List<String>> imageUrls = groupByProduct(session, IMAGE_QUERY, productIds);
+
+        List<ProductExportRow> rows = new ArrayList<>(products.size());
+        for (Object[] product : products) {
+            Long id = (Long) product[0];
+            rows.add(new ProductExportRow(
+                    id,
+                    (String) product[1],
+                    (String) product[2],
+                    (String) product[3],
+                    (BigDecimal) product[4],
+                    (Integer) product[5],
+                    (ProductStatus) product[6],
+                    categoryNames.getOrDefault(id, List.of()),
+                    imageUrls.getOrDefault(id, List.of()),
+                    (LocalDateTime) product[7],
+                    (LocalDateTime) product[8]
+            ));
+        }
+        return rows;
+    }
+
+    // (상품 ID, 값) 목록을 상품별로 묶음. 조회 순서를 유지
+    private static Map<Long, List<String>> groupByProduct(StatelessSession session, String hql, List<Long> productIds) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        List<Object[]> rows = session.createSelectionQuery(hql, Object[].class)
+                .setParameterList("productIds", productIds)
+                .getResultList();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>(2)).add((String) row[1]);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.domain.product.exporter;
+
+import com.ecommerce.domain.product.entity.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내보내기 한 행. 필드 이름은 대량 등록 입력과 같아 그대로 다시 등록할 수 있다
+ */
+public record ProductExportRow(
+        Long id,
+        String name,
+        String description,
+        String brand,
+        BigDecimal price,
+        Integer stockQuantity,
+        ProductStatus status,
+        List<String> categoryNames,
+        List<String> imageUrls,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
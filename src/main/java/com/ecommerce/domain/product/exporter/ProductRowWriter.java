@@ -0,0 +1,13 @@
+package com.ecommerce.domain.product.exporter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * 출력 스트림에 상품 행을 하나씩 쓴다. flush 전까지는 내부 버퍼에만 쌓인다
+ */
+public interface ProductRowWriter extends Closeable, Flushable {
+
+    void write(ProductExportRow row) throws IOException;
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.domain.product.flashsale;
+
+import java.util.List;
+
+/**
+ * 한 번의 입장 처리 결과
+ *
+ * @param remaining 이번 입장까지 반영한 뒤 더 입장시킬 수 있는 인원 (0 이하면 매진)
+ * @param admitted  이번에 입장권을 받은 구매자 (대기 순서대로)
+ */
+public record FlashSaleAdmission(long remaining, List<String> admitted) {
+}
@@ -0,0 +1,244 @@
+package com.ecommerce.domain.product.flashsale;
+
+import com.ecommerce.api.v1.flashsale.dto.response.FlashSaleEntryResponseDto;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 한정 판매 입장 관리
+ *
+ * 한정 판매 중인 상품은 대기열({@link FlashSaleStore})을 통과해 입장권을 받은 로그인 사용자만 장바구니에 담을 수 있다.
+ * 입장권 한 장으로 max-quantity-per-pass 개까지 한 번 담을 수 있고, 담으면 입장권은 사용된다.
+ * admit-interval-ms 마다 진행 중인 판매 목록과 재고를 한 번씩 읽어, 재고로 발급할 수 있는 입장권 수에서
+ * 유효한 입장권과 사용한 입장권 수를 뺀 만큼만 대기열 앞에서부터 입장시킨다.
+ * 입장권이 쓰이지 않고 만료되면 그 자리만큼 다음 사람이 들어온다.
+ *
+ * 입장 요청은 DB를 읽지 않는다. 판매 목록과 매진 여부는 이 주기에서 인스턴스 메모리에 갱신해 두고,
+ * 매진이면 Redis도 거치지 않고 바로 거절하므로 매진 뒤 몰리는 요청은 락 없이 메모리 확인만으로 끝난다.
+ */
+@Slf4j
+@Component
+public class FlashSaleGate {
+
+    private static final int MIN_ADMIT_PER_SECOND = 1;
+    private static final int MAX_ADMIT_PER_SECOND = 10_000;
+
+    private final FlashSaleStore store;
+    private final ProductRepository productRepository;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final Duration passTtl;
+    private final int maxQuantityPerPass;
+
+    private final Map<Long, FlashSale> sales = new ConcurrentHashMap<>();
+
+    public FlashSaleGate(
+            FlashSaleStore store,
+            ProductRepository productRepository,
+            RedisCircuitBreaker circuitBreaker,
+            @Value("${app.flash-sale.pass-ttl:10m}") Duration passTtl,
+            @Value("${app.flash-sale.max-quantity-per-pass:1}") int maxQuantityPerPass
+    ) {
+        this.store = store;
+        this.productRepository = productRepository;
+        this.circuitBreaker = circuitBreaker;
+        this.passTtl = passTtl;
+        this.maxQuantityPerPass = maxQuantityPerPass;
+    }
+
+    /**
+     * 한정 판매 시작. 다른 인스턴스에는 다음 입장 주기에 반영됨
+     *
+     * @throws ServiceException 초당 입장 인원이 없거나 1..10000 범위를 벗어난 경우 (0 이하면 아무도 입장하지 못함)
+     */
+    public void open(Long productId, Integer admitPerSecond) {
+        // 요청 DTO의 Bean Validation 제약은 검증 구현체가 없어 적용되지 않으므로 직접 확인
+        if (admitPerSecond == null || admitPerSecond < MIN_ADMIT_PER_SECOND || admitPerSecond > MAX_ADMIT_PER_SECOND) {
+            throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        productRepository.findById(productId)
+                .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        redis(() -> {
+            store.open(productId, admitPerSecond);
+            return null;
+        });
+        sales.put(productId, new FlashSale(admitPerSecond));
+        log.info("한정 판매 시작: productId={}, 초당 입장={}", productId, admitPerSecond);
+    }
+
+    public void close(Long productId) {
+        redis(() -> {
+            store.close(productId);
+            return null;
+        });
+        sales.remove(productId);
+        log.info("한정 판매 종료: productId={}", productId);
+    }
+
+    /**
+     * 대기열에 줄을 서거나, 이미 입장권이 있으면 입장 상태를, 입장권을 이미 썼으면 사용 상태를 반환
+     *
+     * @throws ServiceException 진행 중인 한정 판매가 아니거나 이미 매진된 경우
+     */
+    public FlashSaleEntryResponseDto enter(Long productId, String email) {
+        FlashSale sale = sales.get(productId);
+        if (sale == null) {
+            throw new ServiceException(ErrorCode.FLASH_SALE_NOT_FOUND);
+        }
+        if (sale.soldOut) {
+            // 매진 뒤에는 Redis도 거치지 않고, 입장권을 가진 사람만 메모리 목록으로 구분
+            if (sale.passHolders.contains(email)) {
+                return FlashSaleEntryResponseDto.admitted();
+            }
+            throw new ServiceException(ErrorCode.FLASH_SALE_SOLD_OUT);
+        }
+
+        long position = redis(() -> store.enqueue(productId, email, System.currentTimeMillis()));
+        if (position == -2) {
+            return FlashSaleEntryResponseDto.used();
+        }
+        return position < 0
+                ? FlashSaleEntryResponseDto.admitted()
+                : FlashSaleEntryResponseDto.waiting(position + 1);
+    }
+
+    public boolean isActive(Long productId) {
+        return sales.containsKey(productId);
+    }
+
+    /**
+     * 한정 판매 중인 상품이면 유효한 입장권을 사용. Redis를 쓸 수 없으면 입장권이 없는 것으로 봄
+     *
+     * @param quantity 담은 뒤 장바구니의 수량
+     * @throws ServiceException 수량이 입장권 한 장의 상한을 넘거나 유효한 입장권이 없는 경우
+     */
+    public void usePass(Long productId, String email, int quantity) {
+        if (!isActive(productId)) {
+            return;
+        }
+        if (quantity > maxQuantityPerPass) {
+            throw new ServiceException(ErrorCode.FLASH_SALE_QUANTITY_EXCEEDED);
+        }
+        boolean used = circuitBreaker.execute(
+                () -> store.usePass(productId, email, System.currentTimeMillis()), () -> false);
+        if (!used) {
+            throw new ServiceException(ErrorCode.FLASH_SALE_NOT_ADMITTED);
+        }
+    }
+
+    /**
+     * 한정 판매 중인데 이번 판매의 입장권으로 담지 않은 상품 (판매 시작 전에 담아 둔 상품 포함).
+     * 비로그인(email이 null)이거나 Redis를 쓸 수 없으면 한정 판매 중인 상품 모두
+     */
+    public Set<Long> notAdmitted(Collection<Long> productIds, String email) {
+        Set<Long> notAdmitted = new HashSet<>();
+        for (Long productId : productIds) {
+            if (isActive(productId) && (email == null || !circuitBreaker.execute(
+                    () -> store.hasUsedPass(productId, email), () -> false))) {
+                notAdmitted.add(productId);
+            }
+        }
+        return notAdmitted;
+    }
+
+    /**
+     * 진행 중인 판매 목록과 재고를 갱신하고 대기열 앞에서부터 입장시킴
+     */
+    @Scheduled(fixedDelayString = "${app.flash-sale.admit-interval-ms:200}")
+    public void admit() {
+        Map<Long, Integer> active = circuitBreaker.execute(store::activeSales, () -> null);
+        if (active == null) {
+            // Redis 사용 불가: 알고 있던 판매 상태를 그대로 두고 다음 주기에 재시도
+            return;
+        }
+        sales.keySet().retainAll(active.keySet());
+        active.forEach((productId, admitPerSecond) -> sales.compute(productId,
+                (id, sale) -> sale != null && sale.admitPerSecond == admitPerSecond ? sale : new FlashSale(admitPerSecond)));
+        if (sales.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> stocks;
+        try {
+            stocks = sellableStocks(List.copyOf(sales.keySet()));
+        } catch (DataAccessException e) {
+            log.warn("한정 판매 재고 조회 실패, 다음 주기에 재시도: {}", e.getMessage());
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long passExpiresAt = now + passTtl.toMillis();
+        sales.forEach((productId, sale) -> {
+            // 삭제되었거나 판매 중이 아니면 재고 0으로 보고 더 입장시키지 않음
+            // 입장권마다 상한 수량까지 담을 수 있으므로 그만큼 나눈 수만 발급
+            int slots = stocks.getOrDefault(productId, 0) / maxQuantityPerPass;
+            FlashSaleAdmission admission = circuitBreaker.execute(
+                    () -> store.admit(productId, slots, sale.admitPerSecond, now, passExpiresAt), () -> null);
+            if (admission == null) {
+                return;
+            }
+            if (admission.remaining() > 0) {
+                sale.soldOut = false;
+            } else {
+                List<String> holders = circuitBreaker.execute(() -> store.passHolders(productId, now), () -> null);
+                if (holders != null) {
+                    sale.passHolders = Set.copyOf(holders);
+                    sale.soldOut = true;
+                }
+            }
+            if (!admission.admitted().isEmpty()) {
+                log.debug("한정 판매 입장: productId={}, 입장={}명, 남은 자리={}",
+                        productId, admission.admitted().size(), admission.remaining());
+            }
+        });
+    }
+
+    private Map<Long, Integer> sellableStocks(List<Long> productIds) {
+        Map<Long, Integer> stocks = new HashMap<>(productIds.size() * 2);
+        for (Object[] row : productRepository.findSellableStockByIdIn(productIds)) {
+            stocks.put((Long) row[0], (Integer) row[1]);
+        }
+        return stocks;
+    }
+
+    /**
+     * 대기열은 Redis에만 있으므로 대체 저장소 없이 503
+     */
+    private <T> T redis(Supplier<T> action) {
+        return circuitBreaker.execute(action, () -> {
+            throw new ServiceException(ErrorCode.REDIS_CONNECTION_UNAVAILABLE);
+        });
+    }
+
+    /**
+     * 인스턴스 메모리의 판매 상태. 입장 주기 스레드만 쓰고 요청 스레드는 읽기만 함
+     * (passHolders를 먼저 바꾼 뒤 soldOut을 켜므로 매진으로 보이면 입장권 목록도 그 시점 이후 것)
+     */
+    private static final class FlashSale {
+
+        private final int admitPerSecond;
+        private volatile Set<String> passHolders = Set.of();
+        private volatile boolean soldOut;
+
+        private FlashSale(int admitPerSecond) {
+            this.admitPerSecond = admitPerSecond;
+        }
+    }
+}
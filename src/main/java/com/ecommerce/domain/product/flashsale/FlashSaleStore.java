@@ -0,0 +1,57 @@
+package com.ecommerce.domain.product.flashsale;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한정 판매 대기열과 입장권 저장소 (여러 인스턴스가 공유)
+ *
+ * 구매자는 들어온 순서대로 대기열에 서고, {@link #admit}이 재고와 입장 속도 안에서 앞사람부터 입장권을 준다.
+ * 입장권은 만료 시각까지만 유효하며, 쓰이지 않고 만료되면 그만큼 다시 입장시킬 수 있다.
+ * 한 번 쓴 입장권은 다시 쓸 수 없고, 장바구니에 담긴 수량은 재고에서 빠지지 않으므로 판매가 끝날 때까지 자리를 차지한다.
+ */
+public interface FlashSaleStore {
+
+    /**
+     * 한정 판매 시작. 같은 상품의 이전 대기열과 입장권은 지움
+     */
+    void open(long productId, int admitPerSecond);
+
+    void close(long productId);
+
+    /**
+     * @return 진행 중인 한정 판매 (상품 ID → 초당 입장 인원)
+     */
+    Map<Long, Integer> activeSales();
+
+    /**
+     * 대기열에 줄을 세움. 이미 줄을 서 있으면 처음 자리를 그대로 유지하고, 입장권을 이미 썼으면 줄 세우지 않음
+     *
+     * @return 0부터 시작하는 대기 순번, 유효한 입장권이 이미 있으면 -1, 이번 판매의 입장권을 이미 썼으면 -2
+     */
+    long enqueue(long productId, String buyer, long nowMillis);
+
+    /**
+     * 유효한 입장권을 사용 처리 (한 번만 성공)
+     *
+     * @return 유효한 입장권이 있어 이번에 사용했으면 true
+     */
+    boolean usePass(long productId, String buyer, long nowMillis);
+
+    /**
+     * @return 이번 판매에서 입장권을 사용한 적이 있으면 true
+     */
+    boolean hasUsedPass(long productId, String buyer);
+
+    /**
+     * @return 유효한 입장권을 가진 구매자 (최대 재고 수만큼)
+     */
+    List<String> passHolders(long productId, long nowMillis);
+
+    /**
+     * 만료된 입장권을 정리하고, 남은 자리(slots - 유효한 입장권 - 사용한 입장권)와 입장 속도 중 작은 만큼 대기열 앞에서 입장시킴
+     *
+     * @param slots 이번 판매에서 발급할 수 있는 입장권 수
+     */
+    FlashSaleAdmission admit(long productId, int slots, int admitPerSecond, long nowMillis, long passExpiresAtMillis);
+}
@@ -0,0 +1,170 @@
+package com.ecommerce.domain.product.flashsale;
+
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 한정 판매 저장소
+ *
+ * - flashsale:active: 진행 중인 한정 판매 해시 (상품 ID → 초당 입장 인원)
+ * - flashsale:{상품 ID}:queue: 대기열 정렬 집합 (점수는 도착 순번이라 같은 밀리초에 들어와도 순서가 섞이지 않음)
+ * - flashsale:{상품 ID}:admitted: 입장권 정렬 집합 (점수는 만료 시각)
+ * - flashsale:{상품 ID}:used: 사용한 입장권 집합 (판매가 끝날 때까지 자리를 차지)
+ * - flashsale:{상품 ID}:bucket: 입장 토큰 버킷 (초당 입장 인원만큼 채워지고 1초분까지 쌓임)
+ *
+ * 줄 세우기, 입장, 입장권 사용은 각각 Lua 스크립트 한 번으로 처리해 여러 인스턴스가 같은 키를 바꿔도
+ * 스크립트 사이에 끼어들지 못하게 한다.
+ * 스크립트는 RedisFlashSaleStoreTest에서 실제 Redis(Testcontainers)로 실행해 확인한다.
+ */
+@Component
+public class RedisFlashSaleStore implements FlashSaleStore {
+
+    private static final String ACTIVE_KEY = "flashsale:active";
+    private static final String KEY_PREFIX = "flashsale:{";
+
+    // 이미 입장권을 쓴 구매자는 다시 줄 세우지 않음 (줄을 서면 다음 입장에서 두 번째 입장권을 받게 됨)
+    private static final RedisScript<Long> ENQUEUE = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[4], ARGV[1]) == 1 then
+              return -2
+            end
+            local pass = redis.call('ZSCORE', KEYS[2], ARGV[1])
+            if pass and tonumber(pass) > tonumber(ARGV[2]) then
+              return -1
+            end
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+              redis.call('ZADD', KEYS[1], redis.call('INCR', KEYS[3]), ARGV[1])
+            end
+            return redis.call('ZRANK', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private static final RedisScript<Long> USE_PASS = new DefaultRedisScript<>("""
+            local pass = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not pass or tonumber(pass) <= tonumber(ARGV[2]) then
+              return 0
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            local remaining = tonumber(ARGV[2]) - redis.call('ZCARD', KEYS[2]) - redis.call('SCARD', KEYS[4])
+
+            local bucket = redis.call('HMGET', KEYS[3], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or rate
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(rate, tokens + math.max(0, now - ts) * rate / 1000)
+
+            local result = {}
+            local n = math.min(math.floor(tokens), remaining)
+            if n > 0 then
+              local popped = redis.call('ZPOPMIN', KEYS[1], n)
+              for i = 1, #popped, 2 do
+                redis.call('ZADD', KEYS[2], ARGV[4], popped[i])
+                result[#result + 1] = popped[i]
+              end
+              tokens = tokens - #result
+              remaining = remaining - #result
+            end
+            redis.call('HSET', KEYS[3], 'tokens', tostring(tokens), 'ts', ARGV[1])
+            table.insert(result, 1, tostring(remaining))
+            return result
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisFlashSaleStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void open(long productId, int admitPerSecond) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.delete(keys(productId));
+                ops.opsForHash().put(ACTIVE_KEY, String.valueOf(productId), String.valueOf(admitPerSecond));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void close(long productId) {
+        redisTemplate.opsForHash().delete(ACTIVE_KEY, String.valueOf(productId));
+        redisTemplate.delete(keys(productId));
+    }
+
+    @Override
+    public Map<Long, Integer> activeSales() {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        Map<String, String> entries = hash.entries(ACTIVE_KEY);
+
+        Map<Long, Integer> sales = new HashMap<>(entries.size() * 2);
+        entries.forEach((productId, rate) -> sales.put(Long.valueOf(productId), Integer.valueOf(rate)));
+        return sales;
+    }
+
+    @Override
+    public long enqueue(long productId, String buyer, long nowMillis) {
+        Long position = redisTemplate.execute(ENQUEUE,
+                List.of(key(productId, "queue"), key(productId, "admitted"), key(productId, "seq"), key(productId, "used")),
+                buyer, String.valueOf(nowMillis));
+        return position == null ? -1 : position;
+    }
+
+    @Override
+    public boolean usePass(long productId, String buyer, long nowMillis) {
+        Long used = redisTemplate.execute(USE_PASS,
+                List.of(key(productId, "admitted"), key(productId, "used")),
+                buyer, String.valueOf(nowMillis));
+        return used != null && used == 1;
+    }
+
+    @Override
+    public boolean hasUsedPass(long productId, String buyer) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key(productId, "used"), buyer));
+    }
+
+    @Override
+    public List<String> passHolders(long productId, long nowMillis) {
+        Set<String> holders = redisTemplate.opsForZSet().rangeByScore(key(productId, "admitted"), nowMillis, Double.POSITIVE_INFINITY);
+        return holders == null ? List.of() : List.copyOf(holders);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public FlashSaleAdmission admit(long productId, int slots, int admitPerSecond, long nowMillis, long passExpiresAtMillis) {
+        List<String> result = redisTemplate.execute(ADMIT,
+                List.of(key(productId, "queue"), key(productId, "admitted"), key(productId, "bucket"), key(productId, "used")),
+                String.valueOf(nowMillis), String.valueOf(slots), String.valueOf(admitPerSecond),
+                String.valueOf(passExpiresAtMillis));
+        return new FlashSaleAdmission(Long.parseLong(result.get(0)), List.copyOf(result.subList(1, result.size())));
+    }
+
+    // 한 상품의 키는 같은 해시 슬롯에 모이도록 {상품 ID} 해시 태그 사용
+    private static String key(long productId, String suffix) {
+        return KEY_PREFIX + productId + "}:" + suffix;
+    }
+
+    private static List<String> keys(long productId) {
+        return List.of(key(productId, "queue"), key(productId, "admitted"), key(productId, "bucket"), key(productId, "seq"),
+                key(productId, "used"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.ecommerce.domain.product.history;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 가격/재고 이력 구간의 바이너리 형식
+ *
+ * 항목마다 (시각 ms, 가격 × 100, 재고)를 직전 항목과의 차이로 저장하고, 차이는 zigzag 변환 후 가변 길이(varint)로 쓴다.
+ * 구간의 첫 항목은 (구간 시작 시각, 0, 0)을 기준으로 하므로 구간마다 독립적으로 읽을 수 있다.
+ * 보통 변경 한 건이 4~8바이트를 차지한다.
+ */
+public final class ProductHistoryCodec {
+
+    private static final int PRICE_SCALE = 2;
+
+    private ProductHistoryCodec() {
+    }
+
+    /**
+     * 마지막으로 기록된 값 (다음 항목의 차이 기준)
+     */
+    public record State(long changedAtMillis, long price, int stockQuantity) {
+
+        public static State initial(int period) {
+            return new State(periodStartMillis(period), 0L, 0);
+        }
+    }
+
+    /**
+     * 이어 쓴 구간 바이트와 새 마지막 상태
+     */
+    public record Encoded(byte[] data, State last) {
+    }
+
+    /**
+     * 구간(yyyyMM, UTC)
+     */
+    public static int periodOf(Instant instant) {
+        YearMonth month = YearMonth.from(instant.atOffset(ZoneOffset.UTC));
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public static long periodStartMillis(int period) {
+        return YearMonth.of(period / 100, period % 100).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public static long toUnscaledPrice(BigDecimal price) {
+        return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * last 다음에 entries를 이어 씀
+     */
+    public static Encoded append(byte[] data, State last, List<ProductHistoryEntry> entries) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length + entries.size() * 8);
+        output.writeBytes(data);
+
+        State state = last;
+        for (ProductHistoryEntry entry : entries) {
+            State next = new State(entry.changedAt().toEpochMilli(), toUnscaledPrice(entry.price()), entry.stockQuantity());
+            writeVarLong(output, zigzag(next.changedAtMillis() - state.changedAtMillis()));
+            writeVarLong(output, zigzag(next.price() - state.price()));
+            writeVarLong(output, zigzag((long) next.stockQuantity() - state.stockQuantity()));
+            state = next;
+        }
+        return new Encoded(output.toByteArray(), state);
+    }
+
+    /**
+     * 구간 전체를 시각 순으로 복원
+     */
+    public static List<ProductHistoryEntry> decode(int period, byte[] data, int entryCount) {
+        List<ProductHistoryEntry> entries = new ArrayList<>(entryCount);
+        int[] position = {0};
+        long changedAt = periodStartMillis(period);
+        long price = 0;
+        long stock = 0;
+        while (position[0] < data.length) {
+            changedAt += unzigzag(readVarLong(data, position));
+            price += unzigzag(readVarLong(data, position));
+            stock += unzigzag(readVarLong(data, position));
+            entries.add(new ProductHistoryEntry(
+                    Instant.ofEpochMilli(changedAt), BigDecimal.valueOf(price, PRICE_SCALE), (int) stock));
+        }
+
+        // 여러 인스턴스가 같은 구간에 기록하면 순서가 조금 뒤섞일 수 있음 (대부분 이미 정렬되어 있어 선형 시간)
+        entries.sort(Comparator.comparing(ProductHistoryEntry::changedAt));
+        return entries;
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeVarLong(ByteArrayOutputStream output, long value) {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    static long readVarLong(byte[] data, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            if (position[0] >= data.length || shift > 63) {
+                throw new IllegalStateException("손상된 상품 이력 구간입니다.");
+            }
+            current = data[position[0]++];
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.domain.product.history;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 변경 시점의 가격 / 재고
+ */
+public record ProductHistoryEntry(Instant changedAt, BigDecimal price, int stockQuantity) {
+}
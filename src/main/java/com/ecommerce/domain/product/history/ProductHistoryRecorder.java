@@ -0,0 +1,208 @@
+package com.ecommerce.domain.product.history;
+
+import com.ecommerce.domain.product.entity.ProductHistoryChange;
+import com.ecommerce.domain.product.entity.ProductHistorySegment;
+import com.ecommerce.domain.product.event.ProductPriceStockChangedEvent;
+import com.ecommerce.domain.product.repository.ProductHistoryChangeRepository;
+import com.ecommerce.domain.product.repository.ProductHistorySegmentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 가격/재고 변경 이력 기록
+ *
+ * 변경은 상품 트랜잭션 안에서 모았다가 커밋 직전에 product_history_change에 JDBC 배치 INSERT 1번으로 저장하므로,
+ * 상품 변경과 함께 커밋되거나 함께 롤백된다. 주기적으로 이 행들을 batch-size 단위로 읽어 (상품, 월) 구간별로 추가하고,
+ * 같은 트랜잭션에서 삭제한다. 요청 스레드는 구간 갱신을 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductHistoryRecorder {
+
+    private static final Object PENDING_KEY = ProductHistoryRecorder.class.getName() + ".pending";
+    private static final String INSERT_CHANGE = """
+            INSERT INTO product_history_change (product_id, price, stock_quantity, changed_at)
+            VALUES (:productId, :price, :stockQuantity, :changedAt)
+            """;
+
+    private final ProductHistoryChangeRepository changeRepository;
+    private final ProductHistorySegmentRepository segmentRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ProductHistoryRecorder(
+            ProductHistoryChangeRepository changeRepository,
+            ProductHistorySegmentRepository segmentRepository,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.product.history.batch-size:500}") int batchSize
+    ) {
+        this.changeRepository = changeRepository;
+        this.segmentRepository = segmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    private record SegmentKey(Long productId, int period) {
+    }
+
+    @EventListener
+    public void onPriceStockChanged(ProductPriceStockChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeTransaction.executeWithoutResult(status -> stage(List.of(event)));
+            return;
+        }
+        pendingChanges().add(event);
+    }
+
+    /**
+     * 저장된 변경을 batch-size 단위로 구간에 옮김. 다른 인스턴스와 충돌하면 남은 변경은 다음 주기에 처리
+     */
+    @Scheduled(fixedDelayString = "${app.product.history.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            while (writeBatch() == batchSize) {
+                // 남은 변경이 있을 수 있으므로 계속
+            }
+        } catch (DataAccessException e) {
+            // 낙관적 잠금 / 유니크 제약 충돌 또는 다른 인스턴스가 먼저 처리: 롤백되었으므로 다음 주기에 재시도
+            log.warn("상품 이력 기록 실패, 다음 주기에 재시도: 원인={}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void stage(Collection<ProductPriceStockChangedEvent> events) {
+        SqlParameterSource[] params = events.stream()
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("productId", event.productId())
+                        .addValue("price", event.price())
+                        .addValue("stockQuantity", event.stockQuantity())
+                        .addValue("changedAt", event.changedAt().toEpochMilli()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, params);
+    }
+
+    /**
+     * 가장 오래된 변경부터 한 배치를 구간에 추가하고 삭제
+     *
+     * @return 처리한 변경 수
+     */
+    private int writeBatch() {
+        Integer written = writeTransaction.execute(status -> {
+            List<ProductHistoryChange> changes = changeRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (changes.isEmpty()) {
+                return 0;
+            }
+
+            // 먼저 삭제해 행을 선점하고, 다른 인스턴스가 이미 옮긴 행이 있으면 이번 배치 전체를 롤백
+            List<Long> ids = changes.stream().map(ProductHistoryChange::getId).toList();
+            if (changeRepository.deleteByIdIn(ids) != ids.size()) {
+                throw new OptimisticLockingFailureException("다른 인스턴스가 상품 이력 변경을 먼저 기록했습니다.");
+            }
+
+            Map<SegmentKey, List<ProductHistoryEntry>> grouped = new LinkedHashMap<>();
+            changes.stream()
+                    .sorted(Comparator.comparingLong(ProductHistoryChange::getChangedAt))
+                    .forEach(change -> {
+                        ProductHistoryEntry entry = change.toEntry();
+                        grouped.computeIfAbsent(
+                                new SegmentKey(change.getProductId(), ProductHistoryCodec.periodOf(entry.changedAt())),
+                                key -> new ArrayList<>()).add(entry);
+                    });
+            append(grouped);
+            log.debug("상품 이력 기록: 변경={}건, 구간={}개", changes.size(), grouped.size());
+            return changes.size();
+        });
+        return written != null ? written : 0;
+    }
+
+    private void append(Map<SegmentKey, List<ProductHistoryEntry>> grouped) {
+        Set<Long> productIds = new HashSet<>();
+        Set<Integer> periods = new HashSet<>();
+        grouped.keySet().forEach(key -> {
+            productIds.add(key.productId());
+            periods.add(key.period());
+        });
+
+        Map<SegmentKey, ProductHistorySegment> segments = new HashMap<>();
+        segmentRepository.findByProductIdInAndPeriodIn(productIds, periods)
+                .forEach(segment -> segments.put(new SegmentKey(segment.getProductId(), segment.getPeriod()), segment));
+
+        List<ProductHistorySegment> created = new ArrayList<>();
+        grouped.forEach((key, entries) -> {
+            ProductHistorySegment segment = segments.get(key);
+            if (segment == null) {
+                segment = ProductHistorySegment.create(key.productId(), key.period());
+                created.add(segment);
+            }
+            segment.append(entries);
+        });
+        // 기존 구간은 변경 감지로 UPDATE
+        segmentRepository.saveAll(created);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductPriceStockChangedEvent> pendingChanges() {
+        List<ProductPriceStockChangedEvent> pending =
+                (List<ProductPriceStockChangedEvent>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending != null) {
+            return pending;
+        }
+
+        List<ProductPriceStockChangedEvent> newPending = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(PENDING_KEY, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                stage(newPending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+            }
+        });
+        return newPending;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,190 @@
+package com.ecommerce.domain.product.image;
+
+import com.ecommerce.domain.product.event.ProductChangedEvent;
+import com.ecommerce.domain.product.repository.ProductImageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 이미지 축소본 생성
+ *
+ * 상품 변경 커밋 후 축소 이미지가 없는 원본 URL을 고정 크기 작업 풀에 넘겨 다운로드 → 축소 → {@link ImageStore} 저장 후
+ * 같은 URL을 쓰는 모든 이미지 행에 키를 기록한다. 큐가 가득 차면 요청 스레드를 막지 않고 버리며,
+ * 버려지거나 실패한 URL은 주기적으로 다시 훑어 처리한다 (실패한 URL은 retry-delay 동안 건너뜀).
+ */
+@Slf4j
+@Component
+public class ImageDerivativeService {
+
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final ProductImageRepository productImageRepository;
+    private final ImageSourceFetcher sourceFetcher;
+    private final ImageDerivativeGenerator derivativeGenerator;
+    private final ImageStore imageStore;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ThreadPoolExecutor executor;
+    private final long retryDelayMillis;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> retryAfterMillis = new ConcurrentHashMap<>();
+
+    public ImageDerivativeService(
+            ProductImageRepository productImageRepository,
+            ImageSourceFetcher sourceFetcher,
+            ImageDerivativeGenerator derivativeGenerator,
+            ImageStore imageStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.image.workers:2}") int workers,
+            @Value("${app.image.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.image.retry-delay:10m}") Duration retryDelay
+    ) {
+        this.productImageRepository = productImageRepository;
+        this.sourceFetcher = sourceFetcher;
+        this.derivativeGenerator = derivativeGenerator;
+        this.imageStore = imageStore;
+        this.retryDelayMillis = retryDelay.toMillis();
+
+        // 커밋 이후(AFTER_COMMIT)와 작업 스레드에서도 쓸 수 있도록 항상 새 트랜잭션 사용
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 디코딩/리사이즈는 CPU와 힙을 많이 쓰므로 작업 수와 대기열 모두 고정
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-derivative-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.productIds().isEmpty()) {
+            return;
+        }
+        List<String> imageUrls = readTransaction.execute(status ->
+                productImageRepository.findUrlsWithoutDerivatives(event.productIds()));
+        if (imageUrls != null) {
+            imageUrls.forEach(this::submit);
+        }
+    }
+
+    /**
+     * 이벤트 유실(큐 초과, 재기동)이나 실패로 축소 이미지가 없는 URL을 다시 작업 큐에 넣음
+     */
+    @Scheduled(fixedDelayString = "${app.image.sweep-interval-ms:60000}",
+            initialDelayString = "${app.image.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        retryAfterMillis.values().removeIf(retryAfter -> retryAfter <= now);
+
+        String afterUrl = "";
+        List<String> batch;
+        do {
+            String from = afterUrl;
+            batch = readTransaction.execute(status -> productImageRepository
+                    .findUrlsWithoutDerivativesAfter(from, PageRequest.of(0, SWEEP_BATCH_SIZE)));
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            for (String imageUrl : batch) {
+                if (executor.getQueue().remainingCapacity() == 0) {
+                    return;
+                }
+                submit(imageUrl);
+            }
+            afterUrl = batch.getLast();
+        } while (batch.size() == SWEEP_BATCH_SIZE);
+    }
+
+    void submit(String imageUrl) {
+        Long retryAfter = retryAfterMillis.get(imageUrl);
+        if (retryAfter != null && retryAfter > System.currentTimeMillis()) {
+            return;
+        }
+        if (!inFlight.add(imageUrl)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> process(imageUrl));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(imageUrl);
+            log.warn("이미지 축소 대기열 초과, 다음 재시도 주기에 처리: url={}", imageUrl);
+        }
+    }
+
+    private void process(String imageUrl) {
+        long startedAt = System.nanoTime();
+        try {
+            String[] keys = existingKeys(imageUrl);
+            if (keys == null) {
+                Map<ImageVariant, byte[]> derivatives = derivativeGenerator.generate(sourceFetcher.fetch(imageUrl));
+                keys = new String[]{
+                        imageStore.put(derivatives.get(ImageVariant.THUMBNAIL)),
+                        imageStore.put(derivatives.get(ImageVariant.MEDIUM))
+                };
+            }
+
+            String thumbnailKey = keys[0];
+            String mediumKey = keys[1];
+            Integer updated = writeTransaction.execute(status ->
+                    productImageRepository.updateDerivativeKeys(imageUrl, thumbnailKey, mediumKey));
+            retryAfterMillis.remove(imageUrl);
+            log.debug("이미지 축소 완료: url={}, 이미지 행={}, 소요={}ms",
+                    imageUrl, updated, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            retryAfterMillis.put(imageUrl, System.currentTimeMillis() + retryDelayMillis);
+            log.warn("이미지 축소 실패: url={}, 원인={}", imageUrl, e.getMessage());
+        } finally {
+            inFlight.remove(imageUrl);
+        }
+    }
+
+    // 같은 원본 URL로 이미 만들어 둔 키가 있으면 다시 다운로드하지 않음
+    private String[] existingKeys(String imageUrl) {
+        List<Object[]> rows = readTransaction.execute(status ->
+                productImageRepository.findDerivativeKeys(imageUrl, PageRequest.of(0, 1)));
+        if (rows == null || rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.getFirst();
+        return new String[]{(String) row[0], (String) row[1]};
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            // 남은 작업은 다음 기동 후 재시도 주기에 처리됨
+            executor.shutdownNow();
+        }
+    }
+}
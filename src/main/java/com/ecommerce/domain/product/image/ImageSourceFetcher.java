@@ -0,0 +1,205 @@
+package com.ecommerce.domain.product.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 상품 이미지 원본 다운로드
+ *
+ * 이미지 URL은 판매자가 입력하므로 서버가 대신 요청을 보내는 경로(SSRF)가 된다.
+ * http/https만 허용하고, 호스트를 조회해 루프백 / 링크 로컬(메타데이터 서버) / 사설 대역이면 요청하지 않는다.
+ * 리다이렉트는 자동으로 따라가지 않고 매 단계 주소를 다시 확인하며,
+ * 본문까지 포함한 전체 다운로드에 download-timeout 기한과 크기 상한을 두어 느리거나 거대한 원본이 작업 스레드를 붙잡지 않도록 한다.
+ */
+@Component
+public class ImageSourceFetcher {
+
+    private static final int MAX_REDIRECTS = 3;
+
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final long maxBytes;
+
+    public ImageSourceFetcher(
+            @Value("${app.image.download-timeout:5s}") Duration timeout,
+            @Value("${app.image.max-source-bytes:10MB}") DataSize maxSourceBytes
+    ) {
+        this.timeout = timeout;
+        this.maxBytes = maxSourceBytes.toBytes();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    public byte[] fetch(String imageUrl) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        URI uri = parse(imageUrl);
+        for (int redirects = 0; ; redirects++) {
+            checkPublicHost(uri);
+            HttpResponse<byte[]> response = send(uri, deadline);
+            int status = response.statusCode();
+            if (status == 200) {
+                return response.body();
+            }
+            if (status < 300 || status >= 400 || redirects == MAX_REDIRECTS) {
+                throw new IOException("이미지 다운로드 실패: status=" + status + ", url=" + uri);
+            }
+            String location = response.headers().firstValue("Location")
+                    .orElseThrow(() -> new IOException("리다이렉트 위치가 없습니다: url=" + imageUrl));
+            uri = parse(uri.resolve(location).toString());
+        }
+    }
+
+    /**
+     * 남은 기한 안에 응답을 본문까지 받음 (200이 아니면 본문은 버림)
+     */
+    private HttpResponse<byte[]> send(URI uri, long deadline) throws IOException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new IOException("이미지 다운로드 시간 초과: " + uri);
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofNanos(remaining)).GET().build();
+        CompletableFuture<HttpResponse<byte[]>> response = httpClient.sendAsync(request, info -> info.statusCode() == 200
+                ? new LimitedBodySubscriber(maxBytes)
+                : HttpResponse.BodySubscribers.replacing(null));
+        try {
+            return response.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            response.cancel(true);
+            throw new IOException("이미지 다운로드 시간 초과: " + uri, e);
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 다운로드가 중단되었습니다: " + uri, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("이미지 다운로드 실패: " + uri, e.getCause());
+        }
+    }
+
+    private static URI parse(String imageUrl) throws IOException {
+        URI uri;
+        try {
+            uri = URI.create(imageUrl);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("잘못된 이미지 URL입니다: " + imageUrl, e);
+        }
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())
+                || uri.getHost() == null) {
+            throw new IOException("지원하지 않는 이미지 URL입니다: " + imageUrl);
+        }
+        return uri;
+    }
+
+    /**
+     * 호스트가 가리키는 모든 주소가 공인 주소인지 확인
+     * (DNS 응답이 요청 직전에 바뀌는 경우까지 막으려면 사설 대역으로 나가는 트래픽을 네트워크에서도 차단해야 함)
+     */
+    static void checkPublicHost(URI uri) throws IOException {
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(uri.getHost());
+        } catch (UnknownHostException e) {
+            throw new IOException("이미지 호스트를 찾을 수 없습니다: " + uri.getHost(), e);
+        }
+        for (InetAddress address : addresses) {
+            if (!isPublic(address)) {
+                throw new IOException("내부 주소의 이미지는 가져올 수 없습니다: " + uri.getHost());
+            }
+        }
+    }
+
+    static boolean isPublic(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            // 100.64.0.0/10 (CGNAT)
+            return !((bytes[0] & 0xFF) == 100 && (bytes[1] & 0xC0) == 64);
+        }
+        if (address instanceof Inet6Address) {
+            // fc00::/7 (ULA)
+            return (bytes[0] & 0xFE) != 0xFC;
+        }
+        return true;
+    }
+
+    /**
+     * 받은 크기가 상한을 넘으면 즉시 연결을 끊는 본문 수신기
+     */
+    private static final class LimitedBodySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+
+        private final long maxBytes;
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private final CompletableFuture<byte[]> body = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        private LimitedBodySubscriber(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            if (body.isDone()) {
+                return;
+            }
+            for (ByteBuffer buffer : buffers) {
+                if (output.size() + (long) buffer.remaining() > maxBytes) {
+                    subscription.cancel();
+                    body.completeExceptionally(new IOException("이미지 원본이 너무 큽니다: 최대 " + maxBytes + " bytes"));
+                    return;
+                }
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.get(chunk);
+                output.write(chunk, 0, chunk.length);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(output.toByteArray());
+        }
+
+        @Override
+        public CompletionStage<byte[]> getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ecommerce.domain.product.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소(content-addressed) 방식의 로컬 이미지 저장소
+ *
+ * 파일 이름이 내용의 SHA-256이므로 같은 이미지는 한 번만 저장되고, 한 번 쓴 파일은 바뀌지 않는다.
+ * 디렉터리 하나에 파일이 몰리지 않도록 해시 앞 4자리로 두 단계 하위 디렉터리를 만든다: ab/cd/abcd....jpg
+ */
+@Slf4j
+@Component
+public class ImageStore {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String EXTENSION = ".jpg";
+
+    private final Path root;
+
+    public ImageStore(@Value("${app.image.storage-dir:./data/images}") String storageDir) {
+        this.root = Path.of(storageDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 저장 디렉터리를 만들 수 없습니다: " + root, e);
+        }
+    }
+
+    /**
+     * 저장 후 키(SHA-256 hex) 반환. 이미 있으면 다시 쓰지 않음
+     */
+    public String put(byte[] content) throws IOException {
+        String key = sha256(content);
+        Path target = pathOf(key);
+        if (Files.exists(target)) {
+            return key;
+        }
+
+        // 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 옮겨, 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+        try {
+            Files.write(temp, content);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target);
+            }
+        } catch (FileAlreadyExistsException e) {
+            log.debug("동시에 같은 이미지가 저장됨: {}", key);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return key;
+    }
+
+    /**
+     * 키에 해당하는 파일. 형식이 잘못된 키(경로 조작 등)나 없는 파일이면 empty
+     */
+    public Optional<Path> find(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key + EXTENSION);
+    }
+
+    static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
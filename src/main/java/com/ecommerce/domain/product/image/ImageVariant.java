@@ -0,0 +1,19 @@
+package com.ecommerce.domain.product.image;
+
+/**
+ * 원본 이미지에서 만드는 파생 이미지 종류 (긴 변 기준 최대 크기, 원본보다 크게 늘리지 않음)
+ */
+public enum ImageVariant {
+    THUMBNAIL(200),
+    MEDIUM(640);
+
+    private final int maxSize;
+
+    ImageVariant(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,157 @@
+package com.ecommerce.domain.product.importer;
+
+import com.ecommerce.api.v1.product.dto.request.AddProductRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV를 레코드 단위로 읽는다 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프 지원)
+ *
+ * 첫 줄은 헤더이며 열 순서는 자유롭다: name, description, brand, price, stockQuantity, categoryNames, imageUrls
+ * categoryNames / imageUrls는 '|'로 구분한다.
+ */
+class CsvProductRowReader implements ProductRowReader {
+
+    private static final String VALUE_SEPARATOR = "\\|";
+
+    private final BufferedReader reader;
+    private Map<String, Integer> header;
+    private long lineNumber = 1;
+
+    CsvProductRowReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ParsedRow next() throws IOException {
+        if (header == null) {
+            List<String> names = readRecord();
+            if (names == null) {
+                return null;
+            }
+            header = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                header.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        List<String> record;
+        long rowNumber;
+        do {
+            rowNumber = lineNumber;
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.getFirst().isBlank());
+
+        try {
+            return ParsedRow.success(rowNumber, toRequest(record));
+        } catch (NumberFormatException e) {
+            return ParsedRow.failure(rowNumber, "숫자 형식 오류: " + e.getMessage());
+        }
+    }
+
+    private AddProductRequest toRequest(List<String> record) {
+        String price = column(record, "price");
+        String stockQuantity = column(record, "stockquantity");
+        return new AddProductRequest(
+                column(record, "name"),
+                column(record, "description"),
+                column(record, "brand"),
+                price != null ? new BigDecimal(price) : null,
+                stockQuantity != null ? Integer.valueOf(stockQuantity) : null,
+                values(column(record, "imageurls")),
+                values(column(record, "categorynames"))
+        );
+    }
+
+    private String column(List<String> record, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> values(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(VALUE_SEPARATOR))
+                .map(String::trim)
+                .filter(v -> !v.isEmpty())
+                .toList();
+    }
+
+    // 레코드 하나를 읽음. 입력이 끝났으면 null
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                lineNumber++;
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.domain.product.importer;
+
+import com.ecommerce.api.v1.product.dto.request.AddProductRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 한 줄에 상품 하나(JSON 객체)씩 읽는다. 줄 단위로 파싱하므로 잘못된 줄이 있어도 다음 줄부터 계속 읽는다
+ */
+class NdjsonProductRowReader implements ProductRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long lineNumber;
+
+    NdjsonProductRowReader(InputStream inputStream, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectReader = objectMapper.readerFor(AddProductRequest.class);
+    }
+
+    @Override
+    public ParsedRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                return ParsedRow.success(lineNumber, objectReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                return ParsedRow.failure(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
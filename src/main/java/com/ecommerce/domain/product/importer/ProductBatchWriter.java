@@ -0,0 +1,100 @@
+package com.ecommerce.domain.product.importer;
+
+import com.ecommerce.api.v1.product.dto.request.AddProductRequest;
+import com.ecommerce.domain.product.entity.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 등록용 JDBC 배치 INSERT
+ *
+ * 상품/이미지 ID가 IDENTITY 전략이라 Hibernate는 INSERT를 배치로 묶지 못하므로,
+ * JDBC batch로 보내고 생성된 키를 한 번에 돌려받는다. 호출자의 트랜잭션 안에서 실행된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBatchWriter {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 상품을 입력 순서대로 추가하고 생성된 ID를 같은 순서로 반환
+     */
+    public List<Long> insertProducts(List<AddProductRequest> requests, LocalDateTime now) {
+        SqlParameterSource[] params = requests.stream()
+                .map(request -> new MapSqlParameterSource()
+                        .addValue("name", request.name())
+                        .addValue("description", request.description())
+                        .addValue("price", request.price())
+                        .addValue("stockQuantity", request.stockQuantity())
+                        .addValue("brand", request.brand())
+                        .addValue("status", ProductStatus.ACTIVE.name())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO products (name, description, price, stock_quantity, brand, is_deleted, status, created_at, updated_at)
+                VALUES (:name, :description, :price, :stockQuantity, :brand, FALSE, :status, :now, :now)
+                """, params, keyHolder, new String[]{"id"});
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    /**
+     * 첫 번째 이미지를 메인으로 추가 (ProductImageService와 동일한 규칙)
+     */
+    public void insertImages(List<Long> productIds, List<AddProductRequest> requests, LocalDateTime now) {
+        List<SqlParameterSource> params = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            List<String> imageUrls = requests.get(i).imageUrls();
+            if (imageUrls == null) {
+                continue;
+            }
+            for (int j = 0; j < imageUrls.size(); j++) {
+                params.add(new MapSqlParameterSource()
+                        .addValue("productId", productIds.get(i))
+                        .addValue("imageUrl", imageUrls.get(j))
+                        .addValue("isMain", j == 0)
+                        .addValue("displayOrder", j)
+                        .addValue("now", now));
+            }
+        }
+        if (params.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO product_images (product_id, image_url, is_main, display_order, created_at, updated_at)
+                VALUES (:productId, :imageUrl, :isMain, :displayOrder, :now, :now)
+                """, params.toArray(SqlParameterSource[]::new));
+    }
+
+    public void insertCategoryLinks(List<Long> productIds, List<AddProductRequest> requests, Map<String, Long> categoryIds) {
+        List<SqlParameterSource> params = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            // 대소문자만 다른 이름은 같은 카테고리이므로 ID로 중복 제거
+            for (Long categoryId : requests.get(i).categoryNames().stream().map(categoryIds::get).distinct().toList()) {
+                params.add(new MapSqlParameterSource()
+                        .addValue("productId", productIds.get(i))
+                        .addValue("categoryId", categoryId));
+            }
+        }
+        if (params.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_category (product_id, category_id) VALUES (:productId, :categoryId)",
+                params.toArray(SqlParameterSource[]::new));
+    }
+}
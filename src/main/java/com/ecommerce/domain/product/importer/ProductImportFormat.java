@@ -0,0 +1,39 @@
+package com.ecommerce.domain.product.importer;
+
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+
+/**
+ * 대량 등록 입력 형식 (요청 Content-Type으로 결정)
+ */
+public enum ProductImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    public static ProductImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+                return NDJSON;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+                return CSV;
+            }
+        }
+        throw new ServiceException(ErrorCode.UNSUPPORTED_IMPORT_FORMAT);
+    }
+
+    public ProductRowReader open(InputStream inputStream, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new NdjsonProductRowReader(inputStream, objectMapper);
+            case CSV -> new CsvProductRowReader(inputStream);
+        };
+    }
+}
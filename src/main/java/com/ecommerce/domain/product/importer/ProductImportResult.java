@@ -0,0 +1,21 @@
+package com.ecommerce.domain.product.importer;
+
+import java.util.List;
+
+/**
+ * 대량 등록 결과
+ *
+ * errors는 최대 max-errors 건까지만 담고, 넘치면 errorsTruncated가 true
+ */
+public record ProductImportResult(
+        long totalRows,
+        long importedRows,
+        long failedRows,
+        List<RowError> errors,
+        boolean errorsTruncated,
+        boolean completed
+) {
+
+    public record RowError(long row, String message) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.domain.product.importer;
+
+import com.ecommerce.api.v1.product.dto.request.AddProductRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 입력 스트림에서 상품 행을 하나씩 읽는다 (전체를 메모리에 올리지 않음)
+ */
+public interface ProductRowReader extends Closeable {
+
+    /**
+     * 다음 행. 입력이 끝나면 null
+     */
+    ParsedRow next() throws IOException;
+
+    /**
+     * 파싱 결과. 형식 오류가 있으면 request 대신 error가 채워진다
+     */
+    record ParsedRow(long rowNumber, AddProductRequest request, String error) {
+
+        static ParsedRow success(long rowNumber, AddProductRequest request) {
+            return new ParsedRow(rowNumber, request, null);
+        }
+
+        static ParsedRow failure(long rowNumber, String error) {
+            return new ParsedRow(rowNumber, null, error);
+        }
+    }
+}
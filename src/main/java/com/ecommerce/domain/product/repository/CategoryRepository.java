@@ -2,10 +2,20 @@ package com.ecommerce.domain.product.repository;
 
 import com.ecommerce.domain.product.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     Optional<Category> findByName(String name);
-}
\ No newline at end of file
+
+    List<Category> findByNameIn(Collection<String> names);
+
+    // DB collation과 무관하게 대소문자를 무시하고 비교 (lowerNames는 소문자로 정규화한 이름)
+    @Query("SELECT c FROM Category c WHERE LOWER(c.name) IN :lowerNames")
+    List<Category> findByLowerNameIn(@Param("lowerNames") Collection<String> lowerNames);
+}
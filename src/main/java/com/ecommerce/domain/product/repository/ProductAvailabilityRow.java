@@ -0,0 +1,20 @@
+package com.ecommerce.domain.product.repository;
+
+import com.ecommerce.domain.product.entity.ProductStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 장바구니 재검증용 상품 조회 결과 (대표 이미지 포함, 상품/이미지를 엔티티로 읽지 않음)
+ */
+public record ProductAvailabilityRow(
+        Long productId,
+        String name,
+        BigDecimal price,
+        Integer stockQuantity,
+        ProductStatus status,
+        Boolean isDeleted,
+        String imageUrl,
+        String thumbnailKey
+) {
+}
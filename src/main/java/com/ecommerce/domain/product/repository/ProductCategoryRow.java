@@ -0,0 +1,11 @@
+package com.ecommerce.domain.product.repository;
+
+/**
+ * 상품-카테고리 연결 조회 결과 (검색 문서 갱신용)
+ */
+public record ProductCategoryRow(
+        Long productId,
+        Long categoryId,
+        String categoryName
+) {
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.domain.product.repository;
+
+import com.ecommerce.domain.product.entity.ProductHistoryChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductHistoryChangeRepository extends JpaRepository<ProductHistoryChange, Long> {
+
+    List<ProductHistoryChange> findAllByOrderByIdAsc(Pageable pageable);
+
+    // 삭제된 행 수로 다른 인스턴스가 먼저 옮겨 담았는지 확인
+    @Modifying
+    @Query("DELETE FROM ProductHistoryChange c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
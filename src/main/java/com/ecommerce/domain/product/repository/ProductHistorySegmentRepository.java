@@ -0,0 +1,16 @@
+package com.ecommerce.domain.product.repository;
+
+import com.ecommerce.domain.product.entity.ProductHistorySegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductHistorySegmentRepository extends JpaRepository<ProductHistorySegment, Long> {
+
+    List<ProductHistorySegment> findByProductIdAndPeriodBetweenOrderByPeriodAsc(Long productId, int fromPeriod, int toPeriod);
+
+    // 기록할 (상품, 구간) 후보를 한 번에 조회 (곱집합이라 필요 없는 행이 섞일 수 있음)
+    List<ProductHistorySegment> findByProductIdInAndPeriodIn(Collection<Long> productIds, Collection<Integer> periods);
+
+}
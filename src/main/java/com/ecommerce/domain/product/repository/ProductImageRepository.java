@@ -2,16 +2,53 @@ package com.ecommerce.domain.product.repository;
 
 import com.ecommerce.domain.product.entity.Product;
 import com.ecommerce.domain.product.entity.ProductImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
 
-    List<ProductImage> findByProductOrderByIsMainDescIdAsc(Product product);
-
-    void deleteByProduct(Product product);
+    List<ProductImage> findByProductOrderByDisplayOrderAscIdAsc(Product product);
 
     List<ProductImage> findByProductId(Long productId);
 
+    List<ProductImage> findByProductIdInOrderByDisplayOrderAscIdAsc(Collection<Long> productIds);
+
+    // 축소 이미지가 아직 없는 원본 URL (상품 변경 시)
+    @Query("""
+        SELECT DISTINCT i.imageUrl FROM ProductImage i
+        WHERE i.product.id IN :productIds AND i.thumbnailKey IS NULL
+        """)
+    List<String> findUrlsWithoutDerivatives(@Param("productIds") Collection<Long> productIds);
+
+    // 축소 이미지가 아직 없는 원본 URL (주기적 재시도, URL 순 keyset)
+    @Query("""
+        SELECT DISTINCT i.imageUrl FROM ProductImage i
+        WHERE i.thumbnailKey IS NULL AND i.imageUrl > :afterUrl
+        ORDER BY i.imageUrl
+        """)
+    List<String> findUrlsWithoutDerivativesAfter(@Param("afterUrl") String afterUrl, Pageable pageable);
+
+    // 같은 원본으로 이미 만들어 둔 축소 이미지 키 [thumbnailKey, mediumKey]
+    @Query("""
+        SELECT i.thumbnailKey, i.mediumKey FROM ProductImage i
+        WHERE i.imageUrl = :imageUrl AND i.thumbnailKey IS NOT NULL
+        """)
+    List<Object[]> findDerivativeKeys(@Param("imageUrl") String imageUrl, Pageable pageable);
+
+    // 같은 원본 URL을 쓰는 모든 이미지에 축소 이미지 키 반영
+    @Modifying
+    @Query("""
+        UPDATE ProductImage i SET i.thumbnailKey = :thumbnailKey, i.mediumKey = :mediumKey
+        WHERE i.imageUrl = :imageUrl AND i.thumbnailKey IS NULL
+        """)
+    int updateDerivativeKeys(@Param("imageUrl") String imageUrl,
+                             @Param("thumbnailKey") String thumbnailKey,
+                             @Param("mediumKey") String mediumKey);
+
 }
@@ -3,12 +3,11 @@ package com.ecommerce.domain.product.repository;
 import com.ecommerce.domain.product.entity.Product;
 import com.ecommerce.domain.product.entity.ProductStatus;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -32,26 +31,36 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findOutOfStockProducts();
 
 
+    // 검색 문서 갱신용 카테고리 일괄 조회
     @Query("""
-        SELECT p FROM Product p 
-        LEFT JOIN p.category c 
-        WHERE (:keyword IS NULL OR p.name LIKE %:keyword% OR p.description LIKE %:keyword%)
-        AND (:category IS NULL OR c.name = :category)
-        AND (:brand IS NULL OR p.brand = :brand)
-        AND (:minPrice IS NULL OR p.price >= :minPrice)
-        AND (:maxPrice IS NULL OR p.price <= :maxPrice)
-        AND (:inStock IS NULL OR :inStock = false OR p.stockQuantity > 0)
-        AND (:status IS NULL OR p.status = :status)
+        SELECT new com.ecommerce.domain.product.repository.ProductCategoryRow(p.id, c.id, c.name)
+        FROM Product p JOIN p.category c
+        WHERE p.id IN :productIds
         """)
-    Slice<Product> findProductsWithConditions(
-            @Param("keyword") String keyword,
-            @Param("category") String category,
-            @Param("brand") String brand,
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice,
-            @Param("inStock") Boolean inStock,
-            @Param("status") ProductStatus status,
-            Pageable pageable
-    );
+    List<ProductCategoryRow> findCategoryRowsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT p.id FROM Product p WHERE p.isDeleted = false AND p.id > :afterId ORDER BY p.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 비로그인 장바구니 병합 시 삭제되지 않은 상품만 골라냄
+    @Query("SELECT p.id FROM Product p WHERE p.isDeleted = false AND p.id IN :ids")
+    List<Long> findActiveIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 한정 판매 입장 주기마다 판매 중인 상품의 재고만 조회: [id, stockQuantity]
+    @Query("""
+        SELECT p.id, p.stockQuantity FROM Product p
+        WHERE p.id IN :ids AND p.isDeleted = false
+          AND p.status = com.ecommerce.domain.product.entity.ProductStatus.ACTIVE
+        """)
+    List<Object[]> findSellableStockByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 장바구니 재검증: 가격/재고/상태와 대표 이미지를 한 번에 조회
+    @Query("""
+        SELECT new com.ecommerce.domain.product.repository.ProductAvailabilityRow(
+            p.id, p.name, p.price, p.stockQuantity, p.status, p.isDeleted, img.imageUrl, img.thumbnailKey)
+        FROM Product p LEFT JOIN p.images img ON img.isMain = true
+        WHERE p.id IN :ids
+        """)
+    List<ProductAvailabilityRow> findAvailabilityRows(@Param("ids") Collection<Long> ids);
 
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.ecommerce.domain.product.repository;
+
+import com.ecommerce.api.v1.product.dto.request.ProductSearchCondition;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 검색 조건을 JPQL로 변환
+ *
+ * 값이 지정된 조건만 WHERE 절에 넣고, 같은 조건 조합(비트마스크)과 정렬에 대해서는 만들어 둔 쿼리 문자열을 재사용한다.
+ * 쿼리 모양이 조합마다 고정되므로 Hibernate 쿼리 플랜 캐시와 DB 실행 계획 캐시가 그대로 적중한다.
+ */
+@Component
+public class ProductSearchQueryCompiler {
+
+    static final int KEYWORD = 1;
+    static final int CATEGORY = 1 << 1;
+    static final int BRAND = 1 << 2;
+    static final int MIN_PRICE = 1 << 3;
+    static final int MAX_PRICE = 1 << 4;
+    static final int IN_STOCK = 1 << 5;
+    static final int STATUS = 1 << 6;
+
+    // 정렬 허용 필드 (임의 필드로 정렬하면 인덱스를 타지 못하고 쿼리 모양도 무한히 늘어남)
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(
+            "createdAt", "updatedAt", "price", "name", "stockQuantity"
+    );
+
+    public record CompiledQuery(String jpql, Map<String, Object> parameters) {
+    }
+
+    private record Shape(int mask, Sort sort) {
+    }
+
+    private final Map<Shape, String> shapes = new ConcurrentHashMap<>();
+
+    public CompiledQuery compile(ProductSearchCondition condition, Sort sort) {
+        validateSort(sort);
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        int mask = 0;
+
+        if (condition.keyword() != null && !condition.keyword().isBlank()) {
+            mask |= KEYWORD;
+            parameters.put("keyword", "%" + condition.keyword().trim() + "%");
+        }
+        if (condition.category() != null && !condition.category().isBlank()) {
+            mask |= CATEGORY;
+            parameters.put("category", condition.category());
+        }
+        if (condition.brand() != null && !condition.brand().isBlank()) {
+            mask |= BRAND;
+            parameters.put("brand", condition.brand());
+        }
+        if (condition.minPrice() != null) {
+            mask |= MIN_PRICE;
+            parameters.put("minPrice", condition.minPrice());
+        }
+        if (condition.maxPrice() != null) {
+            mask |= MAX_PRICE;
+            parameters.put("maxPrice", condition.maxPrice());
+        }
+        // inStock=false는 "재고 무관"이므로 조건을 넣지 않음
+        if (Boolean.TRUE.equals(condition.inStock())) {
+            mask |= IN_STOCK;
+        }
+        if (condition.status() != null) {
+            mask |= STATUS;
+            parameters.put("status", condition.status());
+        }
+
+        String jpql = shapes.computeIfAbsent(new Shape(mask, sort), ProductSearchQueryCompiler::build);
+        return new CompiledQuery(jpql, parameters);
+    }
+
+    int cachedShapeCount() {
+        return shapes.size();
+    }
+
+    private static String build(Shape shape) {
+        int mask = shape.mask();
+        StringBuilder jpql = new StringBuilder("SELECT d FROM ProductSearchDocument d");
+
+        // 카테고리 조건이 있을 때만 카테고리 테이블을 조인 (카테고리명은 유일하므로 행이 늘어나지 않음)
+        if ((mask & CATEGORY) != 0) {
+            jpql.append(" JOIN d.categories c");
+        }
+
+        StringBuilder where = new StringBuilder();
+        appendIf(where, mask, KEYWORD, "(d.name LIKE :keyword OR d.description LIKE :keyword)");
+        appendIf(where, mask, CATEGORY, "c.name = :category");
+        appendIf(where, mask, BRAND, "d.brand = :brand");
+        appendIf(where, mask, MIN_PRICE, "d.price >= :minPrice");
+        appendIf(where, mask, MAX_PRICE, "d.price <= :maxPrice");
+        appendIf(where, mask, IN_STOCK, "d.stockQuantity > 0");
+        appendIf(where, mask, STATUS, "d.status = :status");
+
+        if (!where.isEmpty()) {
+            jpql.append(" WHERE ").append(where);
+        }
+
+        jpql.append(" ORDER BY ");
+        for (Sort.Order order : shape.sort()) {
+            jpql.append("d.").append(order.getProperty())
+                    .append(order.isAscending() ? " ASC" : " DESC")
+                    .append(", ");
+        }
+        // 같은 값이 많은 정렬 기준에서도 페이지 경계가 흔들리지 않도록 ID를 마지막 기준으로 사용
+        jpql.append("d.id DESC");
+
+        return jpql.toString();
+    }
+
+    private static void appendIf(StringBuilder where, int mask, int flag, String predicate) {
+        if ((mask & flag) == 0) {
+            return;
+        }
+        if (!where.isEmpty()) {
+            where.append(" AND ");
+        }
+        where.append(predicate);
+    }
+
+    private static void validateSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.domain.product.repository;
+
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 상품 검색 읽기 모델 저장소. 조건 검색은 {@link ProductSearchRepositoryImpl}에서 조건별 쿼리를 생성
+ */
+public interface ProductSearchRepository extends JpaRepository<ProductSearchDocument, Long>, ProductSearchRepositoryCustom {
+
+    // 패싯 인덱스 적재용 (ID 기준 keyset)
+    List<ProductSearchDocument> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.domain.product.repository;
+
+import com.ecommerce.api.v1.product.dto.request.ProductSearchCondition;
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface ProductSearchRepositoryCustom {
+
+    Slice<ProductSearchDocument> search(ProductSearchCondition condition, Pageable pageable);
+}
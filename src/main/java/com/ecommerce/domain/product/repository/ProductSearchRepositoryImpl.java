@@ -0,0 +1,40 @@
+package com.ecommerce.domain.product.repository;
+
+import com.ecommerce.api.v1.product.dto.request.ProductSearchCondition;
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
+import com.ecommerce.domain.product.repository.ProductSearchQueryCompiler.CompiledQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProductSearchRepositoryImpl implements ProductSearchRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final ProductSearchQueryCompiler queryCompiler;
+
+    @Override
+    public Slice<ProductSearchDocument> search(ProductSearchCondition condition, Pageable pageable) {
+        CompiledQuery compiled = queryCompiler.compile(condition, pageable.getSort());
+
+        TypedQuery<ProductSearchDocument> query = entityManager.createQuery(compiled.jpql(), ProductSearchDocument.class);
+        compiled.parameters().forEach(query::setParameter);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
+        List<ProductSearchDocument> content = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
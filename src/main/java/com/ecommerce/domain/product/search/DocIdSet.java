@@ -0,0 +1,214 @@
+package com.ecommerce.domain.product.search;
+
+import java.util.Arrays;
+
+/**
+ * 문서 번호(ordinal) 집합 - Roaring bitmap 방식
+ *
+ * 번호를 상위 16비트 단위 청크로 나누고, 청크마다 원소가 적으면 정렬된 char 배열,
+ * 많으면 (4096개 초과) 65536비트 비트맵으로 저장한다. 희소한 패싯 값(작은 브랜드)은 배열로,
+ * 밀집된 값(재고 있음, 큰 카테고리)은 비트맵으로 저장되어 메모리와 교집합 비용이 모두 작다.
+ *
+ * 교집합은 검색 조건을 펼친 밀집 비트맵(long[])과 계산한다.
+ * 스레드 안전하지 않으므로 {@link ProductFacetIndex}의 락 안에서만 사용한다.
+ */
+final class DocIdSet {
+
+    static final int CHUNK_BITS = 16;
+    static final int WORDS_PER_CHUNK = (1 << CHUNK_BITS) / Long.SIZE;
+
+    private static final int ARRAY_MAX_SIZE = 4096;
+
+    private Container[] containers = new Container[0];
+    private int cardinality;
+
+    boolean add(int ordinal) {
+        int chunk = ordinal >>> CHUNK_BITS;
+        if (chunk >= containers.length) {
+            containers = Arrays.copyOf(containers, chunk + 1);
+        }
+        Container container = containers[chunk];
+        if (container == null) {
+            container = containers[chunk] = new Container();
+        }
+        if (container.add((char) ordinal)) {
+            cardinality++;
+            return true;
+        }
+        return false;
+    }
+
+    boolean remove(int ordinal) {
+        int chunk = ordinal >>> CHUNK_BITS;
+        if (chunk >= containers.length || containers[chunk] == null) {
+            return false;
+        }
+        Container container = containers[chunk];
+        if (!container.remove((char) ordinal)) {
+            return false;
+        }
+        cardinality--;
+        if (container.cardinality() == 0) {
+            containers[chunk] = null;
+        }
+        return true;
+    }
+
+    boolean contains(int ordinal) {
+        int chunk = ordinal >>> CHUNK_BITS;
+        return chunk < containers.length && containers[chunk] != null && containers[chunk].contains((char) ordinal);
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 밀집 비트맵과의 교집합 크기 (새 배열을 만들지 않음)
+     */
+    int andCardinality(long[] words) {
+        int count = 0;
+        for (int chunk = 0; chunk < containers.length; chunk++) {
+            if (containers[chunk] != null) {
+                count += containers[chunk].andCardinality(words, chunk * WORDS_PER_CHUNK);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * words에 이 집합을 OR
+     */
+    void orInto(long[] words) {
+        for (int chunk = 0; chunk < containers.length; chunk++) {
+            if (containers[chunk] != null) {
+                containers[chunk].orInto(words, chunk * WORDS_PER_CHUNK);
+            }
+        }
+    }
+
+    /**
+     * 밀집 비트맵으로 펼침
+     */
+    long[] toWords(int wordCount) {
+        long[] words = new long[wordCount];
+        orInto(words);
+        return words;
+    }
+
+    private static final class Container {
+
+        // bitmap이 null이면 배열 모드
+        private char[] values = new char[4];
+        private int size;
+        private long[] bitmap;
+
+        boolean add(char low) {
+            if (bitmap != null) {
+                long before = bitmap[low >>> 6];
+                bitmap[low >>> 6] |= 1L << low;
+                if (before == bitmap[low >>> 6]) {
+                    return false;
+                }
+                size++;
+                return true;
+            }
+
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                return false;
+            }
+            if (size == ARRAY_MAX_SIZE) {
+                toBitmap();
+                return add(low);
+            }
+            int insertAt = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_MAX_SIZE));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = low;
+            size++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (bitmap != null) {
+                long before = bitmap[low >>> 6];
+                bitmap[low >>> 6] &= ~(1L << low);
+                if (before == bitmap[low >>> 6]) {
+                    return false;
+                }
+                size--;
+                return true;
+            }
+
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(char low) {
+            if (bitmap != null) {
+                return (bitmap[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        int cardinality() {
+            return size;
+        }
+
+        int andCardinality(long[] words, int wordOffset) {
+            if (wordOffset >= words.length) {
+                return 0;
+            }
+            int count = 0;
+            if (bitmap != null) {
+                int end = Math.min(WORDS_PER_CHUNK, words.length - wordOffset);
+                for (int i = 0; i < end; i++) {
+                    count += Long.bitCount(bitmap[i] & words[wordOffset + i]);
+                }
+                return count;
+            }
+            for (int i = 0; i < size; i++) {
+                int word = wordOffset + (values[i] >>> 6);
+                if (word < words.length && (words[word] & (1L << values[i])) != 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        void orInto(long[] words, int wordOffset) {
+            if (wordOffset >= words.length) {
+                return;
+            }
+            if (bitmap != null) {
+                int end = Math.min(WORDS_PER_CHUNK, words.length - wordOffset);
+                for (int i = 0; i < end; i++) {
+                    words[wordOffset + i] |= bitmap[i];
+                }
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                int word = wordOffset + (values[i] >>> 6);
+                if (word < words.length) {
+                    words[word] |= 1L << values[i];
+                }
+            }
+        }
+
+        private void toBitmap() {
+            bitmap = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < size; i++) {
+                bitmap[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.api.v1.product.dto.request.ProductSearchCondition;
+import com.ecommerce.domain.product.entity.ProductSearchCategory;
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
+import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.repository.ProductSearchRepository;
+import com.ecommerce.domain.product.search.ProductFacets.AvailabilityCount;
+import com.ecommerce.domain.product.search.ProductFacets.FacetCount;
+import com.ecommerce.domain.product.search.ProductFacets.PriceRangeCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 검색 패싯(브랜드 / 카테고리 / 가격대 / 재고) 집계용 메모리 인덱스
+ *
+ * 검색 문서마다 번호(ordinal)를 붙이고 패싯 값마다 해당 문서 번호 집합({@link DocIdSet})을 유지한다.
+ * 검색 조건을 비트맵으로 펼친 뒤 값별 집합과 교집합 개수만 세므로, 패싯마다 COUNT 쿼리를 보내지 않고
+ * 한 번의 메모리 연산으로 모든 패싯을 계산한다.
+ *
+ * 키워드는 이름/설명을 단어로 나눈 역색인(단어 -> 문서 번호 집합)으로 찾고 원문은 보관하지 않는다.
+ * 검색 쿼리의 LIKE '%키워드%'와 맞추기 위해 키워드 단어를 포함하는 색인 단어의 집합을 모두 합치며,
+ * 여러 단어로 된 키워드는 단어마다 일치하는 문서의 교집합으로 본다(단어 사이의 순서/인접 여부는 보지 않음).
+ * 가격 조건은 가격대 집합을 합쳐 계산하고, 조건 경계가 걸친 양 끝 가격대의 문서만 가격을 확인한다.
+ *
+ * 적재와 변경 반영 흐름은 {@link ProductSearchIndex}를 따른다.
+ * 삭제된 문서의 번호는 재사용하지 않으며 다음 전체 재적재 때 정리된다.
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex extends ProductSearchIndex<ProductFacetIndex.IndexedDoc, ProductFacetIndex.FacetState> {
+
+    private static final Pattern TERM_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final BigDecimal[] priceBoundaries;
+    private final int maxValues;
+
+    private FacetState state;
+
+    public ProductFacetIndex(
+            ProductSearchRepository productSearchRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.search.facet.price-boundaries:10000,30000,50000,100000,300000}") BigDecimal[] priceBoundaries,
+            @Value("${app.search.facet.max-values:20}") int maxValues
+    ) {
+        super(productSearchRepository, transactionManager);
+        this.priceBoundaries = priceBoundaries.clone();
+        Arrays.sort(this.priceBoundaries);
+        this.maxValues = maxValues;
+    }
+
+    @Override
+    protected IndexedDoc toEntry(ProductSearchDocument document) {
+        return IndexedDoc.from(document);
+    }
+
+    @Override
+    protected FacetState newState() {
+        return new FacetState(priceBoundaries);
+    }
+
+    @Override
+    protected void load(FacetState fresh, Long productId, IndexedDoc doc) {
+        fresh.upsert(doc);
+    }
+
+    @Override
+    protected void install(FacetState fresh) {
+        state = fresh;
+    }
+
+    @Override
+    protected void applyChanges(Map<Long, IndexedDoc> changes) {
+        apply(changes.values().stream().filter(Objects::nonNull).toList(), changes.keySet());
+    }
+
+    @Override
+    protected void loaded(FacetState fresh) {
+        log.info("상품 패싯 인덱스 적재 완료: {}건", fresh.liveCount());
+    }
+
+    /**
+     * 조건에 맞는 문서의 패싯 개수 계산. 인덱스 적재 전이면 빈 결과
+     */
+    public ProductFacets compute(ProductSearchCondition condition) {
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                return ProductFacets.empty();
+            }
+            return state.compute(condition, maxValues);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void apply(Collection<IndexedDoc> docs, Collection<Long> productIds) {
+        lock.writeLock().lock();
+        try {
+            if (state == null) {
+                state = new FacetState(priceBoundaries);
+            }
+            Set<Long> missing = new HashSet<>(productIds);
+            for (IndexedDoc doc : docs) {
+                state.upsert(doc);
+                missing.remove(doc.productId());
+            }
+            missing.forEach(state::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 소문자로 정규화한 뒤 문자/숫자가 아닌 문자로 나눈 단어 목록 (중복 제거)
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : TERM_DELIMITER.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    /**
+     * 인덱스에 보관하는 문서 요약 (이름/설명은 색인 해제용 단어 목록만 보관)
+     */
+    record IndexedDoc(
+            long productId,
+            String brand,
+            List<String> categories,
+            BigDecimal price,
+            boolean inStock,
+            ProductStatus status,
+            List<String> terms
+    ) {
+        static IndexedDoc from(ProductSearchDocument document) {
+            Set<String> terms = new LinkedHashSet<>(tokenize(document.getName()));
+            terms.addAll(tokenize(document.getDescription()));
+            return new IndexedDoc(
+                    document.getId(),
+                    document.getBrand(),
+                    document.getCategories().stream().map(ProductSearchCategory::getName).toList(),
+                    document.getPrice(),
+                    document.getStockQuantity() > 0,
+                    document.getStatus(),
+                    List.copyOf(terms)
+            );
+        }
+    }
+
+    static final class FacetState {
+
+        private final BigDecimal[] priceBoundaries;
+
+        private IndexedDoc[] docs = new IndexedDoc[1024];
+        private int size;
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+
+        private final DocIdSet alive = new DocIdSet();
+        private final DocIdSet inStock = new DocIdSet();
+        private final Map<String, DocIdSet> brands = new HashMap<>();
+        private final Map<String, DocIdSet> categories = new HashMap<>();
+        private final Map<String, DocIdSet> terms = new HashMap<>();
+        private final Map<ProductStatus, DocIdSet> statuses = new EnumMap<>(ProductStatus.class);
+        private final DocIdSet[] priceBuckets;
+
+        FacetState(BigDecimal[] priceBoundaries) {
+            this.priceBoundaries = priceBoundaries;
+            this.priceBuckets = new DocIdSet[priceBoundaries.length + 1];
+            for (int i = 0; i < priceBuckets.length; i++) {
+                priceBuckets[i] = new DocIdSet();
+            }
+        }
+
+        int liveCount() {
+            return alive.cardinality();
+        }
+
+        void upsert(IndexedDoc doc) {
+            Integer ordinal = ordinals.get(doc.productId());
+            if (ordinal == null) {
+                ordinal = size++;
+                if (ordinal == docs.length) {
+                    docs = Arrays.copyOf(docs, docs.length * 2);
+                }
+                ordinals.put(doc.productId(), ordinal);
+            } else {
+                unlink(ordinal, docs[ordinal]);
+            }
+            docs[ordinal] = doc;
+            link(ordinal, doc);
+        }
+
+        void remove(Long productId) {
+            Integer ordinal = ordinals.remove(productId);
+            if (ordinal == null) {
+                return;
+            }
+            unlink(ordinal, docs[ordinal]);
+            docs[ordinal] = null;
+        }
+
+        private void link(int ordinal, IndexedDoc doc) {
+            alive.add(ordinal);
+            if (doc.inStock()) {
+                inStock.add(ordinal);
+            }
+            brands.computeIfAbsent(doc.brand(), key -> new DocIdSet()).add(ordinal);
+            for (String category : doc.categories()) {
+                categories.computeIfAbsent(category, key -> new DocIdSet()).add(ordinal);
+            }
+            for (String term : doc.terms()) {
+                terms.computeIfAbsent(term, key -> new DocIdSet()).add(ordinal);
+            }
+            statuses.computeIfAbsent(doc.status(), key -> new DocIdSet()).add(ordinal);
+            priceBuckets[bucketOf(doc.price())].add(ordinal);
+        }
+
+        private void unlink(int ordinal, IndexedDoc doc) {
+            alive.remove(ordinal);
+            inStock.remove(ordinal);
+            removeFrom(brands, doc.brand(), ordinal);
+            for (String category : doc.categories()) {
+                removeFrom(categories, category, ordinal);
+            }
+            for (String term : doc.terms()) {
+                removeFrom(terms, term, ordinal);
+            }
+            statuses.get(doc.status()).remove(ordinal);
+            priceBuckets[bucketOf(doc.price())].remove(ordinal);
+        }
+
+        private static void removeFrom(Map<String, DocIdSet> sets, String value, int ordinal) {
+            DocIdSet set = sets.get(value);
+            if (set != null && set.remove(ordinal) && set.cardinality() == 0) {
+                sets.remove(value);
+            }
+        }
+
+        // 구간 [boundaries[i-1], boundaries[i])
+        private int bucketOf(BigDecimal price) {
+            int bucket = 0;
+            while (bucket < priceBoundaries.length && price.compareTo(priceBoundaries[bucket]) >= 0) {
+                bucket++;
+            }
+            return bucket;
+        }
+
+        ProductFacets compute(ProductSearchCondition condition, int maxValues) {
+            int wordCount = (size + Long.SIZE - 1) / Long.SIZE;
+
+            // 패싯이 아닌 조건 (상태, 키워드)
+            long[] base = alive.toWords(wordCount);
+            if (condition.status() != null) {
+                and(base, statuses.getOrDefault(condition.status(), new DocIdSet()).toWords(wordCount));
+            }
+            if (condition.keyword() != null && !condition.keyword().isBlank()) {
+                and(base, keywordFilter(condition.keyword(), wordCount));
+            }
+
+            // 패싯 조건 (지정되지 않으면 null)
+            long[] brandFilter = filterOf(brands, condition.brand(), wordCount);
+            long[] categoryFilter = filterOf(categories, condition.category(), wordCount);
+            long[] stockFilter = Boolean.TRUE.equals(condition.inStock()) ? inStock.toWords(wordCount) : null;
+            long[] priceFilter = condition.minPrice() != null || condition.maxPrice() != null
+                    ? priceFilter(condition.minPrice(), condition.maxPrice(), wordCount)
+                    : null;
+
+            // 각 패싯은 자기 조건을 뺀 나머지 조건으로 집계
+            long[] forBrand = intersect(base, categoryFilter, stockFilter, priceFilter);
+            long[] forCategory = intersect(base, brandFilter, stockFilter, priceFilter);
+            long[] forPrice = intersect(base, brandFilter, categoryFilter, stockFilter);
+            long[] forStock = intersect(base, brandFilter, categoryFilter, priceFilter);
+            long[] matched = intersect(forBrand, brandFilter);
+
+            List<PriceRangeCount> priceRanges = new ArrayList<>(priceBuckets.length);
+            for (int i = 0; i < priceBuckets.length; i++) {
+                priceRanges.add(new PriceRangeCount(
+                        i == 0 ? BigDecimal.ZERO : priceBoundaries[i - 1],
+                        i < priceBoundaries.length ? priceBoundaries[i] : null,
+                        priceBuckets[i].andCardinality(forPrice)
+                ));
+            }
+
+            long inStockCount = inStock.andCardinality(forStock);
+            return new ProductFacets(
+                    cardinality(matched),
+                    count(brands, forBrand, maxValues),
+                    count(categories, forCategory, maxValues),
+                    priceRanges,
+                    new AvailabilityCount(inStockCount, cardinality(forStock) - inStockCount)
+            );
+        }
+
+        private long[] filterOf(Map<String, DocIdSet> sets, String value, int wordCount) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            DocIdSet set = sets.get(value);
+            return set != null ? set.toWords(wordCount) : new long[wordCount];
+        }
+
+        // 키워드 단어마다 그 단어를 포함하는 색인 단어의 문서 집합을 합친 뒤, 단어끼리는 교집합
+        private long[] keywordFilter(String keyword, int wordCount) {
+            List<String> keywordTerms = tokenize(keyword);
+            if (keywordTerms.isEmpty()) {
+                return new long[wordCount];
+            }
+            long[] result = null;
+            for (String keywordTerm : keywordTerms) {
+                long[] words = new long[wordCount];
+                for (Map.Entry<String, DocIdSet> entry : terms.entrySet()) {
+                    if (entry.getKey().contains(keywordTerm)) {
+                        entry.getValue().orInto(words);
+                    }
+                }
+                if (result == null) {
+                    result = words;
+                } else {
+                    and(result, words);
+                }
+            }
+            return result;
+        }
+
+        // [minPrice, maxPrice]에 걸치는 가격대 집합을 합치고, 조건 경계가 가격대 안쪽에 있는 양 끝 가격대만 문서 가격 확인
+        private long[] priceFilter(BigDecimal minPrice, BigDecimal maxPrice, int wordCount) {
+            long[] words = new long[wordCount];
+            int from = minPrice != null ? bucketOf(minPrice) : 0;
+            int to = maxPrice != null ? bucketOf(maxPrice) : priceBuckets.length - 1;
+            if (from > to) {
+                return words;
+            }
+            for (int bucket = from; bucket <= to; bucket++) {
+                priceBuckets[bucket].orInto(words);
+            }
+
+            Predicate<IndexedDoc> inRange = doc -> (minPrice == null || doc.price().compareTo(minPrice) >= 0)
+                    && (maxPrice == null || doc.price().compareTo(maxPrice) <= 0);
+            BigDecimal fromLower = from == 0 ? BigDecimal.ZERO : priceBoundaries[from - 1];
+            if (minPrice != null && minPrice.compareTo(fromLower) > 0) {
+                retain(words, priceBuckets[from].toWords(wordCount), inRange);
+            }
+            // 가격대는 [하한, 상한)이므로 maxPrice가 든 가격대에는 maxPrice보다 비싼 문서가 섞일 수 있음
+            if (maxPrice != null) {
+                retain(words, priceBuckets[to].toWords(wordCount), inRange);
+            }
+            return words;
+        }
+
+        // words에 남아 있는 문서 중 candidates에 속하면서 조건을 만족하지 않는 문서를 제거
+        private void retain(long[] words, long[] candidates, Predicate<IndexedDoc> predicate) {
+            for (int w = 0; w < words.length; w++) {
+                long word = words[w] & candidates[w];
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    if (!predicate.test(docs[w * Long.SIZE + bit])) {
+                        words[w] &= ~(1L << bit);
+                    }
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private static List<FacetCount> count(Map<String, DocIdSet> sets, long[] filter, int maxValues) {
+            List<FacetCount> counts = new ArrayList<>();
+            for (Map.Entry<String, DocIdSet> entry : sets.entrySet()) {
+                int count = entry.getValue().andCardinality(filter);
+                if (count > 0) {
+                    counts.add(new FacetCount(entry.getKey(), count));
+                }
+            }
+            counts.sort(Comparator.comparingLong(FacetCount::count).reversed().thenComparing(FacetCount::value));
+            return counts.size() > maxValues ? List.copyOf(counts.subList(0, maxValues)) : counts;
+        }
+
+        private static long[] intersect(long[] base, long[]... filters) {
+            long[] result = base.clone();
+            for (long[] filter : filters) {
+                if (filter != null) {
+                    and(result, filter);
+                }
+            }
+            return result;
+        }
+
+        private static void and(long[] target, long[] other) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] &= other[i];
+            }
+        }
+
+        private static long cardinality(long[] words) {
+            long count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+    }
+}
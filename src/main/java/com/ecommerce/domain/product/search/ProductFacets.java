@@ -0,0 +1,33 @@
+package com.ecommerce.domain.product.search;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 검색 패싯 집계 결과
+ *
+ * 각 패싯의 개수는 자기 자신의 필터만 제외한 나머지 조건으로 계산한다.
+ * (브랜드를 하나 선택해도 다른 브랜드의 개수가 그대로 보여 선택을 바꿀 수 있음)
+ */
+public record ProductFacets(
+        long total,
+        List<FacetCount> brands,
+        List<FacetCount> categories,
+        List<PriceRangeCount> priceRanges,
+        AvailabilityCount availability
+) {
+
+    public record FacetCount(String value, long count) {
+    }
+
+    // max가 null이면 상한 없음
+    public record PriceRangeCount(BigDecimal min, BigDecimal max, long count) {
+    }
+
+    public record AvailabilityCount(long inStock, long outOfStock) {
+    }
+
+    public static ProductFacets empty() {
+        return new ProductFacets(0, List.of(), List.of(), List.of(), new AvailabilityCount(0, 0));
+    }
+}
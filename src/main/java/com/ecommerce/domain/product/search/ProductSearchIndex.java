@@ -0,0 +1,166 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
+import com.ecommerce.domain.product.event.ProductChangedEvent;
+import com.ecommerce.domain.product.repository.ProductSearchRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * product_search 문서로 만드는 메모리 인덱스의 공통 적재 / 갱신 흐름
+ *
+ * 기동 시 product_search 전체를 id 순으로 나눠 읽어 새 상태를 만든 뒤 쓰기 잠금 안에서 교체하고,
+ * 이후에는 상품 변경 커밋 후 바뀐 문서만 다시 읽어 반영한다. 적재 중에 바뀐 상품은 교체 후 다시 반영한다.
+ * 다른 인스턴스의 변경은 {@link ProductSearchIndexSync}가 전달한다.
+ *
+ * @param <E> 문서 한 건에서 인덱스에 보관하는 항목
+ * @param <S> 전체 적재로 새로 만드는 인덱스 상태
+ */
+public abstract class ProductSearchIndex<E, S> {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ProductSearchRepository productSearchRepository;
+    private final TransactionTemplate readTransaction;
+
+    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    protected ProductSearchIndex(ProductSearchRepository productSearchRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.productSearchRepository = productSearchRepository;
+
+        // 커밋 이후(AFTER_COMMIT)에도 조회할 수 있도록 항상 새 읽기 전용 트랜잭션 사용
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 검색 문서를 인덱스 항목으로 변환 (읽기 트랜잭션 안에서 호출, 인덱스 대상이 아니면 null)
+     */
+    protected abstract E toEntry(ProductSearchDocument document);
+
+    protected abstract S newState();
+
+    /**
+     * 새 상태에 항목 추가 (잠금 밖에서 호출)
+     */
+    protected abstract void load(S state, Long productId, E entry);
+
+    /**
+     * 적재를 마친 새 상태로 교체 (쓰기 잠금 안에서 호출)
+     */
+    protected abstract void install(S state);
+
+    /**
+     * 상품별 항목 교체 (값이 null이면 제거)
+     */
+    protected abstract void applyChanges(Map<Long, E> changes);
+
+    /**
+     * 교체 직전, 잠금 밖에서 새 상태를 마무리 (기본은 아무것도 하지 않음)
+     */
+    protected void complete(S state) {
+    }
+
+    /**
+     * 교체가 끝난 뒤 호출 (적재 결과 로그용)
+     */
+    protected abstract void loaded(S state);
+
+    /**
+     * product_search 전체를 새 상태로 적재한 뒤 교체 (검색 문서 초기 생성 이후 실행)
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        S fresh = newState();
+        try {
+            long afterId = 0L;
+            List<ProductSearchDocument> batch;
+            do {
+                long from = afterId;
+                Map<Long, E> entries = new HashMap<>();
+                batch = readTransaction.execute(status -> {
+                    List<ProductSearchDocument> documents = productSearchRepository
+                            .findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, LOAD_BATCH_SIZE));
+                    documents.forEach(document -> entries.put(document.getId(), toEntry(document)));
+                    return documents;
+                });
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+                entries.forEach((productId, entry) -> {
+                    if (entry != null) {
+                        load(fresh, productId, entry);
+                    }
+                });
+                afterId = batch.getLast().getId();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            complete(fresh);
+
+            lock.writeLock().lock();
+            try {
+                install(fresh);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = false;
+        }
+
+        // 적재 중 바뀐 문서는 교체된 인덱스에 다시 반영
+        if (!changedDuringRebuild.isEmpty()) {
+            Set<Long> changed = new HashSet<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+            refresh(changed);
+        }
+        loaded(fresh);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        refresh(event.productIds());
+    }
+
+    /**
+     * 주어진 상품의 검색 문서를 다시 읽어 인덱스에 반영 (문서가 없으면 제거)
+     */
+    public void refresh(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.addAll(productIds);
+        }
+        Map<Long, E> loaded = new HashMap<>();
+        readTransaction.executeWithoutResult(status -> productSearchRepository.findAllById(productIds)
+                .forEach(document -> loaded.put(document.getId(), toEntry(document))));
+
+        Map<Long, E> changes = new HashMap<>();
+        for (Long productId : productIds) {
+            changes.put(productId, loaded.get(productId));
+        }
+        applyChanges(changes);
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.domain.product.event.ProductChangedEvent;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 인스턴스 간 상품 검색 인덱스 동기화
+ *
+ * 상품 변경이 커밋되면 바뀐 상품 ID를 Redis pub/sub으로 알리고, 다른 인스턴스는 받은 ID로
+ * 각 {@link ProductSearchIndex}를 갱신한다 ({@link com.ecommerce.domain.product.category.CategoryDictionary}와 같은 방식).
+ * Redis를 쓸 수 없어 메시지를 놓치면 다른 인스턴스의 인덱스는 최대 rebuild-interval-ms 동안 어긋날 수 있으며,
+ * 그 주기마다 전체를 다시 적재해 맞춘다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndexSync implements MessageListener {
+
+    static final String CHANNEL = "product:search-changed";
+    private static final String ORIGIN_SEPARATOR = "|";
+    private static final String ID_SEPARATOR = ",";
+
+    private final List<ProductSearchIndex<?, ?>> indexes;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    // 자신이 보낸 메시지는 이미 로컬에서 반영했으므로 건너뜀
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public ProductSearchIndexSync(
+            List<ProductSearchIndex<?, ?>> indexes,
+            RedisTemplate<String, String> redisTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        this.indexes = indexes;
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 검색 문서가 커밋된 뒤 다른 인스턴스에 변경된 상품 ID를 알림
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.productIds().isEmpty()) {
+            return;
+        }
+        String payload = instanceId + ORIGIN_SEPARATOR + event.productIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(ID_SEPARATOR));
+        circuitBreaker.execute(() -> {
+            redisTemplate.convertAndSend(CHANNEL, payload);
+            return null;
+        }, () -> {
+            log.warn("Redis 사용 불가, 검색 인덱스 변경 알림 생략 (다음 주기 재적재 시 반영): ids={}", event.productIds());
+            return null;
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(ORIGIN_SEPARATOR);
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        List<Long> productIds = Arrays.stream(body.substring(separator + 1).split(ID_SEPARATOR))
+                .filter(id -> !id.isBlank())
+                .map(Long::valueOf)
+                .toList();
+        indexes.forEach(index -> index.refresh(productIds));
+        log.debug("검색 인덱스 변경 수신: {}건", productIds.size());
+    }
+
+    /**
+     * pub/sub 메시지 유실 대비 전체 재적재
+     */
+    @Scheduled(fixedDelayString = "${app.search.index.rebuild-interval-ms:3600000}",
+            initialDelayString = "${app.search.index.rebuild-interval-ms:3600000}")
+    public void rebuildAll() {
+        indexes.forEach(ProductSearchIndex::rebuild);
+    }
+}
@@ -0,0 +1,178 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.domain.product.entity.ProductSearchCategory;
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
+import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.repository.ProductSearchRepository;
+import com.ecommerce.domain.product.search.ProductSuggestion.Type;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 상품명 / 브랜드 / 카테고리 자동완성 인덱스
+ *
+ * 판매중/품절 상품의 검색 문서로 {@link SuggestTrie}를 만들고, 상품이 바뀌면 바뀐 상품의 기여분만
+ * 빼고 더해 갱신한다 (적재와 변경 반영 흐름은 {@link ProductSearchIndex}).
+ * 인기 지표(리뷰 수 등)를 반영하는 곳이 아직 없어 상품 인기도는 1이며, 브랜드/카테고리는 소속 상품 인기도의 합(상품 수)이다.
+ */
+@Slf4j
+@Component
+public class ProductSuggestIndex extends ProductSearchIndex<ProductSuggestIndex.Contribution, ProductSuggestIndex.SuggestState> {
+
+    // 오타 허용 탐색은 질의어 길이의 제곱에 비례하는 DP 행렬을 쓰므로 입력 길이를 제한
+    static final int MAX_QUERY_LENGTH = 50;
+
+    private final int topK;
+    private final int maxEdits;
+
+    private SuggestTrie trie;
+    private Map<Long, Contribution> contributions = new HashMap<>();
+
+    public ProductSuggestIndex(
+            ProductSearchRepository productSearchRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.search.suggest.top-k:10}") int topK,
+            @Value("${app.search.suggest.max-edits:2}") int maxEdits
+    ) {
+        super(productSearchRepository, transactionManager);
+        this.topK = topK;
+        this.maxEdits = maxEdits;
+        this.trie = new SuggestTrie(topK);
+    }
+
+    /**
+     * 상품 한 건이 자동완성에 기여하는 검색어
+     */
+    record Contribution(String name, String brand, List<String> categories, long popularity) {
+
+        static Contribution from(ProductSearchDocument document) {
+            if (document.getStatus() != ProductStatus.ACTIVE && document.getStatus() != ProductStatus.OUT_OF_STOCK) {
+                return null;
+            }
+            return new Contribution(
+                    document.getName(),
+                    document.getBrand(),
+                    document.getCategories().stream().map(ProductSearchCategory::getName).toList(),
+                    1L
+            );
+        }
+    }
+
+    /**
+     * 전체 적재로 만드는 새 트라이와 상품별 기여분
+     */
+    record SuggestState(SuggestTrie trie, Map<Long, Contribution> contributions) {
+    }
+
+    @Override
+    protected Contribution toEntry(ProductSearchDocument document) {
+        return Contribution.from(document);
+    }
+
+    @Override
+    protected SuggestState newState() {
+        return new SuggestState(new SuggestTrie(topK), new HashMap<>());
+    }
+
+    @Override
+    protected void load(SuggestState fresh, Long productId, Contribution contribution) {
+        fresh.contributions().put(productId, contribution);
+        add(fresh.trie(), contribution, false);
+    }
+
+    @Override
+    protected void complete(SuggestState fresh) {
+        fresh.trie().rebuildTop();
+    }
+
+    @Override
+    protected void install(SuggestState fresh) {
+        trie = fresh.trie();
+        contributions = fresh.contributions();
+    }
+
+    @Override
+    protected void applyChanges(Map<Long, Contribution> changes) {
+        apply(changes);
+    }
+
+    @Override
+    protected void loaded(SuggestState fresh) {
+        log.info("자동완성 인덱스 적재 완료: 상품={}건, 검색어={}개", fresh.contributions().size(), fresh.trie().termCount());
+    }
+
+    /**
+     * 입력 중인 검색어로 추천 (최대 topK개, 더 큰 limit은 topK로 줄임)
+     */
+    public List<ProductSuggestion> suggest(String query, int limit) {
+        if (query.length() > MAX_QUERY_LENGTH || limit < 1) {
+            throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int size = Math.min(limit, topK);
+        int edits = Math.min(maxEdits, allowedEdits(SuggestTrie.normalize(query).length()));
+        lock.readLock().lock();
+        try {
+            return trie.suggest(query, size, edits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품별 기여분 교체 (값이 null이면 제거)
+     */
+    void apply(Map<Long, Contribution> changes) {
+        lock.writeLock().lock();
+        try {
+            changes.forEach((productId, contribution) -> {
+                Contribution previous = contribution != null
+                        ? contributions.put(productId, contribution)
+                        : contributions.remove(productId);
+                if (Objects.equals(previous, contribution)) {
+                    return;
+                }
+                if (previous != null) {
+                    remove(trie, previous);
+                }
+                if (contribution != null) {
+                    add(trie, contribution, true);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 짧은 입력에서 오타를 허용하면 거의 모든 검색어가 후보가 되므로 길이에 따라 허용 편집 수를 제한
+    private static int allowedEdits(int length) {
+        if (length < 3) {
+            return 0;
+        }
+        return length < 7 ? 1 : 2;
+    }
+
+    private static void add(SuggestTrie trie, Contribution contribution, boolean updateTop) {
+        trie.add(Type.PRODUCT, contribution.name(), contribution.popularity(), updateTop);
+        trie.add(Type.BRAND, contribution.brand(), contribution.popularity(), updateTop);
+        for (String category : contribution.categories()) {
+            trie.add(Type.CATEGORY, category, contribution.popularity(), updateTop);
+        }
+    }
+
+    private static void remove(SuggestTrie trie, Contribution contribution) {
+        trie.remove(Type.PRODUCT, contribution.name(), contribution.popularity());
+        trie.remove(Type.BRAND, contribution.brand(), contribution.popularity());
+        for (String category : contribution.categories()) {
+            trie.remove(Type.CATEGORY, category, contribution.popularity());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.domain.product.search;
+
+/**
+ * 검색어 자동완성 결과
+ *
+ * popularity는 상품이면 1, 브랜드/카테고리면 해당 상품들의 합
+ */
+public record ProductSuggestion(
+        String text,
+        Type type,
+        long popularity
+) {
+    public enum Type {
+        PRODUCT,
+        BRAND,
+        CATEGORY
+    }
+}
@@ -0,0 +1,328 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.domain.product.search.ProductSuggestion.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성용 문자 트라이
+ *
+ * 자식은 정렬된 char 배열 + 노드 배열로 보관하고(HashMap 대비 메모리 절약), 노드마다 하위 트리에서
+ * 인기도가 가장 높은 topK개 검색어를 미리 계산해 둔다. 정확한 접두어 조회는 접두어 길이만큼만 내려가면 끝나고,
+ * 오타 허용 조회는 편집 거리(Damerau, 인접 문자 뒤바뀜 포함) DP 행을 들고 트라이를 내려가며
+ * 거리 상한을 넘는 가지를 잘라낸다.
+ *
+ * 상품명은 전체 이름과 함께 각 단어로 시작하는 부분("무선 이어폰" → "이어폰")도 색인한다.
+ * 스레드 안전하지 않으므로 {@link ProductSuggestIndex}의 락 안에서만 사용한다.
+ */
+final class SuggestTrie {
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Term[] NO_TERMS = new Term[0];
+
+    private static final Comparator<Term> BY_POPULARITY = Comparator
+            .comparingLong((Term term) -> term.popularity).reversed()
+            .thenComparing(term -> term.text);
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<TermKey, Term> terms = new HashMap<>();
+
+    SuggestTrie(int topK) {
+        this.topK = topK;
+    }
+
+    private record TermKey(Type type, String normalized) {
+    }
+
+    private static final class Term {
+        final Type type;
+        final String text;
+        final List<String> paths;
+        long popularity;
+        int references;
+
+        Term(Type type, String text, List<String> paths) {
+            this.type = type;
+            this.text = text;
+            this.paths = paths;
+        }
+
+        ProductSuggestion toSuggestion() {
+            return new ProductSuggestion(text, type, popularity);
+        }
+    }
+
+    private static final class Node {
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        int childCount;
+        Term[] terminals = NO_TERMS;
+        Term[] top = NO_TERMS;
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrCreateChild(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            labels[insertAt] = label;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(labels, index + 1, labels, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        boolean isEmpty() {
+            return childCount == 0 && terminals.length == 0;
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색어 인기도 반영. updateTop이 false면 topK 갱신을 미루고 {@link #rebuildTop()}에서 한 번에 계산
+     */
+    void add(Type type, String text, long popularity, boolean updateTop) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+
+        Term term = terms.get(new TermKey(type, normalized));
+        if (term == null) {
+            term = new Term(type, text.trim(), pathsOf(type, normalized));
+            terms.put(new TermKey(type, normalized), term);
+            for (String path : term.paths) {
+                Node node = root;
+                for (int i = 0; i < path.length(); i++) {
+                    node = node.getOrCreateChild(path.charAt(i));
+                }
+                node.terminals = Arrays.copyOf(node.terminals, node.terminals.length + 1);
+                node.terminals[node.terminals.length - 1] = term;
+            }
+        }
+        term.popularity += popularity;
+        term.references++;
+
+        if (updateTop) {
+            term.paths.forEach(this::refreshPath);
+        }
+    }
+
+    void remove(Type type, String text, long popularity) {
+        String normalized = normalize(text);
+        TermKey key = new TermKey(type, normalized);
+        Term term = terms.get(key);
+        if (term == null) {
+            return;
+        }
+        term.popularity -= popularity;
+        term.references--;
+
+        if (term.references <= 0) {
+            terms.remove(key);
+            for (String path : term.paths) {
+                Node node = nodeAt(path);
+                if (node != null) {
+                    node.terminals = Arrays.stream(node.terminals).filter(t -> t != term).toArray(Term[]::new);
+                }
+            }
+        }
+        term.paths.forEach(this::refreshPath);
+    }
+
+    int termCount() {
+        return terms.size();
+    }
+
+    /**
+     * 모든 노드의 topK를 하위 노드부터 다시 계산 (전체 적재 후 1회)
+     */
+    void rebuildTop() {
+        rebuildTop(root);
+    }
+
+    private void rebuildTop(Node node) {
+        for (int i = 0; i < node.childCount; i++) {
+            rebuildTop(node.children[i]);
+        }
+        node.top = computeTop(node);
+    }
+
+    List<ProductSuggestion> suggest(String query, int limit, int maxEdits) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.min(limit, topK);
+
+        // 정확한 접두어만으로 결과가 채워지면 편집 거리 탐색 생략
+        Node exact = nodeAt(normalized);
+        if (exact != null && (exact.top.length >= size || maxEdits == 0)) {
+            return toSuggestions(Arrays.asList(exact.top), size);
+        }
+        if (maxEdits == 0) {
+            return List.of();
+        }
+
+        Map<Term, Integer> distances = new IdentityHashMap<>();
+        int columns = normalized.length() + 1;
+        int[][] rows = new int[normalized.length() + maxEdits + 2][columns];
+        for (int j = 0; j < columns; j++) {
+            rows[0][j] = j;
+        }
+        search(root, 0, (char) 0, normalized, rows, maxEdits, distances);
+
+        List<Map.Entry<Term, Integer>> ranked = new ArrayList<>(distances.entrySet());
+        ranked.sort(Map.Entry.<Term, Integer>comparingByValue()
+                .thenComparing(Map.Entry.<Term, Integer>comparingByKey(BY_POPULARITY)));
+
+        List<Term> result = new ArrayList<>(size);
+        for (Map.Entry<Term, Integer> entry : ranked) {
+            if (result.size() == size) {
+                break;
+            }
+            result.add(entry.getKey());
+        }
+        return toSuggestions(result, size);
+    }
+
+    // rows[depth]: 현재 경로와 질의어 각 접두어 사이의 편집 거리 (인접 문자 뒤바뀜도 1회 편집으로 계산)
+    private void search(Node node, int depth, char lastLabel, String query, int[][] rows, int maxEdits,
+                        Map<Term, Integer> distances) {
+        int[] row = rows[depth];
+        int distance = row[query.length()];
+        int bound = maxEdits;
+        if (distance <= maxEdits) {
+            for (Term term : node.top) {
+                distances.merge(term, distance, Math::min);
+            }
+            // 하위 검색어는 이미 이 노드의 topK 후보이므로 더 가까운 거리가 나올 수 있는 가지만 탐색
+            bound = distance - 1;
+        }
+        if (bound < 0 || depth + 1 >= rows.length) {
+            return;
+        }
+
+        int[] next = rows[depth + 1];
+        for (int i = 0; i < node.childCount; i++) {
+            char label = node.labels[i];
+            // 첫 글자 오타는 드물고 허용하면 탐색 범위가 전체 트라이로 넓어지므로 정확히 일치해야 함
+            if (depth == 0 && label != query.charAt(0)) {
+                continue;
+            }
+            next[0] = row[0] + 1;
+            int min = next[0];
+            for (int j = 1; j < row.length; j++) {
+                int cost = query.charAt(j - 1) == label ? 0 : 1;
+                next[j] = Math.min(Math.min(row[j] + 1, next[j - 1] + 1), row[j - 1] + cost);
+                if (depth > 0 && j > 1 && label == query.charAt(j - 2) && lastLabel == query.charAt(j - 1)) {
+                    next[j] = Math.min(next[j], rows[depth - 1][j - 2] + 1);
+                }
+                min = Math.min(min, next[j]);
+            }
+            if (min <= bound) {
+                search(node.children[i], depth + 1, label, query, rows, maxEdits, distances);
+            }
+        }
+    }
+
+    private Node nodeAt(String path) {
+        Node node = root;
+        for (int i = 0; i < path.length() && node != null; i++) {
+            node = node.child(path.charAt(i));
+        }
+        return node;
+    }
+
+    // 경로 위 노드의 topK를 아래에서부터 다시 계산하고 빈 노드는 정리
+    private void refreshPath(String path) {
+        Node[] nodes = new Node[path.length() + 1];
+        nodes[0] = root;
+        for (int i = 0; i < path.length(); i++) {
+            nodes[i + 1] = nodes[i].child(path.charAt(i));
+            if (nodes[i + 1] == null) {
+                return;
+            }
+        }
+        for (int i = path.length(); i >= 0; i--) {
+            Node node = nodes[i];
+            if (i > 0 && node.isEmpty()) {
+                nodes[i - 1].removeChild(path.charAt(i - 1));
+                continue;
+            }
+            node.top = computeTop(node);
+        }
+    }
+
+    private Term[] computeTop(Node node) {
+        Map<Term, Boolean> candidates = new LinkedHashMap<>();
+        for (Term term : node.terminals) {
+            candidates.put(term, Boolean.TRUE);
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            for (Term term : node.children[i].top) {
+                candidates.put(term, Boolean.TRUE);
+            }
+        }
+        return candidates.keySet().stream()
+                .sorted(BY_POPULARITY)
+                .limit(topK)
+                .toArray(Term[]::new);
+    }
+
+    private static List<ProductSuggestion> toSuggestions(List<Term> terms, int size) {
+        return terms.stream().limit(size).map(Term::toSuggestion).toList();
+    }
+
+    private static List<String> pathsOf(Type type, String normalized) {
+        List<String> paths = new ArrayList<>();
+        paths.add(normalized);
+        if (type == Type.PRODUCT) {
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                if (i + 1 < normalized.length()) {
+                    paths.add(normalized.substring(i + 1));
+                }
+            }
+        }
+        return paths;
+    }
+}
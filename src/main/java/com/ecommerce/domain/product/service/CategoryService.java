@@ -1,10 +1,9 @@
 package com.ecommerce.domain.product.service;
 
+import com.ecommerce.domain.product.category.CategoryDictionary;
 import com.ecommerce.domain.product.entity.Category;
-import com.ecommerce.domain.product.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
@@ -13,29 +12,28 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryDictionary categoryDictionary;
 
-    @Transactional
+    /**
+     * 카테고리 이름으로 연관관계용 Category를 만듦 (category 테이블 조회 없음)
+     *
+     * ID와 이름만 채운 준영속 객체이며, 상품의 카테고리 연결(product_category)에는 ID만 사용된다.
+     */
     public Set<Category> findOrCreateCategories(List<String> categoryNames) {
         if (categoryNames == null || categoryNames.isEmpty()) {
             return Collections.emptySet();
         }
 
-        return categoryNames.stream()
-                .map(this::findOrCreateCategoryByName)
+        // 대소문자만 다른 이름은 같은 ID로 오므로 ID로 합치고, 이름은 저장된 표기를 사용
+        // (Category는 식별자 동등성이라 같은 ID의 객체가 둘이면 product_category에 중복 INSERT됨)
+        return categoryDictionary.resolve(categoryNames).values().stream()
+                .distinct()
+                .map(id -> Category.builder()
+                        .id(id)
+                        .name(categoryDictionary.nameOf(id))
+                        .build())
                 .collect(Collectors.toSet());
     }
-
-    private Category findOrCreateCategoryByName(String name) {
-        return categoryRepository.findByName(name)
-                .orElseGet(() -> {
-                    Category newCategory = Category.builder()
-                            .name(name)
-                            .build();
-                    return categoryRepository.save(newCategory);
-                });
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.domain.product.service;
+
+import com.ecommerce.domain.product.exporter.ProductExportCondition;
+import com.ecommerce.domain.product.exporter.ProductExportFormat;
+import com.ecommerce.domain.product.exporter.ProductExportReader;
+import com.ecommerce.domain.product.exporter.ProductExportRow;
+import com.ecommerce.domain.product.exporter.ProductRowWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 상품 카탈로그 내보내기 (피드 / 파트너 동기화용)
+ *
+ * {@link ProductExportReader}가 넘겨주는 청크를 바로 출력 스트림에 쓰고 청크마다 flush하므로,
+ * 응답이 끝날 때까지 서버에는 한 청크 분량만 남는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    private final ProductExportReader exportReader;
+    private final ObjectMapper objectMapper;
+
+    public long exportProducts(ProductExportCondition condition, ProductExportFormat format, OutputStream outputStream)
+            throws IOException {
+        long startedAt = System.nanoTime();
+
+        try (ProductRowWriter writer = format.open(outputStream, objectMapper)) {
+            long exported = exportReader.read(condition, rows -> {
+                for (ProductExportRow row : rows) {
+                    writer.write(row);
+                }
+                writer.flush();
+            });
+
+            log.info("상품 내보내기 완료: 형식={}, 조건={}, 행={}, 소요={}ms",
+                    format, condition, exported, (System.nanoTime() - startedAt) / 1_000_000);
+            return exported;
+        } catch (IOException e) {
+            // 대부분 클라이언트 연결 종료. 이미 응답이 시작되었으므로 로그만 남기고 전파
+            log.warn("상품 내보내기 중단: 형식={}, 조건={}, 원인={}", format, condition, e.getMessage());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.domain.product.service;
+
+import com.ecommerce.domain.product.entity.ProductHistorySegment;
+import com.ecommerce.domain.product.history.ProductHistoryCodec;
+import com.ecommerce.domain.product.history.ProductHistoryEntry;
+import com.ecommerce.domain.product.repository.ProductHistorySegmentRepository;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductHistoryService {
+
+    private final ProductRepository productRepository;
+    private final ProductHistorySegmentRepository segmentRepository;
+
+    /**
+     * [from, to) 구간의 가격/재고 변경 이력을 시각 순으로 조회 (월 구간 행만 읽어 복원)
+     */
+    public List<ProductHistoryEntry> findHistory(Long productId, Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (!productRepository.existsById(productId)) {
+            throw new ServiceException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        List<ProductHistorySegment> segments = segmentRepository.findByProductIdAndPeriodBetweenOrderByPeriodAsc(
+                productId, ProductHistoryCodec.periodOf(from), ProductHistoryCodec.periodOf(to.minusMillis(1)));
+
+        List<ProductHistoryEntry> history = new ArrayList<>();
+        for (ProductHistorySegment segment : segments) {
+            for (ProductHistoryEntry entry : segment.entries()) {
+                if (!entry.changedAt().isBefore(from) && entry.changedAt().isBefore(to)) {
+                    history.add(entry);
+                }
+            }
+        }
+        return history;
+    }
+}
@@ -2,8 +2,12 @@ package com.ecommerce.domain.product.service;
 
 import com.ecommerce.domain.product.entity.Product;
 import com.ecommerce.domain.product.entity.ProductImage;
+import com.ecommerce.domain.product.event.ProductChangedEvent;
 import com.ecommerce.domain.product.repository.ProductImageRepository;
+import com.ecommerce.domain.product.service.ProductImageSynchronizer.SyncResult;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,12 +15,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductImageService {
 
     private final ProductImageRepository productImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public List<ProductImage> createProductImages(Product product, List<String> imageUrls) {
@@ -31,21 +37,30 @@ public class ProductImageService {
                     .product(product)
                     .imageUrl(imageUrls.get(i))
                     .isMain(i == 0) // 첫 번째 이미지를 메인으로 설정
+                    .displayOrder(i)
                     .build();
 
             productImages.add(productImage);
         }
 
-        return productImageRepository.saveAll(productImages);
+        List<ProductImage> savedImages = productImageRepository.saveAll(productImages);
+        eventPublisher.publishEvent(ProductChangedEvent.of(product.getId()));
+        return savedImages;
     }
 
+    /**
+     * 기존 이미지와 비교해 추가/삭제/순서 변경이 필요한 행만 반영 (전체 삭제 후 재등록하지 않음)
+     */
     @Transactional
     public void updateProductImages(Product product, List<String> imageUrls) {
-        productImageRepository.deleteByProduct(product);
-
-        if (imageUrls != null && !imageUrls.isEmpty()) {
-            createProductImages(product, imageUrls);
+        SyncResult result = ProductImageSynchronizer.sync(product, imageUrls);
+        if (!result.changed()) {
+            return;
         }
+
+        log.debug("상품 이미지 동기화: 상품={}, 추가={}, 삭제={}, 순서 변경={}",
+                product.getId(), result.inserted(), result.deleted(), result.reordered());
+        eventPublisher.publishEvent(ProductChangedEvent.of(product.getId()));
     }
 
 }
\ No newline at end of file
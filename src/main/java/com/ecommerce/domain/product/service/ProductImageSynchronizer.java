@@ -0,0 +1,79 @@
+package com.ecommerce.domain.product.service;
+
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.entity.ProductImage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청된 이미지 URL 목록과 상품의 기존 이미지를 비교해 필요한 변경만 반영
+ *
+ * 같은 URL의 기존 이미지는 그대로 재사용하고(ID 유지), 순서/대표 여부가 바뀐 행만 수정한다.
+ * 목록에서 빠진 이미지는 컬렉션에서 제거해 orphanRemoval로 삭제되고, 새 URL만 추가된다.
+ * 실제 SQL은 flush 시점에 나가며 UPDATE / DELETE는 hibernate.jdbc.batch_size 단위로 묶인다.
+ */
+final class ProductImageSynchronizer {
+
+    /**
+     * 반영 결과 (변경 행 수)
+     */
+    record SyncResult(int inserted, int deleted, int reordered) {
+
+        boolean changed() {
+            return inserted + deleted + reordered > 0;
+        }
+    }
+
+    private ProductImageSynchronizer() {
+    }
+
+    static SyncResult sync(Product product, List<String> imageUrls) {
+        List<ProductImage> images = product.getImages();
+        List<String> requested = imageUrls != null ? imageUrls : List.of();
+
+        // URL → 재사용 가능한 기존 이미지 (같은 URL이 여러 개면 기존 순서대로 하나씩 사용)
+        Map<String, Deque<ProductImage>> existingByUrl = new HashMap<>();
+        for (ProductImage image : images) {
+            existingByUrl.computeIfAbsent(image.getImageUrl(), url -> new ArrayDeque<>()).addLast(image);
+        }
+
+        List<ProductImage> ordered = new ArrayList<>(requested.size());
+        int inserted = 0;
+        for (String url : requested) {
+            Deque<ProductImage> candidates = existingByUrl.get(url);
+            ProductImage image = candidates != null ? candidates.pollFirst() : null;
+            if (image == null) {
+                image = ProductImage.builder()
+                        .product(product)
+                        .imageUrl(url)
+                        .build();
+                inserted++;
+            }
+            ordered.add(image);
+        }
+
+        // 재사용되지 않고 남은 기존 이미지는 삭제 대상
+        int deleted = existingByUrl.values().stream().mapToInt(Deque::size).sum();
+
+        int reordered = 0;
+        for (int i = 0; i < ordered.size(); i++) {
+            ProductImage image = ordered.get(i);
+            if (image.getId() != null && (image.getDisplayOrder() != i || image.isMain() != (i == 0))) {
+                reordered++;
+            }
+            // 값이 같으면 dirty checking에서 UPDATE가 생기지 않음
+            image.reorder(i);
+        }
+
+        // 메모리의 컬렉션도 요청 순서로 맞춤 (빠진 이미지는 orphanRemoval로 삭제, 새 이미지는 cascade로 저장)
+        images.clear();
+        images.addAll(ordered);
+
+        return new SyncResult(inserted, deleted, reordered);
+    }
+}
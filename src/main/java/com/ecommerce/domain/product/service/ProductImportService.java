@@ -0,0 +1,192 @@
+package com.ecommerce.domain.product.service;
+
+import com.ecommerce.api.v1.product.dto.request.AddProductRequest;
+import com.ecommerce.domain.product.category.CategoryDictionary;
+import com.ecommerce.domain.product.event.ProductChangedEvent;
+import com.ecommerce.domain.product.event.ProductPriceStockChangedEvent;
+import com.ecommerce.domain.product.importer.ProductBatchWriter;
+import com.ecommerce.domain.product.importer.ProductImportFormat;
+import com.ecommerce.domain.product.importer.ProductImportResult;
+import com.ecommerce.domain.product.importer.ProductImportResult.RowError;
+import com.ecommerce.domain.product.importer.ProductRowReader;
+import com.ecommerce.domain.product.importer.ProductRowReader.ParsedRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 대량 등록
+ *
+ * 요청 본문을 한 행씩 읽어 chunk-size 만큼 모이면 한 트랜잭션으로 저장한다. 카테고리 ID는 {@link CategoryDictionary}에서
+ * 얻고(없는 것만 배치 INSERT), 상품/이미지/카테고리 연결은 청크마다 각각 JDBC 배치 INSERT 1번으로 처리한다.
+ * 청크 저장이 실패하면 해당 청크만 한 행씩 다시 저장해 문제 행을 찾아낸다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private final ProductBatchWriter batchWriter;
+    private final CategoryDictionary categoryDictionary;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public ProductImportService(
+            ProductBatchWriter batchWriter,
+            CategoryDictionary categoryDictionary,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${app.product.import.chunk-size:1000}") int chunkSize,
+            @Value("${app.product.import.max-errors:1000}") int maxErrors
+    ) {
+        this.batchWriter = batchWriter;
+        this.categoryDictionary = categoryDictionary;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public ProductImportResult importProducts(InputStream inputStream, ProductImportFormat format) {
+        Progress progress = new Progress();
+        List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+        boolean completed = true;
+
+        try (ProductRowReader reader = format.open(inputStream, objectMapper)) {
+            ParsedRow row;
+            while ((row = reader.next()) != null) {
+                progress.total++;
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if (error != null) {
+                    progress.fail(row.rowNumber(), error);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    save(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            // 이미 저장된 청크는 유지하고 결과에 중단 사실을 남김
+            log.warn("상품 대량 등록 입력 읽기 실패: {}", e.getMessage());
+            progress.fail(progress.total + 1, "입력을 읽는 중 오류가 발생해 중단되었습니다: " + e.getMessage());
+            completed = false;
+        }
+
+        if (!chunk.isEmpty()) {
+            save(chunk, progress);
+        }
+
+        log.info("상품 대량 등록 완료: 전체={}행, 성공={}행, 실패={}행", progress.total, progress.imported, progress.failed);
+        return new ProductImportResult(progress.total, progress.imported, progress.failed,
+                List.copyOf(progress.errors), progress.failed > progress.errors.size(), completed);
+    }
+
+    private void save(List<ParsedRow> chunk, Progress progress) {
+        long startedAt = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(chunk));
+            progress.imported += chunk.size();
+        } catch (DataAccessException e) {
+            log.warn("상품 대량 등록 청크 저장 실패, 행 단위로 재시도: 행={}~{}, 원인={}",
+                    chunk.getFirst().rowNumber(), chunk.getLast().rowNumber(), e.getMostSpecificCause().getMessage());
+            for (ParsedRow row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(row)));
+                    progress.imported++;
+                } catch (DataAccessException rowException) {
+                    progress.fail(row.rowNumber(), "저장 실패: " + rowException.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        log.info("상품 대량 등록 진행: 처리={}행, 성공={}행, 실패={}행, 청크 소요={}ms",
+                progress.total, progress.imported, progress.failed, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void write(List<ParsedRow> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<AddProductRequest> requests = rows.stream().map(ParsedRow::request).toList();
+
+        Set<String> categoryNames = new LinkedHashSet<>();
+        requests.forEach(request -> categoryNames.addAll(request.categoryNames()));
+
+        Map<String, Long> categoryIds = categoryDictionary.resolve(categoryNames);
+        List<Long> productIds = batchWriter.insertProducts(requests, now);
+        batchWriter.insertImages(productIds, requests, now);
+        batchWriter.insertCategoryLinks(productIds, requests, categoryIds);
+
+        // 검색 문서와 가격/재고 이력은 커밋 직전에 청크 단위로 한 번에 반영됨
+        eventPublisher.publishEvent(new ProductChangedEvent(productIds));
+        Instant changedAt = Instant.now();
+        for (int i = 0; i < productIds.size(); i++) {
+            AddProductRequest request = requests.get(i);
+            eventPublisher.publishEvent(new ProductPriceStockChangedEvent(
+                    productIds.get(i), request.price(), request.stockQuantity(), changedAt));
+        }
+    }
+
+    /**
+     * AddProductRequest의 제약 조건과 동일한 검증 (+ DB에서 필수인 브랜드)
+     */
+    private static String validate(AddProductRequest request) {
+        if (request.name() == null || request.name().isBlank()) {
+            return "상품 이름은 필수입니다.";
+        }
+        if (request.brand() == null || request.brand().isBlank()) {
+            return "상품 브랜드는 필수입니다.";
+        }
+        if (request.price() == null) {
+            return "상품 가격은 필수입니다.";
+        }
+        if (request.price().signum() <= 0) {
+            return "상품 가격은 0보다 커야 합니다.";
+        }
+        if (request.stockQuantity() == null) {
+            return "재고 수량은 필수입니다.";
+        }
+        if (request.stockQuantity() < 0) {
+            return "재고 수량은 0 이상이어야 합니다.";
+        }
+        if (request.categoryNames() == null || request.categoryNames().isEmpty()) {
+            return "카테고리는 최소 1개 이상 등록해야 합니다.";
+        }
+        if (request.categoryNames().stream().anyMatch(name -> name == null || name.isBlank())) {
+            return "카테고리 이름은 공백일 수 없습니다.";
+        }
+        return null;
+    }
+
+    private class Progress {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void fail(long row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(row, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ecommerce.domain.product.service;
+
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.entity.ProductImage;
+import com.ecommerce.domain.product.entity.ProductSearchCategory;
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
+import com.ecommerce.domain.product.event.ProductChangedEvent;
+import com.ecommerce.domain.product.repository.ProductCategoryRow;
+import com.ecommerce.domain.product.repository.ProductImageRepository;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.domain.product.repository.ProductSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 변경 이벤트를 검색 읽기 모델(product_search)에 반영
+ *
+ * 한 트랜잭션에서 발생한 변경은 상품 ID 단위로 모았다가 커밋 직전에 한 번만 반영하므로,
+ * 원본과 검색 문서가 같은 트랜잭션으로 함께 커밋되거나 함께 롤백된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchProjector {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final Object PENDING_KEY = ProductSearchProjector.class.getName() + ".pending";
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ProductSearchRepository productSearchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> project(event.productIds()));
+            return;
+        }
+
+        pendingProductIds().addAll(event.productIds());
+    }
+
+    /**
+     * 읽기 모델이 비어 있으면 (최초 배포 / 테이블 초기화) 전체 상품으로 다시 채움
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (productSearchRepository.count() > 0) {
+            return;
+        }
+
+        long afterId = 0L;
+        int total = 0;
+        List<Long> ids;
+        do {
+            ids = productRepository.findActiveIdsAfter(afterId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> batch = ids;
+            transactionTemplate.executeWithoutResult(status -> project(batch));
+            total += ids.size();
+            afterId = ids.getLast();
+        } while (ids.size() == BACKFILL_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("상품 검색 문서 초기 생성 완료: {}건", total);
+        }
+    }
+
+    /**
+     * 상품 ID 목록의 검색 문서를 현재 상태로 다시 만든다 (삭제/미존재 상품은 문서 제거)
+     */
+    public void project(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .filter(product -> !product.getIsDeleted())
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Set<Long> removed = new LinkedHashSet<>(productIds);
+        removed.removeAll(products.keySet());
+        if (!removed.isEmpty()) {
+            productSearchRepository.deleteAllByIdInBatch(removed);
+        }
+
+        if (products.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<ProductSearchCategory>> categories = new HashMap<>();
+        for (ProductCategoryRow row : productRepository.findCategoryRowsByProductIds(products.keySet())) {
+            categories.computeIfAbsent(row.productId(), id -> new ArrayList<>())
+                    .add(new ProductSearchCategory(row.categoryId(), row.categoryName()));
+        }
+
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        for (ProductImage image : productImageRepository.findByProductIdInOrderByDisplayOrderAscIdAsc(products.keySet())) {
+            imageUrls.computeIfAbsent(image.getProduct().getId(), id -> new ArrayList<>()).add(image.getImageUrl());
+        }
+
+        Map<Long, ProductSearchDocument> documents = productSearchRepository.findAllById(products.keySet()).stream()
+                .collect(Collectors.toMap(ProductSearchDocument::getId, Function.identity()));
+
+        List<ProductSearchDocument> created = new ArrayList<>();
+        for (Product product : products.values()) {
+            ProductSearchDocument document = documents.get(product.getId());
+            if (document == null) {
+                document = ProductSearchDocument.create(product.getId());
+                created.add(document);
+            }
+            document.refresh(
+                    product,
+                    categories.getOrDefault(product.getId(), List.of()),
+                    imageUrls.getOrDefault(product.getId(), List.of())
+            );
+        }
+
+        productSearchRepository.saveAll(created);
+        log.debug("상품 검색 문서 갱신: 갱신={}건, 생성={}건, 삭제={}건",
+                products.size() - created.size(), created.size(), removed.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendingProductIds() {
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending != null) {
+            return pending;
+        }
+
+        Set<Long> newPending = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(PENDING_KEY, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                project(newPending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+            }
+        });
+        return newPending;
+    }
+}
@@ -2,15 +2,25 @@ package com.ecommerce.domain.product.service;
 
 import com.ecommerce.api.v1.product.dto.request.*;
 import com.ecommerce.api.v1.product.dto.response.ProductResponseDto;
+import com.ecommerce.api.v1.product.dto.response.ProductSearchResponseDto;
 import com.ecommerce.domain.product.entity.Category;
 import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
 import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.event.ProductChangedEvent;
+import com.ecommerce.domain.product.event.ProductPriceStockChangedEvent;
 import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.domain.product.repository.ProductSearchRepository;
+import com.ecommerce.domain.product.search.ProductFacetIndex;
+import com.ecommerce.domain.product.search.ProductFacets;
+import com.ecommerce.domain.product.search.ProductSuggestIndex;
+import com.ecommerce.domain.product.search.ProductSuggestion;
 import com.ecommerce.global.utils.dto.SliceResponseDto;
 import com.ecommerce.global.utils.exception.ErrorCode;
 import com.ecommerce.global.utils.exception.ServiceException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -19,6 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -30,6 +41,10 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final CategoryService categoryService;
     private final ProductImageService productImageService;
+    private final ProductSearchRepository productSearchRepository;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProductResponseDto addProduct(AddProductRequest request) {
@@ -51,6 +66,8 @@ public class ProductService {
             productImageService.createProductImages(savedProduct, request.imageUrls());
         }
 
+        eventPublisher.publishEvent(ProductChangedEvent.of(savedProduct.getId()));
+        eventPublisher.publishEvent(ProductPriceStockChangedEvent.of(savedProduct));
         return ProductResponseDto.from(savedProduct);
     }
 
@@ -64,6 +81,8 @@ public class ProductService {
             product.updateCategories(categories);
         }
 
+        BigDecimal previousPrice = product.getPrice();
+        int previousStock = product.getStockQuantity();
         product.updateDetails(
                 request.name(),
                 request.description(),
@@ -78,13 +97,19 @@ public class ProductService {
             productImageService.updateProductImages(product, request.imageUrls());
         }
 
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId));
+        publishPriceStockChange(product, previousPrice, previousStock);
         return ProductResponseDto.from(product);
     }
 
     @Transactional
     public ProductResponseDto manageProductStock(Long productId, UpdateStockRequest request) {
         Product product = findProductEntityById(productId);
+        BigDecimal previousPrice = product.getPrice();
+        int previousStock = product.getStockQuantity();
         product.updateStock(request.stockQuantity());
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId));
+        publishPriceStockChange(product, previousPrice, previousStock);
         return ProductResponseDto.from(product);
     }
 
@@ -92,6 +117,7 @@ public class ProductService {
     public ProductResponseDto manageProductStatus(Long productId,  UpdateProductStatusRequest request) {
         Product product = findProductEntityById(productId);
         product.updateStatus(request.status());
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId));
         return ProductResponseDto.from(product);
     }
 
@@ -99,12 +125,14 @@ public class ProductService {
     public void deleteProduct(Long productId) {
         Product product = findProductEntityById(productId);
         product.setIsDeleted(true);
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId));
     }
 
     @Transactional
     public ProductResponseDto updateProductStatus(Long productId, ProductStatus status) {
         Product product = findProductEntityById(productId);
         product.updateStatus(status);
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId));
         return ProductResponseDto.from(product);
     }
 
@@ -117,25 +145,40 @@ public class ProductService {
                 .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
     }
 
+    public List<Long> findActiveProductIds(Collection<Long> productIds) {
+        return productRepository.findActiveIdsByIdIn(productIds);
+    }
+
+    /**
+     * 검색은 비정규화된 읽기 모델(product_search)에서만 수행
+     */
     @Transactional(readOnly = true)
-    public SliceResponseDto<ProductResponseDto> searchProductsForInfiniteScroll(
+    public ProductSearchResponseDto searchProductsForInfiniteScroll(
             ProductSearchCondition condition,
             ProductSearchPageRequest pageRequest
     ) {
         Pageable pageable = pageRequest.toPageable();
 
-        Slice<Product> products = productRepository.findProductsWithConditions(
-                condition.keyword(),
-                condition.category(),
-                condition.brand(),
-                condition.minPrice(),
-                condition.maxPrice(),
-                condition.inStock(),
-                condition.status(),
-                pageable
-        );
+        Slice<ProductSearchDocument> products = productSearchRepository.search(condition, pageable);
 
         Slice<ProductResponseDto> productSlice = products.map(ProductResponseDto::from);
-        return SliceResponseDto.from(productSlice);
+
+        // 패싯은 COUNT 쿼리 없이 메모리 인덱스에서 한 번에 집계
+        ProductFacets facets = productFacetIndex.compute(condition);
+        return ProductSearchResponseDto.of(SliceResponseDto.from(productSlice), facets);
+    }
+
+    public List<ProductSuggestion> suggestProducts(String query, int size) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return productSuggestIndex.suggest(query, size);
+    }
+
+    // 가격/재고가 실제로 바뀐 경우에만 이력 기록 (커밋 후 비동기로 모아 저장)
+    private void publishPriceStockChange(Product product, BigDecimal previousPrice, int previousStock) {
+        if (product.getPrice().compareTo(previousPrice) != 0 || product.getStockQuantity() != previousStock) {
+            eventPublisher.publishEvent(ProductPriceStockChangedEvent.of(product));
+        }
     }
-}
\ No newline at end of file
+}
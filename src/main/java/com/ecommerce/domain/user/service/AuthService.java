@@ -2,6 +2,7 @@ package com.ecommerce.domain.user.service;
 
 import com.ecommerce.api.v1.user.dto.request.LoginRequest;
 import com.ecommerce.api.v1.user.dto.response.TokenPair;
+import com.ecommerce.domain.order.service.GuestCartService;
 import com.ecommerce.domain.user.entity.User;
 import com.ecommerce.global.utils.exception.ErrorCode;
 import com.ecommerce.global.utils.exception.ServiceException;
@@ -22,12 +23,25 @@ public class AuthService {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final TokenManagementService tokenManagementService;
+    private final GuestCartService guestCartService;
 
     @Transactional
     public TokenPair authenticate(LoginRequest request) {
+        return authenticate(request, null);
+    }
+
+    /**
+     * 로그인하고, 비로그인 장바구니 쿠키가 있으면 사용자 장바구니에 합침
+     */
+    @Transactional
+    public TokenPair authenticate(LoginRequest request, String guestCartCookie) {
         User user = validateUserCredentials(request);
         TokenPair tokens = tokenManagementService.generateTokens(user);
 
+        if (guestCartCookie != null) {
+            guestCartService.mergeIntoUserCart(user, guestCartCookie);
+        }
+
         log.debug("로그인 성공: userId={}, email={}", user.getId(), user.getEmail());
         return tokens;
     }
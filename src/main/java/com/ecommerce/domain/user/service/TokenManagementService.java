@@ -4,6 +4,7 @@ import com.ecommerce.api.v1.user.dto.response.TokenPair;
 import com.ecommerce.domain.user.entity.User;
 import com.ecommerce.global.infra.redis.RefreshTokenService;
 import com.ecommerce.global.infra.security.jwt.JwtProvider;
+import com.ecommerce.global.infra.security.jwt.TokenIssuer;
 import com.ecommerce.global.utils.exception.ErrorCode;
 import com.ecommerce.global.utils.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
@@ -19,16 +20,16 @@ import org.springframework.stereotype.Service;
 public class TokenManagementService {
 
     private final JwtProvider jwtProvider;
+    private final TokenIssuer tokenIssuer;
     private final RefreshTokenService refreshTokenService;
     private final UserService userService;
 
     public TokenPair generateTokens(User user) {
-        String accessToken = jwtProvider.generateAccessToken(user);
-        String refreshToken = jwtProvider.generateRefreshToken(user);
+        TokenPair tokens = tokenIssuer.issue(user);
 
-        refreshTokenService.saveRefreshToken(user.getEmail(), refreshToken);
+        refreshTokenService.saveRefreshToken(user.getEmail(), tokens.refreshToken());
 
-        return new TokenPair(accessToken, refreshToken);
+        return tokens;
     }
 
     public TokenPair refreshTokens(String refreshToken) {
@@ -101,8 +101,10 @@ public class WishlistService {
         
         // 상품 이미지가 있는 경우 첫 번째 이미지를 사용
         String imageUrl = null;
+        String thumbnailUrl = null;
         if (product.getImages() != null && !product.getImages().isEmpty()) {
             imageUrl = product.getImages().get(0).getImageUrl();
+            thumbnailUrl = product.getImages().get(0).getThumbnailUrl();
         }
         
         return WishlistItemDto.builder()
@@ -110,6 +112,7 @@ public class WishlistService {
                 .productName(product.getName())
                 .price(product.getPrice())
                 .imageUrl(imageUrl)
+                .thumbnailUrl(thumbnailUrl)
                 .addedAt(wishlist.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,27 @@
+package com.ecommerce.global.config.pool;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * DB / Redis 커넥션 풀 지표
+ *
+ * 풀 크기와 대기 상한은 모두 spring.datasource.hikari.* / spring.data.redis.lettuce.pool.* 에서 Boot가 그대로 적용한다.
+ * HikariCP 지표(hikaricp.connections.active/idle/pending/acquire)는 Actuator가 자동으로 등록하고,
+ * Lettuce 풀은 commons-pool2가 기본으로 등록하는 JMX 빈을 통해 commons.pool2.* 지표로 노출한다.
+ */
+@Configuration
+public class ConnectionPoolConfig {
+
+    /**
+     * commons-pool2 풀(Lettuce)의 active/idle/waiters, 대기 시간 지표 등록
+     */
+    @Bean
+    public CommonsObjectPool2Metrics redisPoolMetrics() {
+        return new CommonsObjectPool2Metrics(List.of(Tag.of("client", "lettuce")));
+    }
+}
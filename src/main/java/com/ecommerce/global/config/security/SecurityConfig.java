@@ -1,5 +1,6 @@
 package com.ecommerce.global.config.security;
 
+import com.ecommerce.domain.user.entity.UserRole;
 import com.ecommerce.global.infra.security.jwt.filter.JwtAuthenticationFilter;
 import com.ecommerce.global.infra.security.oauth.CustomOAuth2UserService;
 import com.ecommerce.global.infra.security.oauth.OAuth2AuthenticationFailureHandler;
@@ -7,6 +8,7 @@ import com.ecommerce.global.infra.security.oauth.OAuth2AuthenticationSuccessHand
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
@@ -77,6 +79,10 @@ public class SecurityConfig {
                                 // 공개 API
                                 .requestMatchers("/api/v1/users/register").permitAll()      // 회원가입
                                 .requestMatchers("/api/v1/users/login").permitAll()         // 로그인
+                                .requestMatchers("/.well-known/jwks.json").permitAll()      // 토큰 검증용 공개 키
+                                .requestMatchers("/api/v1/images/**").permitAll()           // 상품 축소 이미지
+                                .requestMatchers("/api/v1/deliveries/tracking").permitAll() // 택배사 웹훅 (X-Courier-Token으로 확인)
+                                .requestMatchers("/api/v1/cart/**").permitAll()             // 비로그인 장바구니 (guest_cart 쿠키)
 
                                 // 개발/문서화 관련
                                 .requestMatchers("/h2-console/**").permitAll()              // H2 콘솔
@@ -84,9 +90,15 @@ public class SecurityConfig {
                                 .requestMatchers("/v3/api-docs/**").permitAll()             // OpenAPI 문서
                                 .requestMatchers("/swagger-resources/**").permitAll()       // Swagger 리소스
 
+                                // 운영 모니터링
+                                .requestMatchers("/actuator/health/**").permitAll()         // 헬스 체크
+
+
+                                // 관리자 API
+                                .requestMatchers(HttpMethod.POST, "/api/v1/flash-sales/*").hasRole(UserRole.ADMIN.name())   // 한정 판매 시작
+                                .requestMatchers(HttpMethod.DELETE, "/api/v1/flash-sales/*").hasRole(UserRole.ADMIN.name()) // 한정 판매 종료
 
                                 .requestMatchers("/api/v1/wishlist/**").authenticated()
-                                .requestMatchers("/api/v1/cart/**").authenticated()
 
                                 // 그 외 모든 요청은 인증 필요
                                  .anyRequest().authenticated()
@@ -3,9 +3,11 @@ package com.ecommerce.global.config.web;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @EnableJpaAuditing
+@EnableScheduling
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 public class AppConfig {
 }
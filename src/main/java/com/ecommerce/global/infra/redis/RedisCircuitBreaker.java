@@ -0,0 +1,125 @@
+package com.ecommerce.global.infra.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.PoolException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Redis 호출용 서킷 브레이커
+ *
+ * 연속 실패가 임계치를 넘으면 OPEN 상태가 되어 open-duration 동안 Redis를 호출하지 않고 즉시 fallback을 반환한다.
+ * 이후 한 건의 요청만 HALF_OPEN 상태로 통과시켜 복구 여부를 확인한다.
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtMillis;
+
+    public RedisCircuitBreaker(
+            @Value("${app.redis.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${app.redis.circuit-breaker.open-duration:5s}") Duration openDuration
+    ) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+    }
+
+    /**
+     * Redis 작업을 실행하고, 실패하거나 회로가 열려 있으면 fallback 결과를 반환
+     */
+    public <T> T execute(Supplier<T> action, Supplier<T> fallback) {
+        if (!tryAcquirePermission()) {
+            return fallback.get();
+        }
+
+        boolean recorded = false;
+        try {
+            T result = action.get();
+            onSuccess();
+            recorded = true;
+            return result;
+        } catch (DataAccessException | PoolException e) {
+            onFailure(e);
+            recorded = true;
+            return fallback.get();
+        } finally {
+            if (!recorded) {
+                onUnexpectedFailure();
+            }
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public boolean isClosed() {
+        return state.get() == State.CLOSED;
+    }
+
+    private boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+
+        // OPEN 유지 시간이 지나면 한 요청만 시험 삼아 통과
+        if (current == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openDurationMillis) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+
+        return false;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        State previous = state.getAndSet(State.CLOSED);
+        if (previous != State.CLOSED) {
+            log.info("Redis 서킷 브레이커 CLOSED: Redis 연결이 복구되었습니다.");
+        }
+    }
+
+    /**
+     * Redis 장애가 아닌 예외(직렬화 오류 등)는 호출자에게 그대로 던지되, 시험 요청이었다면 다시 OPEN으로 돌림
+     * (HALF_OPEN에 머물면 이후 요청이 모두 거절되어 Redis를 다시 쓰지 못함)
+     */
+    private void onUnexpectedFailure() {
+        if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+            openedAtMillis = System.currentTimeMillis();
+            log.warn("Redis 서킷 브레이커 재오픈: 시험 요청이 예상하지 못한 예외로 끝났습니다.");
+        }
+    }
+
+    private void onFailure(RuntimeException e) {
+        if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+            openedAtMillis = System.currentTimeMillis();
+            log.warn("Redis 서킷 브레이커 재오픈: {}", e.getMessage());
+            return;
+        }
+
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold
+                && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            openedAtMillis = System.currentTimeMillis();
+            log.error("Redis 서킷 브레이커 OPEN: 연속 {}회 실패, {}ms 동안 로컬 저장소 사용. 원인={}",
+                    failureThreshold, openDurationMillis, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.global.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 서킷 브레이커 상태를 헬스 체크로 노출 (/actuator/health/redisCircuitBreaker)
+ *
+ * 회로가 열려 로컬 저장소로 동작 중이면 DOWN이 아닌 DEGRADED를 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Redis 장애로 로컬 저장소 사용 중");
+
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RefreshTokenFallbackStore fallbackStore;
+
+    @Override
+    public Health health() {
+        RedisCircuitBreaker.State state = circuitBreaker.getState();
+        Health.Builder builder = state == RedisCircuitBreaker.State.CLOSED ? Health.up() : Health.status(DEGRADED);
+
+        return builder
+                .withDetail("circuit", state)
+                .withDetail("pendingReplay", fallbackStore.pendingOperationCount())
+                .withDetail("localEntries", fallbackStore.entryCount())
+                .build();
+    }
+}
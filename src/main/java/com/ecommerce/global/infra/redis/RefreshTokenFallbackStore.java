@@ -0,0 +1,126 @@
+package com.ecommerce.global.infra.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * Redis 장애 시 사용하는 Refresh Token 로컬 저장소
+ *
+ * 장애 중 발생한 저장/삭제는 로컬 맵에 반영하고 write-ahead 큐에 순서대로 쌓아 두었다가,
+ * Redis가 복구되면 {@link RefreshTokenService}가 큐를 재생한다.
+ * 로컬 맵의 항목은 아직 Redis에 반영되지 않은 최신 상태이므로 조회 시 Redis보다 우선한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenFallbackStore {
+
+    /**
+     * 로컬 항목. token이 null이면 삭제(tombstone)를 의미
+     */
+    public record Entry(String token, long expiresAtMillis) {
+        public boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+
+        public boolean isDeleted() {
+            return token == null;
+        }
+    }
+
+    /**
+     * Redis에 재생할 작업
+     */
+    public record PendingOperation(String email, Entry entry) {
+    }
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final BlockingDeque<PendingOperation> pendingOperations;
+
+    public RefreshTokenFallbackStore(@Value("${app.redis.fallback.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.pendingOperations = new LinkedBlockingDeque<>(maxEntries);
+    }
+
+    public void save(String email, String refreshToken, Duration ttl) {
+        write(email, new Entry(refreshToken, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    public void delete(String email, Duration ttl) {
+        write(email, new Entry(null, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    /**
+     * 아직 Redis에 반영되지 않은 로컬 항목 조회 (만료된 항목은 제거)
+     */
+    public Optional<Entry> find(String email) {
+        Entry entry = entries.get(email);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(email, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    public boolean hasPendingOperations() {
+        return !pendingOperations.isEmpty();
+    }
+
+    public PendingOperation peekPendingOperation() {
+        return pendingOperations.peekFirst();
+    }
+
+    /**
+     * 재생이 끝난 작업을 큐에서 제거하고, 같은 상태의 로컬 항목도 정리
+     */
+    public void completePendingOperation(PendingOperation operation) {
+        pendingOperations.remove(operation);
+        entries.remove(operation.email(), operation.entry());
+    }
+
+    public int pendingOperationCount() {
+        return pendingOperations.size();
+    }
+
+    public int entryCount() {
+        return entries.size();
+    }
+
+    private void write(String email, Entry entry) {
+        if (entries.size() >= maxEntries && !entries.containsKey(email)) {
+            purgeExpired();
+        }
+
+        if (entries.size() >= maxEntries && !entries.containsKey(email)) {
+            log.warn("Refresh Token 로컬 저장소가 가득 찼습니다. 저장하지 않음: 이메일={}", email);
+            return;
+        }
+
+        entries.put(email, entry);
+
+        // 큐가 가득 차면 가장 오래된 작업을 버림 (해당 사용자는 재로그인 필요)
+        PendingOperation operation = new PendingOperation(email, entry);
+        while (!pendingOperations.offerLast(operation)) {
+            PendingOperation dropped = pendingOperations.pollFirst();
+            if (dropped != null) {
+                log.warn("Refresh Token 재생 큐가 가득 차 가장 오래된 작업을 버립니다: 이메일={}", dropped.email());
+            }
+        }
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+    }
+}
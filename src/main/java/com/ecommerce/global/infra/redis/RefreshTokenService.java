@@ -1,15 +1,25 @@
 package com.ecommerce.global.infra.redis;
 
+import com.ecommerce.global.infra.redis.RefreshTokenFallbackStore.Entry;
+import com.ecommerce.global.infra.redis.RefreshTokenFallbackStore.PendingOperation;
 import com.ecommerce.global.utils.DurationUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.Optional;
 
+/**
+ * Refresh Token 저장소
+ *
+ * 모든 Redis 호출은 {@link RedisCircuitBreaker}를 거치며, Redis 장애 시에는 {@link RefreshTokenFallbackStore}에
+ * 기록했다가 복구 후 순서대로 재생한다. 재생 대기 중인 작업이 남아 있는 동안에는 순서 보장을 위해
+ * 새 저장/삭제도 큐를 거친다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -19,29 +29,101 @@ public class RefreshTokenService {
     private String refreshTokenExpiration;
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RefreshTokenFallbackStore fallbackStore;
 
     public void saveRefreshToken(String email, String refreshToken) {
         Duration expirationDuration = DurationUtils.parse(refreshTokenExpiration);
-        redisTemplate.opsForValue().set(email, refreshToken, expirationDuration);
-        log.info("Redis에 Refresh Token 저장 완료: 이메일={}, 만료 기간={}", email, expirationDuration);
 
+        boolean saved = !fallbackStore.hasPendingOperations() && circuitBreaker.execute(() -> {
+            redisTemplate.opsForValue().set(email, refreshToken, expirationDuration);
+            return true;
+        }, () -> false);
+
+        if (saved) {
+            log.info("Redis에 Refresh Token 저장 완료: 이메일={}, 만료 기간={}", email, expirationDuration);
+            return;
+        }
+
+        fallbackStore.save(email, refreshToken, expirationDuration);
+        log.warn("Redis 사용 불가, Refresh Token 로컬 저장: 이메일={}", email);
     }
 
 
     public Optional<String> getRefreshToken(String email) {
-        String refreshToken =redisTemplate.opsForValue().get(email);
+        // 아직 Redis에 반영되지 않은 로컬 상태가 최신
+        Optional<Entry> local = fallbackStore.find(email);
+        if (local.isPresent()) {
+            log.debug("로컬 저장소에서 Refresh Token 조회: 이메일={}", email);
+            return Optional.ofNullable(local.get().token());
+        }
+
+        String refreshToken = circuitBreaker.execute(() -> redisTemplate.opsForValue().get(email), () -> null);
         log.debug("Redis에서 Refresh Token 조회: 이메일={}, 토큰={}", email, refreshToken != null ? "존재" : "없음");
         return Optional.ofNullable(refreshToken);
     }
 
     public void deleteRefreshToken(String email) {
-        // Redis에서 키를 삭제합니다.
-        Boolean deleted = redisTemplate.delete(email);
-        if (deleted) {
-            log.info("Redis에서 Refresh Token 삭제 완료: 이메일={}", email);
-        } else {
-            log.warn("Redis에서 Refresh Token 삭제 실패 또는 이미 존재하지 않음: 이메일={}", email);
+        if (!fallbackStore.hasPendingOperations()) {
+            // Redis에서 키를 삭제합니다.
+            Boolean deleted = circuitBreaker.execute(() -> redisTemplate.delete(email), () -> null);
+            if (deleted != null) {
+                if (Boolean.TRUE.equals(deleted)) {
+                    log.info("Redis에서 Refresh Token 삭제 완료: 이메일={}", email);
+                } else {
+                    log.warn("Redis에서 Refresh Token 삭제 실패 또는 이미 존재하지 않음: 이메일={}", email);
+                }
+                return;
+            }
         }
+
+        fallbackStore.delete(email, DurationUtils.parse(refreshTokenExpiration));
+        log.warn("Redis 사용 불가, Refresh Token 삭제를 로컬에 기록: 이메일={}", email);
+    }
+
+    /**
+     * Redis 장애 중 쌓인 작업을 순서대로 재생. 실패하면 남은 작업은 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${app.redis.fallback.replay-interval-ms:5000}")
+    public void replayPendingOperations() {
+        if (!fallbackStore.hasPendingOperations() || circuitBreaker.getState() == RedisCircuitBreaker.State.OPEN) {
+            return;
+        }
+
+        int replayed = 0;
+        PendingOperation operation;
+        while ((operation = fallbackStore.peekPendingOperation()) != null) {
+            if (!replay(operation)) {
+                log.warn("Refresh Token 재생 중단: 재생={}건, 남은 작업={}건", replayed, fallbackStore.pendingOperationCount());
+                return;
+            }
+            fallbackStore.completePendingOperation(operation);
+            replayed++;
+        }
+
+        log.info("Refresh Token 로컬 작업 재생 완료: {}건", replayed);
+    }
+
+    private boolean replay(PendingOperation operation) {
+        String email = operation.email();
+        Entry entry = operation.entry();
+
+        if (entry.isDeleted()) {
+            return circuitBreaker.execute(() -> {
+                redisTemplate.delete(email);
+                return true;
+            }, () -> false);
+        }
+
+        long remainingMillis = entry.expiresAtMillis() - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            return true;
+        }
+
+        return circuitBreaker.execute(() -> {
+            redisTemplate.opsForValue().set(email, entry.token(), Duration.ofMillis(remainingMillis));
+            return true;
+        }, () -> false);
     }
 
 }
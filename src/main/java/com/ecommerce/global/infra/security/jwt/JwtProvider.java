@@ -1,17 +1,18 @@
 package com.ecommerce.global.infra.security.jwt;
 
 import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.global.infra.security.jwt.key.JwtKeyManager;
 import com.ecommerce.global.utils.constants.TokenType;
 import com.ecommerce.global.utils.DurationUtils;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
 
 import static com.ecommerce.global.utils.constants.SecurityConstants.ROLE_CLAIM;
@@ -21,17 +22,21 @@ import static com.ecommerce.global.utils.constants.TokenType.REFRESH;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtProvider {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
     @Value("${jwt.access-token-expiration}")
     private String accessTokenExpiration;
 
     @Value("${jwt.refresh-token-expiration}")
     private String refreshTokenExpiration;
 
+    // 서명 방식(HMAC / ES256 / EdDSA)과 키는 JwtKeyManager가 관리
+    private final JwtKeyManager keyManager;
+
+    // 한 번만 생성 (검증 키는 kid별로 JwtKeyManager에서 조회)
+    private volatile JwtParser jwtParser;
+
     public String generateAccessToken(User user) {
         return generateToken(user, accessTokenExpiration, ACCESS);
     }
@@ -45,22 +50,26 @@ public class JwtProvider {
         long expirationMillis = DurationUtils.parseToMillis(expiration);
         Date expiryDate = new Date(now.getTime() + expirationMillis);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(user.getEmail())
                         .claim(ROLE_CLAIM, user.getRole().name())
                         .claim(TOKEN_TYPE_CLAIM, tokenType.getValue())  // 토큰 타입 추가
                         .issuedAt(now)
-                        .expiration(expiryDate)
-                .signWith(getSigningKey())
+                        .expiration(expiryDate);
+
+        // 비대칭 모드에서는 검증 노드가 공개 키를 찾을 수 있도록 kid 헤더 추가
+        if (keyManager.getKeyId() != null) {
+            builder.header().keyId(keyManager.getKeyId());
+        }
+
+        return builder
+                .signWith(keyManager.getSigningKey())
                 .compact();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            getParser().parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
@@ -79,16 +88,20 @@ public class JwtProvider {
     }
 
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return getParser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .keyLocator(keyManager)
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
     }
 
     public String getTokenType(String token) {
@@ -0,0 +1,105 @@
+package com.ecommerce.global.infra.security.jwt;
+
+import com.ecommerce.global.utils.DurationUtils;
+import com.ecommerce.global.utils.constants.SecurityConstants;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 쿠키 Set-Cookie 헤더 작성기
+ *
+ * {@link org.springframework.http.ResponseCookie}와 같은 형식의 헤더를 만들지만, 토큰 값을 제외한 속성 문자열(Path, Max-Age,
+ * Secure, HttpOnly, SameSite)을 기동 시 한 번만 계산해 두고 요청마다 문자열 연결 한 번으로 헤더를 작성한다.
+ * 로그아웃용 만료 쿠키 헤더는 값까지 모두 고정이므로 통째로 미리 만들어 둔다.
+ *
+ * 토큰 값은 서버가 발급한 JWT(base64url + '.')만 들어오므로 별도의 쿠키 값 검증은 하지 않는다.
+ */
+@Slf4j
+@Component
+public class TokenCookieWriter {
+
+    private static final String EXPIRED_DATE = "Thu, 01 Jan 1970 00:00:00 GMT";
+
+    private final String accessTokenPrefix;
+    private final String accessTokenSuffix;
+    private final String refreshTokenPrefix;
+    private final String refreshTokenSuffix;
+    private final String expiredAccessTokenHeader;
+    private final String expiredRefreshTokenHeader;
+
+    public TokenCookieWriter(
+            @Value("${jwt.access-token-expiration}") String accessTokenMaxAge,
+            @Value("${jwt.refresh-token-expiration}") String refreshTokenMaxAge,
+            @Value("${app.cookie.secure:false}") boolean secure,
+            @Value("${app.cookie.http-only:true}") boolean httpOnly,
+            @Value("${app.cookie.same-site:Strict}") String sameSite
+    ) {
+        String flags = flags(secure, httpOnly, sameSite);
+
+        this.accessTokenPrefix = SecurityConstants.ACCESS_TOKEN_COOKIE_NAME + "=";
+        this.refreshTokenPrefix = SecurityConstants.REFRESH_TOKEN_COOKIE_NAME + "=";
+        this.accessTokenSuffix = attributes(DurationUtils.parse(accessTokenMaxAge).getSeconds()) + flags;
+        this.refreshTokenSuffix = attributes(DurationUtils.parse(refreshTokenMaxAge).getSeconds()) + flags;
+
+        String expiredSuffix = attributes(0) + "; Expires=" + EXPIRED_DATE + flags;
+        this.expiredAccessTokenHeader = accessTokenPrefix + expiredSuffix;
+        this.expiredRefreshTokenHeader = refreshTokenPrefix + expiredSuffix;
+
+        log.info("토큰 쿠키 속성 초기화: access={}, refresh={}", accessTokenSuffix, refreshTokenSuffix);
+    }
+
+    /**
+     * 로그인/토큰 재발급 응답에 Access / Refresh Token 쿠키 추가
+     */
+    public void addLoginCookies(HttpServletResponse response, String accessToken, String refreshToken) {
+        response.addHeader(HttpHeaders.SET_COOKIE, accessTokenHeader(accessToken));
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenHeader(refreshToken));
+    }
+
+    /**
+     * 로그아웃 응답에 미리 만들어 둔 만료 쿠키 두 개를 추가
+     *
+     * 쿠키 하나당 Set-Cookie 헤더 하나가 필요하므로(RFC 6265 4.1) 헤더는 두 개지만, 문자열 생성 없이 상수만 쓴다.
+     */
+    public void addExpiredCookies(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, expiredAccessTokenHeader);
+        response.addHeader(HttpHeaders.SET_COOKIE, expiredRefreshTokenHeader);
+    }
+
+    public String accessTokenHeader(String accessToken) {
+        return accessTokenPrefix + accessToken + accessTokenSuffix;
+    }
+
+    public String refreshTokenHeader(String refreshToken) {
+        return refreshTokenPrefix + refreshToken + refreshTokenSuffix;
+    }
+
+    public String expiredAccessTokenHeader() {
+        return expiredAccessTokenHeader;
+    }
+
+    public String expiredRefreshTokenHeader() {
+        return expiredRefreshTokenHeader;
+    }
+
+    private static String attributes(long maxAgeSeconds) {
+        return "; Path=" + SecurityConstants.COOKIE_PATH + "; Max-Age=" + maxAgeSeconds;
+    }
+
+    private static String flags(boolean secure, boolean httpOnly, String sameSite) {
+        StringBuilder sb = new StringBuilder();
+        if (secure) {
+            sb.append("; Secure");
+        }
+        if (httpOnly) {
+            sb.append("; HttpOnly");
+        }
+        if (sameSite != null && !sameSite.isBlank()) {
+            sb.append("; SameSite=").append(sameSite);
+        }
+        return sb.toString();
+    }
+}
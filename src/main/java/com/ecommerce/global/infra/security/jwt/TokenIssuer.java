@@ -0,0 +1,188 @@
+package com.ecommerce.global.infra.security.jwt;
+
+import com.ecommerce.api.v1.user.dto.response.TokenPair;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.global.infra.security.jwt.key.JwtAlgorithm;
+import com.ecommerce.global.infra.security.jwt.key.JwtKeyManager;
+import com.ecommerce.global.utils.DurationUtils;
+import com.ecommerce.global.utils.constants.TokenType;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+
+import static com.ecommerce.global.utils.constants.SecurityConstants.ROLE_CLAIM;
+import static com.ecommerce.global.utils.constants.SecurityConstants.TOKEN_TYPE_CLAIM;
+
+/**
+ * Access / Refresh Token 발급기
+ *
+ * {@link JwtProvider}로 발급한 토큰과 같은 형식(alg/kid 헤더, sub/role/tokenType/iat/exp)의 JWT를 만들되,
+ * 만료 기간 파싱, 키 생성, 헤더 인코딩은 기동 시 한 번만 수행하고 두 토큰이 sub/role 클레임 문자열을 공유한다.
+ * 서명 객체({@link Mac} / {@link Signature})는 스레드별로 재사용한다.
+ * 개인 키 없이 jwks-uri만 설정한 검증 전용 노드에서는 기동은 하되 발급 요청을 거절한다.
+ */
+@Slf4j
+@Component
+public class TokenIssuer {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final JsonStringEncoder JSON = JsonStringEncoder.getInstance();
+
+    private final JwtKeyManager keyManager;
+    private final long accessTokenExpirationMillis;
+    private final long refreshTokenExpirationMillis;
+    private final String encodedHeader;
+    private final String accessTypeClaim;
+    private final String refreshTypeClaim;
+    private final ThreadLocal<JwsSigner> signerHolder;
+
+    public TokenIssuer(
+            JwtKeyManager keyManager,
+            @Value("${jwt.access-token-expiration}") String accessTokenExpiration,
+            @Value("${jwt.refresh-token-expiration}") String refreshTokenExpiration
+    ) {
+        this.keyManager = keyManager;
+        this.accessTokenExpirationMillis = DurationUtils.parseToMillis(accessTokenExpiration);
+        this.refreshTokenExpirationMillis = DurationUtils.parseToMillis(refreshTokenExpiration);
+
+        this.accessTypeClaim = typeClaim(TokenType.ACCESS);
+        this.refreshTypeClaim = typeClaim(TokenType.REFRESH);
+
+        if (!keyManager.canSign()) {
+            // jwks-uri만 설정한 검증 전용 노드: 서명 키가 없으므로 발급 요청 시점에 키 관리자가 예외를 던짐
+            this.encodedHeader = null;
+            this.signerHolder = null;
+            log.info("토큰 발급기 비활성화: 서명 키가 없는 검증 전용 노드");
+            return;
+        }
+
+        Key key = keyManager.getSigningKey();
+        String alg;
+        if (key instanceof SecretKey secretKey) {
+            HmacAlgorithm hmacAlgorithm = HmacAlgorithm.forKeyLength(secretKey.getEncoded().length);
+            alg = hmacAlgorithm.name();
+            this.signerHolder = ThreadLocal.withInitial(() -> macSigner(hmacAlgorithm, secretKey));
+        } else {
+            JwtAlgorithm algorithm = keyManager.getAlgorithm();
+            alg = algorithm.name();
+            this.signerHolder = ThreadLocal.withInitial(() -> signatureSigner(algorithm, (PrivateKey) key));
+        }
+
+        String kid = keyManager.getKeyId();
+        this.encodedHeader = base64Url("{\"alg\":\"" + alg + "\""
+                + (kid != null ? ",\"kid\":" + quote(kid) : "") + "}");
+
+        // 설정 오류는 첫 요청이 아닌 기동 시점에 드러나도록 미리 한 번 생성
+        signerHolder.get();
+        log.info("토큰 발급기 초기화: alg={}, kid={}, access={}ms, refresh={}ms",
+                alg, kid, accessTokenExpirationMillis, refreshTokenExpirationMillis);
+    }
+
+    /**
+     * 같은 발급 시각으로 Access / Refresh Token 쌍을 발급
+     *
+     * @throws IllegalStateException 서명 키가 없는 검증 전용 노드인 경우
+     */
+    public TokenPair issue(User user) {
+        if (signerHolder == null) {
+            keyManager.getSigningKey();
+        }
+        long nowMillis = System.currentTimeMillis();
+        String subjectClaims = "{\"sub\":" + quote(user.getEmail())
+                + ",\"" + ROLE_CLAIM + "\":" + quote(user.getRole().name());
+
+        String accessToken = sign(subjectClaims, accessTypeClaim, nowMillis, accessTokenExpirationMillis);
+        String refreshToken = sign(subjectClaims, refreshTypeClaim, nowMillis, refreshTokenExpirationMillis);
+        return new TokenPair(accessToken, refreshToken);
+    }
+
+    private String sign(String subjectClaims, String typeClaim, long nowMillis, long expirationMillis) {
+        // jjwt와 동일하게 iat/exp는 초 단위로 절사
+        String payload = subjectClaims + typeClaim
+                + ",\"iat\":" + nowMillis / 1000
+                + ",\"exp\":" + (nowMillis + expirationMillis) / 1000 + "}";
+
+        String signingInput = encodedHeader + "." + base64Url(payload);
+        byte[] signature = signerHolder.get().sign(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + BASE64_URL.encodeToString(signature);
+    }
+
+    private static String typeClaim(TokenType tokenType) {
+        return ",\"" + TOKEN_TYPE_CLAIM + "\":" + quote(tokenType.getValue());
+    }
+
+    private static String quote(String value) {
+        return "\"" + new String(JSON.quoteAsString(value)) + "\"";
+    }
+
+    private static String base64Url(String json) {
+        return BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JwsSigner macSigner(HmacAlgorithm algorithm, SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance(algorithm.jcaName);
+            mac.init(key);
+            return mac::doFinal;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 Mac 생성 실패: " + algorithm, e);
+        }
+    }
+
+    private static JwsSigner signatureSigner(JwtAlgorithm algorithm, PrivateKey key) {
+        try {
+            Signature signature = Signature.getInstance(algorithm.getSignatureAlgorithm());
+            signature.initSign(key);
+            return input -> {
+                try {
+                    signature.update(input);
+                    return signature.sign();
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("JWT 서명 실패: " + algorithm, e);
+                }
+            };
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 객체 생성 실패: " + algorithm, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JwsSigner {
+        byte[] sign(byte[] signingInput);
+    }
+
+    /**
+     * jjwt가 SecretKey 길이로 고르는 알고리즘과 동일한 기준
+     */
+    private enum HmacAlgorithm {
+        HS256("HmacSHA256"),
+        HS384("HmacSHA384"),
+        HS512("HmacSHA512");
+
+        private final String jcaName;
+
+        HmacAlgorithm(String jcaName) {
+            this.jcaName = jcaName;
+        }
+
+        static HmacAlgorithm forKeyLength(int keyBytes) {
+            if (keyBytes >= 64) {
+                return HS512;
+            }
+            if (keyBytes >= 48) {
+                return HS384;
+            }
+            return HS256;
+        }
+    }
+}
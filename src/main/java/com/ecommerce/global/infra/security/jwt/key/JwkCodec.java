@@ -0,0 +1,141 @@
+package com.ecommerce.global.infra.security.jwt.key;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 키 <-> JWK(RFC 7517) 변환
+ *
+ * EC P-256(kty=EC)과 Ed25519(kty=OKP)만 지원한다.
+ */
+final class JwkCodec {
+
+    // Ed25519 공개 키 X.509(SubjectPublicKeyInfo) 인코딩 앞부분. 뒤에 32바이트 원본 키가 붙는다
+    private static final byte[] ED25519_X509_PREFIX = HexFormat.of().parseHex("302a300506032b6570032100");
+    private static final int ED25519_KEY_LENGTH = 32;
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    private JwkCodec() {
+    }
+
+    /**
+     * JWKS 응답용 JWK
+     */
+    static Map<String, String> toJwk(String keyId, JwtAlgorithm algorithm, PublicKey publicKey) {
+        Map<String, String> jwk = new LinkedHashMap<>(publicParameters(algorithm, publicKey));
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.name());
+        return jwk;
+    }
+
+    /**
+     * RFC 7638 JWK Thumbprint (kid 미설정 시 기본값)
+     */
+    static String thumbprint(JwtAlgorithm algorithm, PublicKey publicKey) {
+        String canonical = publicParameters(algorithm, publicKey).entrySet().stream()
+                .map(e -> "\"" + e.getKey() + "\":\"" + e.getValue() + "\"")
+                .collect(Collectors.joining(",", "{", "}"));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return BASE64_URL.encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWK Thumbprint 계산 실패", e);
+        }
+    }
+
+    /**
+     * JWK를 공개 키로 변환. 지원하지 않는 키 형식이면 empty
+     */
+    static Optional<PublicKey> fromJwk(Map<String, ?> jwk) {
+        Object kty = jwk.get("kty");
+        Object crv = jwk.get("crv");
+
+        try {
+            if ("EC".equals(kty) && "P-256".equals(crv)) {
+                BigInteger x = new BigInteger(1, BASE64_URL_DECODER.decode((String) jwk.get("x")));
+                BigInteger y = new BigInteger(1, BASE64_URL_DECODER.decode((String) jwk.get("y")));
+                ECPublicKeySpec spec = new ECPublicKeySpec(new ECPoint(x, y), p256Parameters());
+                return Optional.of(KeyFactory.getInstance("EC").generatePublic(spec));
+            }
+
+            if ("OKP".equals(kty) && "Ed25519".equals(crv)) {
+                byte[] raw = BASE64_URL_DECODER.decode((String) jwk.get("x"));
+                byte[] encoded = Arrays.copyOf(ED25519_X509_PREFIX, ED25519_X509_PREFIX.length + raw.length);
+                System.arraycopy(raw, 0, encoded, ED25519_X509_PREFIX.length, raw.length);
+                return Optional.of(KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(encoded)));
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException | ClassCastException e) {
+            return Optional.empty();
+        }
+
+        return Optional.empty();
+    }
+
+    // Thumbprint 계산을 위해 키 이름 사전순으로 정렬
+    private static Map<String, String> publicParameters(JwtAlgorithm algorithm, PublicKey publicKey) {
+        Map<String, String> params = new TreeMap<>();
+        switch (algorithm) {
+            case ES256 -> {
+                ECPoint point = ((ECPublicKey) publicKey).getW();
+                params.put("crv", "P-256");
+                params.put("kty", "EC");
+                params.put("x", BASE64_URL.encodeToString(toFixedLength(point.getAffineX())));
+                params.put("y", BASE64_URL.encodeToString(toFixedLength(point.getAffineY())));
+            }
+            case EdDSA -> {
+                byte[] encoded = publicKey.getEncoded();
+                byte[] raw = Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length);
+                params.put("crv", "Ed25519");
+                params.put("kty", "OKP");
+                params.put("x", BASE64_URL.encodeToString(raw));
+            }
+            default -> throw new IllegalArgumentException("JWK로 공개할 수 없는 알고리즘: " + algorithm);
+        }
+        return params;
+    }
+
+    private static byte[] toFixedLength(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == P256_COORDINATE_LENGTH) {
+            return bytes;
+        }
+
+        byte[] fixed = new byte[P256_COORDINATE_LENGTH];
+        if (bytes.length > P256_COORDINATE_LENGTH) {
+            // 부호 비트용 선행 0 제거
+            System.arraycopy(bytes, bytes.length - P256_COORDINATE_LENGTH, fixed, 0, P256_COORDINATE_LENGTH);
+        } else {
+            System.arraycopy(bytes, 0, fixed, P256_COORDINATE_LENGTH - bytes.length, bytes.length);
+        }
+        return fixed;
+    }
+
+    private static ECParameterSpec p256Parameters() throws GeneralSecurityException {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        return parameters.getParameterSpec(ECParameterSpec.class);
+    }
+}
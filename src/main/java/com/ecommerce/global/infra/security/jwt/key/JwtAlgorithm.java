@@ -0,0 +1,26 @@
+package com.ecommerce.global.infra.security.jwt.key;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 서명 방식
+ *
+ * HMAC: jwt.secret 공유 키 (키 길이에 따라 HS256/HS384/HS512)
+ * ES256: ECDSA P-256 비대칭 키
+ * EdDSA: Ed25519 비대칭 키
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JwtAlgorithm {
+    HMAC(null, null),
+    ES256("EC", "SHA256withECDSAinP1363Format"),   // JWS 서명 형식(R||S)
+    EdDSA("Ed25519", "Ed25519");
+
+    private final String keyFactoryAlgorithm;
+    private final String signatureAlgorithm;
+
+    public boolean isAsymmetric() {
+        return this != HMAC;
+    }
+}
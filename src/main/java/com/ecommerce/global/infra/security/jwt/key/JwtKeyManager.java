@@ -0,0 +1,326 @@
+package com.ecommerce.global.infra.security.jwt.key;
+
+import com.ecommerce.global.utils.DurationUtils;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JWT 서명 / 검증 키 관리
+ *
+ * HMAC 모드에서는 jwt.secret 하나로 서명과 검증을 모두 한다.
+ * 비대칭 모드(ES256, EdDSA)에서는 개인 키로 서명하고 kid 헤더를 붙이며, 검증 노드는 kid별로 파싱해 둔 공개 키를 사용한다.
+ * 개인 키가 없는 노드(엣지)는 jwt.verification.jwks-uri에서 공개 키를 받아 검증만 한다.
+ * 개인 키도 jwks-uri도 없으면 기동에 실패한다. dev/local 프로필에서만 노드마다 임시 키 쌍을 만들어 쓴다
+ * (노드끼리 서로의 토큰을 검증하지 못하고 재시작하면 기존 토큰이 무효가 되므로 운영에서는 허용하지 않음).
+ *
+ * 무중단 키 교체 절차:
+ * 1. 새 키 쌍으로 서명 노드를 배포하면서 기존 공개 키를 jwt.signing.previous-public-keys에 등록 (JWKS에 함께 공개)
+ * 2. 검증 노드는 처음 보는 kid를 만나면 JWKS를 다시 받아 캐시에 추가 (refresh-interval 간격 제한)
+ *    JWKS 요청은 jwt.verification.timeout 안에 끝나야 하며, 다른 요청이 재조회 중이면 기다리지 않고 캐시된 키로 검증한다.
+ * 3. 기존 키로 발급된 토큰이 모두 만료되면 previous-public-keys에서 제거
+ */
+@Slf4j
+@Component
+public class JwtKeyManager extends LocatorAdapter<Key> {
+
+    @Getter
+    private final JwtAlgorithm algorithm;
+
+    // HMAC 모드
+    private final SecretKey secretKey;
+
+    // 비대칭 모드
+    @Getter
+    private final String keyId;
+    private final PrivateKey privateKey;
+    private final Map<String, PublicKey> localPublicKeys;
+    private final String jwksUri;
+    private final long refreshIntervalMillis;
+    private final RestClient restClient;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> remotePublicKeys = Map.of();
+    private volatile long lastRefreshMillis;
+
+    @Autowired
+    public JwtKeyManager(
+            @Value("${jwt.signing.algorithm:HMAC}") JwtAlgorithm algorithm,
+            @Value("${jwt.secret:}") String secret,
+            @Value("${jwt.signing.key-id:}") String keyId,
+            @Value("${jwt.signing.private-key:}") String privateKey,
+            @Value("${jwt.signing.public-key:}") String publicKey,
+            @Value("${jwt.signing.previous-public-keys:}") String previousPublicKeys,
+            @Value("${jwt.verification.jwks-uri:}") String jwksUri,
+            @Value("${jwt.verification.refresh-interval:30s}") String refreshInterval,
+            @Value("${jwt.verification.timeout:2s}") String timeout,
+            @Value("#{environment.matchesProfiles('dev', 'local')}") boolean ephemeralKeyAllowed
+    ) {
+        this.algorithm = algorithm;
+        this.jwksUri = StringUtils.hasText(jwksUri) ? jwksUri : null;
+        this.refreshIntervalMillis = DurationUtils.parseToMillis(refreshInterval);
+        this.restClient = this.jwksUri != null ? jwksClient(DurationUtils.parse(timeout)) : null;
+
+        if (!algorithm.isAsymmetric()) {
+            if (!StringUtils.hasText(secret)) {
+                throw new IllegalStateException("HMAC 모드에서는 jwt.secret 설정이 필요합니다.");
+            }
+            this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+            this.keyId = null;
+            this.privateKey = null;
+            this.localPublicKeys = Map.of();
+            return;
+        }
+
+        this.secretKey = null;
+        KeyPair keyPair = loadKeyPair(algorithm, privateKey, publicKey, this.jwksUri, ephemeralKeyAllowed);
+        this.privateKey = keyPair != null ? keyPair.getPrivate() : null;
+
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        if (keyPair != null) {
+            this.keyId = StringUtils.hasText(keyId) ? keyId : JwkCodec.thumbprint(algorithm, keyPair.getPublic());
+            keys.put(this.keyId, keyPair.getPublic());
+        } else {
+            this.keyId = null;
+        }
+        keys.putAll(parsePreviousPublicKeys(algorithm, previousPublicKeys));
+        this.localPublicKeys = Map.copyOf(keys);
+
+        log.info("JWT 비대칭 서명 모드: alg={}, kid={}, 로컬 공개 키={}개, jwks-uri={}",
+                algorithm, this.keyId, localPublicKeys.size(), this.jwksUri);
+    }
+
+    /**
+     * 코드에서 직접 생성 (테스트 / 벤치마크용). 임시 키 쌍은 만들지 않음
+     */
+    public JwtKeyManager(JwtAlgorithm algorithm, String secret, String keyId, String privateKey, String publicKey,
+                         String previousPublicKeys, String jwksUri, String refreshInterval, String timeout) {
+        this(algorithm, secret, keyId, privateKey, publicKey, previousPublicKeys, jwksUri, refreshInterval, timeout, false);
+    }
+
+    public static JwtKeyManager hmac(String secret) {
+        return new JwtKeyManager(JwtAlgorithm.HMAC, secret, "", "", "", "", "", "30s", "2s");
+    }
+
+    public static JwtKeyManager asymmetric(JwtAlgorithm algorithm, KeyPair keyPair) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        return new JwtKeyManager(algorithm, "", "",
+                encoder.encodeToString(keyPair.getPrivate().getEncoded()),
+                encoder.encodeToString(keyPair.getPublic().getEncoded()),
+                "", "", "30s", "2s");
+    }
+
+    public static KeyPair generateKeyPair(JwtAlgorithm algorithm) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyFactoryAlgorithm());
+            if (algorithm == JwtAlgorithm.ES256) {
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 키 쌍 생성 실패: " + algorithm, e);
+        }
+    }
+
+    /**
+     * 이 노드가 토큰을 발급할 수 있는지 (개인 키 없이 jwks-uri만 설정한 검증 전용 노드는 false)
+     */
+    public boolean canSign() {
+        return !algorithm.isAsymmetric() || privateKey != null;
+    }
+
+    /**
+     * 서명 키 (HMAC 모드는 SecretKey, 비대칭 모드는 PrivateKey)
+     */
+    public Key getSigningKey() {
+        if (!algorithm.isAsymmetric()) {
+            return secretKey;
+        }
+        if (privateKey == null) {
+            throw new IllegalStateException("개인 키가 없는 검증 전용 노드에서는 토큰을 발급할 수 없습니다.");
+        }
+        return privateKey;
+    }
+
+    /**
+     * jjwt 파서의 서명 검증 키 조회
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        if (!algorithm.isAsymmetric()) {
+            return secretKey;
+        }
+
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new UnsupportedJwtException("kid 헤더가 없는 토큰입니다.");
+        }
+
+        PublicKey key = findPublicKey(kid);
+        if (key == null && refreshRemoteKeys()) {
+            key = findPublicKey(kid);
+        }
+        if (key == null) {
+            throw new InvalidKeyException("알 수 없는 kid: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * JWKS 응답 본문 ({"keys": [...]}) - HMAC 모드에서는 빈 목록
+     */
+    public Map<String, Object> getJwkSet() {
+        List<Map<String, String>> keys = new ArrayList<>();
+        localPublicKeys.forEach((kid, key) -> keys.add(JwkCodec.toJwk(kid, algorithm, key)));
+        return Map.of("keys", keys);
+    }
+
+    private PublicKey findPublicKey(String kid) {
+        PublicKey key = localPublicKeys.get(kid);
+        return key != null ? key : remotePublicKeys.get(kid);
+    }
+
+    /**
+     * 원격 JWKS 재조회. refresh-interval 안에서는 다시 요청하지 않음
+     *
+     * kid는 요청자가 정하는 값이므로, 다른 요청이 재조회 중이면 기다리지 않고 실패로 처리해
+     * JWKS 서버가 느려도 요청 스레드가 줄줄이 묶이지 않게 한다.
+     */
+    private boolean refreshRemoteKeys() {
+        if (jwksUri == null || !refreshLock.tryLock()) {
+            return false;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            if (now - lastRefreshMillis < refreshIntervalMillis) {
+                return false;
+            }
+            lastRefreshMillis = now;
+            return fetchRemoteKeys();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean fetchRemoteKeys() {
+        try {
+            JwkSetResponse response = restClient.get().uri(jwksUri).retrieve().body(JwkSetResponse.class);
+            if (response == null || response.keys() == null) {
+                return false;
+            }
+
+            Map<String, PublicKey> keys = new LinkedHashMap<>();
+            for (Map<String, Object> jwk : response.keys()) {
+                Object kid = jwk.get("kid");
+                Optional<PublicKey> key = JwkCodec.fromJwk(jwk);
+                if (kid instanceof String id && key.isPresent()) {
+                    keys.put(id, key.get());
+                }
+            }
+
+            remotePublicKeys = Map.copyOf(keys);
+            log.info("JWKS 공개 키 갱신: {}개 ({})", keys.size(), jwksUri);
+            return true;
+        } catch (RestClientException e) {
+            log.warn("JWKS 조회 실패: {} - {}", jwksUri, e.getMessage());
+            return false;
+        }
+    }
+
+    private static RestClient jwksClient(Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        return RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    private static KeyPair loadKeyPair(JwtAlgorithm algorithm, String privateKey, String publicKey, String jwksUri,
+                                       boolean ephemeralKeyAllowed) {
+        if (!StringUtils.hasText(privateKey)) {
+            if (jwksUri != null) {
+                return null;    // 검증 전용 노드
+            }
+            if (!ephemeralKeyAllowed) {
+                throw new IllegalStateException("비대칭 모드에서는 jwt.signing.private-key 또는 jwt.verification.jwks-uri 설정이 필요합니다. "
+                        + "(임시 키 쌍은 dev/local 프로필에서만 생성)");
+            }
+            log.warn("jwt.signing.private-key가 없어 임시 {} 키 쌍을 생성합니다. 재시작 시 기존 토큰은 무효가 됩니다.", algorithm);
+            return generateKeyPair(algorithm);
+        }
+
+        if (!StringUtils.hasText(publicKey)) {
+            throw new IllegalStateException("jwt.signing.private-key와 함께 jwt.signing.public-key 설정이 필요합니다.");
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getKeyFactoryAlgorithm());
+            PrivateKey privateKeyValue = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(privateKey)));
+            PublicKey publicKeyValue = keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getMimeDecoder().decode(publicKey)));
+            return new KeyPair(publicKeyValue, privateKeyValue);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 서명 키를 읽을 수 없습니다: " + algorithm, e);
+        }
+    }
+
+    /**
+     * "kid=base64(X.509)" 쉼표 구분 목록
+     */
+    private static Map<String, PublicKey> parsePreviousPublicKeys(JwtAlgorithm algorithm, String value) {
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        if (!StringUtils.hasText(value)) {
+            return keys;
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getKeyFactoryAlgorithm());
+            for (String entry : value.split(",")) {
+                String[] parts = entry.trim().split("=", 2);
+                if (parts.length != 2) {
+                    throw new IllegalStateException("jwt.signing.previous-public-keys 형식 오류: " + entry);
+                }
+                keys.put(parts[0], keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getMimeDecoder().decode(parts[1]))));
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("jwt.signing.previous-public-keys를 읽을 수 없습니다.", e);
+        }
+        return keys;
+    }
+
+    record JwkSetResponse(List<Map<String, Object>> keys) {
+    }
+}
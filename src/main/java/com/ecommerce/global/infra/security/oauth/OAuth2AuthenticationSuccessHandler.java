@@ -1,20 +1,25 @@
 package com.ecommerce.global.infra.security.oauth;
 
+import com.ecommerce.api.v1.user.dto.response.TokenPair;
+import com.ecommerce.domain.order.service.GuestCartService;
 import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.service.TokenManagementService;
 import com.ecommerce.domain.user.service.UserService;
-import com.ecommerce.global.infra.security.jwt.JwtProvider;
-import com.ecommerce.global.infra.redis.RefreshTokenService;
-import com.ecommerce.global.infra.security.jwt.TokenCookieProvider;
+import com.ecommerce.global.infra.security.jwt.TokenCookieWriter;
+import com.ecommerce.global.infra.web.GuestCartCookie;
+import com.ecommerce.global.utils.constants.SecurityConstants;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseCookie;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
 
@@ -23,10 +28,11 @@ import java.io.IOException;
 @Component
 public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-    private final JwtProvider jwtProvider;
-    private final TokenCookieProvider tokenCookieProvider;
+    private final TokenManagementService tokenManagementService;
+    private final TokenCookieWriter tokenCookieWriter;
     private final UserService userService;
-    private final RefreshTokenService refreshTokenService;
+    private final GuestCartService guestCartService;
+    private final GuestCartCookie guestCartCookie;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
@@ -36,20 +42,18 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         // DB에서 사용자 정보 조회
         User user = userService.findByEmail(email);
 
-        // JWT 토큰 생성
-        String accessToken = jwtProvider.generateAccessToken(user);
-        String refreshToken = jwtProvider.generateRefreshToken(user);
-
-        // Redis Refresh Token 저장
-        refreshTokenService.saveRefreshToken(user.getEmail(), refreshToken);
-
-        // 쿠키 생성
-        ResponseCookie accessTokenCookie = tokenCookieProvider.createAccessTokenCookie(accessToken);
-        ResponseCookie refreshTokenCookie = tokenCookieProvider.createRefreshTokenCookie(refreshToken);
+        // 일반 로그인과 같은 경로로 토큰 발급 및 Redis Refresh Token 저장
+        TokenPair tokens = tokenManagementService.generateTokens(user);
 
         // 응답 헤더에 쿠키 추가
-        response.addHeader("Set-Cookie", accessTokenCookie.toString());
-        response.addHeader("Set-Cookie", refreshTokenCookie.toString());
+        tokenCookieWriter.addLoginCookies(response, tokens.accessToken(), tokens.refreshToken());
+
+        // 비로그인 장바구니가 있으면 사용자 장바구니에 합치고 쿠키 만료
+        Cookie guestCart = WebUtils.getCookie(request, SecurityConstants.GUEST_CART_COOKIE_NAME);
+        if (guestCart != null) {
+            guestCartService.mergeIntoUserCart(user, guestCart.getValue());
+            response.addHeader(HttpHeaders.SET_COOKIE, guestCartCookie.expiredHeader());
+        }
 
         // 프론트엔드 URL로 리디렉션
         String targetUrl = createRedirectUrl(request);
@@ -1,10 +1,10 @@
 package com.ecommerce.global.infra.web;
 
 import com.ecommerce.api.v1.user.dto.response.TokenPair;
-import com.ecommerce.global.infra.security.jwt.TokenCookieProvider;
+import com.ecommerce.global.infra.security.jwt.TokenCookieWriter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseCookie;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 /**
@@ -14,21 +14,22 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CookieResponseService {
 
-    private final TokenCookieProvider tokenCookieProvider;
+    private final TokenCookieWriter tokenCookieWriter;
+    private final GuestCartCookie guestCartCookie;
 
     public void addLoginCookies(HttpServletResponse response, TokenPair tokens) {
-        ResponseCookie accessCookie = tokenCookieProvider.createAccessTokenCookie(tokens.accessToken());
-        ResponseCookie refreshCookie = tokenCookieProvider.createRefreshTokenCookie(tokens.refreshToken());
-
-        response.addHeader("Set-Cookie", accessCookie.toString());
-        response.addHeader("Set-Cookie", refreshCookie.toString());
+        tokenCookieWriter.addLoginCookies(response, tokens.accessToken(), tokens.refreshToken());
     }
 
     public void addExpiredCookies(HttpServletResponse response) {
-        ResponseCookie accessCookie = tokenCookieProvider.createExpiredAccessTokenCookie();
-        ResponseCookie refreshCookie = tokenCookieProvider.createExpiredRefreshTokenCookie();
+        tokenCookieWriter.addExpiredCookies(response);
+    }
+
+    public void addGuestCartCookie(HttpServletResponse response, String value) {
+        response.addHeader(HttpHeaders.SET_COOKIE, guestCartCookie.header(value));
+    }
 
-        response.addHeader("Set-Cookie", accessCookie.toString());
-        response.addHeader("Set-Cookie", refreshCookie.toString());
+    public void addExpiredGuestCartCookie(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, guestCartCookie.expiredHeader());
     }
 }
@@ -0,0 +1,116 @@
+package com.ecommerce.global.infra.web;
+
+import com.ecommerce.global.utils.constants.SecurityConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 비로그인 장바구니 쿠키 (guest_cart)
+ *
+ * 값은 "임의 ID.서명" 형태이며, 서명은 ID의 HMAC-SHA256이다. 서명이 맞는 쿠키만 장바구니 ID로 인정하므로
+ * 다른 사람의 장바구니 ID를 추측하거나 바꿔 넣을 수 없다.
+ * {@link com.ecommerce.global.infra.security.jwt.TokenCookieWriter}처럼 값을 제외한 속성 문자열은 기동 시 한 번만 만든다.
+ *
+ * cookie-secret이 비어 있으면 기동할 때마다 임의 키를 쓰므로, 재기동이나 다중 인스턴스에서는 기존 쿠키가 무효가 된다.
+ */
+@Slf4j
+@Component
+public class GuestCartCookie {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String EXPIRED_DATE = "Thu, 01 Jan 1970 00:00:00 GMT";
+    private static final int ID_BYTES = 16;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+    private final String prefix;
+    private final String suffix;
+    private final String expiredHeader;
+
+    public GuestCartCookie(
+            @Value("${app.cart.guest.cookie-secret:}") String secret,
+            @Value("${app.cart.guest.ttl:7d}") Duration ttl,
+            @Value("${app.cookie.secure:false}") boolean secure,
+            @Value("${app.cookie.same-site:Lax}") String sameSite
+    ) {
+        byte[] secretBytes;
+        if (secret == null || secret.isBlank()) {
+            log.warn("app.cart.guest.cookie-secret 미설정: 임의 키 사용 (재기동 시 기존 비로그인 장바구니 쿠키 무효)");
+            secretBytes = new byte[32];
+            random.nextBytes(secretBytes);
+        } else {
+            secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+        newMac();
+
+        String flags = (secure ? "; Secure" : "") + "; HttpOnly"
+                + (sameSite != null && !sameSite.isBlank() ? "; SameSite=" + sameSite : "");
+        this.prefix = SecurityConstants.GUEST_CART_COOKIE_NAME + "=";
+        this.suffix = "; Path=" + SecurityConstants.COOKIE_PATH + "; Max-Age=" + ttl.getSeconds() + flags;
+        this.expiredHeader = prefix + "; Path=" + SecurityConstants.COOKIE_PATH + "; Max-Age=0; Expires=" + EXPIRED_DATE + flags;
+    }
+
+    /**
+     * 새 장바구니 ID를 만들고 서명한 쿠키 값을 반환
+     */
+    public String issue() {
+        byte[] id = new byte[ID_BYTES];
+        random.nextBytes(id);
+        String encoded = ENCODER.encodeToString(id);
+        return encoded + "." + sign(encoded);
+    }
+
+    /**
+     * 서명이 맞으면 장바구니 ID, 아니면 null
+     */
+    public String verify(String value) {
+        if (value == null) {
+            return null;
+        }
+        int dot = value.indexOf('.');
+        if (dot <= 0 || dot == value.length() - 1) {
+            return null;
+        }
+        String id = value.substring(0, dot);
+        byte[] expected = sign(id).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = value.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual) ? id : null;
+    }
+
+    public String header(String value) {
+        return prefix + value + suffix;
+    }
+
+    public String expiredHeader() {
+        return expiredHeader;
+    }
+
+    private String sign(String id) {
+        return ENCODER.encodeToString(mac.get().doFinal(id.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("비로그인 장바구니 쿠키 서명 키를 초기화하지 못했습니다.", e);
+        }
+    }
+}
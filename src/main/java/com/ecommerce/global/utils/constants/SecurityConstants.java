@@ -15,6 +15,7 @@ public final class SecurityConstants {
     // 쿠키 이름
     public static final String ACCESS_TOKEN_COOKIE_NAME = "access_token";
     public static final String REFRESH_TOKEN_COOKIE_NAME = "refresh_token";
+    public static final String GUEST_CART_COOKIE_NAME = "guest_cart";
     
     // 쿠키 경로
     public static final String COOKIE_PATH = "/";
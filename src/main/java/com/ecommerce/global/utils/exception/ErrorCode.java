@@ -36,10 +36,39 @@ public enum ErrorCode {
     // Product
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 상품을 찾을 수 없습니다."),
     STOCK_CANNOT_MINUS(HttpStatus.UNPROCESSABLE_ENTITY, "재고는 0보다 작을 수 없습니다."),
+    IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 이미지를 찾을 수 없습니다."),
+    UNSUPPORTED_IMPORT_FORMAT(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 등록 형식입니다. (application/x-ndjson, text/csv)"),
+
+    // Cart
+    CART_ITEM_LIMIT_EXCEEDED(HttpStatus.UNPROCESSABLE_ENTITY, "장바구니에 담을 수 있는 상품 종류 수를 넘었습니다."),
+
+    // Flash sale
+    FLASH_SALE_NOT_FOUND(HttpStatus.NOT_FOUND, "진행 중인 한정 판매가 아닙니다."),
+    FLASH_SALE_SOLD_OUT(HttpStatus.GONE, "한정 수량이 모두 소진되었습니다."),
+    FLASH_SALE_NOT_ADMITTED(HttpStatus.FORBIDDEN, "한정 판매 상품은 대기열을 통과한 뒤 로그인한 상태로 담을 수 있습니다."),
+    FLASH_SALE_QUANTITY_EXCEEDED(HttpStatus.BAD_REQUEST, "한정 판매 상품은 입장권 한 장으로 정해진 수량까지만 담을 수 있습니다."),
+
+    // Order / Payment
+    ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 주문을 찾을 수 없습니다."),
+    ORDER_NOT_PAYABLE(HttpStatus.CONFLICT, "결제할 수 없는 주문 상태입니다."),
+    PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 결제를 찾을 수 없습니다."),
+    PAYMENT_ALREADY_REQUESTED(HttpStatus.CONFLICT, "이미 결제가 진행 중이거나 완료된 주문입니다."),
+    PAYMENT_IN_PROGRESS(HttpStatus.CONFLICT, "같은 결제 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REQUIRED(HttpStatus.BAD_REQUEST, "Idempotency-Key 헤더가 필요합니다. (최대 64자)"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 사용된 Idempotency-Key 입니다."),
+    INVALID_STATUS_TRANSITION(HttpStatus.CONFLICT, "현재 상태에서 변경할 수 없는 상태입니다."),
+
+    // Delivery
+    INVALID_WEBHOOK_TOKEN(HttpStatus.UNAUTHORIZED, "택배사 웹훅 토큰이 올바르지 않습니다."),
+    TRACKING_STORE_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "배송 추적 변경을 저장하지 못했습니다. 잠시 후 다시 전송해주세요."),
 
     // Redis
     REDIS_OPERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Redis 작업 중 오류가 발생했습니다."),
     INVALID_REFRESH_REDIS_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Refresh Token이 유효하지 않거나 탈취되었을 수 있습니다"),
+    REDIS_CONNECTION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "Redis 커넥션을 얻지 못했습니다. 잠시 후 다시 시도해주세요."),
+
+    // Database
+    DB_CONNECTION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "DB 커넥션을 얻지 못했습니다. 잠시 후 다시 시도해주세요."),
 
     // 공통
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "입력값이 올바르지 않습니다.");;
@@ -2,8 +2,12 @@ package com.ecommerce.global.utils.exception;
 
 import com.ecommerce.global.utils.dto.RsData;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.PoolException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestCookieException;
@@ -31,6 +35,24 @@ public class GlobalExceptionHandler {
                 .body(RsData.error(e.getCode(), e.getMessage()));
     }
 
+    /**
+     * DB 커넥션 획득 실패 처리 - 풀 고갈(connection-timeout 초과) 포함
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<RsData<Object>> handleDatabaseConnectionException(Exception e) {
+        log.warn("[DB 커넥션 획득 실패] {}", e.getMessage());
+        return handleServiceException(new ServiceException(ErrorCode.DB_CONNECTION_UNAVAILABLE, e));
+    }
+
+    /**
+     * Redis 커넥션 획득 실패 처리 - 풀 고갈(max-wait 초과) 포함
+     */
+    @ExceptionHandler({PoolException.class, RedisConnectionFailureException.class})
+    public ResponseEntity<RsData<Object>> handleRedisConnectionException(Exception e) {
+        log.warn("[Redis 커넥션 획득 실패] {}", e.getMessage());
+        return handleServiceException(new ServiceException(ErrorCode.REDIS_CONNECTION_UNAVAILABLE, e));
+    }
+
     /**
      * 입력값 검증 실패 처리
      */
@@ -5,7 +5,10 @@ import com.ecommerce.api.v1.cart.dto.request.UpdateCartItemRequest;
 import com.ecommerce.api.v1.cart.dto.response.CartItemDto;
 import com.ecommerce.api.v1.cart.dto.response.CartResponseDto;
 import com.ecommerce.domain.order.service.CartService;
+import com.ecommerce.domain.order.service.GuestCartService;
+import com.ecommerce.global.utils.constants.SecurityConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +26,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -42,6 +46,9 @@ class CartControllerTest {
     @MockitoBean
     private CartService cartService;
 
+    @MockitoBean
+    private GuestCartService guestCartService;
+
     @Test
     @DisplayName("[장바구니 조회][성공] - 사용자의 장바구니 조회")
     @WithMockUser(username = "testuser")
@@ -161,5 +168,41 @@ class CartControllerTest {
                 .andExpect(jsonPath("$.message").value("장바구니에서 상품이 삭제되었습니다"));
     }
 
+    @Test
+    @DisplayName("[장바구니 조회][성공] - access 토큰 쿠키가 없으면 비로그인 장바구니 조회")
+    void getCart_NoAccessToken_GuestCart() throws Exception {
+        // given
+        CartResponseDto empty = CartResponseDto.builder()
+                .items(List.of())
+                .totalItems(0)
+                .totalAmount(BigDecimal.ZERO)
+                .build();
+        when(guestCartService.getCart(null)).thenReturn(empty);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/cart"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalItems").value(0));
+        verifyNoInteractions(cartService);
+    }
+
+    @Test
+    @DisplayName("[장바구니][실패] - access 토큰 쿠키가 만료/위조되었으면 비로그인 장바구니로 넘기지 않고 401")
+    void cart_InvalidAccessToken_Unauthorized() throws Exception {
+        // given
+        Cookie accessToken = new Cookie(SecurityConstants.ACCESS_TOKEN_COOKIE_NAME, "expired-or-forged-token");
 
-}
\ No newline at end of file
+        // when & then
+        mockMvc.perform(get("/api/v1/cart").cookie(accessToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/cart/items")
+                        .cookie(accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddCartItemRequest(1L, 2))))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/v1/cart/items/{productId}", 1L).cookie(accessToken))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(guestCartService, cartService);
+    }
+}
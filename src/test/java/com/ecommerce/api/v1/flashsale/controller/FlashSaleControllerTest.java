@@ -0,0 +1,79 @@
+package com.ecommerce.api.v1.flashsale.controller;
+
+import com.ecommerce.api.v1.flashsale.dto.request.OpenFlashSaleRequest;
+import com.ecommerce.domain.product.flashsale.FlashSaleGate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class FlashSaleControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private FlashSaleGate flashSaleGate;
+
+    @Test
+    @DisplayName("[한정 판매 시작][성공] - 관리자는 한정 판매를 시작")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void openFlashSale_Admin_Success() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/v1/flash-sales/{productId}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OpenFlashSaleRequest(50))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("한정 판매를 시작했습니다"));
+
+        verify(flashSaleGate).open(1L, 50);
+    }
+
+    @Test
+    @DisplayName("[한정 판매 시작/종료][실패] - 관리자가 아니면 403")
+    @WithMockUser(username = "testuser")
+    void openAndCloseFlashSale_NotAdmin_Forbidden() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/v1/flash-sales/{productId}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OpenFlashSaleRequest(50))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/v1/flash-sales/{productId}", 1L))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(flashSaleGate);
+    }
+
+    @Test
+    @DisplayName("[한정 판매 종료][성공] - 관리자는 한정 판매를 종료")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void closeFlashSale_Admin_Success() throws Exception {
+        // when & then
+        mockMvc.perform(delete("/api/v1/flash-sales/{productId}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("한정 판매를 종료했습니다"));
+
+        verify(flashSaleGate).close(1L);
+    }
+}
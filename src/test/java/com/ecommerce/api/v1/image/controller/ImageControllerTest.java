@@ -0,0 +1,118 @@
+package com.ecommerce.api.v1.image.controller;
+
+import com.ecommerce.domain.product.image.ImageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ImageControllerTest {
+
+    private static final String KEY = "a".repeat(64);
+    private static final String ETAG = "\"" + KEY + "\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ImageStore imageStore;
+
+    @TempDir
+    Path tempDir;
+
+    private byte[] content;
+    private Path image;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // transferTo가 여러 번 돌도록 충분히 큰 파일
+        content = new byte[256 * 1024 + 17];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        image = Files.write(tempDir.resolve(KEY + ".jpg"), content);
+        when(imageStore.find(KEY)).thenReturn(Optional.of(image));
+    }
+
+    @Test
+    @DisplayName("[이미지 조회][성공] - 강한 ETag와 불변 캐시 헤더로 파일 내용 전송")
+    void getImage_Success() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/images/{key}", KEY))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, content.length))
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    @DisplayName("[이미지 조회][성공] - If-None-Match가 일치하면 본문 없이 304")
+    void getImage_NotModified() throws Exception {
+        for (String ifNoneMatch : new String[]{ETAG, "W/" + ETAG, "\"other\", " + ETAG, "*"}) {
+            // when & then
+            mockMvc.perform(get("/api/v1/images/{key}", KEY).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                    .andExpect(content().bytes(new byte[0]));
+        }
+
+        mockMvc.perform(get("/api/v1/images/{key}", KEY).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    @DisplayName("[이미지 조회][성공] - 컨테이너가 sendfile을 지원하면 파일 경로만 넘기고 직접 쓰지 않음")
+    void getImage_Sendfile() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/api/v1/images/{key}", KEY)
+                        .requestAttr(ImageController.SENDFILE_SUPPORTED, Boolean.TRUE))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, content.length))
+                .andReturn();
+
+        // then
+        assertThat(result.getRequest().getAttribute(ImageController.SENDFILE_FILENAME))
+                .isEqualTo(image.toRealPath().toString());
+        assertThat(result.getRequest().getAttribute(ImageController.SENDFILE_START)).isEqualTo(0L);
+        assertThat(result.getRequest().getAttribute(ImageController.SENDFILE_END)).isEqualTo((long) content.length);
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[이미지 조회][실패] - 없는 키는 404")
+    void getImage_NotFound() throws Exception {
+        // given
+        when(imageStore.find(anyString())).thenReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/images/{key}", "b".repeat(64)))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -6,7 +6,18 @@ import com.ecommerce.api.v1.product.dto.request.UpdateProductStatusRequest;
 import com.ecommerce.api.v1.product.dto.request.UpdateStockRequest;
 import com.ecommerce.api.v1.product.dto.response.CategoryDto;
 import com.ecommerce.api.v1.product.dto.response.ProductResponseDto;
+import com.ecommerce.api.v1.product.dto.response.ProductSearchResponseDto;
 import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.exporter.ProductExportCondition;
+import com.ecommerce.domain.product.exporter.ProductExportFormat;
+import com.ecommerce.domain.product.search.ProductFacets;
+import com.ecommerce.domain.product.search.ProductSuggestion;
+import com.ecommerce.domain.product.importer.ProductImportFormat;
+import com.ecommerce.domain.product.importer.ProductImportResult;
+import com.ecommerce.domain.product.history.ProductHistoryEntry;
+import com.ecommerce.domain.product.service.ProductExportService;
+import com.ecommerce.domain.product.service.ProductHistoryService;
+import com.ecommerce.domain.product.service.ProductImportService;
 import com.ecommerce.domain.product.service.ProductService;
 import com.ecommerce.global.utils.dto.SliceResponseDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,19 +31,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +61,15 @@ class ProductControllerTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private ProductImportService productImportService;
+
+    @Mock
+    private ProductExportService productExportService;
+
+    @Mock
+    private ProductHistoryService productHistoryService;
+
     @InjectMocks
     private ProductController productController;
 
@@ -386,8 +415,17 @@ class ProductControllerTest {
                 .numberOfElements(2)
                 .build();
 
+        ProductFacets facets = new ProductFacets(
+                2,
+                List.of(new ProductFacets.FacetCount("데님브랜드", 2)),
+                List.of(new ProductFacets.FacetCount("의류", 2)),
+                List.of(new ProductFacets.PriceRangeCount(BigDecimal.valueOf(50000), BigDecimal.valueOf(100000), 1),
+                        new ProductFacets.PriceRangeCount(BigDecimal.valueOf(100000), null, 1)),
+                new ProductFacets.AvailabilityCount(2, 0)
+        );
+
         when(productService.searchProductsForInfiniteScroll(any(), any()))
-                .thenReturn(sliceResponse);
+                .thenReturn(ProductSearchResponseDto.of(sliceResponse, facets));
 
         // when
         ResultActions result = mockMvc.perform(get("/api/v1/products/search")
@@ -409,6 +447,11 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.data.size", is(10)))
                 .andExpect(jsonPath("$.data.hasNext", is(false)))
                 .andExpect(jsonPath("$.data.numberOfElements", is(2)))
+                .andExpect(jsonPath("$.data.facets.total", is(2)))
+                .andExpect(jsonPath("$.data.facets.brands[0].value", is("데님브랜드")))
+                .andExpect(jsonPath("$.data.facets.categories[0].count", is(2)))
+                .andExpect(jsonPath("$.data.facets.priceRanges.length()", is(2)))
+                .andExpect(jsonPath("$.data.facets.availability.inStock", is(2)))
                 .andExpect(jsonPath("$.message").value("상품 검색이 완료되었습니다"));
     }
 
@@ -435,7 +478,7 @@ class ProductControllerTest {
                 .build();
 
         when(productService.searchProductsForInfiniteScroll(any(), any()))
-                .thenReturn(sliceResponse);
+                .thenReturn(ProductSearchResponseDto.of(sliceResponse, ProductFacets.empty()));
 
         // when
         ResultActions result = mockMvc.perform(get("/api/v1/products/search")
@@ -461,7 +504,7 @@ class ProductControllerTest {
         SliceResponseDto<ProductResponseDto> emptySliceResponse = SliceResponseDto.empty();
 
         when(productService.searchProductsForInfiniteScroll(any(), any()))
-                .thenReturn(emptySliceResponse);
+                .thenReturn(ProductSearchResponseDto.of(emptySliceResponse, ProductFacets.empty()));
 
         // when
         ResultActions result = mockMvc.perform(get("/api/v1/products/search")
@@ -564,4 +607,114 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.data.availableForSale", is(false)))
                 .andExpect(jsonPath("$.message").value("상품 조회가 완료되었습니다"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[검색어 자동완성][성공] - 인기순 추천 목록 반환")
+    void suggestProduct_Success() throws Exception {
+        // given
+        List<ProductSuggestion> suggestions = List.of(
+                new ProductSuggestion("데님브랜드", ProductSuggestion.Type.BRAND, 12),
+                new ProductSuggestion("데님 자켓", ProductSuggestion.Type.PRODUCT, 4)
+        );
+
+        when(productService.suggestProducts("데님", 5)).thenReturn(suggestions);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/products/suggest")
+                .param("q", "데님")
+                .param("size", "5"));
+
+        // then
+        result
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.length()", is(2)))
+                .andExpect(jsonPath("$.data[0].text", is("데님브랜드")))
+                .andExpect(jsonPath("$.data[0].type", is("BRAND")))
+                .andExpect(jsonPath("$.data[1].popularity", is(4)))
+                .andExpect(jsonPath("$.message").value("검색어 추천이 완료되었습니다"));
+    }
+
+    @Test
+    @DisplayName("[상품 대량 등록][성공] - NDJSON 본문 등록 결과 반환")
+    void importProducts_Ndjson_Success() throws Exception {
+        // given
+        ProductImportResult importResult = new ProductImportResult(
+                3, 2, 1,
+                List.of(new ProductImportResult.RowError(2, "상품 가격은 필수입니다.")),
+                false, true
+        );
+
+        when(productImportService.importProducts(any(), eq(ProductImportFormat.NDJSON)))
+                .thenReturn(importResult);
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/v1/products/import")
+                .contentType(ProductImportFormat.NDJSON_VALUE)
+                .content("{\"name\":\"상품1\"}\n{\"name\":\"상품2\"}\n{\"name\":\"상품3\"}\n"));
+
+        // then
+        result
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.totalRows", is(3)))
+                .andExpect(jsonPath("$.data.importedRows", is(2)))
+                .andExpect(jsonPath("$.data.errors[0].row", is(2)))
+                .andExpect(jsonPath("$.data.errors[0].message", is("상품 가격은 필수입니다.")))
+                .andExpect(jsonPath("$.message").value("상품 대량 등록이 완료되었습니다"));
+    }
+
+    @Test
+    @DisplayName("[상품 내보내기][성공] - CSV 스트리밍 다운로드")
+    void exportProducts_Csv_Success() throws Exception {
+        // given
+        String csv = "id,name\r\n1,상품1\r\n";
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(csv.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(productExportService).exportProducts(
+                eq(new ProductExportCondition(ProductStatus.ACTIVE, true)), eq(ProductExportFormat.CSV), any());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/products/export")
+                        .param("format", "CSV")
+                        .param("status", "ACTIVE")
+                        .param("inStock", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"products.csv\""))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string(csv));
+    }
+
+    @Test
+    @DisplayName("[상품 이력][성공] - 종료일을 포함하는 UTC 기간으로 조회")
+    void getProductHistory_Success() throws Exception {
+        // given
+        List<ProductHistoryEntry> history = List.of(
+                new ProductHistoryEntry(Instant.parse("2026-01-10T09:00:00Z"), new BigDecimal("19900.00"), 10),
+                new ProductHistoryEntry(Instant.parse("2026-01-31T23:00:00Z"), new BigDecimal("17900.00"), 8)
+        );
+
+        when(productHistoryService.findHistory(
+                1L, Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-02-01T00:00:00Z")))
+                .thenReturn(history);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/products/1/history")
+                .param("from", "2026-01-01")
+                .param("to", "2026-01-31"));
+
+        // then
+        result
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.length()", is(2)))
+                .andExpect(jsonPath("$.data[0].price").value(19900.00))
+                .andExpect(jsonPath("$.data[1].stockQuantity", is(8)))
+                .andExpect(jsonPath("$.message").value("상품 이력 조회가 완료되었습니다"));
+    }
+}
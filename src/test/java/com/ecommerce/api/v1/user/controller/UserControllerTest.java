@@ -96,7 +96,7 @@ class UserControllerTest {
     void login_Success() throws Exception {
         // Given
         TokenPair tokenPair = new TokenPair("access.token.test", "refresh.token.test");
-        when(authService.authenticate(any(LoginRequest.class))).thenReturn(tokenPair);
+        when(authService.authenticate(any(LoginRequest.class), isNull())).thenReturn(tokenPair);
         doNothing().when(cookieResponseService).addLoginCookies(any(), any(TokenPair.class));
 
         String jsonRequest = objectMapper.writeValueAsString(validLoginRequest);
@@ -116,7 +116,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.message").value("로그인 성공"))
                 .andExpect(jsonPath("$.timestamp").exists());
 
-        verify(authService, times(1)).authenticate(any(LoginRequest.class));
+        verify(authService, times(1)).authenticate(any(LoginRequest.class), isNull());
         verify(cookieResponseService, times(1)).addLoginCookies(any(), any(TokenPair.class));
     }
 
@@ -0,0 +1,158 @@
+package com.ecommerce.domain.order.cart;
+
+import com.ecommerce.domain.order.entity.Cart;
+import com.ecommerce.domain.order.entity.CartItem;
+import com.ecommerce.domain.order.event.CartAbandonedEvent;
+import com.ecommerce.domain.order.repository.CartItemRepository;
+import com.ecommerce.domain.order.repository.CartRepository;
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방치 장바구니를 오래된 순으로 묶음씩 정리하고, 최근에 바뀐 장바구니는 남기는지 확인
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(AbandonedCartSweeperTest.AuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AbandonedCartSweeperTest {
+
+    private static final int IDLE_CARTS = 25;
+    private static final int ACTIVE_CARTS = 5;
+    private static final int BATCH_SIZE = 10;
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Object> published = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> idleCartIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(Product.builder()
+                .name("무선 키보드")
+                .price(new BigDecimal("30000.00"))
+                .stockQuantity(100)
+                .brand("브랜드")
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < IDLE_CARTS + ACTIVE_CARTS; i++) {
+            User user = userRepository.save(User.builder().nickname("구매자" + i).email("buyer" + i + "@example.com").build());
+            Cart cart = Cart.builder().user(user).build();
+            cart.addItem(CartItem.builder().product(product).quantity(i + 1).build());
+            cartRepository.save(cart);
+
+            if (i < IDLE_CARTS) {
+                // 5건씩 같은 시각으로 두어 (updatedAt, id) 동률 처리 확인
+                jdbcTemplate.update("UPDATE carts SET updated_at = ? WHERE id = ?", now.minusDays(60 - i / 5), cart.getId());
+                idleCartIds.add(cart.getId());
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private AbandonedCartSweeper sweeper(int maxBatchesPerRun) {
+        return new AbandonedCartSweeper(cartRepository, cartItemRepository, published::add, transactionManager,
+                Duration.ofDays(30), BATCH_SIZE, maxBatchesPerRun);
+    }
+
+    @Test
+    @DisplayName("[장바구니 정리][성공] - 방치된 장바구니만 상품과 함께 삭제하고 정리 이벤트 발행")
+    void sweep_IdleCarts_ExpiredWithEvents() {
+        // When
+        int expired = sweeper(50).sweep();
+
+        // Then
+        assertThat(expired).isEqualTo(IDLE_CARTS);
+        assertThat(cartRepository.count()).isEqualTo(ACTIVE_CARTS);
+        assertThat(cartItemRepository.count()).isEqualTo(ACTIVE_CARTS);
+
+        assertThat(published).hasSize(IDLE_CARTS).allSatisfy(event -> {
+            CartAbandonedEvent abandoned = (CartAbandonedEvent) event;
+            assertThat(abandoned.userId()).isNotNull();
+            assertThat(abandoned.items()).singleElement()
+                    .satisfies(item -> assertThat(item.quantity()).isPositive());
+        });
+        assertThat(published).extracting(event -> ((CartAbandonedEvent) event).cartId())
+                .containsExactlyInAnyOrderElementsOf(idleCartIds);
+    }
+
+    @Test
+    @DisplayName("[장바구니 정리][성공] - 한 주기에 정해진 묶음 수만 오래된 순으로 정리하고 나머지는 다음 주기에 이어서 정리")
+    void sweep_BoundedBatches_ResumesNextRun() {
+        // Given
+        AbandonedCartSweeper sweeper = sweeper(1);
+
+        // When
+        int first = sweeper.sweep();
+
+        // Then
+        assertThat(first).isEqualTo(BATCH_SIZE);
+        assertThat(published).extracting(event -> ((CartAbandonedEvent) event).cartId())
+                .containsExactlyInAnyOrderElementsOf(idleCartIds.subList(0, BATCH_SIZE));
+
+        // When
+        int second = sweeper.sweep();
+        int third = sweeper.sweep();
+        int fourth = sweeper.sweep();
+
+        // Then
+        assertThat(List.of(second, third, fourth)).containsExactly(BATCH_SIZE, IDLE_CARTS - 2 * BATCH_SIZE, 0);
+        assertThat(cartRepository.count()).isEqualTo(ACTIVE_CARTS);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ecommerce.domain.order.cart;
+
+import com.ecommerce.api.v1.cart.dto.response.CartItemDto;
+import com.ecommerce.api.v1.cart.dto.response.CartItemWarning;
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.entity.ProductImage;
+import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 상품을 한 번의 조회로 재검증하고 줄마다 알맞은 경고를 붙이는지 확인
+ */
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(CartValidatorTest.AuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartValidatorTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("10000.00");
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    private Product product(String name, BigDecimal price, int stock, ProductStatus status) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .price(price)
+                .stockQuantity(stock)
+                .status(status)
+                .brand("브랜드")
+                .build());
+    }
+
+    @Test
+    @DisplayName("[장바구니 재검증][성공] - 가격 변경, 재고 부족, 판매 중단을 줄마다 표시하고 조회는 한 번")
+    void validate_AnnotatesWarnings_InSingleQuery() {
+        // Given
+        Product normal = Product.builder()
+                .name("정상 상품").price(PRICE).stockQuantity(10).brand("브랜드").build();
+        normal.getImages().add(ProductImage.builder()
+                .product(normal).imageUrl("http://example.com/main.jpg").isMain(true).displayOrder(0).thumbnailKey("abc").build());
+        normal.getImages().add(ProductImage.builder()
+                .product(normal).imageUrl("http://example.com/sub.jpg").isMain(false).displayOrder(1).build());
+        normal = productRepository.save(normal);
+
+        Product repriced = product("가격 인상", new BigDecimal("12000.00"), 10, ProductStatus.ACTIVE);
+        Product scarce = product("재고 부족", PRICE, 1, ProductStatus.ACTIVE);
+        Product soldOut = product("품절", PRICE, 0, ProductStatus.OUT_OF_STOCK);
+        Product discontinued = product("단종", PRICE, 10, ProductStatus.DISCONTINUED);
+        Product deleted = product("삭제", PRICE, 10, ProductStatus.ACTIVE);
+        deleted.setIsDeleted(true);
+        productRepository.save(deleted);
+
+        List<CartLine> lines = List.of(
+                new CartLine(normal.getId(), 2, PRICE),
+                new CartLine(repriced.getId(), 1, PRICE),
+                new CartLine(scarce.getId(), 3, PRICE),
+                new CartLine(soldOut.getId(), 1, PRICE),
+                new CartLine(discontinued.getId(), 1, PRICE),
+                new CartLine(deleted.getId(), 1, PRICE),
+                new CartLine(Long.MAX_VALUE, 1, PRICE));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<CartItemDto> items = new CartValidator(productRepository).validate(lines);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(items).extracting(CartItemDto::getProductId)
+                .containsExactlyElementsOf(lines.stream().map(CartLine::productId).toList());
+        assertThat(items).extracting(CartItemDto::getWarnings).containsExactly(
+                List.of(),
+                List.of(CartItemWarning.PRICE_CHANGED),
+                List.of(CartItemWarning.INSUFFICIENT_STOCK),
+                List.of(CartItemWarning.INSUFFICIENT_STOCK),
+                List.of(CartItemWarning.DISCONTINUED),
+                List.of(CartItemWarning.DISCONTINUED),
+                List.of(CartItemWarning.DISCONTINUED));
+
+        CartItemDto first = items.get(0);
+        assertThat(first.getImageUrl()).isEqualTo("http://example.com/main.jpg");
+        assertThat(first.getThumbnailUrl()).isEqualTo("/api/v1/images/abc");
+        assertThat(first.getSubtotal()).isEqualByComparingTo("20000");
+
+        // 현재 판매가로 다시 계산하고, 판매하지 않는 상품은 0
+        assertThat(items.get(1).getSubtotal()).isEqualByComparingTo("12000");
+        assertThat(items.get(4).getSubtotal()).isEqualByComparingTo("0");
+        assertThat(items.get(6).getSubtotal()).isEqualByComparingTo("0");
+        assertThat(CartValidator.isCheckoutReady(items)).isFalse();
+        assertThat(CartValidator.isCheckoutReady(items.subList(0, 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("[장바구니 재검증][성공] - 한정 판매 입장권 없이 담긴 상품은 경고를 붙여 바로 주문할 수 없음")
+    void validate_FlashSaleNotAdmitted_Warned() {
+        // Given
+        Product flashSale = product("한정 판매", PRICE, 10, ProductStatus.ACTIVE);
+        Product normal = product("일반", PRICE, 10, ProductStatus.ACTIVE);
+        List<CartLine> lines = List.of(
+                new CartLine(flashSale.getId(), 1, PRICE),
+                new CartLine(normal.getId(), 1, PRICE));
+
+        // When
+        List<CartItemDto> items = new CartValidator(productRepository).validate(lines, Set.of(flashSale.getId()));
+
+        // Then
+        assertThat(items).extracting(CartItemDto::getWarnings).containsExactly(
+                List.of(CartItemWarning.FLASH_SALE_NOT_ADMITTED),
+                List.of());
+        assertThat(CartValidator.isCheckoutReady(items)).isFalse();
+    }
+}
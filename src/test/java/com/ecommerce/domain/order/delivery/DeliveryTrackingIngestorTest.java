@@ -0,0 +1,275 @@
+package com.ecommerce.domain.order.delivery;
+
+import com.ecommerce.api.v1.delivery.dto.request.TrackingUpdateRequest;
+import com.ecommerce.api.v1.delivery.dto.response.DeliveryTrackingResponseDto;
+import com.ecommerce.domain.order.entity.Delivery;
+import com.ecommerce.domain.order.entity.DeliveryStatus;
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.entity.OutboxAggregateType;
+import com.ecommerce.domain.order.entity.OutboxEvent;
+import com.ecommerce.domain.order.outbox.OutboxWriter;
+import com.ecommerce.domain.order.repository.DeliveryRepository;
+import com.ecommerce.domain.order.repository.DeliveryTrackingUpdateRepository;
+import com.ecommerce.domain.order.repository.OrderRepository;
+import com.ecommerce.domain.order.repository.OutboxEventRepository;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.global.utils.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 택배사 웹훅 묶음의 중복 스캔을 합치고, 배송/주문 상태를 조건부 일괄 UPDATE로 옮기는지 확인
+ */
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(DeliveryTrackingIngestorTest.AuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DeliveryTrackingIngestorTest {
+
+    private static final String TOKEN = "courier-secret";
+    private static final int DELIVERY_COUNT = 50;
+    private static final LocalDateTime SCANNED_AT = LocalDateTime.of(2025, 7, 1, 9, 0);
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DeliveryTrackingUpdateRepository updateRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private DeliveryTrackingIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().nickname("구매자").email("buyer@example.com").build());
+        for (int i = 0; i < DELIVERY_COUNT; i++) {
+            Order order = orderRepository.save(Order.builder()
+                    .user(user)
+                    .orderNumber("ORD-" + i)
+                    .totalPrice(new BigDecimal("10000.00"))
+                    .status(OrderStatus.PAID)
+                    .deliveryAddress("서울시 강남구")
+                    .deliveryPhone("010-1234-5678")
+                    .build());
+            deliveryRepository.save(Delivery.builder()
+                    .order(order)
+                    .trackingNumber("TRK-" + i)
+                    .courierCompany("한빛택배")
+                    .status(DeliveryStatus.PREPARING)
+                    .build());
+        }
+
+        ingestor = ingestor();
+    }
+
+    private DeliveryTrackingIngestor ingestor() {
+        return new DeliveryTrackingIngestor(deliveryRepository, updateRepository, orderRepository,
+                new OutboxWriter(outboxEventRepository, new ObjectMapper()), jdbcTemplate, transactionManager, TOKEN, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        updateRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        deliveryRepository.deleteAll();
+        orderRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private TrackingUpdateRequest update(int index, DeliveryStatus status, int minutes) {
+        return new TrackingUpdateRequest("TRK-" + index, status, SCANNED_AT.plusMinutes(minutes));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("[배송 추적][성공] - 중복 스캔을 합쳐 운송장마다 한 번씩, 묶음 단위 UPDATE로 배송/주문을 DELIVERED로 변경")
+    void flush_DuplicateScans_CoalescedIntoBulkUpdates() {
+        // Given: 운송장마다 출고 스캔 2번(같은 시각) + 배달 완료 1번 + 반영하지 않는 상태 1번
+        List<TrackingUpdateRequest> updates = new ArrayList<>();
+        for (int i = 0; i < DELIVERY_COUNT; i++) {
+            updates.add(update(i, DeliveryStatus.SHIPPED, 0));
+            updates.add(update(i, DeliveryStatus.SHIPPED, 0));
+            updates.add(update(i, DeliveryStatus.DELIVERED, 30));
+            updates.add(update(i, DeliveryStatus.PREPARING, 40));
+        }
+        Collections.shuffle(updates);
+        int half = updates.size() / 2;
+
+        // When
+        DeliveryTrackingResponseDto first = ingestor.accept(TOKEN, updates.subList(0, half));
+        DeliveryTrackingResponseDto second = ingestor.accept(TOKEN, updates.subList(half, updates.size()));
+        Statistics statistics = statistics();
+        ingestor.flush();
+        long statements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(first.accepted() + first.ignored() + second.accepted() + second.ignored()).isEqualTo(updates.size());
+        assertThat(deliveryRepository.findAll()).allSatisfy(delivery -> {
+            assertThat(delivery.getStatus()).isEqualTo(DeliveryStatus.DELIVERED);
+            assertThat(delivery.getShippedAt()).isNotNull();
+            assertThat(delivery.getDeliveredAt()).isNotNull();
+            assertThat(delivery.getEventSequence()).isEqualTo(1L);
+        });
+        assertThat(orderRepository.findAll()).extracting(Order::getStatus).containsOnly(OrderStatus.DELIVERED);
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).hasSize(DELIVERY_COUNT * 2);
+        assertThat(events).extracting(OutboxEvent::getAggregateType, OutboxEvent::getAggregateSequence)
+                .containsOnly(tuple(OutboxAggregateType.DELIVERY, 1L), tuple(OutboxAggregateType.ORDER, 1L));
+        assertThat(events).allSatisfy(event -> assertThat(event.getPayload())
+                .contains("\"previousStatus\"", "\"status\":\"DELIVERED\""));
+
+        // 저장된 변경 조회/삭제 2 + 조회 1 + 배송 UPDATE/확인 2 + 주문 UPDATE/확인 2 (아웃박스 INSERT 제외)
+        assertThat(statements - events.size()).isEqualTo(7);
+        assertThat(updateRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("[배송 추적][성공] - 등록되지 않은 운송장과 되돌아가는 변경은 무시하고, 앞선 상태에서 이어서 반영")
+    void flush_UnknownAndBackwardUpdates_Ignored() {
+        // Given: 0번은 이미 배달 완료, 1번은 출고만 된 상태
+        ingestor.accept(TOKEN, List.of(update(0, DeliveryStatus.DELIVERED, 0), update(1, DeliveryStatus.SHIPPED, 0)));
+        ingestor.flush();
+
+        // When
+        DeliveryTrackingResponseDto result = ingestor.accept(TOKEN, List.of(
+                update(0, DeliveryStatus.SHIPPED, 10),
+                update(1, DeliveryStatus.DELIVERED, 10),
+                new TrackingUpdateRequest("TRK-UNKNOWN", DeliveryStatus.DELIVERED, SCANNED_AT)));
+        ingestor.flush();
+
+        // Then
+        assertThat(result.accepted()).isEqualTo(3);
+        List<Delivery> deliveries = deliveryRepository.findAll();
+        assertThat(deliveries).filteredOn(delivery -> delivery.getTrackingNumber().equals("TRK-0"))
+                .singleElement()
+                .satisfies(delivery -> {
+                    assertThat(delivery.getStatus()).isEqualTo(DeliveryStatus.DELIVERED);
+                    assertThat(delivery.getEventSequence()).isEqualTo(1L);
+                });
+        assertThat(deliveries).filteredOn(delivery -> delivery.getTrackingNumber().equals("TRK-1"))
+                .singleElement()
+                .satisfies(delivery -> {
+                    assertThat(delivery.getStatus()).isEqualTo(DeliveryStatus.DELIVERED);
+                    assertThat(delivery.getEventSequence()).isEqualTo(2L);
+                });
+
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAggregateType, OutboxEvent::getAggregateSequence)
+                .containsExactlyInAnyOrder(
+                        tuple(OutboxAggregateType.DELIVERY, 1L), tuple(OutboxAggregateType.ORDER, 1L),   // 0번 배달 완료
+                        tuple(OutboxAggregateType.DELIVERY, 1L), tuple(OutboxAggregateType.ORDER, 1L),   // 1번 출고
+                        tuple(OutboxAggregateType.DELIVERY, 2L), tuple(OutboxAggregateType.ORDER, 2L));  // 1번 배달 완료
+    }
+
+    @Test
+    @DisplayName("[배송 추적][성공] - 응답한 변경은 저장되어 있어 다른 인스턴스(재기동 후)에서도 반영")
+    void accept_Stored_AppliedByAnotherInstance() {
+        // Given: 응답 후 반영 전에 종료된 인스턴스
+        DeliveryTrackingResponseDto result = ingestor.accept(TOKEN, List.of(
+                update(0, DeliveryStatus.SHIPPED, 0),
+                update(0, DeliveryStatus.DELIVERED, 10)));
+        assertThat(result.accepted()).isEqualTo(1);
+        assertThat(result.ignored()).isEqualTo(1);
+        assertThat(updateRepository.count()).isEqualTo(1);
+
+        // When
+        ingestor().flush();
+
+        // Then
+        assertThat(deliveryRepository.findAll()).filteredOn(delivery -> delivery.getTrackingNumber().equals("TRK-0"))
+                .singleElement()
+                .extracting(Delivery::getStatus)
+                .isEqualTo(DeliveryStatus.DELIVERED);
+        assertThat(updateRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("[배송 추적][실패] - 웹훅 토큰이 다르면 401")
+    void accept_InvalidToken() {
+        assertThatThrownBy(() -> ingestor.accept("wrong-token", List.of(update(0, DeliveryStatus.SHIPPED, 0))))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("[배송 추적][실패] - 필수 값이 빠졌거나 5000건을 넘는 묶음은 저장하지 않고 400")
+    void accept_InvalidUpdates_Rejected() {
+        // Given
+        List<List<TrackingUpdateRequest>> invalid = new ArrayList<>();
+        invalid.add(null);
+        invalid.add(List.of());
+        invalid.add(List.of(update(0, DeliveryStatus.SHIPPED, 0), new TrackingUpdateRequest("TRK-1", null, SCANNED_AT)));
+        invalid.add(List.of(update(0, DeliveryStatus.SHIPPED, 0), new TrackingUpdateRequest(null, DeliveryStatus.SHIPPED, SCANNED_AT)));
+        invalid.add(List.of(update(0, DeliveryStatus.SHIPPED, 0), new TrackingUpdateRequest("TRK-1", DeliveryStatus.SHIPPED, null)));
+        invalid.add(Collections.nCopies(DeliveryTrackingIngestor.MAX_UPDATES + 1, update(0, DeliveryStatus.SHIPPED, 0)));
+
+        // When & Then
+        for (List<TrackingUpdateRequest> updates : invalid) {
+            assertThatThrownBy(() -> ingestor.accept(TOKEN, updates))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("code")
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+        assertThat(updateRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,149 @@
+package com.ecommerce.domain.order.number;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderNumberGeneratorTest {
+
+    private static final long NOW = 1_800_000_000_000L;
+
+    @Test
+    @DisplayName("[주문 번호][성공] - 여러 스레드가 동시에 발급해도 중복 없음")
+    void next_Concurrent_Unique() throws Exception {
+        // Given
+        OrderNumberGenerator generator = new OrderNumberGenerator(7, System::currentTimeMillis);
+        int threads = 8;
+        int perThread = 100_000;
+        Set<String> issued = ConcurrentHashMap.newKeySet(threads * perThread);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                // 스레드 안에서는 발급 순서대로 증가해야 함
+                String previous = "";
+                for (int i = 0; i < perThread; i++) {
+                    String orderNumber = generator.next();
+                    if (orderNumber.compareTo(previous) <= 0) {
+                        return false;
+                    }
+                    issued.add(orderNumber);
+                    previous = orderNumber;
+                }
+                return true;
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (Future<Boolean> future : futures) {
+            assertThat(future.get()).isTrue();
+        }
+        pool.shutdown();
+        assertThat(issued).hasSize(threads * perThread);
+        assertThat(issued).allSatisfy(orderNumber -> assertThat(orderNumber)
+                .hasSize(OrderNumberGenerator.LENGTH)
+                .matches("[0-9A-HJKMNP-TV-Z]+"));
+    }
+
+    @Test
+    @DisplayName("[주문 번호][성공] - 시계가 뒤로 가도 마지막 값 이후로 계속 증가")
+    void nextId_ClockMovesBackwards_StillIncreasing() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, clock::get);
+        long before = generator.nextId();
+
+        // When: 1분 역행
+        clock.addAndGet(-60_000);
+        long afterSkew = generator.nextId();
+        long afterSkewNext = generator.nextId();
+
+        // Then
+        assertThat(afterSkew).isGreaterThan(before);
+        assertThat(afterSkewNext).isGreaterThan(afterSkew);
+
+        // When: 시계가 다시 앞서면 벽시계 기준으로 복귀
+        clock.set(NOW + 1_000);
+        long recovered = generator.nextId();
+
+        // Then
+        assertThat(recovered).isGreaterThan(afterSkewNext);
+        assertThat(recovered >>> (OrderNumberGenerator.NODE_BITS + OrderNumberGenerator.SEQUENCE_BITS))
+                .isEqualTo(NOW + 1_000 - OrderNumberGenerator.EPOCH_MILLIS);
+    }
+
+    @Test
+    @DisplayName("[주문 번호][성공] - 한 밀리초 순번(4096)을 다 쓰면 다음 밀리초를 당겨 쓰고 중복 없음")
+    void nextId_SequenceExhausted_BorrowsNextMillisecond() {
+        // Given
+        OrderNumberGenerator generator = new OrderNumberGenerator(3, () -> NOW);
+        int perMillisecond = 1 << OrderNumberGenerator.SEQUENCE_BITS;
+
+        // When
+        Set<Long> ids = new HashSet<>();
+        long last = 0;
+        for (int i = 0; i < perMillisecond * 3; i++) {
+            last = generator.nextId();
+            ids.add(last);
+        }
+
+        // Then
+        assertThat(ids).hasSize(perMillisecond * 3);
+        assertThat(last >>> (OrderNumberGenerator.NODE_BITS + OrderNumberGenerator.SEQUENCE_BITS))
+                .isEqualTo(NOW - OrderNumberGenerator.EPOCH_MILLIS + 2);
+    }
+
+    @Test
+    @DisplayName("[주문 번호][성공] - 노드 ID가 다르면 같은 시각에도 다른 번호")
+    void nextId_DifferentNodes_Distinct() {
+        // Given
+        OrderNumberGenerator first = new OrderNumberGenerator(1, () -> NOW);
+        OrderNumberGenerator second = new OrderNumberGenerator(2, () -> NOW);
+
+        // When & Then
+        assertThat(first.next()).isNotEqualTo(second.next());
+    }
+
+    @Test
+    @DisplayName("[주문 번호][성공] - Crockford Base32 표기를 사람이 헷갈리는 문자까지 해석")
+    void decode_CrockfordAliases() {
+        // Given
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, () -> NOW);
+        long id = generator.nextId();
+        String orderNumber = OrderNumberGenerator.encode(id);
+
+        // When & Then
+        assertThat(OrderNumberGenerator.decode(orderNumber)).isEqualTo(id);
+        assertThat(OrderNumberGenerator.decode(orderNumber.toLowerCase())).isEqualTo(id);
+        assertThat(OrderNumberGenerator.decode(orderNumber.substring(0, 4) + "-" + orderNumber.substring(4))).isEqualTo(id);
+        assertThat(OrderNumberGenerator.decode("0O0000000001L")).isEqualTo(OrderNumberGenerator.decode("0000000000011"));
+        assertThat(OrderNumberGenerator.decode(OrderNumberGenerator.encode(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("[주문 번호][실패] - 길이가 다르거나 쓸 수 없는 문자가 있으면 거부")
+    void decode_Invalid() {
+        assertThatThrownBy(() -> OrderNumberGenerator.decode("ABC")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderNumberGenerator.decode("0000000000U00")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderNumberGenerator.decode("8000000000000")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OrderNumberGenerator(1024, () -> NOW)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
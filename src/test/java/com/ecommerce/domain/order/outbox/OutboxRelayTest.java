@@ -0,0 +1,186 @@
+package com.ecommerce.domain.order.outbox;
+
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.entity.OutboxEvent;
+import com.ecommerce.domain.order.repository.OrderRepository;
+import com.ecommerce.domain.order.repository.OutboxEventRepository;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 릴레이 두 개가 같은 테이블을 동시에 비워도 집계별 순서대로 빠짐없이 전달하는지 확인
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(OutboxRelayTest.AuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    private static final int ORDER_COUNT = 20;
+    private static final int CHANGES_PER_ORDER = 100;
+    private static final int BATCH_SIZE = 100;
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<OutboxMessage> delivered = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicBoolean sinkAvailable = new AtomicBoolean(true);
+    private final OutboxSink sink = messages -> {
+        if (!sinkAvailable.get()) {
+            throw new IllegalStateException("싱크 연결 실패");
+        }
+        delivered.addAll(messages);
+    };
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().nickname("구매자").email("buyer@example.com").build());
+        OutboxWriter outboxWriter = new OutboxWriter(outboxEventRepository, new ObjectMapper());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < ORDER_COUNT; i++) {
+                Order order = orderRepository.save(Order.builder()
+                        .user(user)
+                        .orderNumber("ORD-" + i)
+                        .totalPrice(new BigDecimal("10000.00"))
+                        .status(OrderStatus.PENDING)
+                        .deliveryAddress("서울시 강남구")
+                        .deliveryPhone("010-1234-5678")
+                        .build());
+                // 전달 순서만 확인하므로 상태는 그대로 두고 이벤트만 순번대로 쌓음
+                for (int change = 0; change < CHANGES_PER_ORDER; change++) {
+                    outboxWriter.orderStatusChanged(order, OrderStatus.PENDING);
+                }
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        orderRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private OutboxRelay relay(SimpleMeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxEventRepository, sink, transactionManager, meterRegistry,
+                BATCH_SIZE, Duration.ofSeconds(30), Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("[아웃박스][성공] - 릴레이 두 개가 동시에 발행해도 집계별 순번 순서로 한 번씩 전달")
+    void relay_Concurrent_DeliversInOrderPerAggregate() throws Exception {
+        // Given
+        int total = ORDER_COUNT * CHANGES_PER_ORDER;
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        List<OutboxRelay> relays = List.of(relay(meterRegistry), relay(meterRegistry));
+        ExecutorService pool = Executors.newFixedThreadPool(relays.size());
+
+        // When
+        long startedAt = System.nanoTime();
+        while (delivered.size() < total && System.nanoTime() - startedAt < Duration.ofSeconds(30).toNanos()) {
+            CompletableFuture.allOf(relays.stream()
+                    .map(relay -> CompletableFuture.runAsync(relay::relay, pool))
+                    .toArray(CompletableFuture[]::new)).get();
+        }
+        double eventsPerSecond = total / ((System.nanoTime() - startedAt) / 1_000_000_000.0);
+        pool.shutdown();
+
+        // Then
+        assertThat(delivered).as("처리량 %.0f events/sec", eventsPerSecond).hasSize(total);
+
+        Map<Long, List<Long>> sequencesByOrder = new LinkedHashMap<>();
+        synchronized (delivered) {
+            delivered.forEach(message -> sequencesByOrder
+                    .computeIfAbsent(message.aggregateId(), id -> new ArrayList<>())
+                    .add(message.sequence()));
+        }
+        List<Long> expected = LongStream.rangeClosed(1, CHANGES_PER_ORDER).boxed().toList();
+        assertThat(sequencesByOrder).hasSize(ORDER_COUNT);
+        assertThat(sequencesByOrder.values()).allSatisfy(sequences -> assertThat(sequences).isEqualTo(expected));
+
+        assertThat(outboxEventRepository.findAll()).allSatisfy(event -> {
+            assertThat(event.getPublishedAt()).isNotNull();
+            assertThat(event.getLeaseOwner()).isNull();
+        });
+        assertThat(meterRegistry.counter("outbox.events.published").count()).isEqualTo(total);
+        assertThat(meterRegistry.timer("outbox.events.lag").count()).isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("[아웃박스][성공] - 싱크 장애 시 임대를 풀고 복구 후 처음부터 다시 전달")
+    void relay_SinkFailure_RetriesAfterRecovery() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboxRelay relay = relay(meterRegistry);
+        sinkAvailable.set(false);
+
+        // When: 장애 중
+        relay.relay();
+
+        // Then
+        assertThat(delivered).isEmpty();
+        assertThat(meterRegistry.counter("outbox.events.failed").count()).isEqualTo(BATCH_SIZE);
+        assertThat(outboxEventRepository.findAll()).allSatisfy(event -> {
+            assertThat(event.getPublishedAt()).isNull();
+            assertThat(event.getLeaseOwner()).isNull();
+        });
+
+        // When: 복구 후
+        sinkAvailable.set(true);
+        relay.relay();
+
+        // Then
+        assertThat(delivered).hasSize(ORDER_COUNT * CHANGES_PER_ORDER);
+        assertThat(delivered.getFirst().sequence()).isEqualTo(1L);
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getAttempts).doesNotContain(0);
+    }
+}
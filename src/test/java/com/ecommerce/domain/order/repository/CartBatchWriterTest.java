@@ -0,0 +1,99 @@
+package com.ecommerce.domain.order.repository;
+
+import com.ecommerce.domain.order.entity.Cart;
+import com.ecommerce.domain.order.entity.CartItem;
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비로그인 장바구니 병합 upsert가 이미 담긴 상품은 수량을 더하고 새 상품은 추가하는지 확인
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(CartBatchWriterTest.AuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartBatchWriterTest {
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Product product(String name) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .price(new BigDecimal("10000.00"))
+                .stockQuantity(100)
+                .brand("브랜드")
+                .build());
+    }
+
+    @Test
+    @DisplayName("[장바구니 병합][성공] - 이미 담긴 상품은 수량을 더하고, 없던 상품은 새로 추가")
+    void upsertItems_MergesQuantities() {
+        // Given
+        User user = userRepository.save(User.builder().nickname("구매자").email("buyer@example.com").build());
+        Product keyboard = product("무선 키보드");
+        Product mouse = product("무선 마우스");
+        Cart cart = Cart.builder().user(user).build();
+        cart.addItem(CartItem.builder().product(keyboard).quantity(2).build());
+        cartRepository.save(cart);
+
+        // When
+        new CartBatchWriter(jdbcTemplate).upsertItems(cart.getId(),
+                Map.of(keyboard.getId(), 3, mouse.getId(), 1), LocalDateTime.now());
+
+        // Then
+        Map<Long, Integer> quantities = new HashMap<>();
+        cartItemRepository.findItemsByCartIdIn(List.of(cart.getId()))
+                .forEach(row -> quantities.put((Long) row[1], (Integer) row[2]));
+        assertThat(quantities).containsOnly(Map.entry(keyboard.getId(), 5), Map.entry(mouse.getId(), 1));
+    }
+}
@@ -4,6 +4,8 @@ import com.ecommerce.api.v1.cart.dto.request.AddCartItemRequest;
 import com.ecommerce.api.v1.cart.dto.request.UpdateCartItemRequest;
 import com.ecommerce.api.v1.cart.dto.response.CartItemDto;
 import com.ecommerce.api.v1.cart.dto.response.CartResponseDto;
+import com.ecommerce.domain.order.cart.CartLine;
+import com.ecommerce.domain.order.cart.CartValidator;
 import com.ecommerce.domain.order.entity.Cart;
 import com.ecommerce.domain.order.entity.CartItem;
 import com.ecommerce.domain.order.repository.CartItemRepository;
@@ -11,6 +13,7 @@ import com.ecommerce.domain.order.repository.CartRepository;
 import com.ecommerce.domain.product.entity.Product;
 import com.ecommerce.domain.product.entity.ProductImage;
 import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.flashsale.FlashSaleGate;
 import com.ecommerce.domain.product.service.ProductService;
 import com.ecommerce.domain.user.entity.User;
 import com.ecommerce.domain.user.entity.UserRole;
@@ -30,10 +33,15 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +59,12 @@ class CartServiceTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private CartValidator cartValidator;
+
+    @Mock
+    private FlashSaleGate flashSaleGate;
+
     @InjectMocks
     private CartService cartService;
 
@@ -107,12 +121,22 @@ class CartServiceTest {
 
     @Test
     @DisplayName("[getCart][성공] - 사용자의 장바구니 조회")
+    @SuppressWarnings("unchecked")
     void getCart_Success() {
         // given
         String email = "test@example.com";
+        CartItemDto validated = CartItemDto.builder()
+                .productId(testProduct.getId())
+                .productName(testProduct.getName())
+                .price(testProduct.getPrice())
+                .quantity(testCartItem.getQuantity())
+                .imageUrl(testProductImage.getImageUrl())
+                .subtotal(BigDecimal.valueOf(20000))
+                .build();
 
         when(userService.findByEmail(email)).thenReturn(testUser);
         when(cartRepository.findByUser(testUser)).thenReturn(Optional.of(testCart));
+        when(cartValidator.validate(anyList(), anySet())).thenReturn(List.of(validated));
 
         // when
         CartResponseDto result = cartService.getCart(email);
@@ -120,15 +144,14 @@ class CartServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getTotalItems()).isEqualTo(1);
-        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems()).containsExactly(validated);
+        assertThat(result.getTotalAmount()).isEqualTo(BigDecimal.valueOf(20000)); // 10000 * 2
+        assertThat(result.isCheckoutReady()).isTrue();
 
-        CartItemDto item = result.getItems().get(0);
-        assertThat(item.getProductId()).isEqualTo(testProduct.getId());
-        assertThat(item.getProductName()).isEqualTo(testProduct.getName());
-        assertThat(item.getPrice()).isEqualTo(testProduct.getPrice());
-        assertThat(item.getQuantity()).isEqualTo(testCartItem.getQuantity());
-        assertThat(item.getImageUrl()).isEqualTo(testProductImage.getImageUrl());
-        assertThat(item.getSubtotal()).isEqualTo(BigDecimal.valueOf(20000)); // 10000 * 2
+        // 장바구니 줄(상품, 수량, 담을 때 가격)만 넘겨 재검증
+        ArgumentCaptor<List<CartLine>> linesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cartValidator).validate(linesCaptor.capture(), eq(Set.of()));
+        assertThat(linesCaptor.getValue()).containsExactly(new CartLine(testProduct.getId(), 2, null));
 
         verify(userService).findByEmail(email);
         verify(cartRepository).findByUser(testUser);
@@ -185,6 +208,7 @@ class CartServiceTest {
         assertThat(savedCartItem.getCart()).isEqualTo(testCart);
         assertThat(savedCartItem.getProduct()).isEqualTo(testProduct);
         assertThat(savedCartItem.getQuantity()).isEqualTo(request.quantity());
+        assertThat(savedCartItem.getUnitPriceSnapshot()).isEqualTo(testProduct.getPrice());
 
         verify(userService).findByEmail(email);
         verify(productService).findProductEntityById(request.productId());
@@ -216,6 +240,32 @@ class CartServiceTest {
         verify(cartRepository).findByUser(testUser);
         verify(cartItemRepository).findByCartAndProduct(testCart, testProduct);
         verify(cartItemRepository, never()).save(any()); // Should not save a new item
+        // 한정 판매 입장권 상한은 이미 담긴 수량까지 합쳐 확인
+        verify(flashSaleGate).usePass(request.productId(), email, originalQuantity + request.quantity());
+    }
+
+    @Test
+    @DisplayName("[addCartItem][실패] - 한정 판매 입장권 없이 담으면 장바구니를 바꾸지 않고 거절")
+    void addCartItem_FlashSaleNotAdmitted_Rejected() {
+        // given
+        String email = "test@example.com";
+        AddCartItemRequest request = new AddCartItemRequest(1L, 1);
+
+        when(userService.findByEmail(email)).thenReturn(testUser);
+        when(productService.findProductEntityById(request.productId())).thenReturn(testProduct);
+        when(cartRepository.findByUser(testUser)).thenReturn(Optional.of(testCart));
+        when(cartItemRepository.findByCartAndProduct(testCart, testProduct)).thenReturn(Optional.empty());
+        doThrow(new ServiceException(ErrorCode.FLASH_SALE_NOT_ADMITTED))
+                .when(flashSaleGate).usePass(request.productId(), email, 1);
+
+        // when & then
+        assertThatThrownBy(() -> cartService.addCartItem(email, request))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.FLASH_SALE_NOT_ADMITTED.getHttpStatus());
+
+        verify(cartItemRepository, never()).save(any());
+        verify(cartRepository, never()).touch(any(), any());
     }
 
     @Test
@@ -241,6 +291,51 @@ class CartServiceTest {
         verify(productService).findProductEntityById(productId);
         verify(cartRepository).findByUser(testUser);
         verify(cartItemRepository).findByCartAndProduct(testCart, testProduct);
+        verify(flashSaleGate).usePass(productId, email, request.quantity());
+    }
+
+    @Test
+    @DisplayName("[updateCartItem][실패] - 한정 판매 상품의 수량을 입장권 없이 늘리면 거절")
+    void updateCartItem_FlashSaleIncreaseNotAdmitted_Rejected() {
+        // given
+        String email = "test@example.com";
+        Long productId = 1L;
+        UpdateCartItemRequest request = new UpdateCartItemRequest(5);
+
+        when(userService.findByEmail(email)).thenReturn(testUser);
+        when(productService.findProductEntityById(productId)).thenReturn(testProduct);
+        when(cartRepository.findByUser(testUser)).thenReturn(Optional.of(testCart));
+        when(cartItemRepository.findByCartAndProduct(testCart, testProduct)).thenReturn(Optional.of(testCartItem));
+        doThrow(new ServiceException(ErrorCode.FLASH_SALE_NOT_ADMITTED))
+                .when(flashSaleGate).usePass(productId, email, request.quantity());
+
+        // when & then
+        assertThatThrownBy(() -> cartService.updateCartItem(email, productId, request))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.FLASH_SALE_NOT_ADMITTED.getHttpStatus());
+
+        assertThat(testCartItem.getQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[updateCartItem][성공] - 수량을 줄이는 것은 입장권 없이 허용")
+    void updateCartItem_Decrease_NoPassNeeded() {
+        // given
+        String email = "test@example.com";
+        Long productId = 1L;
+
+        when(userService.findByEmail(email)).thenReturn(testUser);
+        when(productService.findProductEntityById(productId)).thenReturn(testProduct);
+        when(cartRepository.findByUser(testUser)).thenReturn(Optional.of(testCart));
+        when(cartItemRepository.findByCartAndProduct(testCart, testProduct)).thenReturn(Optional.of(testCartItem));
+
+        // when
+        cartService.updateCartItem(email, productId, new UpdateCartItemRequest(1));
+
+        // then
+        assertThat(testCartItem.getQuantity()).isEqualTo(1);
+        verify(flashSaleGate, never()).usePass(any(), any(), anyInt());
     }
 
     @Test
@@ -0,0 +1,229 @@
+package com.ecommerce.domain.order.service;
+
+import com.ecommerce.api.v1.cart.dto.request.AddCartItemRequest;
+import com.ecommerce.api.v1.cart.dto.request.UpdateCartItemRequest;
+import com.ecommerce.domain.order.cart.CartValidator;
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.flashsale.FlashSaleGate;
+import com.ecommerce.domain.product.service.ProductService;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import com.ecommerce.global.infra.web.GuestCartCookie;
+import com.ecommerce.global.utils.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GuestCartServiceTest {
+
+    private static final int MAX_ITEMS = 3;
+    private static final int MAX_QUANTITY = 99;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private CartValidator cartValidator;
+
+    @Mock
+    private FlashSaleGate flashSaleGate;
+
+    private final GuestCartCookie guestCartCookie = new GuestCartCookie("test-secret", Duration.ofDays(7), true, "Lax");
+
+    private GuestCartService guestCartService;
+
+    @BeforeEach
+    void setUp() {
+        guestCartService = new GuestCartService(redisTemplate, new RedisCircuitBreaker(3, Duration.ofSeconds(5)),
+                guestCartCookie, productService, cartService, cartValidator, flashSaleGate, Duration.ofDays(7), MAX_ITEMS,
+                MAX_QUANTITY);
+    }
+
+    private String key(String cookieValue) {
+        return "cart:guest:" + guestCartCookie.verify(cookieValue);
+    }
+
+    private void product(Long productId) {
+        when(productService.findProductEntityById(productId)).thenReturn(Product.builder().id(productId).build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pipelineReturns(long quantity, long size) {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(quantity, size));
+    }
+
+    private void assertStatus(Runnable action, HttpStatus status) {
+        assertThatThrownBy(action::run)
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(status);
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 추가][성공] - 쿠키가 없으면 새로 발급하고 한 번의 파이프라인으로 담음")
+    void addCartItem_NoCookie_IssuesCookie() {
+        // Given
+        product(1L);
+        pipelineReturns(2, 1);
+
+        // When
+        String value = guestCartService.addCartItem(null, new AddCartItemRequest(1L, 2));
+
+        // Then
+        assertThat(guestCartCookie.verify(value)).isNotNull();
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        verify(redisTemplate, never()).opsForHash();
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 추가][성공] - 이미 담긴 상품은 상한을 넘어도 수량만 늘림")
+    void addCartItem_ExistingItemAtLimit_Kept() {
+        // Given
+        String cookie = guestCartCookie.issue();
+        product(1L);
+        pipelineReturns(5, MAX_ITEMS + 1);
+
+        // When
+        String value = guestCartService.addCartItem(cookie, new AddCartItemRequest(1L, 2));
+
+        // Then: 기존 쿠키 유지, 되돌리지 않음
+        assertThat(value).isEqualTo(cookie);
+        verify(redisTemplate, never()).opsForHash();
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 추가][실패] - 새 상품으로 상품 종류 수 상한을 넘으면 되돌리고 422")
+    void addCartItem_NewItemOverLimit_RolledBack() {
+        // Given
+        String cookie = guestCartCookie.issue();
+        product(1L);
+        pipelineReturns(2, MAX_ITEMS + 1);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // When & Then
+        assertStatus(() -> guestCartService.addCartItem(cookie, new AddCartItemRequest(1L, 2)),
+                HttpStatus.UNPROCESSABLE_ENTITY);
+        verify(hashOperations).delete(key(cookie), "1");
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 추가/수정][실패] - 수량이 1 미만이거나 상한을 넘으면 Redis에 쓰지 않고 400")
+    void addAndUpdate_InvalidQuantity_Rejected() {
+        // Given
+        String cookie = guestCartCookie.issue();
+
+        // When & Then
+        for (Integer quantity : Arrays.asList(null, 0, -5, MAX_QUANTITY + 1)) {
+            assertStatus(() -> guestCartService.addCartItem(cookie, new AddCartItemRequest(1L, quantity)),
+                    HttpStatus.BAD_REQUEST);
+            assertStatus(() -> guestCartService.updateCartItem(cookie, 1L, new UpdateCartItemRequest(quantity)),
+                    HttpStatus.BAD_REQUEST);
+        }
+        verifyNoInteractions(redisTemplate, productService);
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 추가][실패] - 이미 담긴 수량에 더해 상한을 넘으면 더한 만큼 되돌리고 400")
+    void addCartItem_TotalOverMaxQuantity_RolledBack() {
+        // Given
+        String cookie = guestCartCookie.issue();
+        product(1L);
+        pipelineReturns(MAX_QUANTITY + 2, 1);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // When & Then
+        assertStatus(() -> guestCartService.addCartItem(cookie, new AddCartItemRequest(1L, 3)), HttpStatus.BAD_REQUEST);
+        verify(hashOperations).increment(key(cookie), "1", -3L);
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 수정][실패] - 담기지 않은 상품은 404이고 Redis에 쓰지 않음")
+    void updateCartItem_MissingItem_NotFound() {
+        // Given
+        String cookie = guestCartCookie.issue();
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.hasKey(key(cookie), "1")).thenReturn(false);
+
+        // When & Then
+        assertStatus(() -> guestCartService.updateCartItem(cookie, 1L, new UpdateCartItemRequest(3)),
+                HttpStatus.NOT_FOUND);
+        verify(hashOperations, never()).put(anyString(), any(), any());
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 삭제][실패] - 담기지 않은 상품은 404이고 삭제하지 않음")
+    void removeCartItem_MissingItem_NotFound() {
+        // Given
+        String cookie = guestCartCookie.issue();
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.hasKey(key(cookie), "1")).thenReturn(false);
+
+        // When & Then
+        assertStatus(() -> guestCartService.removeCartItem(cookie, 1L), HttpStatus.NOT_FOUND);
+        verify(hashOperations, never()).delete(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 수정][실패] - 서명이 맞지 않는 쿠키는 Redis를 조회하지 않고 404")
+    void updateCartItem_InvalidCookie_NotFound() {
+        // When & Then
+        assertStatus(() -> guestCartService.updateCartItem("forged.cookie", 1L, new UpdateCartItemRequest(3)),
+                HttpStatus.NOT_FOUND);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 수정][실패] - 한정 판매 중인 상품은 판매 시작 전에 담았어도 수량을 바꿀 수 없음")
+    void updateCartItem_FlashSaleActive_Rejected() {
+        // Given
+        String cookie = guestCartCookie.issue();
+        when(flashSaleGate.isActive(1L)).thenReturn(true);
+
+        // When & Then
+        assertStatus(() -> guestCartService.updateCartItem(cookie, 1L, new UpdateCartItemRequest(3)),
+                HttpStatus.FORBIDDEN);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 병합][성공] - 쿠키가 없거나 서명이 맞지 않으면 병합하지 않음")
+    void mergeIntoUserCart_InvalidCookie_Skipped() {
+        // Given
+        User user = User.builder().id(1L).email("buyer@example.com").build();
+
+        // When
+        int merged = guestCartService.mergeIntoUserCart(user, "forged.cookie")
+                + guestCartService.mergeIntoUserCart(user, null);
+
+        // Then
+        assertThat(merged).isZero();
+        verifyNoInteractions(redisTemplate, cartService);
+    }
+}
@@ -0,0 +1,190 @@
+package com.ecommerce.domain.order.service;
+
+import com.ecommerce.api.v1.order.dto.response.OrderHistoryResponseDto;
+import com.ecommerce.api.v1.order.dto.response.OrderSummaryDto;
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderItem;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.service.UserService;
+import com.ecommerce.global.utils.exception.ServiceException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({OrderService.class, OrderServiceTest.AuditingConfig.class})
+class OrderServiceTest {
+
+    private static final String EMAIL = "buyer@example.com";
+    private static final int ORDER_COUNT = 25;
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private UserService userService;
+
+    private final List<Order> orders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().nickname("구매자").email(EMAIL).build();
+        User other = User.builder().nickname("다른 구매자").email("other@example.com").build();
+        entityManager.persist(user);
+        entityManager.persist(other);
+        when(userService.findByEmail(EMAIL)).thenReturn(user);
+
+        Product keyboard = product("무선 키보드");
+        Product mouse = product("무선 마우스");
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = order(user, "ORD-" + i);
+            order.addOrderItem(item(keyboard, "무선 키보드"));
+            for (int extra = 0; extra < i % 3; extra++) {
+                order.addOrderItem(item(mouse, "무선 마우스"));
+            }
+            entityManager.persist(order);
+            orders.add(order);
+        }
+        entityManager.persist(order(other, "ORD-OTHER"));
+        entityManager.flush();
+
+        // 앞쪽 10건은 같은 시각에 생성된 것으로 만들어 (createdAt, id) 동률 처리 확인
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id <= ?",
+                LocalDateTime.now().minusDays(1), orders.get(9).getId());
+        entityManager.clear();
+    }
+
+    private Product product(String name) {
+        Product product = Product.builder()
+                .name(name)
+                .price(new BigDecimal("30000.00"))
+                .stockQuantity(100)
+                .brand("브랜드")
+                .build();
+        entityManager.persist(product);
+        return product;
+    }
+
+    private Order order(User user, String orderNumber) {
+        return Order.builder()
+                .user(user)
+                .orderNumber(orderNumber)
+                .totalPrice(new BigDecimal("30000.00"))
+                .status(OrderStatus.PAID)
+                .deliveryAddress("서울시 강남구")
+                .deliveryPhone("010-1234-5678")
+                .build();
+    }
+
+    private OrderItem item(Product product, String productName) {
+        return OrderItem.builder()
+                .product(product)
+                .productName(productName)
+                .quantity(1)
+                .unitPrice(new BigDecimal("30000.00"))
+                .totalPrice(new BigDecimal("30000.00"))
+                .build();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("[주문 목록][성공] - 커서를 따라가면 최신순으로 빠짐없이 한 번씩 조회")
+    void getOrderHistory_FollowCursor_AllOrdersOnce() {
+        // Given
+        List<Long> expected = orders.stream()
+                .map(Order::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        // When
+        List<OrderSummaryDto> collected = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        OrderHistoryResponseDto page;
+        do {
+            page = orderService.getOrderHistory(EMAIL, cursor, 10);
+            collected.addAll(page.orders());
+            pageSizes.add(page.orders().size());
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+
+        // Then
+        assertThat(pageSizes).containsExactly(10, 10, 5);
+        assertThat(page.nextCursor()).isNull();
+        assertThat(collected).extracting(OrderSummaryDto::orderId).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("[주문 목록][성공] - 항목 수와 첫 상품명을 연관 엔티티 로딩 없이 쿼리 두 번으로 조회")
+    void getOrderHistory_Projection_NoAssociationLoading() {
+        // Given
+        Statistics statistics = statistics();
+
+        // When
+        OrderHistoryResponseDto page = orderService.getOrderHistory(EMAIL, null, 5);
+
+        // Then
+        assertThat(page.orders()).hasSize(5);
+        OrderSummaryDto latest = page.orders().getFirst();
+        assertThat(latest.orderNumber()).isEqualTo("ORD-24");
+        assertThat(latest.itemCount()).isEqualTo(1 + 24 % 3);
+        assertThat(latest.firstProductName()).isEqualTo("무선 키보드");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[주문 목록][실패] - 잘못된 커서는 400")
+    void getOrderHistory_InvalidCursor() {
+        assertThatThrownBy(() -> orderService.getOrderHistory(EMAIL, "not-a-cursor", 10))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,370 @@
+package com.ecommerce.domain.order.service;
+
+import com.ecommerce.api.v1.payment.dto.request.PaymentRequest;
+import com.ecommerce.api.v1.payment.dto.response.PaymentResponseDto;
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.entity.OutboxAggregateType;
+import com.ecommerce.domain.order.entity.OutboxEvent;
+import com.ecommerce.domain.order.entity.Payment;
+import com.ecommerce.domain.order.entity.PaymentMethod;
+import com.ecommerce.domain.order.entity.PaymentStatus;
+import com.ecommerce.domain.order.outbox.OutboxWriter;
+import com.ecommerce.domain.order.payment.LocalPaymentGateway;
+import com.ecommerce.domain.order.payment.PaymentGateway;
+import com.ecommerce.domain.order.payment.PaymentGatewayResult;
+import com.ecommerce.domain.order.payment.PaymentSettlementWorker;
+import com.ecommerce.domain.order.repository.OrderRepository;
+import com.ecommerce.domain.order.repository.OutboxEventRepository;
+import com.ecommerce.domain.order.repository.PaymentRepository;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import com.ecommerce.global.utils.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 주문에 대한 결제 요청을 동시에 쏟아부어도 결제대행사 청구와 결제 행이 하나뿐인지 확인
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(PaymentServiceConcurrencyTest.AuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentServiceConcurrencyTest {
+
+    private static final String EMAIL = "buyer@example.com";
+    private static final PaymentRequest REQUEST = new PaymentRequest(PaymentMethod.CREDIT_CARD);
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 64;
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final List<PaymentSettlementWorker> workers = new ArrayList<>();
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().nickname("구매자").email(EMAIL).build());
+        orderId = orderRepository.save(Order.builder()
+                .user(user)
+                .orderNumber("ORD-" + UUID.randomUUID())
+                .totalPrice(new BigDecimal("178000.00"))
+                .status(OrderStatus.PENDING)
+                .deliveryAddress("서울시 강남구")
+                .deliveryPhone("010-1234-5678")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (PaymentSettlementWorker worker : workers) {
+            worker.shutdown();
+        }
+        outboxEventRepository.deleteAll();
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> inMemoryRedis() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> operations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(operations);
+        when(operations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(operations.get(any())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(operations).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> redis.remove(invocation.<String>getArgument(0)) != null);
+        return redisTemplate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> unavailableRedis() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+        return redisTemplate;
+    }
+
+    private PaymentService paymentService(PaymentGateway gateway, RedisTemplate<String, String> redisTemplate) {
+        OutboxWriter outboxWriter = new OutboxWriter(outboxEventRepository, new ObjectMapper());
+        PaymentSettlementWorker worker = new PaymentSettlementWorker(
+                paymentRepository, orderRepository, gateway, outboxWriter, transactionManager, 4, 100, Duration.ofSeconds(30));
+        workers.add(worker);
+        return new PaymentService(orderRepository, paymentRepository, worker, outboxWriter, redisTemplate,
+                new RedisCircuitBreaker(3, Duration.ofSeconds(5)), transactionManager, Duration.ofHours(24));
+    }
+
+    private record Outcome(List<PaymentResponseDto> accepted, List<Throwable> rejected) {
+    }
+
+    private Outcome submitConcurrently(PaymentService service, IntFunction<String> idempotencyKeys) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PaymentResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String key = idempotencyKeys.apply(i);
+            futures.add(pool.submit(() -> {
+                start.await();
+                return service.requestPayment(EMAIL, orderId, key, REQUEST);
+            }));
+        }
+        start.countDown();
+
+        List<PaymentResponseDto> accepted = new ArrayList<>();
+        List<Throwable> rejected = new ArrayList<>();
+        for (Future<PaymentResponseDto> future : futures) {
+            try {
+                accepted.add(future.get());
+            } catch (ExecutionException e) {
+                rejected.add(e.getCause());
+            }
+        }
+        pool.shutdown();
+        return new Outcome(accepted, rejected);
+    }
+
+    private Payment awaitSettled() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Payment payment = paymentRepository.findByOrderId(orderId).orElseThrow();
+            if (payment.getStatus() != PaymentStatus.PENDING) {
+                return payment;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("결제가 정산되지 않았습니다.");
+    }
+
+    private void assertOnlyConflicts(List<Throwable> rejected) {
+        assertThat(rejected).allSatisfy(error -> {
+            assertThat(error).isInstanceOf(ServiceException.class);
+            assertThat(((ServiceException) error).getCode()).isEqualTo(HttpStatus.CONFLICT);
+        });
+    }
+
+    @Test
+    @DisplayName("[결제][성공] - 같은 키/다른 키의 중복 제출이 동시에 몰려도 한 번만 청구")
+    void requestPayment_ConcurrentDuplicates_ChargedOnce() throws Exception {
+        // Given
+        LocalPaymentGateway gateway = new LocalPaymentGateway(Duration.ofMillis(50));
+        PaymentService service = paymentService(gateway, inMemoryRedis());
+
+        // When: 짝수 요청은 같은 키(재시도), 홀수 요청은 매번 새 키(더블 클릭)
+        Outcome outcome = submitConcurrently(service, i -> i % 2 == 0 ? "checkout-1" : UUID.randomUUID().toString());
+        Payment settled = awaitSettled();
+
+        // Then
+        assertThat(outcome.accepted()).isNotEmpty();
+        assertThat(outcome.accepted()).extracting(PaymentResponseDto::paymentId).containsOnly(settled.getId());
+        assertOnlyConflicts(outcome.rejected());
+
+        assertThat(gateway.chargeCount()).isEqualTo(1);
+        assertThat(paymentRepository.count()).isEqualTo(1);
+        assertThat(settled.getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(settled.getTransactionId()).startsWith("LOCAL-");
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+
+        // 상태 변경마다 같은 트랜잭션에 아웃박스 이벤트가 집계별 순번으로 남음
+        List<OutboxEvent> events = outboxEventRepository.findAll().stream()
+                .sorted(Comparator.comparing(OutboxEvent::getAggregateType).thenComparing(OutboxEvent::getAggregateSequence))
+                .toList();
+        assertThat(events).extracting(OutboxEvent::getAggregateType, OutboxEvent::getAggregateSequence)
+                .containsExactly(
+                        tuple(OutboxAggregateType.ORDER, 1L),
+                        tuple(OutboxAggregateType.PAYMENT, 1L),
+                        tuple(OutboxAggregateType.PAYMENT, 2L));
+        assertThat(events.get(2).getPayload()).contains("\"previousStatus\":\"PENDING\"", "\"status\":\"PAID\"");
+
+        // 정산 후 같은 키로 다시 요청하면 기존 결제 반환
+        PaymentResponseDto replayed = service.requestPayment(EMAIL, orderId, "checkout-1", REQUEST);
+        assertThat(replayed.paymentId()).isEqualTo(settled.getId());
+        assertThat(replayed.status()).isEqualTo(PaymentStatus.PAID);
+        assertThat(gateway.chargeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[결제][성공] - Redis 장애 중에도 주문 잠금과 유니크 제약으로 한 번만 청구")
+    void requestPayment_RedisUnavailable_ChargedOnce() throws Exception {
+        // Given
+        LocalPaymentGateway gateway = new LocalPaymentGateway(Duration.ofMillis(50));
+        PaymentService service = paymentService(gateway, unavailableRedis());
+
+        // When
+        Outcome outcome = submitConcurrently(service, i -> i % 2 == 0 ? "checkout-1" : UUID.randomUUID().toString());
+        Payment settled = awaitSettled();
+
+        // Then
+        assertThat(outcome.accepted()).extracting(PaymentResponseDto::paymentId).containsOnly(settled.getId());
+        assertOnlyConflicts(outcome.rejected());
+        assertThat(gateway.chargeCount()).isEqualTo(1);
+        assertThat(paymentRepository.count()).isEqualTo(1);
+        assertThat(settled.getStatus()).isEqualTo(PaymentStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("[결제][실패] - 승인 거절 시 FAILED로 두고 새 키로 다시 결제 가능")
+    void requestPayment_Declined_RetryWithNewKey() throws Exception {
+        // Given
+        PaymentService declining = paymentService(request -> PaymentGatewayResult.declined("한도 초과"), inMemoryRedis());
+        declining.requestPayment(EMAIL, orderId, "checkout-1", REQUEST);
+        assertThat(awaitSettled().getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+
+        LocalPaymentGateway gateway = new LocalPaymentGateway(Duration.ZERO);
+        PaymentService service = paymentService(gateway, inMemoryRedis());
+
+        // When
+        PaymentResponseDto retried = service.requestPayment(EMAIL, orderId, "checkout-2", REQUEST);
+        Payment settled = awaitSettled();
+
+        // Then
+        assertThat(retried.status()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(settled.getId()).isEqualTo(retried.paymentId());
+        assertThat(settled.getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(gateway.chargeCount()).isEqualTo(1);
+        assertThat(paymentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[결제][성공] - 다른 사용자가 같은 Idempotency-Key를 써도 각자 결제")
+    void requestPayment_SameKeyOtherUser_ChargedSeparately() throws Exception {
+        // Given
+        User other = userRepository.save(User.builder().nickname("다른 구매자").email("other@example.com").build());
+        Long otherOrderId = orderRepository.save(Order.builder()
+                .user(other)
+                .orderNumber("ORD-" + UUID.randomUUID())
+                .totalPrice(new BigDecimal("10000.00"))
+                .status(OrderStatus.PENDING)
+                .deliveryAddress("서울시 서초구")
+                .deliveryPhone("010-9876-5432")
+                .build()).getId();
+        LocalPaymentGateway gateway = new LocalPaymentGateway(Duration.ZERO);
+        PaymentService service = paymentService(gateway, inMemoryRedis());
+
+        // When
+        PaymentResponseDto mine = service.requestPayment(EMAIL, orderId, "checkout-1", REQUEST);
+        PaymentResponseDto theirs = service.requestPayment("other@example.com", otherOrderId, "checkout-1", REQUEST);
+        awaitSettled();
+
+        // Then: 키가 같아도 다른 사용자의 결제로 보지 않고, 결제대행사에도 따로 청구
+        assertThat(theirs.paymentId()).isNotEqualTo(mine.paymentId());
+        assertThat(paymentRepository.findByOrderId(otherOrderId)).get()
+                .extracting(Payment::getUserId).isEqualTo(other.getId());
+        for (int i = 0; i < 100 && gateway.chargeCount() < 2; i++) {
+            Thread.sleep(50);
+        }
+        assertThat(gateway.chargeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[결제][성공] - 승인 중에 주문이 취소되면 결제를 환불 필요로 두고 이벤트를 남김")
+    void requestPayment_OrderCancelledDuringCharge_RefundRequired() throws Exception {
+        // Given: 결제대행사 호출 중에 주문이 취소됨
+        TransactionTemplate cancel = new TransactionTemplate(transactionManager);
+        PaymentService service = paymentService(request -> {
+            cancel.executeWithoutResult(status -> orderRepository.transitionStatus(
+                    orderId, OrderStatus.PENDING, OrderStatus.CANCELLED, LocalDateTime.now()));
+            return PaymentGatewayResult.approved("TX-1");
+        }, inMemoryRedis());
+
+        // When
+        service.requestPayment(EMAIL, orderId, "checkout-1", REQUEST);
+        Long paymentId = awaitSettled().getId();
+
+        // Then: 엔티티가 아니라 커밋된 결제 행의 상태와 이벤트 순번이 아웃박스와 맞아야 함
+        Payment stored = paymentRepository.findById(paymentId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(PaymentStatus.REFUND_REQUIRED);
+        assertThat(stored.getTransactionId()).isEqualTo("TX-1");
+        assertThat(stored.getEventSequence()).isEqualTo(3L);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(outboxEventRepository.findAll()).filteredOn(event -> event.getAggregateType() == OutboxAggregateType.PAYMENT)
+                .extracting(OutboxEvent::getAggregateSequence)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(outboxEventRepository.findAll())
+                .anySatisfy(event -> assertThat(event.getPayload())
+                        .contains("\"previousStatus\":\"PAID\"", "\"status\":\"REFUND_REQUIRED\""));
+    }
+
+    @Test
+    @DisplayName("[상태 전이][실패] - 조건부 UPDATE도 전이 표에 없는 전이는 실행하지 않고 거절")
+    void transitionStatus_NotInStateMachine_Rejected() {
+        // When & Then
+        assertThatThrownBy(() -> orderRepository.transitionStatus(
+                orderId, OrderStatus.PENDING, OrderStatus.SHIPPED, LocalDateTime.now()))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(HttpStatus.CONFLICT);
+        assertThatThrownBy(() -> paymentRepository.transitionStatus(
+                1L, "checkout-1", PaymentStatus.PENDING, PaymentStatus.REFUNDED, LocalDateTime.now()))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(HttpStatus.CONFLICT);
+
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.domain.order.state;
+
+import com.ecommerce.domain.order.entity.Delivery;
+import com.ecommerce.domain.order.entity.DeliveryStatus;
+import com.ecommerce.domain.order.entity.Order;
+import com.ecommerce.domain.order.entity.OrderStatus;
+import com.ecommerce.domain.order.entity.Payment;
+import com.ecommerce.domain.order.entity.PaymentStatus;
+import com.ecommerce.global.utils.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStateMachinesTest {
+
+    private static Set<OrderStatus> orderTargets(OrderStatus from) {
+        EnumSet<OrderStatus> targets = EnumSet.noneOf(OrderStatus.class);
+        Arrays.stream(OrderStatus.values())
+                .filter(to -> OrderStateMachines.ORDER.canTransition(from, to))
+                .forEach(targets::add);
+        return targets;
+    }
+
+    @Test
+    @DisplayName("[상태 전이][성공] - 주문 전이 표는 정방향 전이만 허용하고 취소/환불은 종료 상태")
+    void order_TransitionTable() {
+        assertThat(orderTargets(OrderStatus.PENDING)).containsExactlyInAnyOrder(OrderStatus.PAID, OrderStatus.CANCELLED);
+        assertThat(orderTargets(OrderStatus.PAID)).containsExactlyInAnyOrder(
+                OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.CANCELLED, OrderStatus.REFUNDED);
+        assertThat(orderTargets(OrderStatus.SHIPPED)).containsExactly(OrderStatus.DELIVERED);
+        assertThat(orderTargets(OrderStatus.DELIVERED)).containsExactly(OrderStatus.REFUNDED);
+        assertThat(orderTargets(OrderStatus.CANCELLED)).isEmpty();
+        assertThat(orderTargets(OrderStatus.REFUNDED)).isEmpty();
+        assertThat(OrderStateMachines.ORDER.canTransition(null, OrderStatus.PAID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[상태 전이][실패] - 허용되지 않은 주문 전이는 409이고 상태는 그대로")
+    void order_InvalidTransition_Rejected() {
+        // Given
+        Order order = Order.builder().status(OrderStatus.PENDING).build();
+
+        // When & Then
+        assertThatThrownBy(() -> order.updateStatus(OrderStatus.SHIPPED))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+
+        order.updateStatus(OrderStatus.PAID);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("[상태 전이][실패] - 승인 번호 없는 결제는 가드에 막혀 PAID로 바꿀 수 없음")
+    void payment_Guard_RequiresTransactionId() {
+        // Given
+        Payment payment = Payment.builder().status(PaymentStatus.PENDING).build();
+
+        // When & Then
+        assertThatThrownBy(() -> payment.updateStatus(PaymentStatus.PAID))
+                .isInstanceOf(ServiceException.class);
+
+        payment.approve("TX-1");
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(payment.getPaidAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("[상태 전이][성공] - 실패한 결제는 다시 PENDING으로 돌릴 수 있지만 승인된 결제는 불가")
+    void payment_Retry_OnlyFromFailed() {
+        // Given
+        Payment failed = Payment.builder().status(PaymentStatus.FAILED).transactionId("TX-OLD").build();
+        Payment paid = Payment.builder().status(PaymentStatus.PAID).transactionId("TX-1").build();
+
+        // When
+        failed.retry("new-key", null);
+
+        // Then
+        assertThat(failed.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(failed.getTransactionId()).isNull();
+        assertThatThrownBy(() -> paid.retry("new-key", null)).isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("[상태 전이][성공] - 출고 스캔 없이 배달 완료되면 출고 시각도 채우고, 운송장이 없으면 가드에 막힘")
+    void delivery_DeliveredWithoutShipped() {
+        // Given
+        Delivery delivery = Delivery.builder().status(DeliveryStatus.PREPARING).trackingNumber("TRK-1").build();
+        Delivery untracked = Delivery.builder().status(DeliveryStatus.PREPARING).build();
+
+        // When
+        delivery.updateStatus(DeliveryStatus.DELIVERED);
+
+        // Then
+        assertThat(delivery.getShippedAt()).isNotNull().isEqualTo(delivery.getDeliveredAt());
+        assertThatThrownBy(() -> delivery.updateStatus(DeliveryStatus.SHIPPED)).isInstanceOf(ServiceException.class);
+        assertThatThrownBy(() -> untracked.updateStatus(DeliveryStatus.SHIPPED)).isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("[상태 전이][실패] - 상태가 64개를 넘는 enum은 비트 표로 만들 수 없음")
+    void builder_TooManyStates_Rejected() {
+        assertThatThrownBy(() -> StateMachine.builder("테스트", ManyStates.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private enum ManyStates {
+        S00, S01, S02, S03, S04, S05, S06, S07, S08, S09, S10, S11, S12, S13, S14, S15,
+        S16, S17, S18, S19, S20, S21, S22, S23, S24, S25, S26, S27, S28, S29, S30, S31,
+        S32, S33, S34, S35, S36, S37, S38, S39, S40, S41, S42, S43, S44, S45, S46, S47,
+        S48, S49, S50, S51, S52, S53, S54, S55, S56, S57, S58, S59, S60, S61, S62, S63, S64
+    }
+}
@@ -0,0 +1,132 @@
+package com.ecommerce.domain.product.category;
+
+import com.ecommerce.api.v1.product.dto.request.AddProductRequest;
+import com.ecommerce.domain.product.entity.Category;
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.importer.ProductBatchWriter;
+import com.ecommerce.domain.product.repository.CategoryRepository;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.domain.product.service.CategoryService;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 대소문자만 다른 카테고리 이름으로 상품을 만들어도 카테고리 하나, 연결 하나만 생기는지 확인
+ * (H2는 대소문자를 구분하므로 DB collation이 아니라 사전의 정규화로 합쳐져야 함)
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(CategoryCaseVariantTest.AuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategoryCaseVariantTest {
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CategoryDictionary categoryDictionary;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        categoryDictionary = new CategoryDictionary(
+                categoryRepository, jdbcTemplate, mock(RedisTemplate.class),
+                new RedisCircuitBreaker(3, Duration.ofSeconds(5)), mock(RedisMessageListenerContainer.class),
+                transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    private int linkCount(Long productId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product_category WHERE product_id = :productId",
+                new MapSqlParameterSource("productId", productId), Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    @Test
+    @DisplayName("[카테고리][성공] - 상품 등록 시 대소문자만 다른 이름은 카테고리 하나로 연결")
+    void addProduct_CaseVariants_SingleLink() {
+        // Given
+        Set<Category> categories = new CategoryService(categoryDictionary).findOrCreateCategories(List.of("Shoes", "SHOES"));
+
+        // When
+        Product product = productRepository.save(Product.builder()
+                .name("러닝화")
+                .price(new BigDecimal("89000.00"))
+                .stockQuantity(10)
+                .brand("브랜드")
+                .category(categories)
+                .build());
+
+        // Then
+        assertThat(categoryRepository.count()).isEqualTo(1);
+        assertThat(categories).extracting(Category::getName).containsExactly("Shoes");
+        assertThat(linkCount(product.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[카테고리][성공] - 대량 등록 시 대소문자만 다른 이름은 연결을 한 번만 추가")
+    void insertCategoryLinks_CaseVariants_SingleLink() {
+        // Given
+        categoryRepository.save(Category.builder().name("shoes").build());
+        categoryDictionary.reload();
+        AddProductRequest request = new AddProductRequest(
+                "러닝화", "가벼운 러닝화", "브랜드", new BigDecimal("89000.00"), 10, null, List.of("Shoes", "SHOES"));
+        ProductBatchWriter batchWriter = new ProductBatchWriter(jdbcTemplate);
+        Map<String, Long> categoryIds = categoryDictionary.resolve(request.categoryNames());
+
+        // When
+        List<Long> productIds = batchWriter.insertProducts(List.of(request), LocalDateTime.now());
+        batchWriter.insertCategoryLinks(productIds, List.of(request), categoryIds);
+
+        // Then
+        assertThat(categoryRepository.count()).isEqualTo(1);
+        assertThat(linkCount(productIds.get(0))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ecommerce.domain.product.category;
+
+import com.ecommerce.domain.product.entity.Category;
+import com.ecommerce.domain.product.repository.CategoryRepository;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryDictionaryTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CategoryDictionary categoryDictionary;
+
+    @BeforeEach
+    void setUp() {
+        categoryDictionary = new CategoryDictionary(
+                categoryRepository, jdbcTemplate, redisTemplate,
+                new RedisCircuitBreaker(3, Duration.ofSeconds(5)), listenerContainer, transactionManager);
+
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "의류"), category(2L, "신발")));
+        categoryDictionary.reload();
+    }
+
+    private Category category(Long id, String name) {
+        return Category.builder().id(id).name(name).build();
+    }
+
+    @Test
+    @DisplayName("[카테고리 사전][성공] - 적재된 이름은 DB 조회 없이 ID 반환")
+    void resolve_Cached() {
+        // When
+        Map<String, Long> ids = categoryDictionary.resolve(List.of("의류", "신발", "의류"));
+
+        // Then
+        assertThat(ids).containsExactlyInAnyOrderEntriesOf(Map.of("의류", 1L, "신발", 2L));
+        verify(categoryRepository, never()).findByLowerNameIn(anyCollection());
+        verifyNoInteractions(jdbcTemplate, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("[카테고리 사전][성공] - 없는 이름만 한 번에 추가하고 다른 인스턴스에 알림")
+    void resolve_CreatesMissingInOneBatch() {
+        // Given
+        when(categoryRepository.findByLowerNameIn(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(category(3L, "도서"), category(4L, "신간")));
+
+        // When
+        Map<String, Long> ids = categoryDictionary.resolve(List.of("의류", "도서", "신간"));
+
+        // Then
+        assertThat(ids).containsExactlyInAnyOrderEntriesOf(Map.of("의류", 1L, "도서", 3L, "신간", 4L));
+
+        ArgumentCaptor<SqlParameterSource[]> params = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("INSERT IGNORE INTO category"), params.capture());
+        assertThat(params.getValue()).extracting(param -> param.getValue("name")).containsExactly("도서", "신간");
+        verify(redisTemplate).convertAndSend(eq("category:changed"), argThat((String payload) ->
+                Set.of(payload.split(",")).equals(Set.of("3", "4"))));
+
+        // 이후 요청은 사전에서 바로 반환
+        assertThat(categoryDictionary.resolve(List.of("도서"))).containsEntry("도서", 3L);
+        verify(categoryRepository, times(2)).findByLowerNameIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("[카테고리 사전][성공] - 다른 인스턴스가 먼저 추가한 이름은 INSERT 없이 조회 결과 사용")
+    void resolve_AlreadyCreatedElsewhere() {
+        // Given
+        when(categoryRepository.findByLowerNameIn(anyCollection())).thenReturn(List.of(category(5L, "가전")));
+
+        // When
+        Map<String, Long> ids = categoryDictionary.resolve(List.of("가전"));
+
+        // Then
+        assertThat(ids).containsEntry("가전", 5L);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    @DisplayName("[카테고리 사전][성공] - 사전에 있는 이름과 대소문자만 다르면 DB 조회 없이 같은 ID 반환")
+    void resolve_CaseInsensitiveMatch() {
+        // Given
+        when(categoryRepository.findByLowerNameIn(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(category(6L, "shoes")));
+        categoryDictionary.resolve(List.of("shoes"));
+
+        // When
+        Map<String, Long> fromDictionary = categoryDictionary.resolve(List.of("Shoes", "SHOES"));
+
+        // Then
+        assertThat(fromDictionary).containsExactlyInAnyOrderEntriesOf(Map.of("Shoes", 6L, "SHOES", 6L));
+        verify(categoryRepository, times(2)).findByLowerNameIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("[카테고리 사전][성공] - 조회 결과의 표기가 요청과 달라도 요청한 이름으로 반환")
+    void resolve_FoundWithDifferentCase() {
+        // Given
+        when(categoryRepository.findByLowerNameIn(anyCollection())).thenReturn(List.of(category(8L, "books")));
+
+        // When
+        Map<String, Long> ids = categoryDictionary.resolve(List.of("Books", "BOOKS"));
+
+        // Then
+        assertThat(ids).containsExactlyInAnyOrderEntriesOf(Map.of("Books", 8L, "BOOKS", 8L));
+        assertThat(categoryDictionary.nameOf(8L)).isEqualTo("books");
+        verify(categoryRepository).findByLowerNameIn(Set.of("books"));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    @DisplayName("[카테고리 사전][성공] - 추가 알림을 받으면 모르는 ID만 조회해 반영")
+    void onMessage_LoadsUnknownIds() {
+        // Given
+        when(categoryRepository.findAllById(Set.of(7L))).thenReturn(List.of(category(7L, "스포츠")));
+
+        // When
+        categoryDictionary.onMessage(new DefaultMessage(
+                "category:changed".getBytes(StandardCharsets.UTF_8), "1,7".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(categoryDictionary.size()).isEqualTo(3);
+        assertThat(categoryDictionary.resolve(List.of("스포츠"))).containsEntry("스포츠", 7L);
+        verify(categoryRepository, never()).findByLowerNameIn(anyCollection());
+    }
+}
@@ -0,0 +1,125 @@
+package com.ecommerce.domain.product.exporter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파일 기반 H2에 상품 100만 건을 넣고 커서로 끝까지 읽으면서 힙 사용량이 늘지 않는지 확인
+ * (DB 페이지 캐시 외의 테이블 데이터가 힙에 올라가지 않도록 인메모리 DB 대신 임시 파일 사용, 테스트가 끝나면 삭제)
+ *
+ * 적재에 시간이 오래 걸리므로 기본 test 태스크에서는 제외하고 ./gradlew slowTest 로 실행한다.
+ * 청크 단위/순서 검증은 {@link ProductExportReaderTest}에서 적은 건수로 확인한다.
+ */
+@Tag("slow")
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProductExportReader.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductExportReaderHeapTest {
+
+    private static final int PRODUCT_COUNT = 1_000_000;
+    private static final int CATEGORY_COUNT = 10;
+    private static final int CHUNK_SIZE = 500;
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    private static Path databaseDirectory;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        databaseDirectory = Files.createTempDirectory("product-export-heap");
+        String path = databaseDirectory.resolve("db").toAbsolutePath().toString();
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + path
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;LAZY_QUERY_EXECUTION=TRUE");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("app.product.export.chunk-size", () -> CHUNK_SIZE);
+    }
+
+    @AfterAll
+    static void deleteDatabase() throws IOException {
+        if (databaseDirectory != null) {
+            FileSystemUtils.deleteRecursively(databaseDirectory);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductExportReader exportReader;
+
+    @Test
+    @DisplayName("[상품 내보내기][성공] - 100만 건을 읽는 동안 힙 사용량이 일정")
+    void read_MillionRows_HeapStaysFlat() throws IOException {
+        // Given: 상품마다 카테고리 1개 / 이미지 2개
+        jdbcTemplate.update("""
+                INSERT INTO category (id, name, created_at, updated_at)
+                SELECT X, CONCAT('카테고리-', X), NOW(), NOW() FROM SYSTEM_RANGE(1, ?)
+                """, CATEGORY_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO products (id, name, description, price, stock_quantity, brand, is_deleted, status, created_at, updated_at)
+                SELECT X, CONCAT('상품-', X), NULL, 10000 + MOD(X, 1000), MOD(X, 50), CONCAT('brand-', MOD(X, 100)), FALSE,
+                       CASE WHEN MOD(X, 50) = 0 THEN 'OUT_OF_STOCK' ELSE 'ACTIVE' END, NOW(), NOW()
+                FROM SYSTEM_RANGE(1, ?)
+                """, PRODUCT_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO product_category (product_id, category_id)
+                SELECT X, MOD(X, ?) + 1 FROM SYSTEM_RANGE(1, ?)
+                """, CATEGORY_COUNT, PRODUCT_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO product_images (product_id, image_url, is_main, created_at, updated_at)
+                SELECT MOD(X - 1, ?) + 1, CONCAT('https://cdn.example.com/', X, '.jpg'), X <= ?, NOW(), NOW()
+                FROM SYSTEM_RANGE(1, ?)
+                """, PRODUCT_COUNT, PRODUCT_COUNT, PRODUCT_COUNT * 2);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        List<Long> heapSamples = new ArrayList<>();
+        long[] lastId = {0};
+        long[] chunks = {0};
+
+        // When
+        long count = exportReader.read(new ProductExportCondition(null, null), rows -> {
+            for (ProductExportRow row : rows) {
+                if (row.id() != lastId[0] + 1 || row.categoryNames().size() != 1 || row.imageUrls().size() != 2) {
+                    throw new IOException("잘못된 행: " + row);
+                }
+                lastId[0] = row.id();
+            }
+            // 10만 건마다 GC 후 힙 사용량 기록
+            if (++chunks[0] % 200 == 1) {
+                System.gc();
+                heapSamples.add(memory.getHeapMemoryUsage().getUsed());
+            }
+        });
+
+        // Then
+        assertThat(count).isEqualTo(PRODUCT_COUNT);
+        assertThat(lastId[0]).isEqualTo(PRODUCT_COUNT);
+        assertThat(heapSamples).hasSizeGreaterThanOrEqualTo(10);
+
+        long baseline = heapSamples.getFirst();
+        long peak = heapSamples.stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertThat(peak - baseline).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+}
@@ -0,0 +1,145 @@
+package com.ecommerce.domain.product.exporter;
+
+import com.ecommerce.domain.product.entity.ProductStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파일 기반 H2에 상품을 넣고 커서로 끝까지 읽으면서 chunk-size 단위로 id 순서대로 넘기는지 확인
+ * (테이블 데이터가 힙에 올라가지 않도록 인메모리 DB 대신 임시 파일 사용, 테스트가 끝나면 삭제)
+ * 100만 건에서 힙 사용량이 일정한지는 {@link ProductExportReaderHeapTest}(slow)에서 확인한다.
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProductExportReader.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductExportReaderTest {
+
+    private static final int PRODUCT_COUNT = 20_000;
+    private static final int CATEGORY_COUNT = 10;
+    private static final int CHUNK_SIZE = 500;
+
+    private static Path databaseDirectory;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        databaseDirectory = Files.createTempDirectory("product-export");
+        String path = databaseDirectory.resolve("db").toAbsolutePath().toString();
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + path
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;LAZY_QUERY_EXECUTION=TRUE");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("app.product.export.chunk-size", () -> CHUNK_SIZE);
+    }
+
+    @AfterAll
+    static void deleteDatabase() throws IOException {
+        if (databaseDirectory != null) {
+            FileSystemUtils.deleteRecursively(databaseDirectory);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductExportReader exportReader;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class) == PRODUCT_COUNT) {
+            return;
+        }
+
+        // 상품 id % 50 == 0 은 품절, 상품마다 카테고리 1개 / 이미지 2개
+        jdbcTemplate.update("""
+                INSERT INTO category (id, name, created_at, updated_at)
+                SELECT X, CONCAT('카테고리-', X), NOW(), NOW() FROM SYSTEM_RANGE(1, ?)
+                """, CATEGORY_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO products (id, name, description, price, stock_quantity, brand, is_deleted, status, created_at, updated_at)
+                SELECT X, CONCAT('상품-', X), NULL, 10000 + MOD(X, 1000), MOD(X, 50), CONCAT('brand-', MOD(X, 100)), FALSE,
+                       CASE WHEN MOD(X, 50) = 0 THEN 'OUT_OF_STOCK' ELSE 'ACTIVE' END, NOW(), NOW()
+                FROM SYSTEM_RANGE(1, ?)
+                """, PRODUCT_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO product_category (product_id, category_id)
+                SELECT X, MOD(X, ?) + 1 FROM SYSTEM_RANGE(1, ?)
+                """, CATEGORY_COUNT, PRODUCT_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO product_images (product_id, image_url, is_main, created_at, updated_at)
+                SELECT MOD(X - 1, ?) + 1, CONCAT('https://cdn.example.com/', X, '.jpg'), X <= ?, NOW(), NOW()
+                FROM SYSTEM_RANGE(1, ?)
+                """, PRODUCT_COUNT, PRODUCT_COUNT, PRODUCT_COUNT * 2);
+    }
+
+    @Test
+    @DisplayName("[상품 내보내기][성공] - 전체 상품을 chunk-size 단위로 id 순서대로 읽음")
+    void read_AllRows_InChunks() throws IOException {
+        // Given
+        List<Integer> chunkSizes = new ArrayList<>();
+        long[] lastId = {0};
+
+        // When
+        long count = exportReader.read(new ProductExportCondition(null, null), rows -> {
+            for (ProductExportRow row : rows) {
+                if (row.id() != lastId[0] + 1 || row.categoryNames().size() != 1 || row.imageUrls().size() != 2) {
+                    throw new IOException("잘못된 행: " + row);
+                }
+                lastId[0] = row.id();
+            }
+            chunkSizes.add(rows.size());
+        });
+
+        // Then
+        assertThat(count).isEqualTo(PRODUCT_COUNT);
+        assertThat(lastId[0]).isEqualTo(PRODUCT_COUNT);
+        assertThat(chunkSizes).hasSize(PRODUCT_COUNT / CHUNK_SIZE).containsOnly(CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("[상품 내보내기][성공] - 상태/재고 조건과 대표 이미지 순서")
+    void read_WithCondition_Success() throws IOException {
+        // Given
+        List<ProductExportRow> firstChunk = new ArrayList<>();
+
+        // When
+        long count = exportReader.read(new ProductExportCondition(ProductStatus.OUT_OF_STOCK, false), rows -> {
+            if (firstChunk.isEmpty()) {
+                firstChunk.addAll(rows);
+            }
+        });
+
+        // Then
+        assertThat(count).isEqualTo(PRODUCT_COUNT / 50);
+
+        ProductExportRow first = firstChunk.getFirst();
+        assertThat(first.id()).isEqualTo(50L);
+        assertThat(first.stockQuantity()).isZero();
+        assertThat(first.status()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+        assertThat(first.categoryNames()).containsExactly("카테고리-1");
+        assertThat(first.imageUrls()).containsExactly(
+                "https://cdn.example.com/50.jpg",
+                "https://cdn.example.com/" + (PRODUCT_COUNT + 50) + ".jpg"
+        );
+    }
+}
@@ -0,0 +1,406 @@
+package com.ecommerce.domain.product.flashsale;
+
+import com.ecommerce.api.v1.flashsale.dto.response.FlashSaleEntryResponseDto;
+import com.ecommerce.api.v1.flashsale.dto.response.FlashSaleEntryStatus;
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 한정 판매 대기열에 구매자가 한꺼번에 몰려도 재고만큼만 도착 순서대로 입장시키고,
+ * 매진 뒤 요청은 저장소와 DB를 거치지 않고 거절하는지 확인
+ *
+ * 테스트는 Redis 없이 돌므로 {@link RedisFlashSaleStore}의 Lua 스크립트 대신 같은 규칙의 메모리 저장소로
+ * {@link FlashSaleGate}의 입장 규칙만 검증한다. 스크립트는 {@link RedisFlashSaleStoreTest}에서 실제 Redis로 확인한다.
+ */
+class FlashSaleGateTest {
+
+    private static final long PRODUCT_ID = 1L;
+    private static final int STOCK = 100;
+    private static final int BUYERS = 10_000;
+    private static final int MAX_QUANTITY_PER_PASS = 1;
+
+    private final InMemoryFlashSaleStore store = new InMemoryFlashSaleStore();
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final FlashSaleGate gate = new FlashSaleGate(
+            store, productRepository, new RedisCircuitBreaker(3, Duration.ofSeconds(5)), Duration.ofMinutes(10),
+            MAX_QUANTITY_PER_PASS);
+
+    private ScheduledExecutorService admitter;
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(mock(Product.class)));
+        when(productRepository.findSellableStockByIdIn(anyCollection()))
+                .thenAnswer(invocation -> List.<Object[]>of(new Object[]{PRODUCT_ID, STOCK}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (admitter != null) {
+            admitter.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("[한정 판매][성공] - 10,000명이 동시에 몰려도 재고 100개만큼만 도착 순서대로 입장")
+    void enter_TenThousandBuyers_AdmitsStockInArrivalOrder() throws Exception {
+        // Given
+        gate.open(PRODUCT_ID, 10_000);
+        AtomicInteger ticks = new AtomicInteger();
+        admitter = Executors.newSingleThreadScheduledExecutor();
+        admitter.scheduleWithFixedDelay(() -> {
+            gate.admit();
+            ticks.incrementAndGet();
+        }, 0, 5, TimeUnit.MILLISECONDS);
+
+        CountDownLatch start = new CountDownLatch(1);
+        Map<String, Long> firstPositions = new ConcurrentHashMap<>();
+        List<Future<FlashSaleEntryStatus>> results = new ArrayList<>(BUYERS);
+
+        // When
+        try (ExecutorService buyers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < BUYERS; i++) {
+                String email = "buyer" + i + "@example.com";
+                results.add(buyers.submit(() -> {
+                    start.await();
+                    return waitForTurn(email, firstPositions);
+                }));
+            }
+            start.countDown();
+        }
+
+        // Then
+        List<FlashSaleEntryStatus> statuses = new ArrayList<>(BUYERS);
+        for (Future<FlashSaleEntryStatus> result : results) {
+            statuses.add(result.get());
+        }
+        assertThat(statuses).filteredOn(status -> status == FlashSaleEntryStatus.ADMITTED).hasSize(STOCK);
+        assertThat(statuses).filteredOn(status -> status == null).hasSize(BUYERS - STOCK);
+
+        // 줄 선 순서 앞에서부터 정확히 입장권 수만큼
+        assertThat(store.admittedInOrder()).containsExactlyElementsOf(store.arrivals().subList(0, STOCK));
+        assertThat(store.admittedInOrder()).allSatisfy(email -> assertThat(firstPositions.get(email)).isLessThanOrEqualTo(STOCK));
+
+        // DB는 요청 수와 무관하게 시작할 때 1번, 입장 주기마다 1번만 조회
+        admitter.shutdown();
+        assertThat(admitter.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        verify(productRepository, times(1)).findById(PRODUCT_ID);
+        verify(productRepository, times(ticks.get())).findSellableStockByIdIn(anyCollection());
+        verifyNoMoreInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("[한정 판매][실패] - 매진 뒤 요청은 저장소와 DB를 거치지 않고 거절하고, 입장권이 있으면 입장 상태 유지")
+    void enter_AfterSoldOut_RejectedLocally() {
+        // Given
+        when(productRepository.findSellableStockByIdIn(anyCollection()))
+                .thenAnswer(invocation -> List.<Object[]>of(new Object[]{PRODUCT_ID, 2 * MAX_QUANTITY_PER_PASS}));
+        gate.open(PRODUCT_ID, 10_000);
+        for (int i = 0; i < 3; i++) {
+            gate.enter(PRODUCT_ID, "buyer" + i + "@example.com");
+        }
+        gate.admit();
+
+        int storeCalls = store.calls();
+        clearInvocations(productRepository);
+
+        // When & Then
+        for (int i = 0; i < 1_000; i++) {
+            String email = "late" + i + "@example.com";
+            assertThatThrownBy(() -> gate.enter(PRODUCT_ID, email))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.FLASH_SALE_SOLD_OUT.getHttpStatus());
+        }
+        assertThatThrownBy(() -> gate.enter(PRODUCT_ID, "buyer2@example.com"))
+                .isInstanceOf(ServiceException.class);
+        assertThat(gate.enter(PRODUCT_ID, "buyer0@example.com").status()).isEqualTo(FlashSaleEntryStatus.ADMITTED);
+
+        assertThat(store.calls()).isEqualTo(storeCalls);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("[한정 판매][실패] - 초당 입장 인원이 없거나 1..10000 범위를 벗어나면 시작하지 않음")
+    void open_InvalidAdmitRate_Rejected() {
+        for (Integer admitPerSecond : Arrays.asList(null, 0, -1, 10_001)) {
+            assertThatThrownBy(() -> gate.open(PRODUCT_ID, admitPerSecond))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.INVALID_INPUT_VALUE.getHttpStatus());
+        }
+        assertThat(gate.isActive(PRODUCT_ID)).isFalse();
+        assertThat(store.activeSales()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[한정 판매][실패] - 입장권 없이 장바구니에 담으려 하면 거절")
+    void usePass_WithoutPass_Rejected() {
+        // Given
+        gate.open(PRODUCT_ID, 10_000);
+        gate.enter(PRODUCT_ID, "buyer0@example.com");
+
+        // When & Then
+        assertThatThrownBy(() -> gate.usePass(PRODUCT_ID, "buyer0@example.com", 1))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.FLASH_SALE_NOT_ADMITTED.getHttpStatus());
+
+        gate.admit();
+        gate.usePass(PRODUCT_ID, "buyer0@example.com", 1);
+        // 한정 판매가 아닌 상품은 입장권 없이 담음
+        gate.usePass(2L, "buyer1@example.com", 100);
+    }
+
+    @Test
+    @DisplayName("[한정 판매][실패] - 입장권은 한 번만 쓸 수 있고 한 장에 정해진 수량까지만 담음")
+    void usePass_ConsumedOnceWithinQuantityCap() {
+        // Given
+        gate.open(PRODUCT_ID, 10_000);
+        gate.enter(PRODUCT_ID, "buyer0@example.com");
+        gate.admit();
+
+        // When & Then: 상한을 넘는 수량은 입장권을 쓰지 않고 거절
+        assertThatThrownBy(() -> gate.usePass(PRODUCT_ID, "buyer0@example.com", MAX_QUANTITY_PER_PASS + 1))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.FLASH_SALE_QUANTITY_EXCEEDED.getHttpStatus());
+
+        gate.usePass(PRODUCT_ID, "buyer0@example.com", MAX_QUANTITY_PER_PASS);
+        assertThatThrownBy(() -> gate.usePass(PRODUCT_ID, "buyer0@example.com", 1))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.FLASH_SALE_NOT_ADMITTED.getHttpStatus());
+        assertThat(gate.notAdmitted(List.of(PRODUCT_ID), "buyer0@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[한정 판매][성공] - 입장권을 쓴 구매자는 다시 줄 서지 않아 두 번째 입장권을 받지 못함")
+    void enter_AfterUsingPass_NotQueuedAgain() {
+        // Given
+        gate.open(PRODUCT_ID, 10_000);
+        gate.enter(PRODUCT_ID, "buyer0@example.com");
+        gate.admit();
+        gate.usePass(PRODUCT_ID, "buyer0@example.com", 1);
+
+        // When
+        FlashSaleEntryResponseDto entry = gate.enter(PRODUCT_ID, "buyer0@example.com");
+        gate.admit();
+
+        // Then
+        assertThat(entry.status()).isEqualTo(FlashSaleEntryStatus.USED);
+        assertThat(store.admittedInOrder()).containsExactly("buyer0@example.com");
+        assertThatThrownBy(() -> gate.usePass(PRODUCT_ID, "buyer0@example.com", 1))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.FLASH_SALE_NOT_ADMITTED.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("[한정 판매][성공] - 사용한 입장권도 판매가 끝날 때까지 자리를 차지해 재고보다 더 입장시키지 않음")
+    void admit_UsedPassesKeepTheirSlots() {
+        // Given: 재고로 입장권 2장
+        when(productRepository.findSellableStockByIdIn(anyCollection()))
+                .thenAnswer(invocation -> List.<Object[]>of(new Object[]{PRODUCT_ID, 2 * MAX_QUANTITY_PER_PASS}));
+        gate.open(PRODUCT_ID, 10_000);
+        for (int i = 0; i < 3; i++) {
+            gate.enter(PRODUCT_ID, "buyer" + i + "@example.com");
+        }
+        gate.admit();
+
+        // When
+        gate.usePass(PRODUCT_ID, "buyer0@example.com", 1);
+        gate.admit();
+
+        // Then
+        assertThat(store.admittedInOrder()).containsExactly("buyer0@example.com", "buyer1@example.com");
+    }
+
+    @Test
+    @DisplayName("[한정 판매][성공] - 판매 시작 전에 담아 둔 상품과 비로그인 장바구니의 상품은 입장하지 않은 것으로 표시")
+    void notAdmitted_ItemsWithoutUsedPass() {
+        // Given
+        gate.open(PRODUCT_ID, 10_000);
+        gate.enter(PRODUCT_ID, "buyer0@example.com");
+        gate.admit();
+
+        // When & Then: 입장권을 받았어도 쓰기 전까지는 담긴 상품을 인정하지 않음
+        assertThat(gate.notAdmitted(List.of(PRODUCT_ID, 2L), "buyer0@example.com")).containsExactly(PRODUCT_ID);
+        assertThat(gate.notAdmitted(List.of(PRODUCT_ID, 2L), null)).containsExactly(PRODUCT_ID);
+
+        gate.usePass(PRODUCT_ID, "buyer0@example.com", 1);
+        assertThat(gate.notAdmitted(List.of(PRODUCT_ID, 2L), "buyer0@example.com")).isEmpty();
+        assertThat(gate.notAdmitted(List.of(PRODUCT_ID), "buyer1@example.com")).containsExactly(PRODUCT_ID);
+    }
+
+    /**
+     * 대기 순번을 받은 뒤 입장하거나 매진될 때까지 다시 확인하는 클라이언트
+     *
+     * @return 입장하면 ADMITTED, 매진이면 null
+     */
+    private FlashSaleEntryStatus waitForTurn(String email, Map<String, Long> firstPositions) throws InterruptedException {
+        while (true) {
+            FlashSaleEntryResponseDto entry;
+            try {
+                entry = gate.enter(PRODUCT_ID, email);
+            } catch (ServiceException e) {
+                return null;
+            }
+            if (entry.status() == FlashSaleEntryStatus.ADMITTED) {
+                return FlashSaleEntryStatus.ADMITTED;
+            }
+            firstPositions.putIfAbsent(email, entry.position());
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * {@link RedisFlashSaleStore}의 Lua 스크립트와 같은 규칙을 메서드 단위 잠금으로 흉내 낸 저장소
+     */
+    static class InMemoryFlashSaleStore implements FlashSaleStore {
+
+        private final Map<Long, Integer> active = new HashMap<>();
+        private final LinkedHashMap<String, Long> queue = new LinkedHashMap<>();
+        private final Map<String, Long> passes = new HashMap<>();
+        private final Set<String> used = new HashSet<>();
+        private final List<String> arrivals = new ArrayList<>();
+        private final List<String> admittedInOrder = new ArrayList<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private double tokens = -1;
+        private long refilledAt;
+
+        @Override
+        public synchronized void open(long productId, int admitPerSecond) {
+            calls.incrementAndGet();
+            active.put(productId, admitPerSecond);
+        }
+
+        @Override
+        public synchronized void close(long productId) {
+            calls.incrementAndGet();
+            active.remove(productId);
+        }
+
+        @Override
+        public synchronized Map<Long, Integer> activeSales() {
+            calls.incrementAndGet();
+            return Map.copyOf(active);
+        }
+
+        @Override
+        public synchronized long enqueue(long productId, String buyer, long nowMillis) {
+            calls.incrementAndGet();
+            if (used.contains(buyer)) {
+                return -2;
+            }
+            Long expiresAt = passes.get(buyer);
+            if (expiresAt != null && expiresAt > nowMillis) {
+                return -1;
+            }
+            if (!queue.containsKey(buyer)) {
+                queue.put(buyer, (long) arrivals.size());
+                arrivals.add(buyer);
+            }
+            // 대기열은 앞에서부터만 빠지므로 도착 순번에서 입장한 인원을 빼면 현재 순번
+            return queue.get(buyer) - admittedInOrder.size();
+        }
+
+        @Override
+        public synchronized boolean usePass(long productId, String buyer, long nowMillis) {
+            calls.incrementAndGet();
+            Long expiresAt = passes.get(buyer);
+            if (expiresAt == null || expiresAt <= nowMillis) {
+                return false;
+            }
+            passes.remove(buyer);
+            used.add(buyer);
+            return true;
+        }
+
+        @Override
+        public synchronized boolean hasUsedPass(long productId, String buyer) {
+            calls.incrementAndGet();
+            return used.contains(buyer);
+        }
+
+        @Override
+        public synchronized List<String> passHolders(long productId, long nowMillis) {
+            calls.incrementAndGet();
+            return passes.entrySet().stream()
+                    .filter(pass -> pass.getValue() > nowMillis)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        @Override
+        public synchronized FlashSaleAdmission admit(long productId, int slots, int admitPerSecond,
+                                                     long nowMillis, long passExpiresAtMillis) {
+            calls.incrementAndGet();
+            passes.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+            long remaining = slots - passes.size() - used.size();
+
+            if (tokens < 0) {
+                tokens = admitPerSecond;
+                refilledAt = nowMillis;
+            }
+            tokens = Math.min(admitPerSecond, tokens + Math.max(0, nowMillis - refilledAt) * admitPerSecond / 1000.0);
+            refilledAt = nowMillis;
+
+            List<String> admitted = new ArrayList<>();
+            long n = Math.min((long) Math.floor(tokens), remaining);
+            var waiting = queue.keySet().iterator();
+            while (admitted.size() < n && waiting.hasNext()) {
+                String buyer = waiting.next();
+                waiting.remove();
+                passes.put(buyer, passExpiresAtMillis);
+                admitted.add(buyer);
+            }
+            admittedInOrder.addAll(admitted);
+            tokens -= admitted.size();
+            return new FlashSaleAdmission(remaining - admitted.size(), admitted);
+        }
+
+        synchronized List<String> arrivals() {
+            return List.copyOf(arrivals);
+        }
+
+        synchronized List<String> admittedInOrder() {
+            return List.copyOf(admittedInOrder);
+        }
+
+        int calls() {
+            return calls.get();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.ecommerce.domain.product.flashsale;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link RedisFlashSaleStore}의 Lua 스크립트(ENQUEUE, ADMIT, USE_PASS)를 실제 Redis에서 실행해 확인
+ *
+ * {@link FlashSaleGateTest}의 메모리 저장소가 흉내 내는 규칙을 스크립트도 그대로 지키는지 본다.
+ * Docker를 쓸 수 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisFlashSaleStoreTest {
+
+    private static final long PRODUCT_ID = 1L;
+    private static final long NOW = 1_000_000L;
+    private static final long PASS_TTL = 600_000L;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisFlashSaleStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        store = new RedisFlashSaleStore(redisTemplate);
+        store.open(PRODUCT_ID, 10_000);
+    }
+
+    private static String buyer(int index) {
+        return "buyer" + index + "@example.com";
+    }
+
+    @Test
+    @DisplayName("[한정 판매 저장소][성공] - 도착 순서대로 줄 세우고, 다시 줄 서도 처음 자리 유지")
+    void enqueue_KeepsArrivalOrder() {
+        // When
+        long first = store.enqueue(PRODUCT_ID, buyer(0), NOW);
+        long second = store.enqueue(PRODUCT_ID, buyer(1), NOW);
+        long again = store.enqueue(PRODUCT_ID, buyer(0), NOW + 1);
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        assertThat(again).isZero();
+        assertThat(store.activeSales()).containsEntry(PRODUCT_ID, 10_000);
+    }
+
+    @Test
+    @DisplayName("[한정 판매 저장소][성공] - 남은 자리와 초당 입장 인원 중 작은 만큼 대기열 앞에서 입장")
+    void admit_LimitedBySlotsAndRate() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            store.enqueue(PRODUCT_ID, buyer(i), NOW);
+        }
+
+        // When: 초당 2명, 자리 3개
+        FlashSaleAdmission first = store.admit(PRODUCT_ID, 3, 2, NOW, NOW + PASS_TTL);
+        FlashSaleAdmission sameSecond = store.admit(PRODUCT_ID, 3, 2, NOW + 1, NOW + PASS_TTL);
+        FlashSaleAdmission nextSecond = store.admit(PRODUCT_ID, 3, 2, NOW + 1_000, NOW + 1_000 + PASS_TTL);
+
+        // Then
+        assertThat(first.admitted()).containsExactly(buyer(0), buyer(1));
+        assertThat(first.remaining()).isEqualTo(1);
+        assertThat(sameSecond.admitted()).isEmpty();
+        assertThat(nextSecond.admitted()).containsExactly(buyer(2));
+        assertThat(nextSecond.remaining()).isZero();
+
+        assertThat(store.enqueue(PRODUCT_ID, buyer(0), NOW + 2_000)).isEqualTo(-1);
+        assertThat(store.enqueue(PRODUCT_ID, buyer(3), NOW + 2_000)).isZero();
+        assertThat(store.passHolders(PRODUCT_ID, NOW + 2_000)).containsExactlyInAnyOrder(buyer(0), buyer(1), buyer(2));
+    }
+
+    @Test
+    @DisplayName("[한정 판매 저장소][성공] - 입장권은 한 번만 쓰이고, 쓴 구매자는 다시 줄 서지 않으며 자리를 계속 차지")
+    void usePass_ConsumedOnce_NotQueuedAgain() {
+        // Given
+        store.enqueue(PRODUCT_ID, buyer(0), NOW);
+        store.enqueue(PRODUCT_ID, buyer(1), NOW);
+        store.admit(PRODUCT_ID, 1, 10_000, NOW, NOW + PASS_TTL);
+
+        // When
+        boolean used = store.usePass(PRODUCT_ID, buyer(0), NOW + 1);
+        boolean usedAgain = store.usePass(PRODUCT_ID, buyer(0), NOW + 2);
+        boolean withoutPass = store.usePass(PRODUCT_ID, buyer(1), NOW + 2);
+
+        // Then
+        assertThat(used).isTrue();
+        assertThat(usedAgain).isFalse();
+        assertThat(withoutPass).isFalse();
+        assertThat(store.hasUsedPass(PRODUCT_ID, buyer(0))).isTrue();
+        assertThat(store.hasUsedPass(PRODUCT_ID, buyer(1))).isFalse();
+
+        assertThat(store.enqueue(PRODUCT_ID, buyer(0), NOW + 3)).isEqualTo(-2);
+        FlashSaleAdmission admission = store.admit(PRODUCT_ID, 1, 10_000, NOW + 1_000, NOW + 1_000 + PASS_TTL);
+        assertThat(admission.admitted()).isEmpty();
+        assertThat(admission.remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("[한정 판매 저장소][성공] - 쓰이지 않고 만료된 입장권 자리만큼 다음 사람 입장")
+    void admit_ExpiredPassFreesSlot() {
+        // Given
+        store.enqueue(PRODUCT_ID, buyer(0), NOW);
+        store.enqueue(PRODUCT_ID, buyer(1), NOW);
+        store.admit(PRODUCT_ID, 1, 10_000, NOW, NOW + 100);
+
+        // When
+        FlashSaleAdmission admission = store.admit(PRODUCT_ID, 1, 10_000, NOW + 200, NOW + 200 + PASS_TTL);
+
+        // Then
+        assertThat(admission.admitted()).containsExactly(buyer(1));
+        assertThat(store.usePass(PRODUCT_ID, buyer(0), NOW + 201)).isFalse();
+        assertThat(store.passHolders(PRODUCT_ID, NOW + 201)).containsExactly(buyer(1));
+    }
+
+    @Test
+    @DisplayName("[한정 판매 저장소][성공] - 동시에 몰린 1,000명 중 줄 선 순서 앞에서부터 자리 수만큼만 입장")
+    void admit_ConcurrentEnqueue_AdmitsInQueueOrder() throws Exception {
+        // Given
+        int buyers = 1_000;
+        int slots = 100;
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < buyers; i++) {
+                String email = buyer(i);
+                executor.submit(() -> {
+                    start.await();
+                    return store.enqueue(PRODUCT_ID, email, NOW);
+                });
+            }
+            start.countDown();
+        }
+        List<String> queued = new ArrayList<>(redisTemplate.opsForZSet().range("flashsale:{" + PRODUCT_ID + "}:queue", 0, -1));
+
+        // When
+        FlashSaleAdmission admission = store.admit(PRODUCT_ID, slots, 10_000, NOW, NOW + PASS_TTL);
+        FlashSaleAdmission soldOut = store.admit(PRODUCT_ID, slots, 10_000, NOW + 1_000, NOW + 1_000 + PASS_TTL);
+
+        // Then
+        assertThat(queued).hasSize(buyers).doesNotHaveDuplicates();
+        assertThat(admission.admitted()).containsExactlyElementsOf(queued.subList(0, slots));
+        assertThat(admission.remaining()).isZero();
+        assertThat(soldOut.admitted()).isEmpty();
+        assertThat(store.enqueue(PRODUCT_ID, queued.get(slots), NOW + 1_000)).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+package com.ecommerce.domain.product.history;
+
+import com.ecommerce.domain.product.entity.ProductHistorySegment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductHistoryCodecTest {
+
+    private static final Instant MONTH_START = Instant.parse("2026-03-01T00:00:00Z");
+
+    @Test
+    @DisplayName("[상품 이력][성공] - 여러 번 나눠 추가해도 모든 항목을 순서대로 복원")
+    void append_RoundTrip() {
+        // Given
+        ProductHistorySegment segment = ProductHistorySegment.create(1L, ProductHistoryCodec.periodOf(MONTH_START));
+        List<ProductHistoryEntry> first = List.of(
+                new ProductHistoryEntry(MONTH_START.plusSeconds(10), new BigDecimal("19900.00"), 100),
+                new ProductHistoryEntry(MONTH_START.plusSeconds(3600), new BigDecimal("17900.50"), 98)
+        );
+        List<ProductHistoryEntry> second = List.of(
+                new ProductHistoryEntry(MONTH_START.plusSeconds(7200), new BigDecimal("21000.00"), 0)
+        );
+
+        // When
+        segment.append(first);
+        segment.append(second);
+
+        // Then
+        assertThat(segment.getPeriod()).isEqualTo(202603);
+        assertThat(segment.getEntryCount()).isEqualTo(3);
+        assertThat(segment.entries()).containsExactly(first.get(0), first.get(1), second.get(0));
+    }
+
+    @Test
+    @DisplayName("[상품 이력][성공] - 한 달 동안 분 단위 변경 4만여 건도 항목당 8바이트 이하")
+    void append_Compact() {
+        // Given
+        ProductHistorySegment segment = ProductHistorySegment.create(1L, ProductHistoryCodec.periodOf(MONTH_START));
+        List<ProductHistoryEntry> entries = new ArrayList<>();
+        int minutes = 31 * 24 * 60;
+        for (int i = 0; i < minutes; i++) {
+            BigDecimal price = BigDecimal.valueOf((15000 + (i % 7) * 100L) * 100, 2);
+            entries.add(new ProductHistoryEntry(MONTH_START.plusSeconds(i * 60L), price, 1000 - (i % 50)));
+        }
+
+        // When
+        segment.append(entries);
+
+        // Then
+        assertThat(segment.getData().length).isLessThanOrEqualTo(minutes * 8);
+        assertThat(segment.entries()).hasSize(minutes).last().isEqualTo(entries.getLast());
+    }
+
+    @Test
+    @DisplayName("[상품 이력][성공] - 음수 차이와 순서가 섞인 항목도 시각 순으로 복원")
+    void decode_NegativeDeltas_Sorted() {
+        // Given
+        ProductHistorySegment segment = ProductHistorySegment.create(1L, ProductHistoryCodec.periodOf(MONTH_START));
+        ProductHistoryEntry later = new ProductHistoryEntry(MONTH_START.plusSeconds(500), new BigDecimal("9999999.99"), 5);
+        ProductHistoryEntry earlier = new ProductHistoryEntry(MONTH_START.plusSeconds(100), new BigDecimal("0.01"), 0);
+
+        // When
+        segment.append(List.of(later));
+        segment.append(List.of(earlier));
+
+        // Then
+        assertThat(segment.entries()).containsExactly(earlier, later);
+        assertThat(ProductHistoryCodec.unzigzag(ProductHistoryCodec.zigzag(Long.MIN_VALUE))).isEqualTo(Long.MIN_VALUE);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ecommerce.domain.product.history;
+
+import com.ecommerce.domain.product.entity.ProductHistoryChange;
+import com.ecommerce.domain.product.entity.ProductHistorySegment;
+import com.ecommerce.domain.product.event.ProductPriceStockChangedEvent;
+import com.ecommerce.domain.product.repository.ProductHistoryChangeRepository;
+import com.ecommerce.domain.product.repository.ProductHistorySegmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductHistoryRecorderTest {
+
+    private static final Instant MARCH = Instant.parse("2026-03-31T23:59:00Z");
+    private static final Instant APRIL = Instant.parse("2026-04-01T00:01:00Z");
+    private static final BigDecimal PRICE = new BigDecimal("10000.00");
+
+    @Mock
+    private ProductHistoryChangeRepository changeRepository;
+
+    @Mock
+    private ProductHistorySegmentRepository segmentRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductHistoryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new ProductHistoryRecorder(changeRepository, segmentRepository, jdbcTemplate, transactionManager, 3);
+    }
+
+    private ProductPriceStockChangedEvent event(Long productId, Instant changedAt, int stock) {
+        return new ProductPriceStockChangedEvent(productId, PRICE, stock, changedAt);
+    }
+
+    private ProductHistoryChange change(long id, Long productId, Instant changedAt, int stock) {
+        ProductHistoryChange change = ProductHistoryChange.create(productId, PRICE, stock, changedAt);
+        ReflectionTestUtils.setField(change, "id", id);
+        return change;
+    }
+
+    @Test
+    @DisplayName("[상품 이력 기록][성공] - 상품 트랜잭션 안의 변경은 커밋 직전에 한 번의 배치 INSERT로 저장")
+    void onPriceStockChanged_InTransaction_StagedBeforeCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            recorder.onPriceStockChanged(event(1L, MARCH, 10));
+            recorder.onPriceStockChanged(event(2L, APRIL, 1));
+            verifyNoInteractions(jdbcTemplate);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        ArgumentCaptor<SqlParameterSource[]> params = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(anyString(), params.capture());
+        assertThat(params.getValue()).hasSize(2);
+        assertThat(params.getValue()[0].getValue("productId")).isEqualTo(1L);
+        assertThat(params.getValue()[0].getValue("changedAt")).isEqualTo(MARCH.toEpochMilli());
+        assertThat(params.getValue()[1].getValue("stockQuantity")).isEqualTo(1);
+        // 커밋 후에는 다음 트랜잭션을 위해 자원이 풀려 있어야 함
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("[상품 이력 기록][성공] - 트랜잭션 밖의 변경은 새 트랜잭션에서 바로 저장")
+    void onPriceStockChanged_WithoutTransaction_StagedImmediately() {
+        // When
+        recorder.onPriceStockChanged(event(1L, MARCH, 10));
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((SqlParameterSource[] params) -> params.length == 1));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("[상품 이력 기록][성공] - 저장된 변경을 (상품, 월) 구간별로 묶어 추가하고 삭제")
+    @SuppressWarnings("unchecked")
+    void flush_GroupsBySegment() {
+        // Given
+        ProductHistorySegment existing = ProductHistorySegment.create(1L, 202603);
+        when(changeRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(
+                change(1L, 1L, APRIL, 9),
+                change(2L, 1L, MARCH, 10),
+                change(3L, 2L, APRIL, 1)), List.of());
+        when(changeRepository.deleteByIdIn(List.of(1L, 2L, 3L))).thenReturn(3);
+        when(segmentRepository.findByProductIdInAndPeriodIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(existing));
+
+        // When
+        recorder.flush();
+
+        // Then: 배치가 가득 찼으므로 한 번 더 조회
+        assertThat(existing.entries()).extracting(ProductHistoryEntry::stockQuantity).containsExactly(10);
+
+        ArgumentCaptor<List<ProductHistorySegment>> created = ArgumentCaptor.forClass(List.class);
+        verify(segmentRepository).saveAll(created.capture());
+        assertThat(created.getValue())
+                .extracting(ProductHistorySegment::getProductId, ProductHistorySegment::getPeriod)
+                .containsExactlyInAnyOrder(tuple(1L, 202604), tuple(2L, 202604));
+        verify(changeRepository, times(2)).findAllByOrderByIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("[상품 이력 기록][실패] - 다른 인스턴스가 먼저 옮긴 변경이 있으면 구간에 추가하지 않고 롤백")
+    void flush_AlreadyClaimed_RolledBack() {
+        // Given
+        when(changeRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(
+                change(1L, 1L, MARCH, 10),
+                change(2L, 1L, APRIL, 9)));
+        when(changeRepository.deleteByIdIn(List.of(1L, 2L))).thenReturn(1);
+
+        // When
+        recorder.flush();
+
+        // Then
+        verify(segmentRepository, never()).saveAll(anyList());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+}
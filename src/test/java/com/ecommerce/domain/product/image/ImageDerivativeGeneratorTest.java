@@ -0,0 +1,98 @@
+package com.ecommerce.domain.product.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageDerivativeGeneratorTest {
+
+    private ImageDerivativeGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new ImageDerivativeGenerator(0.85f, 4_000_000);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    @Test
+    @DisplayName("[이미지 축소][성공] - 긴 변 기준으로 비율을 유지해 변형별 JPEG 생성")
+    void generate_Success() throws IOException {
+        // Given
+        byte[] source = png(1600, 1200);
+
+        // When
+        Map<ImageVariant, byte[]> derivatives = generator.generate(source);
+
+        // Then
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(derivatives.get(ImageVariant.THUMBNAIL)));
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(derivatives.get(ImageVariant.MEDIUM)));
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(150);
+        assertThat(medium.getWidth()).isEqualTo(640);
+        assertThat(medium.getHeight()).isEqualTo(480);
+
+        // JPEG SOI 마커
+        assertThat(derivatives.get(ImageVariant.THUMBNAIL)).startsWith((byte) 0xFF, (byte) 0xD8);
+    }
+
+    @Test
+    @DisplayName("[이미지 축소][성공] - 원본보다 크게 늘리지 않음")
+    void resize_SmallSource_KeepsSize() {
+        // Given
+        BufferedImage source = new BufferedImage(120, 80, BufferedImage.TYPE_INT_RGB);
+
+        // When
+        BufferedImage resized = ImageDerivativeGenerator.resize(source, ImageVariant.MEDIUM.getMaxSize());
+
+        // Then
+        assertThat(resized.getWidth()).isEqualTo(120);
+        assertThat(resized.getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("[이미지 축소][실패] - 이미지가 아니면 예외")
+    void generate_NotImage_Fail() {
+        // Given
+        byte[] source = "not an image".getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        assertThatThrownBy(() -> generator.generate(source))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("[이미지 축소][실패] - 해상도가 상한을 넘으면 디코딩하지 않고 예외")
+    void generate_TooManyPixels_Fail() throws IOException {
+        // Given: 단색이라 파일은 작지만 2500x2000 = 500만 화소
+        byte[] source = png(2500, 2000);
+
+        // When & Then
+        assertThatThrownBy(() -> generator.generate(source))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("2500x2000");
+    }
+}
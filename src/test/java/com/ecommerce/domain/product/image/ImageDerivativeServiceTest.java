@@ -0,0 +1,185 @@
+package com.ecommerce.domain.product.image;
+
+import com.ecommerce.domain.product.event.ProductChangedEvent;
+import com.ecommerce.domain.product.repository.ProductImageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 작업 풀은 1개 스레드로 두고, 마지막에 넣은 확인용 URL이 처리되면 앞선 작업이 모두 끝난 것으로 본다
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceTest {
+
+    private static final String URL = "https://cdn.example.com/a.jpg";
+    private static final String MARKER = "https://marker.example.com/";
+
+    @Mock
+    private ProductImageRepository productImageRepository;
+
+    @Mock
+    private ImageSourceFetcher sourceFetcher;
+
+    @Mock
+    private ImageDerivativeGenerator derivativeGenerator;
+
+    @Mock
+    private ImageStore imageStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageDerivativeService service;
+    private final BlockingQueue<String> processedMarkers = new LinkedBlockingQueue<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    private void service(int queueCapacity, Duration retryDelay) throws IOException {
+        service = new ImageDerivativeService(productImageRepository, sourceFetcher, derivativeGenerator, imageStore,
+                transactionManager, 1, queueCapacity, retryDelay);
+
+        // 작업 스레드가 mock을 호출하는 중에 스텁을 바꾸지 않도록 확인용 URL은 미리 스텁
+        when(sourceFetcher.fetch(startsWith(MARKER))).thenAnswer(invocation -> {
+            processedMarkers.add(invocation.getArgument(0));
+            throw new IOException("marker");
+        });
+    }
+
+    /**
+     * 확인용 URL을 넣고 처리될 때까지 대기 (단일 작업 스레드라 앞선 작업은 모두 끝난 상태)
+     */
+    private void drain(int sequence) throws InterruptedException {
+        String marker = MARKER + sequence;
+        service.submit(marker);
+        assertThat(processedMarkers.poll(5, TimeUnit.SECONDS)).isEqualTo(marker);
+    }
+
+    @Test
+    @DisplayName("[이미지 축소][성공] - 처리 중인 URL이 다시 들어와도 한 번만 다운로드")
+    void submit_SameUrlInFlight_ProcessedOnce() throws Exception {
+        // Given
+        service(10, Duration.ofMinutes(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(sourceFetcher.fetch(URL)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new byte[]{1};
+        });
+        when(derivativeGenerator.generate(any())).thenReturn(Map.of(
+                ImageVariant.THUMBNAIL, new byte[]{2},
+                ImageVariant.MEDIUM, new byte[]{3}));
+        when(imageStore.put(any())).thenReturn("thumb", "medium");
+        when(productImageRepository.findUrlsWithoutDerivatives(List.of(1L, 2L))).thenReturn(List.of(URL, URL));
+
+        // When: 같은 원본을 쓰는 두 상품이 변경되고, 처리 중에 한 번 더 요청
+        service.onProductChanged(new ProductChangedEvent(List.of(1L, 2L)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        service.submit(URL);
+        release.countDown();
+        drain(1);
+
+        // Then
+        verify(sourceFetcher, times(1)).fetch(URL);
+        verify(productImageRepository, times(1)).updateDerivativeKeys(URL, "thumb", "medium");
+    }
+
+    @Test
+    @DisplayName("[이미지 축소][성공] - 같은 원본으로 만든 키가 있으면 다시 다운로드하지 않고 재사용")
+    void submit_ExistingKeys_Reused() throws Exception {
+        // Given
+        service(10, Duration.ofMinutes(10));
+        when(productImageRepository.findDerivativeKeys(eq(URL), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{"thumb", "medium"}));
+
+        // When
+        service.submit(URL);
+        drain(1);
+
+        // Then
+        verify(sourceFetcher, never()).fetch(URL);
+        verify(productImageRepository).updateDerivativeKeys(URL, "thumb", "medium");
+    }
+
+    @Test
+    @DisplayName("[이미지 축소][실패] - 실패한 URL은 retry-delay 동안 다시 처리하지 않음")
+    void submit_FailedUrl_SkippedUntilRetryDelay() throws Exception {
+        // Given
+        service(10, Duration.ofMinutes(10));
+        when(sourceFetcher.fetch(URL)).thenThrow(new IOException("다운로드 실패"));
+
+        // When
+        service.submit(URL);
+        drain(1);
+        service.submit(URL);
+        drain(2);
+
+        // Then
+        verify(sourceFetcher, times(1)).fetch(URL);
+        verify(productImageRepository, never()).updateDerivativeKeys(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("[이미지 축소][실패] - 대기열이 가득 차면 요청 스레드를 막지 않고 버리며, 다음 요청에서 다시 받음")
+    void submit_QueueFull_DroppedAndAcceptedLater() throws Exception {
+        // Given
+        service(1, Duration.ofMinutes(10));
+        String running = "https://cdn.example.com/running.jpg";
+        String queued = "https://cdn.example.com/queued.jpg";
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(sourceFetcher.fetch(running)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IOException("다운로드 실패");
+        });
+        CountDownLatch queuedStarted = new CountDownLatch(1);
+        when(sourceFetcher.fetch(queued)).thenAnswer(invocation -> {
+            queuedStarted.countDown();
+            throw new IOException("다운로드 실패");
+        });
+        when(sourceFetcher.fetch(URL)).thenThrow(new IOException("다운로드 실패"));
+
+        // When
+        service.submit(running);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        service.submit(queued);
+        long submittedAt = System.nanoTime();
+        service.submit(URL);
+        long blockedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt);
+        release.countDown();
+        assertThat(queuedStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        drain(1);
+
+        // Then: 버려진 URL은 처리 중 표시가 남지 않아 다음 요청에서 처리됨
+        assertThat(blockedMillis).isLessThan(1_000);
+        verify(sourceFetcher, never()).fetch(URL);
+
+        service.submit(URL);
+        drain(2);
+        verify(sourceFetcher, times(1)).fetch(URL);
+    }
+}
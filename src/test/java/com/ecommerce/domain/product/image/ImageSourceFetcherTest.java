@@ -0,0 +1,56 @@
+package com.ecommerce.domain.product.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageSourceFetcherTest {
+
+    private final ImageSourceFetcher fetcher = new ImageSourceFetcher(Duration.ofSeconds(1), DataSize.ofMegabytes(1));
+
+    @Test
+    @DisplayName("[이미지 다운로드][실패] - 루프백 / 메타데이터 / 사설 주소는 요청하지 않음")
+    void fetch_InternalAddress_Fail() {
+        for (String url : List.of(
+                "http://localhost:8080/image.png",
+                "http://127.0.0.1/image.png",
+                "http://169.254.169.254/latest/meta-data/",
+                "http://10.0.0.5/image.png",
+                "http://192.168.1.10/image.png",
+                "http://[::1]/image.png",
+                "http://0.0.0.0/image.png")) {
+            // When & Then
+            assertThatThrownBy(() -> fetcher.fetch(url))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("내부 주소");
+        }
+    }
+
+    @Test
+    @DisplayName("[이미지 다운로드][실패] - http/https 외 스킴은 요청하지 않음")
+    void fetch_UnsupportedScheme_Fail() {
+        assertThatThrownBy(() -> fetcher.fetch("file:///etc/passwd"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("지원하지 않는");
+    }
+
+    @Test
+    @DisplayName("[이미지 다운로드][성공] - 공인 주소와 내부 대역 구분")
+    void isPublic() throws IOException {
+        assertThat(ImageSourceFetcher.isPublic(InetAddress.getByName("8.8.8.8"))).isTrue();
+        assertThat(ImageSourceFetcher.isPublic(InetAddress.getByName("2606:4700::1111"))).isTrue();
+
+        assertThat(ImageSourceFetcher.isPublic(InetAddress.getByName("172.16.0.1"))).isFalse();
+        assertThat(ImageSourceFetcher.isPublic(InetAddress.getByName("100.64.0.1"))).isFalse();
+        assertThat(ImageSourceFetcher.isPublic(InetAddress.getByName("fd00::1"))).isFalse();
+        assertThat(ImageSourceFetcher.isPublic(InetAddress.getByName("fe80::1"))).isFalse();
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.domain.product.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageStoreTest {
+
+    @TempDir
+    private Path root;
+
+    private ImageStore imageStore;
+
+    @BeforeEach
+    void setUp() {
+        imageStore = new ImageStore(root.toString());
+    }
+
+    @Test
+    @DisplayName("[이미지 저장][성공] - 내용 해시를 키로 저장하고 키로 다시 찾음")
+    void put_Success() throws IOException {
+        // Given
+        byte[] content = "thumbnail".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        String key = imageStore.put(content);
+
+        // Then
+        assertThat(key).isEqualTo(ImageStore.sha256(content)).hasSize(64);
+        Path path = imageStore.find(key).orElseThrow();
+        assertThat(path).startsWith(root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)));
+        assertThat(Files.readAllBytes(path)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("[이미지 저장][성공] - 같은 내용은 한 파일만 남고 임시 파일도 남지 않음")
+    void put_SameContent_Deduplicated() throws IOException {
+        // Given
+        byte[] content = "medium".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        String first = imageStore.put(content);
+        String second = imageStore.put(content.clone());
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("[이미지 조회][실패] - 형식이 잘못된 키나 없는 키는 찾지 않음")
+    void find_InvalidKey_Empty() {
+        // Given
+        String missing = "a".repeat(64);
+
+        // When & Then
+        assertThat(imageStore.find(missing)).isEmpty();
+        assertThat(imageStore.find("../../etc/passwd")).isEmpty();
+        assertThat(imageStore.find("A".repeat(64))).isEmpty();
+        assertThat(imageStore.find(null)).isEmpty();
+    }
+}
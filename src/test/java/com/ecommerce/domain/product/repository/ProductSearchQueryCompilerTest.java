@@ -0,0 +1,99 @@
+package com.ecommerce.domain.product.repository;
+
+import com.ecommerce.api.v1.product.dto.request.ProductSearchCondition;
+import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.repository.ProductSearchQueryCompiler.CompiledQuery;
+import com.ecommerce.global.utils.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class ProductSearchQueryCompilerTest {
+
+    private ProductSearchQueryCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new ProductSearchQueryCompiler();
+    }
+
+    private ProductSearchCondition condition(String keyword, String category, BigDecimal minPrice, Boolean inStock) {
+        return ProductSearchCondition.of(keyword, category, null, minPrice, null, inStock, null);
+    }
+
+    @Test
+    @DisplayName("[검색 쿼리][성공] - 조건이 없으면 WHERE 절과 카테고리 조인 없이 생성")
+    void compile_noCondition() {
+        // Given
+        ProductSearchCondition condition = condition(null, null, null, false);
+
+        // When
+        CompiledQuery query = compiler.compile(condition, Sort.by("createdAt").descending());
+
+        // Then
+        assertThat(query.jpql())
+                .isEqualTo("SELECT d FROM ProductSearchDocument d ORDER BY d.createdAt DESC, d.id DESC");
+        assertThat(query.parameters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[검색 쿼리][성공] - 지정된 조건만 WHERE 절에 포함하고 카테고리 조건이 있을 때만 조인")
+    void compile_onlyActivePredicates() {
+        // Given
+        ProductSearchCondition condition = condition("노트북", "전자기기", BigDecimal.valueOf(1000), true);
+
+        // When
+        CompiledQuery query = compiler.compile(condition, Sort.by("price").ascending());
+
+        // Then
+        assertThat(query.jpql())
+                .contains("JOIN d.categories c")
+                .contains("(d.name LIKE :keyword OR d.description LIKE :keyword)")
+                .contains("c.name = :category")
+                .contains("d.price >= :minPrice")
+                .contains("d.stockQuantity > 0")
+                .doesNotContain(":brand", ":maxPrice", ":status", "IS NULL")
+                .endsWith("ORDER BY d.price ASC, d.id DESC");
+        assertThat(query.parameters()).containsOnly(
+                entry("keyword", "%노트북%"),
+                entry("category", "전자기기"),
+                entry("minPrice", BigDecimal.valueOf(1000))
+        );
+    }
+
+    @Test
+    @DisplayName("[검색 쿼리][성공] - 같은 조건 조합이면 값이 달라도 캐시된 쿼리 재사용")
+    void compile_reusesShapeForSameMask() {
+        // Given
+        Sort sort = Sort.by("createdAt").descending();
+
+        // When
+        CompiledQuery first = compiler.compile(condition("a", null, null, true), sort);
+        CompiledQuery second = compiler.compile(condition("b", null, null, true), sort);
+        compiler.compile(ProductSearchCondition.of(null, null, null, null, null, null, ProductStatus.ACTIVE), sort);
+
+        // Then
+        assertThat(second.jpql()).isSameAs(first.jpql());
+        assertThat(second.parameters()).containsEntry("keyword", "%b%");
+        assertThat(compiler.cachedShapeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[검색 쿼리][실패] - 허용되지 않은 정렬 필드")
+    void compile_rejectsUnknownSortProperty() {
+        // Given
+        ProductSearchCondition condition = condition(null, null, null, null);
+
+        // When & Then
+        assertThatThrownBy(() -> compiler.compile(condition, Sort.by("description; DROP TABLE product_search")))
+                .isInstanceOf(ServiceException.class);
+        assertThat(compiler.cachedShapeCount()).isZero();
+    }
+}
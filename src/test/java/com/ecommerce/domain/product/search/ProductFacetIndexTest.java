@@ -0,0 +1,169 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.api.v1.product.dto.request.ProductSearchCondition;
+import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.repository.ProductSearchRepository;
+import com.ecommerce.domain.product.search.ProductFacetIndex.IndexedDoc;
+import com.ecommerce.domain.product.search.ProductFacets.FacetCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ProductFacetIndexTest {
+
+    private ProductFacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        facetIndex = new ProductFacetIndex(
+                mock(ProductSearchRepository.class),
+                mock(PlatformTransactionManager.class),
+                new BigDecimal[]{BigDecimal.valueOf(10000), BigDecimal.valueOf(50000)},
+                20
+        );
+
+        List<IndexedDoc> docs = List.of(
+                doc(1L, "나이키", List.of("신발"), 30000, 5, "러닝화"),
+                doc(2L, "나이키", List.of("의류"), 8000, 0, "반팔 티셔츠"),
+                doc(3L, "아디다스", List.of("신발"), 60000, 3, "축구화"),
+                doc(4L, "아디다스", List.of("신발", "스포츠"), 45000, 1, "러닝화 한정판")
+        );
+        facetIndex.apply(docs, List.of(1L, 2L, 3L, 4L));
+    }
+
+    private IndexedDoc doc(long id, String brand, List<String> categories, long price, int stock, String name) {
+        return new IndexedDoc(id, brand, categories, BigDecimal.valueOf(price), stock > 0,
+                ProductStatus.ACTIVE, ProductFacetIndex.tokenize(name));
+    }
+
+    private ProductSearchCondition condition(String keyword, String category, String brand, Boolean inStock) {
+        return ProductSearchCondition.of(keyword, category, brand, null, null, inStock, null);
+    }
+
+    @Test
+    @DisplayName("[패싯][성공] - 조건이 없으면 전체 문서 기준으로 집계")
+    void compute_noCondition() {
+        // When
+        ProductFacets facets = facetIndex.compute(condition(null, null, null, false));
+
+        // Then
+        assertThat(facets.total()).isEqualTo(4);
+        assertThat(facets.brands()).containsExactly(new FacetCount("나이키", 2), new FacetCount("아디다스", 2));
+        assertThat(facets.categories()).containsExactly(
+                new FacetCount("신발", 3), new FacetCount("스포츠", 1), new FacetCount("의류", 1));
+        assertThat(facets.priceRanges()).extracting(ProductFacets.PriceRangeCount::count).containsExactly(1L, 2L, 1L);
+        assertThat(facets.availability().inStock()).isEqualTo(3);
+        assertThat(facets.availability().outOfStock()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[패싯][성공] - 선택한 패싯은 자기 조건을 제외하고 집계")
+    void compute_excludesOwnFilter() {
+        // When
+        ProductFacets facets = facetIndex.compute(condition(null, "신발", "나이키", false));
+
+        // Then
+        assertThat(facets.total()).isEqualTo(1);
+        // 브랜드 패싯은 카테고리 조건만 적용
+        assertThat(facets.brands()).containsExactly(new FacetCount("아디다스", 2), new FacetCount("나이키", 1));
+        // 카테고리 패싯은 브랜드 조건만 적용
+        assertThat(facets.categories()).containsExactly(new FacetCount("신발", 1), new FacetCount("의류", 1));
+    }
+
+    @Test
+    @DisplayName("[패싯][성공] - 키워드와 재고 조건 적용")
+    void compute_keywordAndStock() {
+        // When
+        ProductFacets facets = facetIndex.compute(condition("러닝", null, null, true));
+
+        // Then
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.brands()).containsExactly(new FacetCount("나이키", 1), new FacetCount("아디다스", 1));
+        assertThat(facets.availability().inStock()).isEqualTo(2);
+        assertThat(facets.availability().outOfStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("[패싯][성공] - 여러 단어 키워드는 단어마다 일치하는 문서의 교집합")
+    void compute_multiTermKeyword() {
+        // When
+        ProductFacets reordered = facetIndex.compute(condition("티셔츠 반팔", null, null, false));
+        ProductFacets partial = facetIndex.compute(condition("러닝 한정", null, null, false));
+        ProductFacets unknown = facetIndex.compute(condition("러닝 축구", null, null, false));
+
+        // Then
+        assertThat(reordered.total()).isEqualTo(1);
+        assertThat(reordered.brands()).containsExactly(new FacetCount("나이키", 1));
+        assertThat(partial.total()).isEqualTo(1);
+        assertThat(partial.brands()).containsExactly(new FacetCount("아디다스", 1));
+        assertThat(unknown.total()).isZero();
+    }
+
+    @Test
+    @DisplayName("[패싯][성공] - 가격 조건은 가격대 경계와 맞지 않아도 양 끝을 포함해 정확히 적용")
+    void compute_priceRange() {
+        // When
+        ProductFacets aligned = facetIndex.compute(ProductSearchCondition.of(
+                null, null, null, BigDecimal.valueOf(10000), BigDecimal.valueOf(50000), false, null));
+        ProductFacets inside = facetIndex.compute(ProductSearchCondition.of(
+                null, null, null, BigDecimal.valueOf(30000), BigDecimal.valueOf(45000), false, null));
+        ProductFacets minOnly = facetIndex.compute(ProductSearchCondition.of(
+                null, null, null, BigDecimal.valueOf(45001), null, false, null));
+
+        // Then
+        assertThat(aligned.total()).isEqualTo(2);
+        assertThat(inside.total()).isEqualTo(2);
+        assertThat(inside.brands()).containsExactly(new FacetCount("나이키", 1), new FacetCount("아디다스", 1));
+        assertThat(minOnly.total()).isEqualTo(1);
+        assertThat(minOnly.brands()).containsExactly(new FacetCount("아디다스", 1));
+        // 가격대 패싯은 자기 조건을 제외하고 집계
+        assertThat(inside.priceRanges()).extracting(ProductFacets.PriceRangeCount::count).containsExactly(1L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("[패싯][성공] - 문서 변경/삭제가 인덱스에 반영")
+    void apply_updatesAndRemoves() {
+        // Given
+        IndexedDoc moved = doc(1L, "아디다스", List.of("의류"), 30000, 0, "러닝화");
+
+        // When
+        facetIndex.apply(List.of(moved), List.of(1L, 3L));
+        ProductFacets facets = facetIndex.compute(condition(null, null, null, false));
+
+        // Then
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.brands()).containsExactly(new FacetCount("아디다스", 2), new FacetCount("나이키", 1));
+        assertThat(facets.categories()).containsExactly(
+                new FacetCount("의류", 2), new FacetCount("스포츠", 1), new FacetCount("신발", 1));
+        assertThat(facets.availability().outOfStock()).isEqualTo(2);
+        assertThat(facetIndex.compute(condition("축구", null, null, false)).total()).isZero();
+        assertThat(facetIndex.compute(condition("러닝", null, null, false)).total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[패싯][성공] - 배열/비트맵 청크가 섞인 대량 문서 집계")
+    void compute_largeIndex() {
+        // Given
+        List<IndexedDoc> docs = new ArrayList<>();
+        for (long id = 100; id < 100 + 150_000; id++) {
+            String brand = id % 1000 == 1 ? "희소브랜드" : "대형브랜드";
+            docs.add(doc(id, brand, List.of("잡화"), 20000, (int) (id % 2), "상품" + id));
+        }
+        facetIndex.apply(docs, List.of());
+
+        // When
+        ProductFacets facets = facetIndex.compute(condition(null, "잡화", null, true));
+
+        // Then
+        assertThat(facets.total()).isEqualTo(75_000);
+        assertThat(facets.brands()).containsExactly(new FacetCount("대형브랜드", 74_850), new FacetCount("희소브랜드", 150));
+    }
+}
@@ -0,0 +1,83 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.domain.product.event.ProductChangedEvent;
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexSyncTest {
+
+    @Mock
+    private ProductFacetIndex facetIndex;
+
+    @Mock
+    private ProductSuggestIndex suggestIndex;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private ProductSearchIndexSync sync;
+
+    @BeforeEach
+    void setUp() {
+        sync = new ProductSearchIndexSync(List.of(facetIndex, suggestIndex), redisTemplate,
+                new RedisCircuitBreaker(3, Duration.ofSeconds(5)), listenerContainer);
+    }
+
+    @Test
+    @DisplayName("[검색 인덱스 동기화][성공] - 다른 인스턴스의 변경 알림을 받으면 모든 인덱스 갱신")
+    void onMessage_fromOtherInstance_refreshesIndexes() {
+        // Given
+        sync.onProductChanged(new ProductChangedEvent(List.of(1L, 2L)));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(ProductSearchIndexSync.CHANNEL), payload.capture());
+        assertThat(payload.getValue()).endsWith("|1,2");
+
+        // When
+        sync.onMessage(message("other-instance|3,4"), null);
+
+        // Then
+        verify(facetIndex).refresh(List.of(3L, 4L));
+        verify(suggestIndex).refresh(List.of(3L, 4L));
+    }
+
+    @Test
+    @DisplayName("[검색 인덱스 동기화][성공] - 자신이 보낸 알림은 이미 반영했으므로 무시")
+    void onMessage_fromSelf_ignored() {
+        // Given
+        sync.onProductChanged(ProductChangedEvent.of(1L));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(ProductSearchIndexSync.CHANNEL), payload.capture());
+
+        // When
+        sync.onMessage(message(payload.getValue()), null);
+
+        // Then
+        verifyNoInteractions(facetIndex, suggestIndex);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(ProductSearchIndexSync.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
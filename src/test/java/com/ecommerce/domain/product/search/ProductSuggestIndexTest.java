@@ -0,0 +1,152 @@
+package com.ecommerce.domain.product.search;
+
+import com.ecommerce.domain.product.repository.ProductSearchRepository;
+import com.ecommerce.domain.product.search.ProductSuggestIndex.Contribution;
+import com.ecommerce.domain.product.search.ProductSuggestion.Type;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ProductSuggestIndexTest {
+
+    private ProductSuggestIndex suggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        suggestIndex = new ProductSuggestIndex(
+                mock(ProductSearchRepository.class),
+                mock(PlatformTransactionManager.class),
+                10,
+                2
+        );
+
+        Map<Long, Contribution> products = new HashMap<>();
+        products.put(1L, new Contribution("무선 이어폰 프로", "Samsung", List.of("음향기기"), 30));
+        products.put(2L, new Contribution("무선 마우스", "Logitech", List.of("컴퓨터 주변기기"), 5));
+        products.put(3L, new Contribution("무선 충전기", "Samsung", List.of("모바일 액세서리"), 12));
+        products.put(4L, new Contribution("Sony WH-1000XM5", "Sony", List.of("음향기기"), 20));
+        suggestIndex.apply(products);
+    }
+
+    @Test
+    @DisplayName("[자동완성][성공] - 접두어가 일치하는 검색어를 인기순으로 반환")
+    void suggest_prefixByPopularity() {
+        // When
+        List<ProductSuggestion> suggestions = suggestIndex.suggest("무선", 10);
+
+        // Then
+        assertThat(suggestions).extracting(ProductSuggestion::text)
+                .containsExactly("무선 이어폰 프로", "무선 충전기", "무선 마우스");
+    }
+
+    @Test
+    @DisplayName("[자동완성][성공] - 상품명 중간 단어로도 추천")
+    void suggest_matchesInnerWord() {
+        // When
+        List<ProductSuggestion> suggestions = suggestIndex.suggest("이어", 10);
+
+        // Then
+        assertThat(suggestions).extracting(ProductSuggestion::text).containsExactly("무선 이어폰 프로");
+    }
+
+    @Test
+    @DisplayName("[자동완성][성공] - 브랜드/카테고리 인기도는 소속 상품 합계")
+    void suggest_aggregatesBrandAndCategory() {
+        // When
+        List<ProductSuggestion> brands = suggestIndex.suggest("s", 10);
+        List<ProductSuggestion> categories = suggestIndex.suggest("음향", 10);
+
+        // Then
+        assertThat(brands).extracting(ProductSuggestion::text, ProductSuggestion::type, ProductSuggestion::popularity)
+                .startsWith(
+                        tuple("Samsung", Type.BRAND, 42L),
+                        tuple("Sony", Type.BRAND, 20L)
+                );
+        assertThat(categories).containsExactly(new ProductSuggestion("음향기기", Type.CATEGORY, 50));
+    }
+
+    @Test
+    @DisplayName("[자동완성][성공] - 오타(치환/뒤바뀜)를 허용하고 정확히 일치하는 결과를 먼저 반환")
+    void suggest_toleratesTypos() {
+        // When
+        List<ProductSuggestion> substituted = suggestIndex.suggest("samsong", 10);
+        List<ProductSuggestion> transposed = suggestIndex.suggest("logtiech", 10);
+
+        // Then
+        assertThat(substituted).extracting(ProductSuggestion::text).containsExactly("Samsung");
+        assertThat(transposed).extracting(ProductSuggestion::text).containsExactly("Logitech");
+    }
+
+    @Test
+    @DisplayName("[자동완성][성공] - 짧은 입력은 오타를 허용하지 않음")
+    void suggest_shortQueryIsExact() {
+        // When
+        List<ProductSuggestion> suggestions = suggestIndex.suggest("sx", 10);
+
+        // Then
+        assertThat(suggestions).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[자동완성][성공] - 요청 개수가 topK보다 크면 topK개까지만 반환")
+    void suggest_limitClampedToTopK() {
+        // Given
+        Map<Long, Contribution> products = new HashMap<>();
+        for (long id = 10; id < 25; id++) {
+            products.put(id, new Contribution("무선 스피커 " + id, "Brand" + id, List.of("음향기기"), id));
+        }
+        suggestIndex.apply(products);
+
+        // When
+        List<ProductSuggestion> suggestions = suggestIndex.suggest("무선", 1_000_000);
+
+        // Then
+        assertThat(suggestions).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("[자동완성][실패] - 너무 긴 검색어나 1 미만의 개수는 거부")
+    void suggest_invalidInput() {
+        // Given
+        String longQuery = "무".repeat(ProductSuggestIndex.MAX_QUERY_LENGTH + 1);
+
+        // When & Then
+        ServiceException tooLong = assertThrows(ServiceException.class, () -> suggestIndex.suggest(longQuery, 10));
+        ServiceException zero = assertThrows(ServiceException.class, () -> suggestIndex.suggest("무선", 0));
+        ServiceException negative = assertThrows(ServiceException.class, () -> suggestIndex.suggest("무선", -1));
+
+        assertThat(List.of(tooLong, zero, negative)).extracting(ServiceException::getCode)
+                .containsOnly(ErrorCode.INVALID_INPUT_VALUE.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("[자동완성][성공] - 상품 변경/삭제 시 기여분만 갱신")
+    void apply_incrementalUpdate() {
+        // Given
+        Map<Long, Contribution> changes = new HashMap<>();
+        changes.put(1L, new Contribution("무선 이어폰 프로", "Samsung", List.of("음향기기"), 1));
+        changes.put(3L, null);
+
+        // When
+        suggestIndex.apply(changes);
+
+        // Then
+        assertThat(suggestIndex.suggest("무선", 10)).extracting(ProductSuggestion::text)
+                .containsExactly("무선 마우스", "무선 이어폰 프로");
+        assertThat(suggestIndex.suggest("samsung", 10))
+                .containsExactly(new ProductSuggestion("Samsung", Type.BRAND, 1));
+        assertThat(suggestIndex.suggest("모바일", 10)).isEmpty();
+    }
+}
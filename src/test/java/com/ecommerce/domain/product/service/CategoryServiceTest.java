@@ -1,7 +1,7 @@
 package com.ecommerce.domain.product.service;
 
+import com.ecommerce.domain.product.category.CategoryDictionary;
 import com.ecommerce.domain.product.entity.Category;
-import com.ecommerce.domain.product.repository.CategoryRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,51 +10,49 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryServiceTest {
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryDictionary categoryDictionary;
 
     @InjectMocks
     private CategoryService categoryService;
 
     @Test
-    @DisplayName("[findOrCreateCategories][성공] - 새로운 카테고리 생성")
-    void findOrCreateCategories_CreateNew() {
+    @DisplayName("[findOrCreateCategories][성공] - 사전에서 얻은 ID로 카테고리 생성")
+    void findOrCreateCategories_FromDictionary() {
         // given
-        List<String> categoryNames = List.of("전자제품", "신상");
-        when(categoryRepository.findByName("전자제품")).thenReturn(Optional.empty());
-        when(categoryRepository.findByName("신상")).thenReturn(Optional.empty());
-
-        // categoryRepository.save가 호출되면, 빌더로 생성된 Category 객체를 반환하도록 설정
-        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> {
-            Category category = invocation.getArgument(0);
-            return Category.builder().name(category.getName()).build();
-        });
+        List<String> categoryNames = List.of("도서", "신간");
+        when(categoryDictionary.resolve(categoryNames)).thenReturn(Map.of("도서", 1L, "신간", 2L));
+        when(categoryDictionary.nameOf(1L)).thenReturn("도서");
+        when(categoryDictionary.nameOf(2L)).thenReturn("신간");
 
         // when
         Set<Category> result = categoryService.findOrCreateCategories(categoryNames);
 
         // then
-        assertThat(result).hasSize(2);
-        verify(categoryRepository, times(2)).save(any(Category.class));
+        assertThat(result)
+                .extracting(Category::getId, Category::getName)
+                .containsExactlyInAnyOrder(tuple(1L, "도서"), tuple(2L, "신간"));
+        verify(categoryDictionary, times(1)).resolve(categoryNames);
     }
 
     @Test
-    @DisplayName("[findOrCreateCategories][성공] - 기존 카테고리 조회")
-    void findOrCreateCategories_FindExisting() {
+    @DisplayName("[findOrCreateCategories][성공] - 중복된 이름은 하나로 합침")
+    void findOrCreateCategories_Duplicated() {
         // given
-        List<String> categoryNames = List.of("의류");
-        Category existingCategory = Category.builder().id(1L).name("의류").build();
-        when(categoryRepository.findByName("의류")).thenReturn(Optional.of(existingCategory));
+        List<String> categoryNames = List.of("의류", "의류");
+        when(categoryDictionary.resolve(categoryNames)).thenReturn(Map.of("의류", 1L));
+        when(categoryDictionary.nameOf(1L)).thenReturn("의류");
 
         // when
         Set<Category> result = categoryService.findOrCreateCategories(categoryNames);
@@ -62,29 +60,23 @@ class CategoryServiceTest {
         // then
         assertThat(result).hasSize(1);
         assertThat(result.iterator().next().getName()).isEqualTo("의류");
-        verify(categoryRepository, never()).save(any(Category.class));
     }
 
     @Test
-    @DisplayName("[findOrCreateCategories][성공] - 기존 카테고리와 신규 카테고리 혼합")
-    void findOrCreateCategories_Mixed() {
+    @DisplayName("[findOrCreateCategories][성공] - 대소문자만 다른 이름은 ID로 합치고 저장된 표기를 사용")
+    void findOrCreateCategories_CaseVariants() {
         // given
-        List<String> categoryNames = List.of("도서", "신간");
-        Category existingCategory = Category.builder().id(1L).name("도서").build();
-
-        when(categoryRepository.findByName("도서")).thenReturn(Optional.of(existingCategory));
-        when(categoryRepository.findByName("신간")).thenReturn(Optional.empty());
-        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> {
-            Category category = invocation.getArgument(0);
-            return Category.builder().name(category.getName()).build();
-        });
+        List<String> categoryNames = List.of("Shoes", "SHOES");
+        when(categoryDictionary.resolve(categoryNames)).thenReturn(Map.of("Shoes", 6L, "SHOES", 6L));
+        when(categoryDictionary.nameOf(6L)).thenReturn("shoes");
 
         // when
         Set<Category> result = categoryService.findOrCreateCategories(categoryNames);
 
         // then
-        assertThat(result).hasSize(2);
-        verify(categoryRepository, times(1)).save(any(Category.class));
+        assertThat(result)
+                .extracting(Category::getId, Category::getName)
+                .containsExactly(tuple(6L, "shoes"));
     }
 
     @Test
@@ -97,7 +89,6 @@ class CategoryServiceTest {
         // then
         assertThat(resultForNull).isNotNull().isEmpty();
         assertThat(resultForEmpty).isNotNull().isEmpty();
-        verify(categoryRepository, never()).findByName(anyString());
-        verify(categoryRepository, never()).save(any(Category.class));
+        verify(categoryDictionary, never()).resolve(anyCollection());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.domain.product.service;
+
+import com.ecommerce.domain.product.entity.ProductHistorySegment;
+import com.ecommerce.domain.product.history.ProductHistoryEntry;
+import com.ecommerce.domain.product.repository.ProductHistorySegmentRepository;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.global.utils.exception.ErrorCode;
+import com.ecommerce.global.utils.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductHistoryServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductHistorySegmentRepository segmentRepository;
+
+    @InjectMocks
+    private ProductHistoryService productHistoryService;
+
+    private ProductHistoryEntry entry(String changedAt, int stock) {
+        return new ProductHistoryEntry(Instant.parse(changedAt), new BigDecimal("12000.00"), stock);
+    }
+
+    @Test
+    @DisplayName("[상품 이력 조회][성공] - 기간에 걸친 월 구간만 읽고 기간 밖 항목은 제외")
+    void findHistory_Success() {
+        // Given
+        ProductHistorySegment january = ProductHistorySegment.create(1L, 202601);
+        january.append(List.of(entry("2026-01-10T00:00:00Z", 5), entry("2026-01-20T00:00:00Z", 4)));
+        ProductHistorySegment february = ProductHistorySegment.create(1L, 202602);
+        february.append(List.of(entry("2026-02-01T00:00:00Z", 3), entry("2026-02-15T00:00:00Z", 2)));
+
+        when(productRepository.existsById(1L)).thenReturn(true);
+        when(segmentRepository.findByProductIdAndPeriodBetweenOrderByPeriodAsc(1L, 202601, 202602))
+                .thenReturn(List.of(january, february));
+
+        // When
+        List<ProductHistoryEntry> history = productHistoryService.findHistory(
+                1L, Instant.parse("2026-01-15T00:00:00Z"), Instant.parse("2026-02-15T00:00:00Z"));
+
+        // Then
+        assertThat(history).extracting(ProductHistoryEntry::stockQuantity).containsExactly(4, 3);
+    }
+
+    @Test
+    @DisplayName("[상품 이력 조회][실패] - 시작이 종료보다 늦으면 예외")
+    void findHistory_InvalidRange_Fail() {
+        // Given
+        Instant from = Instant.parse("2026-02-01T00:00:00Z");
+        Instant to = Instant.parse("2026-01-01T00:00:00Z");
+
+        // When & Then
+        assertThatThrownBy(() -> productHistoryService.findHistory(1L, from, to))
+                .isInstanceOf(ServiceException.class)
+                .hasMessage(ErrorCode.INVALID_INPUT_VALUE.getMessage());
+        verifyNoInteractions(productRepository, segmentRepository);
+    }
+}
@@ -3,6 +3,7 @@ package com.ecommerce.domain.product.service;
 import com.ecommerce.domain.product.entity.Product;
 import com.ecommerce.domain.product.entity.ProductImage;
 import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.event.ProductChangedEvent;
 import com.ecommerce.domain.product.repository.ProductImageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -27,6 +29,9 @@ class ProductImageServiceTest {
     @Mock
     private ProductImageRepository productImageRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductImageService productImageService;
 
@@ -136,62 +141,94 @@ class ProductImageServiceTest {
     }
 
     @Test
-    @DisplayName("[updateProductImages][성공] - 기존 이미지 삭제 후 새 이미지 생성")
-    void updateProductImages_WithNewImages_Success() {
+    @DisplayName("[updateProductImages][성공] - 한 장만 바꾸면 해당 이미지만 교체하고 나머지는 ID 유지")
+    void updateProductImages_ReplaceOne_KeepsOthers() {
         // given
-        List<String> newImageUrls = List.of(
-                "https://example.com/new1.jpg",
-                "https://example.com/new2.jpg"
-        );
+        ProductImage first = createExistingImage(1L, "https://example.com/a.jpg", 0);
+        ProductImage second = createExistingImage(2L, "https://example.com/b.jpg", 1);
+        ProductImage third = createExistingImage(3L, "https://example.com/c.jpg", 2);
+        product.getImages().addAll(List.of(first, second, third));
 
-        List<ProductImage> newImages = List.of(
-                createMockProductImage(4L, "https://example.com/new1.jpg", true),
-                createMockProductImage(5L, "https://example.com/new2.jpg", false)
-        );
+        // when
+        productImageService.updateProductImages(product, List.of(
+                "https://example.com/a.jpg",
+                "https://example.com/new.jpg",
+                "https://example.com/c.jpg"
+        ));
 
-        doNothing().when(productImageRepository).deleteByProduct(product);
-        when(productImageRepository.saveAll(anyList())).thenReturn(newImages);
+        // then
+        List<ProductImage> images = product.getImages();
+        assertThat(images).extracting(ProductImage::getImageUrl).containsExactly(
+                "https://example.com/a.jpg", "https://example.com/new.jpg", "https://example.com/c.jpg");
+        assertThat(images.get(0)).isSameAs(first);
+        assertThat(images.get(2)).isSameAs(third);
+        assertThat(images.get(1).getId()).isNull();
+        assertThat(images.get(1).getDisplayOrder()).isEqualTo(1);
+        assertThat(images.get(1).isMain()).isFalse();
+        assertThat(third.getDisplayOrder()).isEqualTo(2);
+
+        verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+        verifyNoInteractions(productImageRepository);
+    }
+
+    @Test
+    @DisplayName("[updateProductImages][성공] - 순서만 바뀌면 대표 이미지와 순서만 갱신")
+    void updateProductImages_Reorder_UpdatesMain() {
+        // given
+        ProductImage first = createExistingImage(1L, "https://example.com/a.jpg", 0);
+        ProductImage second = createExistingImage(2L, "https://example.com/b.jpg", 1);
+        product.getImages().addAll(List.of(first, second));
 
         // when
-        productImageService.updateProductImages(product, newImageUrls);
+        productImageService.updateProductImages(product, List.of(
+                "https://example.com/b.jpg",
+                "https://example.com/a.jpg"
+        ));
 
         // then
-        verify(productImageRepository).deleteByProduct(product);
-        verify(productImageRepository).saveAll(argThat(images -> {
-            List<ProductImage> imageList = (List<ProductImage>) images;
-            return imageList.size() == 2 &&
-                    imageList.get(0).isMain() &&
-                    !imageList.get(1).isMain();
-        }));
+        assertThat(product.getImages()).containsExactly(second, first);
+        assertThat(second.isMain()).isTrue();
+        assertThat(second.getDisplayOrder()).isZero();
+        assertThat(first.isMain()).isFalse();
+        assertThat(first.getDisplayOrder()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
     }
 
     @Test
-    @DisplayName("[updateProductImages][성공] - 기존 이미지 삭제만 (빈 리스트)")
-    void updateProductImages_WithEmptyList_OnlyDeletesExisting() {
+    @DisplayName("[updateProductImages][성공] - 변경이 없으면 아무것도 하지 않음")
+    void updateProductImages_Unchanged_NoOp() {
         // given
-        List<String> emptyImageUrls = Collections.emptyList();
-
-        doNothing().when(productImageRepository).deleteByProduct(product);
+        ProductImage first = createExistingImage(1L, "https://example.com/a.jpg", 0);
+        ProductImage second = createExistingImage(2L, "https://example.com/b.jpg", 1);
+        product.getImages().addAll(List.of(first, second));
 
         // when
-        productImageService.updateProductImages(product, emptyImageUrls);
+        productImageService.updateProductImages(product, List.of(
+                "https://example.com/a.jpg",
+                "https://example.com/b.jpg"
+        ));
 
         // then
-        verify(productImageRepository).deleteByProduct(product);
-        verify(productImageRepository, never()).saveAll(any());
+        assertThat(product.getImages()).containsExactly(first, second);
+        verifyNoInteractions(eventPublisher, productImageRepository);
     }
 
     @Test
-    @DisplayName("[updateProductImages][성공] - 기존 이미지 삭제만 (null)")
-    void updateProductImages_WithNull_OnlyDeletesExisting() {
+    @DisplayName("[updateProductImages][성공] - 빈 리스트 또는 null이면 기존 이미지 모두 제거")
+    void updateProductImages_EmptyOrNull_RemovesAll() {
         // given
-        doNothing().when(productImageRepository).deleteByProduct(product);
+        product.getImages().add(createExistingImage(1L, "https://example.com/a.jpg", 0));
 
         // when
-        productImageService.updateProductImages(product, null);
+        productImageService.updateProductImages(product, Collections.emptyList());
 
         // then
-        verify(productImageRepository).deleteByProduct(product);
+        assertThat(product.getImages()).isEmpty();
+        verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+
+        // 이미 비어 있으면 변경 없음
+        productImageService.updateProductImages(product, null);
+        verify(eventPublisher, times(1)).publishEvent(any(ProductChangedEvent.class));
         verify(productImageRepository, never()).saveAll(any());
     }
 
@@ -221,6 +258,16 @@ class ProductImageServiceTest {
         }));
     }
 
+    private ProductImage createExistingImage(Long id, String imageUrl, int displayOrder) {
+        return ProductImage.builder()
+                .id(id)
+                .product(product)
+                .imageUrl(imageUrl)
+                .isMain(displayOrder == 0)
+                .displayOrder(displayOrder)
+                .build();
+    }
+
     private ProductImage createMockProductImage(Long id, String imageUrl, boolean isMain) {
         return ProductImage.builder()
                 .id(id)
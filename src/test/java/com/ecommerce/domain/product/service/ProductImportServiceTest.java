@@ -0,0 +1,183 @@
+package com.ecommerce.domain.product.service;
+
+import com.ecommerce.api.v1.product.dto.request.AddProductRequest;
+import com.ecommerce.domain.product.category.CategoryDictionary;
+import com.ecommerce.domain.product.event.ProductChangedEvent;
+import com.ecommerce.domain.product.event.ProductPriceStockChangedEvent;
+import com.ecommerce.domain.product.importer.ProductBatchWriter;
+import com.ecommerce.domain.product.importer.ProductImportFormat;
+import com.ecommerce.domain.product.importer.ProductImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    @Mock
+    private ProductBatchWriter batchWriter;
+
+    @Mock
+    private CategoryDictionary categoryDictionary;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        productImportService = new ProductImportService(
+                batchWriter, categoryDictionary, transactionTemplate, eventPublisher, new ObjectMapper(), 2, 10);
+
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        lenient().when(categoryDictionary.resolve(anyCollection())).thenReturn(Map.of("의류", 1L));
+        lenient().when(batchWriter.insertProducts(anyList(), any())).thenAnswer(invocation -> {
+            List<AddProductRequest> requests = invocation.getArgument(0);
+            return LongStream.rangeClosed(1, requests.size()).boxed().toList();
+        });
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String ndjsonRow(String name) {
+        return "{\"name\":\"" + name + "\",\"brand\":\"ABC\",\"price\":10000,\"stockQuantity\":5,"
+                + "\"categoryNames\":[\"의류\"],\"imageUrls\":[\"http://example.com/" + name + ".jpg\"]}\n";
+    }
+
+    @Test
+    @DisplayName("[대량 등록][성공] - 청크 단위로 저장하고 잘못된 행은 오류로 보고")
+    void importProducts_chunksAndRowErrors() {
+        // Given
+        String content = ndjsonRow("상품1")
+                + ndjsonRow("상품2")
+                + "{잘못된 JSON\n"
+                + "\n"
+                + "{\"name\":\"가격없음\",\"brand\":\"ABC\",\"stockQuantity\":1,\"categoryNames\":[\"의류\"]}\n"
+                + ndjsonRow("상품3");
+
+        // When
+        ProductImportResult result = productImportService.importProducts(body(content), ProductImportFormat.NDJSON);
+
+        // Then
+        assertThat(result.totalRows()).isEqualTo(5);
+        assertThat(result.importedRows()).isEqualTo(3);
+        assertThat(result.failedRows()).isEqualTo(2);
+        assertThat(result.completed()).isTrue();
+        assertThat(result.errors()).extracting(ProductImportResult.RowError::row).containsExactly(3L, 5L);
+        assertThat(result.errors().get(1).message()).isEqualTo("상품 가격은 필수입니다.");
+
+        // 2행 + 1행 두 청크, 청크마다 카테고리 사전 조회 1번
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(categoryDictionary, times(2)).resolve(eq(Set.of("의류")));
+        verify(batchWriter, times(2)).insertImages(anyList(), anyList(), any());
+        verify(batchWriter, times(2)).insertCategoryLinks(anyList(), anyList(), anyMap());
+
+        ArgumentCaptor<ProductChangedEvent> eventCaptor = ArgumentCaptor.forClass(ProductChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues().getFirst().productIds()).containsExactly(1L, 2L);
+
+        // 저장된 행마다 가격/재고 이력 이벤트 발행
+        ArgumentCaptor<ProductPriceStockChangedEvent> historyCaptor =
+                ArgumentCaptor.forClass(ProductPriceStockChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(historyCaptor.capture());
+        assertThat(historyCaptor.getAllValues())
+                .extracting(ProductPriceStockChangedEvent::productId, ProductPriceStockChangedEvent::stockQuantity)
+                .containsExactly(tuple(1L, 5), tuple(2L, 5), tuple(1L, 5));
+    }
+
+    @Test
+    @DisplayName("[대량 등록][성공] - 청크 저장 실패 시 행 단위로 재시도해 문제 행만 실패 처리")
+    void importProducts_retriesFailedChunkRowByRow() {
+        // Given
+        when(batchWriter.insertProducts(anyList(), any())).thenAnswer(invocation -> {
+            List<AddProductRequest> requests = invocation.getArgument(0);
+            if (requests.stream().anyMatch(request -> request.name().equals("중복상품"))) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return LongStream.rangeClosed(1, requests.size()).boxed().toList();
+        });
+
+        String content = ndjsonRow("상품1") + ndjsonRow("중복상품");
+
+        // When
+        ProductImportResult result = productImportService.importProducts(body(content), ProductImportFormat.NDJSON);
+
+        // Then
+        assertThat(result.importedRows()).isEqualTo(1);
+        assertThat(result.failedRows()).isEqualTo(1);
+        assertThat(result.errors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.row()).isEqualTo(2L);
+                    assertThat(error.message()).startsWith("저장 실패");
+                });
+        // 청크 1번 + 행 단위 재시도 2번
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("[대량 등록][성공] - CSV 입력")
+    void importProducts_csv() {
+        // Given
+        String content = """
+                name,brand,price,stockQuantity,categoryNames,imageUrls,description
+                "청바지, 와이드",데님,89000,10,의류|하의,http://a.jpg|http://b.jpg,"편한 ""와이드"" 핏
+                두 줄 설명"
+                반팔,베이직,abc,10,의류,,
+                """;
+
+        // When
+        ProductImportResult result = productImportService.importProducts(body(content), ProductImportFormat.CSV);
+
+        // Then
+        assertThat(result.totalRows()).isEqualTo(2);
+        assertThat(result.importedRows()).isEqualTo(1);
+        assertThat(result.errors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.row()).isEqualTo(4L);
+                    assertThat(error.message()).startsWith("숫자 형식 오류");
+                });
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AddProductRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).insertProducts(captor.capture(), any());
+        AddProductRequest request = captor.getValue().getFirst();
+        assertThat(request.name()).isEqualTo("청바지, 와이드");
+        assertThat(request.description()).isEqualTo("편한 \"와이드\" 핏\n두 줄 설명");
+        assertThat(request.categoryNames()).containsExactly("의류", "하의");
+        assertThat(request.imageUrls()).containsExactly("http://a.jpg", "http://b.jpg");
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.domain.product.service;
+
+import com.ecommerce.domain.product.entity.Product;
+import com.ecommerce.domain.product.entity.ProductImage;
+import com.ecommerce.domain.product.entity.ProductSearchDocument;
+import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.repository.ProductCategoryRow;
+import com.ecommerce.domain.product.repository.ProductImageRepository;
+import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.domain.product.repository.ProductSearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchProjectorTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductImageRepository productImageRepository;
+
+    @Mock
+    private ProductSearchRepository productSearchRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ProductSearchProjector productSearchProjector;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = Product.builder()
+                .id(1L)
+                .name("테스트 상품")
+                .description("테스트 설명")
+                .price(BigDecimal.valueOf(10_000L))
+                .stockQuantity(5)
+                .brand("테스트 브랜드")
+                .status(ProductStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("[project][성공] - 새 상품은 카테고리/이미지를 포함한 검색 문서 생성")
+    @SuppressWarnings("unchecked")
+    void project_CreatesDocument() {
+        // given
+        ProductImage main = ProductImage.builder().id(10L).product(product).imageUrl("https://example.com/main.jpg").isMain(true).build();
+        ProductImage sub = ProductImage.builder().id(11L).product(product).imageUrl("https://example.com/sub.jpg").isMain(false).build();
+
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product));
+        when(productRepository.findCategoryRowsByProductIds(anyCollection()))
+                .thenReturn(List.of(new ProductCategoryRow(1L, 100L, "전자제품"), new ProductCategoryRow(1L, 101L, "오디오")));
+        when(productImageRepository.findByProductIdInOrderByDisplayOrderAscIdAsc(anyCollection())).thenReturn(List.of(main, sub));
+        when(productSearchRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        // when
+        productSearchProjector.project(List.of(1L));
+
+        // then
+        ArgumentCaptor<List<ProductSearchDocument>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productSearchRepository).saveAll(captor.capture());
+        ProductSearchDocument document = captor.getValue().getFirst();
+
+        assertThat(document.getId()).isEqualTo(1L);
+        assertThat(document.isNew()).isTrue();
+        assertThat(document.isAvailableForSale()).isTrue();
+        assertThat(document.getMainImageUrl()).isEqualTo("https://example.com/main.jpg");
+        assertThat(document.getImageUrlList()).containsExactly("https://example.com/main.jpg", "https://example.com/sub.jpg");
+        assertThat(document.getCategories()).extracting("name").containsExactlyInAnyOrder("전자제품", "오디오");
+        verify(productSearchRepository, never()).deleteAllByIdInBatch(anyCollection());
+    }
+
+    @Test
+    @DisplayName("[project][성공] - 삭제되었거나 존재하지 않는 상품은 검색 문서 제거")
+    void project_RemovesDeletedProducts() {
+        // given
+        product.setIsDeleted(true);
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product));
+
+        // when
+        productSearchProjector.project(List.of(1L, 2L));
+
+        // then
+        verify(productSearchRepository).deleteAllByIdInBatch(Set.of(1L, 2L));
+        verify(productSearchRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("[project][성공] - 기존 문서는 새로 만들지 않고 갱신")
+    void project_UpdatesExistingDocument() {
+        // given
+        ProductSearchDocument existing = ProductSearchDocument.create(1L);
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product));
+        when(productSearchRepository.findAllById(anyCollection())).thenReturn(List.of(existing));
+
+        product.updateStock(0);
+
+        // when
+        productSearchProjector.project(List.of(1L));
+
+        // then
+        assertThat(existing.getStockQuantity()).isZero();
+        assertThat(existing.getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+        assertThat(existing.isAvailableForSale()).isFalse();
+        verify(productSearchRepository).saveAll(List.of());
+    }
+}
@@ -8,7 +8,11 @@ import com.ecommerce.domain.product.entity.Category;
 import com.ecommerce.domain.product.entity.Product;
 import com.ecommerce.domain.product.entity.ProductImage;
 import com.ecommerce.domain.product.entity.ProductStatus;
+import com.ecommerce.domain.product.event.ProductChangedEvent;
 import com.ecommerce.domain.product.repository.ProductRepository;
+import com.ecommerce.domain.product.repository.ProductSearchRepository;
+import com.ecommerce.domain.product.search.ProductFacetIndex;
+import com.ecommerce.domain.product.search.ProductSuggestIndex;
 import com.ecommerce.global.utils.exception.ErrorCode;
 import com.ecommerce.global.utils.exception.ServiceException;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -43,6 +48,18 @@ class ProductServiceTest {
     @Mock
     private ProductImageService productImageService;
 
+    @Mock
+    private ProductSearchRepository productSearchRepository;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
+    @Mock
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductService productService;
 
@@ -299,6 +316,7 @@ class ProductServiceTest {
 
         // then
         verify(productRepository).findById(1L);
+        verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
         assertThat(product.getIsDeleted()).isTrue();
 
     }
@@ -5,6 +5,7 @@ import com.ecommerce.domain.user.entity.User;
 import com.ecommerce.domain.user.entity.UserRole;
 import com.ecommerce.global.infra.redis.RefreshTokenService;
 import com.ecommerce.global.infra.security.jwt.JwtProvider;
+import com.ecommerce.global.infra.security.jwt.TokenIssuer;
 import com.ecommerce.global.utils.exception.ErrorCode;
 import com.ecommerce.global.utils.exception.ServiceException;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,9 @@ class TokenManagementServiceTest {
     @Mock
     private JwtProvider jwtProvider;
 
+    @Mock
+    private TokenIssuer tokenIssuer;
+
     @Mock
     private RefreshTokenService refreshTokenService;
 
@@ -58,8 +62,7 @@ class TokenManagementServiceTest {
         String accessToken = "generated.access.token";
         String refreshToken = "generated.refresh.token";
 
-        given(jwtProvider.generateAccessToken(mockUser)).willReturn(accessToken);
-        given(jwtProvider.generateRefreshToken(mockUser)).willReturn(refreshToken);
+        given(tokenIssuer.issue(mockUser)).willReturn(new TokenPair(accessToken, refreshToken));
         doNothing().when(refreshTokenService).saveRefreshToken(mockUser.getEmail(), refreshToken);
 
         // When
@@ -69,8 +72,7 @@ class TokenManagementServiceTest {
         assertThat(result.accessToken()).isEqualTo(accessToken);
         assertThat(result.refreshToken()).isEqualTo(refreshToken);
 
-        verify(jwtProvider, times(1)).generateAccessToken(mockUser);
-        verify(jwtProvider, times(1)).generateRefreshToken(mockUser);
+        verify(tokenIssuer, times(1)).issue(mockUser);
         verify(refreshTokenService, times(1)).saveRefreshToken(mockUser.getEmail(), refreshToken);
     }
 
@@ -87,8 +89,7 @@ class TokenManagementServiceTest {
         given(jwtProvider.getEmailFromToken(validRefreshToken)).willReturn(email);
         given(refreshTokenService.getRefreshToken(email)).willReturn(Optional.of(validRefreshToken));
         given(userService.findByEmail(email)).willReturn(mockUser);
-        given(jwtProvider.generateAccessToken(mockUser)).willReturn(newAccessToken);
-        given(jwtProvider.generateRefreshToken(mockUser)).willReturn(newRefreshToken);
+        given(tokenIssuer.issue(mockUser)).willReturn(new TokenPair(newAccessToken, newRefreshToken));
         doNothing().when(refreshTokenService).saveRefreshToken(email, newRefreshToken);
 
         // When
@@ -0,0 +1,64 @@
+package com.ecommerce.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * application.yml / application-test.yml의 풀 설정이 실제 HikariCP, Lettuce 풀에 적용되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ConnectionPoolConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Test
+    @DisplayName("[커넥션 풀][성공] - HikariCP에 풀 크기와 타임아웃 설정 적용")
+    void hikari_EffectiveSettings() {
+        // When
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+
+        // Then
+        assertThat(hikari.getPoolName()).isEqualTo("ecommerce-db");
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(5);
+        assertThat(hikari.getMinimumIdle()).isEqualTo(1);
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(3000);
+        assertThat(hikari.getValidationTimeout()).isEqualTo(1000);
+        assertThat(hikari.getLeakDetectionThreshold()).isEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("[커넥션 풀][성공] - Lettuce 풀에 크기, 대기 상한, JMX 등록 적용")
+    void lettuce_EffectiveSettings() {
+        // When
+        LettuceConnectionFactory lettuce = (LettuceConnectionFactory) redisConnectionFactory;
+        GenericObjectPoolConfig<?> pool =
+                ((LettucePoolingClientConfiguration) lettuce.getClientConfiguration()).getPoolConfig();
+
+        // Then
+        assertThat(pool.getMaxTotal()).isEqualTo(16);
+        assertThat(pool.getMaxIdle()).isEqualTo(16);
+        assertThat(pool.getMinIdle()).isEqualTo(2);
+        assertThat(pool.getMaxWaitDuration()).isEqualTo(Duration.ofMillis(500));
+        assertThat(pool.getDurationBetweenEvictionRuns()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(pool.getBlockWhenExhausted()).isTrue();
+        assertThat(pool.getJmxEnabled()).isTrue();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.global.redis;
+
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisCircuitBreakerTest {
+
+    @Test
+    @DisplayName("[서킷 브레이커][성공] - 시험 요청이 Redis 장애가 아닌 예외로 끝나도 HALF_OPEN에 머물지 않고 다시 시험")
+    void execute_ProbeThrowsUnexpected_ReopensAndRecovers() {
+        // Given
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(1, Duration.ZERO);
+        circuitBreaker.execute(() -> {
+            throw new RedisConnectionFailureException("down");
+        }, () -> "fallback");
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        // When
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+            throw new IllegalStateException("직렬화 실패");
+        }, () -> "fallback")).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.execute(() -> "redis", () -> "fallback")).isEqualTo("redis");
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("[서킷 브레이커][성공] - 닫힌 상태에서 Redis 장애가 아닌 예외는 실패로 세지 않음")
+    void execute_ClosedThrowsUnexpected_StaysClosed() {
+        // Given
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(1, Duration.ofSeconds(5));
+
+        // When
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+            throw new IllegalArgumentException("잘못된 값");
+        }, () -> "fallback")).isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        assertThat(circuitBreaker.isClosed()).isTrue();
+    }
+}
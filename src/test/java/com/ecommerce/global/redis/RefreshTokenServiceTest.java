@@ -0,0 +1,145 @@
+package com.ecommerce.global.redis;
+
+import com.ecommerce.global.infra.redis.RedisCircuitBreaker;
+import com.ecommerce.global.infra.redis.RefreshTokenFallbackStore;
+import com.ecommerce.global.infra.redis.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RefreshTokenServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisCircuitBreaker circuitBreaker;
+    private RefreshTokenFallbackStore fallbackStore;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new RedisCircuitBreaker(3, Duration.ZERO);
+        fallbackStore = new RefreshTokenFallbackStore(100);
+        refreshTokenService = new RefreshTokenService(redisTemplate, circuitBreaker, fallbackStore);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenExpiration", "7d");
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("[토큰 저장][성공] - Redis 정상 시 Redis에 저장")
+    void saveRefreshToken_redisAvailable() {
+        // When
+        refreshTokenService.saveRefreshToken(EMAIL, "token");
+
+        // Then
+        verify(valueOperations).set(eq(EMAIL), eq("token"), any(Duration.class));
+        assertThat(fallbackStore.entryCount()).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("[토큰 저장][장애] - Redis 실패 시 로컬 저장소에 저장하고 조회 가능")
+    void saveRefreshToken_redisDown_fallsBackToLocal() {
+        // Given
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        // When
+        refreshTokenService.saveRefreshToken(EMAIL, "token");
+
+        // Then
+        assertThat(refreshTokenService.getRefreshToken(EMAIL)).contains("token");
+        assertThat(fallbackStore.pendingOperationCount()).isEqualTo(1);
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("[서킷 브레이커][장애] - 연속 실패 후 OPEN 상태에서는 Redis를 호출하지 않음")
+    void circuitOpens_afterConsecutiveFailures() {
+        // Given
+        circuitBreaker = new RedisCircuitBreaker(3, Duration.ofMinutes(1));
+        refreshTokenService = new RefreshTokenService(redisTemplate, circuitBreaker, fallbackStore);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenExpiration", "7d");
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThat(refreshTokenService.getRefreshToken("user" + i + "@example.com")).isEmpty();
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        verify(valueOperations, times(3)).get(anyString());
+    }
+
+    @Test
+    @DisplayName("[토큰 삭제][장애] - 장애 중 삭제는 로컬에 기록되어 조회되지 않음")
+    void deleteRefreshToken_redisDown_tombstone() {
+        // Given
+        when(redisTemplate.delete(EMAIL)).thenThrow(new RedisConnectionFailureException("down"));
+        when(valueOperations.get(EMAIL)).thenReturn("stale-token");
+
+        // When
+        refreshTokenService.deleteRefreshToken(EMAIL);
+
+        // Then
+        assertThat(refreshTokenService.getRefreshToken(EMAIL)).isEmpty();
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("[재생][성공] - Redis 복구 후 장애 중 작업을 순서대로 재생하고 로컬 저장소 정리")
+    void replayPendingOperations_afterRecovery() {
+        // Given
+        doThrow(new RedisConnectionFailureException("down"))
+                .doNothing()
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        refreshTokenService.saveRefreshToken(EMAIL, "token-1");
+        refreshTokenService.saveRefreshToken(EMAIL, "token-2");
+        when(redisTemplate.delete(anyString())).thenReturn(true);
+        refreshTokenService.deleteRefreshToken("other@example.com");
+
+        // When
+        refreshTokenService.replayPendingOperations();
+
+        // Then
+        InOrder inOrder = inOrder(valueOperations, redisTemplate);
+        // 장애 중 실패한 최초 시도 + 재생
+        inOrder.verify(valueOperations, times(2)).set(eq(EMAIL), eq("token-1"), any(Duration.class));
+        inOrder.verify(valueOperations).set(eq(EMAIL), eq("token-2"), any(Duration.class));
+        inOrder.verify(redisTemplate).delete("other@example.com");
+        assertThat(fallbackStore.hasPendingOperations()).isFalse();
+        assertThat(fallbackStore.entryCount()).isZero();
+    }
+}
@@ -0,0 +1,207 @@
+package com.ecommerce.global.security;
+
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.entity.UserRole;
+import com.ecommerce.global.infra.security.jwt.JwtProvider;
+import com.ecommerce.global.infra.security.jwt.key.JwtAlgorithm;
+import com.ecommerce.global.infra.security.jwt.key.JwtKeyManager;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyManagerTest {
+
+    private static final String SECRET =
+            "testSecretKeyForTestingPurposesOnlyMustBeLongEnoughForHmacSha256ASDBHJKASDBHASD";
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .nickname("tester")
+                .role(UserRole.USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("[비대칭 서명][성공] - ES256 / EdDSA 토큰 발급 및 검증")
+    void asymmetricSignAndVerify() {
+        for (JwtAlgorithm algorithm : new JwtAlgorithm[]{JwtAlgorithm.ES256, JwtAlgorithm.EdDSA}) {
+            // Given
+            JwtProvider provider = provider(JwtKeyManager.asymmetric(algorithm, JwtKeyManager.generateKeyPair(algorithm)));
+
+            // When
+            String token = provider.generateAccessToken(testUser);
+
+            // Then
+            assertThat(provider.validateAccessToken(token)).isTrue();
+            assertThat(provider.getEmailFromToken(token)).isEqualTo("test@example.com");
+        }
+    }
+
+    @Test
+    @DisplayName("[비대칭 서명][실패] - 다른 키 쌍으로 서명한 토큰은 검증 실패")
+    void asymmetricVerify_unknownKey() {
+        // Given
+        JwtProvider signer = provider(JwtKeyManager.asymmetric(JwtAlgorithm.ES256,
+                JwtKeyManager.generateKeyPair(JwtAlgorithm.ES256)));
+        JwtProvider verifier = provider(JwtKeyManager.asymmetric(JwtAlgorithm.ES256,
+                JwtKeyManager.generateKeyPair(JwtAlgorithm.ES256)));
+
+        // When
+        String token = signer.generateAccessToken(testUser);
+
+        // Then
+        assertThat(verifier.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[키 교체][성공] - 이전 공개 키로 발급된 토큰도 교체 후 검증 가능")
+    void rotation_previousKeyStillVerifies() {
+        // Given
+        KeyPair oldKeyPair = JwtKeyManager.generateKeyPair(JwtAlgorithm.EdDSA);
+        KeyPair newKeyPair = JwtKeyManager.generateKeyPair(JwtAlgorithm.EdDSA);
+        JwtKeyManager oldManager = JwtKeyManager.asymmetric(JwtAlgorithm.EdDSA, oldKeyPair);
+        String oldToken = provider(oldManager).generateAccessToken(testUser);
+
+        Base64.Encoder encoder = Base64.getEncoder();
+        JwtKeyManager rotatedManager = new JwtKeyManager(JwtAlgorithm.EdDSA, "", "key-2",
+                encoder.encodeToString(newKeyPair.getPrivate().getEncoded()),
+                encoder.encodeToString(newKeyPair.getPublic().getEncoded()),
+                oldManager.getKeyId() + "=" + encoder.encodeToString(oldKeyPair.getPublic().getEncoded()),
+                "", "30s", "2s");
+        JwtProvider rotated = provider(rotatedManager);
+
+        // When
+        String newToken = rotated.generateAccessToken(testUser);
+
+        // Then
+        assertThat(rotated.validateAccessToken(oldToken)).isTrue();
+        assertThat(rotated.validateAccessToken(newToken)).isTrue();
+        assertThat(keyIds(rotatedManager)).containsExactlyInAnyOrder("key-2", oldManager.getKeyId());
+    }
+
+    @Test
+    @DisplayName("[JWKS][성공] - 비대칭 모드는 공개 키만 노출, HMAC 모드는 빈 목록")
+    void jwkSet() {
+        // Given
+        JwtKeyManager es256 = JwtKeyManager.asymmetric(JwtAlgorithm.ES256, JwtKeyManager.generateKeyPair(JwtAlgorithm.ES256));
+        JwtKeyManager hmac = JwtKeyManager.hmac(SECRET);
+
+        // When
+        List<Map<String, String>> keys = keys(es256);
+
+        // Then
+        assertThat(keys).hasSize(1);
+        assertThat(keys.getFirst())
+                .containsEntry("kty", "EC")
+                .containsEntry("crv", "P-256")
+                .containsEntry("alg", "ES256")
+                .containsEntry("kid", es256.getKeyId())
+                .containsKeys("x", "y")
+                .doesNotContainKey("d");
+        assertThat(keys(hmac)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[설정][실패] - 검증 전용 노드는 토큰을 발급할 수 없음")
+    void verifyOnlyNode_cannotSign() {
+        // Given
+        JwtKeyManager verifyOnly = new JwtKeyManager(JwtAlgorithm.ES256, "", "", "", "", "",
+                "http://localhost:0/.well-known/jwks.json", "30s", "2s");
+
+        // When & Then
+        assertThatThrownBy(verifyOnly::getSigningKey).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("[설정][실패] - 비대칭 모드에서 개인 키도 jwks-uri도 없으면 기동 실패, dev/local에서만 임시 키 쌍 생성")
+    void asymmetricWithoutKey_failsOutsideDevProfile() {
+        // When & Then
+        assertThatThrownBy(() -> new JwtKeyManager(JwtAlgorithm.ES256, "", "", "", "", "", "", "30s", "2s"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("jwt.signing.private-key");
+
+        JwtKeyManager devManager = new JwtKeyManager(JwtAlgorithm.ES256, "", "", "", "", "", "", "30s", "2s", true);
+        assertThat(devManager.canSign()).isTrue();
+        assertThat(keyIds(devManager)).containsExactly(devManager.getKeyId());
+    }
+
+    @Test
+    @DisplayName("[JWKS][실패] - JWKS 서버가 응답하지 않으면 제한 시간 안에 실패하고, 재조회 중인 동안 다른 요청은 기다리지 않음")
+    void remoteKeys_slowJwks_doesNotBlockRequests() throws Exception {
+        // Given
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServer jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/.well-known/jwks.json", exchange -> {
+            fetching.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        jwksServer.start();
+
+        try {
+            JwtKeyManager verifyOnly = new JwtKeyManager(JwtAlgorithm.ES256, "", "", "", "", "",
+                    "http://localhost:" + jwksServer.getAddress().getPort() + "/.well-known/jwks.json", "30s", "500");
+            JwtProvider verifier = provider(verifyOnly);
+            String token = provider(JwtKeyManager.asymmetric(JwtAlgorithm.ES256,
+                    JwtKeyManager.generateKeyPair(JwtAlgorithm.ES256))).generateAccessToken(testUser);
+
+            // When
+            long startedAt = System.nanoTime();
+            CompletableFuture<Boolean> refreshing = CompletableFuture.supplyAsync(() -> verifier.validateToken(token));
+            assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+
+            long waitingStartedAt = System.nanoTime();
+            boolean concurrentResult = verifier.validateToken(token);
+            long waitingMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitingStartedAt);
+
+            // Then
+            assertThat(concurrentResult).isFalse();
+            assertThat(waitingMillis).isLessThan(400);
+            assertThat(refreshing.get(5, TimeUnit.SECONDS)).isFalse();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(3_000);
+        } finally {
+            release.countDown();
+            jwksServer.stop(0);
+        }
+    }
+
+    private JwtProvider provider(JwtKeyManager keyManager) {
+        JwtProvider provider = new JwtProvider(keyManager);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", "30m");
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", "7d");
+        return provider;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, String>> keys(JwtKeyManager keyManager) {
+        return (List<Map<String, String>>) keyManager.getJwkSet().get("keys");
+    }
+
+    private List<String> keyIds(JwtKeyManager keyManager) {
+        return keys(keyManager).stream().map(jwk -> jwk.get("kid")).toList();
+    }
+}
@@ -3,6 +3,7 @@ package com.ecommerce.global.security;
 import com.ecommerce.domain.user.entity.User;
 import com.ecommerce.domain.user.entity.UserRole;
 import com.ecommerce.global.infra.security.jwt.JwtProvider;
+import com.ecommerce.global.infra.security.jwt.key.JwtKeyManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,11 +23,10 @@ class JwtProviderTest {
 
     @BeforeEach
     void setUp() {
-        jwtProvider = new JwtProvider();
+        jwtProvider = new JwtProvider(JwtKeyManager.hmac(
+                "testSecretKeyForTestingPurposesOnlyMustBeLongEnoughForHmacSha256ASDBHJKASDBHASD"));
 
         // 테스트용 설정 주입
-        ReflectionTestUtils.setField(jwtProvider, "secret",
-                "testSecretKeyForTestingPurposesOnlyMustBeLongEnoughForHmacSha256ASDBHJKASDBHASD");
         ReflectionTestUtils.setField(jwtProvider, "accessTokenExpiration", "30m");
         ReflectionTestUtils.setField(jwtProvider, "refreshTokenExpiration", "7d");
 
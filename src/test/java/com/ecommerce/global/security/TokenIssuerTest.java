@@ -0,0 +1,137 @@
+package com.ecommerce.global.security;
+
+import com.ecommerce.api.v1.user.dto.response.TokenPair;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.entity.UserRole;
+import com.ecommerce.global.infra.security.jwt.JwtProvider;
+import com.ecommerce.global.infra.security.jwt.TokenIssuer;
+import com.ecommerce.global.infra.security.jwt.key.JwtAlgorithm;
+import com.ecommerce.global.infra.security.jwt.key.JwtKeyManager;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static com.ecommerce.global.utils.constants.TokenType.ACCESS;
+import static com.ecommerce.global.utils.constants.TokenType.REFRESH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenIssuerTest {
+
+    private static final String SECRET =
+            "testSecretKeyForTestingPurposesOnlyMustBeLongEnoughForHmacSha256ASDBHJKASDBHASD";
+
+    private TokenIssuer tokenIssuer;
+    private JwtProvider jwtProvider;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyManager keyManager = JwtKeyManager.hmac(SECRET);
+        tokenIssuer = new TokenIssuer(keyManager, "30m", "7d");
+
+        jwtProvider = new JwtProvider(keyManager);
+        ReflectionTestUtils.setField(jwtProvider, "accessTokenExpiration", "30m");
+        ReflectionTestUtils.setField(jwtProvider, "refreshTokenExpiration", "7d");
+
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .nickname("tester")
+                .role(UserRole.USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("[토큰 발급][성공] - 발급한 토큰을 JwtProvider로 검증 가능")
+    void issue_verifiableByJwtProvider() {
+        // When
+        TokenPair tokens = tokenIssuer.issue(testUser);
+
+        // Then
+        assertThat(jwtProvider.validateAccessToken(tokens.accessToken())).isTrue();
+        assertThat(jwtProvider.getEmailFromToken(tokens.accessToken())).isEqualTo("test@example.com");
+        assertThat(jwtProvider.getRoleFromToken(tokens.accessToken())).isEqualTo("USER");
+        assertThat(jwtProvider.getTokenTypeEnum(tokens.accessToken())).isEqualTo(ACCESS);
+
+        assertThat(jwtProvider.validateRefreshToken(tokens.refreshToken())).isTrue();
+        assertThat(jwtProvider.getTokenTypeEnum(tokens.refreshToken())).isEqualTo(REFRESH);
+    }
+
+    @Test
+    @DisplayName("[토큰 발급][성공] - 만료 시각이 설정된 기간과 일치하고 두 토큰의 발급 시각이 같음")
+    void issue_expirationMatchesConfiguration() {
+        // When
+        TokenPair tokens = tokenIssuer.issue(testUser);
+        Claims access = parse(tokens.accessToken());
+        Claims refresh = parse(tokens.refreshToken());
+
+        // Then
+        assertThat(access.getIssuedAt()).isEqualTo(refresh.getIssuedAt());
+        assertThat(access.getExpiration().getTime() - access.getIssuedAt().getTime())
+                .isBetween(30 * 60 * 1000L - 1000, 30 * 60 * 1000L + 1000);
+        assertThat(refresh.getExpiration().getTime() - refresh.getIssuedAt().getTime())
+                .isBetween(7 * 24 * 60 * 60 * 1000L - 1000, 7 * 24 * 60 * 60 * 1000L + 1000);
+    }
+
+    @Test
+    @DisplayName("[토큰 발급][성공] - JSON 특수문자가 포함된 이메일도 그대로 복원")
+    void issue_escapesSubject() {
+        // Given
+        User user = User.builder()
+                .id(2L)
+                .email("we\"ird\\name@example.com")
+                .nickname("weird")
+                .role(UserRole.ADMIN)
+                .build();
+
+        // When
+        TokenPair tokens = tokenIssuer.issue(user);
+
+        // Then
+        assertThat(jwtProvider.getEmailFromToken(tokens.accessToken())).isEqualTo("we\"ird\\name@example.com");
+        assertThat(jwtProvider.getRoleFromToken(tokens.refreshToken())).isEqualTo("ADMIN");
+    }
+
+    @Test
+    @DisplayName("[토큰 발급][실패] - 잘못된 만료 기간 설정은 기동 시 실패")
+    void invalidExpiration_failsAtStartup() {
+        assertThatThrownBy(() -> new TokenIssuer(JwtKeyManager.hmac(SECRET), "invalid", "7d"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("[토큰 발급][성공] - 비대칭 모드(ES256, EdDSA)에서 kid 헤더를 붙여 발급")
+    void issue_asymmetric() {
+        for (JwtAlgorithm algorithm : new JwtAlgorithm[]{JwtAlgorithm.ES256, JwtAlgorithm.EdDSA}) {
+            // Given
+            JwtKeyManager keyManager = JwtKeyManager.asymmetric(algorithm, JwtKeyManager.generateKeyPair(algorithm));
+            TokenIssuer issuer = new TokenIssuer(keyManager, "30m", "7d");
+            JwtProvider provider = new JwtProvider(keyManager);
+            ReflectionTestUtils.setField(provider, "accessTokenExpiration", "30m");
+
+            // When
+            TokenPair tokens = issuer.issue(testUser);
+
+            // Then
+            assertThat(provider.validateAccessToken(tokens.accessToken())).isTrue();
+            assertThat(provider.validateRefreshToken(tokens.refreshToken())).isTrue();
+            assertThat(Jwts.parser().keyLocator(keyManager).build()
+                    .parseSignedClaims(tokens.accessToken()).getHeader().getKeyId())
+                    .isEqualTo(keyManager.getKeyId());
+        }
+    }
+
+    private Claims parse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ecommerce.global.security;
+
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.entity.UserRole;
+import com.ecommerce.global.infra.security.jwt.TokenIssuer;
+import com.ecommerce.global.infra.security.jwt.key.JwtKeyManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 개인 키 없이 jwks-uri만 설정한 검증 전용 노드도 기동되고, 토큰 발급만 거절하는지 확인
+ */
+@SpringBootTest(properties = {
+        "jwt.signing.algorithm=ES256",
+        "jwt.verification.jwks-uri=http://localhost:0/.well-known/jwks.json"
+})
+@ActiveProfiles("test")
+class VerifyOnlyNodeContextTest {
+
+    @Autowired
+    private JwtKeyManager keyManager;
+
+    @Autowired
+    private TokenIssuer tokenIssuer;
+
+    @Test
+    @DisplayName("[설정][성공] - 검증 전용 노드는 기동되지만 토큰 발급은 거절")
+    void verifyOnlyNode_startsWithoutSigningKey() {
+        // Given
+        User user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .nickname("tester")
+                .role(UserRole.USER)
+                .build();
+
+        // When & Then
+        assertThat(keyManager.canSign()).isFalse();
+        assertThatThrownBy(() -> tokenIssuer.issue(user)).isInstanceOf(IllegalStateException.class);
+    }
+}
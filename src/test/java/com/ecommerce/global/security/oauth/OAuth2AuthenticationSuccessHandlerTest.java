@@ -1,20 +1,20 @@
 package com.ecommerce.global.security.oauth;
 
+import com.ecommerce.api.v1.user.dto.response.TokenPair;
 import com.ecommerce.global.infra.security.oauth.OAuth2AuthenticationSuccessHandler;
 import com.ecommerce.domain.user.entity.User;
 import com.ecommerce.domain.user.entity.UserRole;
+import com.ecommerce.domain.user.service.TokenManagementService;
 import com.ecommerce.domain.user.service.UserService;
-import com.ecommerce.global.infra.security.jwt.JwtProvider;
-import com.ecommerce.global.infra.redis.RefreshTokenService;
-import com.ecommerce.global.infra.security.jwt.TokenCookieProvider;
+import com.ecommerce.global.infra.security.jwt.TokenCookieWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.ResponseCookie;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
@@ -22,8 +22,9 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.RedirectStrategy;
 
 import java.io.IOException;
-import java.util.List;
 
+import static com.ecommerce.global.utils.constants.SecurityConstants.ACCESS_TOKEN_COOKIE_NAME;
+import static com.ecommerce.global.utils.constants.SecurityConstants.REFRESH_TOKEN_COOKIE_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -33,13 +34,10 @@ import static org.mockito.Mockito.*;
 class OAuth2AuthenticationSuccessHandlerTest {
 
     @Mock
-    private JwtProvider jwtProvider;
+    private TokenManagementService tokenManagementService;
 
-    @Mock
-    private TokenCookieProvider tokenCookieProvider;
-
-    @Mock
-    private RefreshTokenService refreshTokenService; // NPE 방지를 위해 Mock 객체 선언
+    @Spy
+    private TokenCookieWriter tokenCookieWriter = new TokenCookieWriter("10m", "1d", true, true, "Lax");
 
     @Mock
     private UserService userService;
@@ -83,34 +81,24 @@ class OAuth2AuthenticationSuccessHandlerTest {
         String testRefreshToken = "test.refresh.token";
 
         when(userService.findByEmail("test@example.com")).thenReturn(user);
-        when(jwtProvider.generateAccessToken(user)).thenReturn(testAccessToken);
-        when(jwtProvider.generateRefreshToken(user)).thenReturn(testRefreshToken);
-
-        ResponseCookie accessTokenCookie = ResponseCookie.from("access_token", testAccessToken).path("/").build();
-        ResponseCookie refreshTokenCookie = ResponseCookie.from("refresh_token", testRefreshToken).path("/").build();
-        when(tokenCookieProvider.createAccessTokenCookie(testAccessToken)).thenReturn(accessTokenCookie);
-        when(tokenCookieProvider.createRefreshTokenCookie(testRefreshToken)).thenReturn(refreshTokenCookie);
+        when(tokenManagementService.generateTokens(user)).thenReturn(new TokenPair(testAccessToken, testRefreshToken));
 
         successHandler.onAuthenticationSuccess(request, response, authentication);
 
         // 1. 사용자 정보 조회 검증
         verify(userService).findByEmail("test@example.com");
 
-        // 2. 토큰 생성 검증
-        verify(jwtProvider).generateAccessToken(user);
-        verify(jwtProvider).generateRefreshToken(user);
-
-        verify(refreshTokenService).saveRefreshToken(user.getEmail(), testRefreshToken);
-
-        // 4. 쿠키 생성 검증
-        verify(tokenCookieProvider).createAccessTokenCookie(testAccessToken);
-        verify(tokenCookieProvider).createRefreshTokenCookie(testRefreshToken);
+        // 2. 일반 로그인과 같은 발급 경로(발급 + Refresh Token 저장) 사용 검증
+        verify(tokenManagementService).generateTokens(user);
 
-        // 5. 응답 헤더에 쿠키 추가 검증
-        List<String> setCookieHeaders = response.getHeaders("Set-Cookie");
-        assertThat(setCookieHeaders).contains(accessTokenCookie.toString(), refreshTokenCookie.toString());
+        // 3. 응답 헤더에 쿠키 추가 검증
+        assertThat(response.getHeaders("Set-Cookie")).containsExactly(
+                tokenCookieWriter.accessTokenHeader(testAccessToken),
+                tokenCookieWriter.refreshTokenHeader(testRefreshToken));
+        assertThat(response.getCookie(ACCESS_TOKEN_COOKIE_NAME).getValue()).isEqualTo(testAccessToken);
+        assertThat(response.getCookie(REFRESH_TOKEN_COOKIE_NAME).getValue()).isEqualTo(testRefreshToken);
 
-        // 6. 리다이렉션 검증
+        // 4. 리다이렉션 검증
         verify(redirectStrategy).sendRedirect(eq(request), eq(response), anyString());
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.ecommerce.global.security.service;
+
+import com.ecommerce.global.infra.security.jwt.TokenCookieWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseCookie;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.List;
+
+import static com.ecommerce.global.utils.constants.SecurityConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenCookieWriterTest {
+
+    private TokenCookieWriter tokenCookieWriter;
+
+    @BeforeEach
+    void setUp() {
+        tokenCookieWriter = new TokenCookieWriter("10m", "1d", true, true, "Lax");
+    }
+
+    @Test
+    @DisplayName("[쿠키 작성][성공] - Access / Refresh Token 헤더가 ResponseCookie와 같은 속성을 가짐")
+    void tokenHeaders_matchResponseCookieAttributes() {
+        // Given
+        // 비교 기준: 같은 속성으로 만든 ResponseCookie
+        ResponseCookie accessCookie = responseCookie(ACCESS_TOKEN_COOKIE_NAME, "test.access.token", Duration.ofMinutes(10));
+        ResponseCookie refreshCookie = responseCookie(REFRESH_TOKEN_COOKIE_NAME, "test.refresh.token", Duration.ofDays(1));
+
+        // When
+        String accessHeader = tokenCookieWriter.accessTokenHeader("test.access.token");
+        String refreshHeader = tokenCookieWriter.refreshTokenHeader("test.refresh.token");
+
+        // Then
+        assertThat(accessHeader).isEqualTo(
+                ACCESS_TOKEN_COOKIE_NAME + "=test.access.token; Path=/; Max-Age=600; Secure; HttpOnly; SameSite=Lax");
+        assertThat(refreshHeader).isEqualTo(
+                REFRESH_TOKEN_COOKIE_NAME + "=test.refresh.token; Path=/; Max-Age=86400; Secure; HttpOnly; SameSite=Lax");
+
+        // Expires를 제외하면 기존 헤더와 동일
+        assertThat(withoutExpires(accessCookie.toString())).isEqualTo(accessHeader);
+        assertThat(withoutExpires(refreshCookie.toString())).isEqualTo(refreshHeader);
+    }
+
+    @Test
+    @DisplayName("[쿠키 작성][성공] - 로그인 시 Set-Cookie 헤더 두 개 추가")
+    void addLoginCookies_Success() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        tokenCookieWriter.addLoginCookies(response, "access", "refresh");
+
+        // Then
+        List<String> headers = response.getHeaders("Set-Cookie");
+        assertThat(headers).containsExactly(
+                tokenCookieWriter.accessTokenHeader("access"),
+                tokenCookieWriter.refreshTokenHeader("refresh"));
+        Cookie access = response.getCookie(ACCESS_TOKEN_COOKIE_NAME);
+        assertThat(access.getValue()).isEqualTo("access");
+        assertThat(access.getPath()).isEqualTo(COOKIE_PATH);
+        assertThat(access.getMaxAge()).isEqualTo(600);
+        assertThat(access.getSecure()).isTrue();
+        assertThat(access.isHttpOnly()).isTrue();
+        assertThat(access.getAttribute("SameSite")).isEqualTo("Lax");
+        assertThat(response.getCookie(REFRESH_TOKEN_COOKIE_NAME).getMaxAge()).isEqualTo(86400);
+    }
+
+    @Test
+    @DisplayName("[쿠키 작성][성공] - 로그아웃 시 미리 만든 만료 쿠키 추가")
+    void addExpiredCookies_Success() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        tokenCookieWriter.addExpiredCookies(response);
+
+        // Then
+        assertThat(response.getHeaders("Set-Cookie")).containsExactly(
+                tokenCookieWriter.expiredAccessTokenHeader(),
+                tokenCookieWriter.expiredRefreshTokenHeader());
+        assertThat(tokenCookieWriter.expiredAccessTokenHeader())
+                .isEqualTo(responseCookie(ACCESS_TOKEN_COOKIE_NAME, "", Duration.ZERO).toString());
+        assertThat(tokenCookieWriter.expiredRefreshTokenHeader())
+                .isEqualTo(responseCookie(REFRESH_TOKEN_COOKIE_NAME, "", Duration.ZERO).toString());
+        assertThat(response.getCookie(ACCESS_TOKEN_COOKIE_NAME).getMaxAge()).isZero();
+        assertThat(response.getCookie(ACCESS_TOKEN_COOKIE_NAME).getValue()).isEmpty();
+        assertThat(response.getCookie(REFRESH_TOKEN_COOKIE_NAME).getMaxAge()).isZero();
+    }
+
+    private ResponseCookie responseCookie(String name, String value, Duration maxAge) {
+        return ResponseCookie.from(name, value)
+                .path(COOKIE_PATH)
+                .maxAge(maxAge)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Lax")
+                .build();
+    }
+
+    private String withoutExpires(String header) {
+        return header.replaceAll("; Expires=[^;]*", "");
+    }
+}
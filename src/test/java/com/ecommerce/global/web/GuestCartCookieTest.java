@@ -0,0 +1,55 @@
+package com.ecommerce.global.web;
+
+import com.ecommerce.global.infra.web.GuestCartCookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.ecommerce.global.utils.constants.SecurityConstants.GUEST_CART_COOKIE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GuestCartCookieTest {
+
+    private final GuestCartCookie guestCartCookie = new GuestCartCookie("test-secret", Duration.ofDays(7), true, "Lax");
+
+    @Test
+    @DisplayName("[비로그인 장바구니 쿠키][성공] - 발급한 쿠키는 서명이 맞아 장바구니 ID를 돌려줌")
+    void issue_Verify_Success() {
+        // When
+        String value = guestCartCookie.issue();
+        String other = guestCartCookie.issue();
+
+        // Then
+        assertThat(guestCartCookie.verify(value)).isNotNull().isEqualTo(value.substring(0, value.indexOf('.')));
+        assertThat(guestCartCookie.verify(other)).isNotEqualTo(guestCartCookie.verify(value));
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 쿠키][실패] - ID나 서명을 바꾸거나 다른 키로 서명한 쿠키는 거부")
+    void verify_Tampered_Rejected() {
+        // Given
+        String value = guestCartCookie.issue();
+        String id = value.substring(0, value.indexOf('.'));
+        String signature = value.substring(value.indexOf('.') + 1);
+        String otherId = (id.charAt(0) == 'A' ? "B" : "A") + id.substring(1);
+        GuestCartCookie otherKey = new GuestCartCookie("other-secret", Duration.ofDays(7), true, "Lax");
+
+        // When & Then
+        assertThat(guestCartCookie.verify(otherId + "." + signature)).isNull();
+        assertThat(guestCartCookie.verify(id + "." + signature.substring(1))).isNull();
+        assertThat(guestCartCookie.verify(id)).isNull();
+        assertThat(guestCartCookie.verify(id + ".")).isNull();
+        assertThat(guestCartCookie.verify(null)).isNull();
+        assertThat(otherKey.verify(value)).isNull();
+    }
+
+    @Test
+    @DisplayName("[비로그인 장바구니 쿠키][성공] - Set-Cookie 헤더는 TTL을 Max-Age로, 만료 헤더는 Max-Age=0")
+    void headers_Attributes() {
+        assertThat(guestCartCookie.header("abc.def")).isEqualTo(
+                GUEST_CART_COOKIE_NAME + "=abc.def; Path=/; Max-Age=604800; Secure; HttpOnly; SameSite=Lax");
+        assertThat(guestCartCookie.expiredHeader()).isEqualTo(
+                GUEST_CART_COOKIE_NAME + "=; Path=/; Max-Age=0; Expires=Thu, 01 Jan 1970 00:00:00 GMT; Secure; HttpOnly; SameSite=Lax");
+    }
+}